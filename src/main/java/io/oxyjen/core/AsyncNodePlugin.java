@@ -0,0 +1,25 @@
+package io.oxyjen.core;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link NodePlugin} that can run without holding a thread while it waits.
+ *
+ * The graph executor calls {@link #processAsync} instead of {@link #process}
+ * and frees its thread once the returned future is started; lifecycle hooks,
+ * metrics and events follow the future's completion.
+ *
+ * @param <I> Input type
+ * @param <O> Output type
+ */
+public interface AsyncNodePlugin<I, O> extends NodePlugin<I, O> {
+
+    /**
+     * Starts the node's main logic.
+     *
+     * @param input   Input data for the node.
+     * @param context Shared context object containing state, logger, etc.
+     * @return future of the output produced by this node.
+     */
+    CompletableFuture<O> processAsync(I input, NodeContext context);
+}
@@ -0,0 +1,155 @@
+package io.oxyjen.execution;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named concurrency compartment in an {@link ExecutionRuntime}.
+ *
+ * Each bulkhead has its own permits and wait queue, so a slow provider can
+ * only exhaust its own compartment: with {@code "gemini"} and {@code "openai"}
+ * bulkheads, a Gemini brownout leaves OpenAI-backed nodes and tools running.
+ * When the queue is full, callers are rejected with
+ * {@link BulkheadFullException} instead of piling up behind the slow calls.
+ *
+ * Nodes are routed by {@link io.oxyjen.llm.UsesRuntimeLimiter#bulkhead()},
+ * which for LLM nodes defaults to the model's provider; anything without a
+ * matching bulkhead uses the runtime's default one.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param maxQueue callers allowed to wait for a permit, -1 for unbounded
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxQueue) {
+        this(name, new Semaphore(maxConcurrent, true), maxConcurrent, maxQueue);
+    }
+
+    Bulkhead(String name, Semaphore permits, int maxConcurrent, int maxQueue) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Bulkhead name cannot be null or blank");
+        }
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be >= 1");
+        }
+        if (maxQueue < -1) {
+            throw new IllegalArgumentException("maxQueue must be >= 0, or -1 for unbounded");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.permits = permits;
+    }
+
+    /**
+     * Takes a permit, waiting in the queue if none is free.
+     *
+     * @throws BulkheadFullException if all permits are taken and the queue is full
+     */
+    public void acquire() throws InterruptedException {
+        if (!permits.tryAcquire()) {
+            int queued = waiting.incrementAndGet();
+            if (maxQueue >= 0 && queued > maxQueue) {
+                waiting.decrementAndGet();
+                rejected.increment();
+                throw new BulkheadFullException(name, maxConcurrent, maxQueue);
+            }
+            try {
+                permits.acquire();
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+        acquired.increment();
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    }
+
+    /** Returns a permit taken by {@link #acquire()}. */
+    public void release() {
+        inFlight.decrementAndGet();
+        permits.release();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /** Callers allowed to wait, -1 if unbounded. */
+    public int maxQueue() {
+        return maxQueue;
+    }
+
+    /** Calls currently holding a permit. */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /** Callers currently waiting for a permit. */
+    public int waiting() {
+        return waiting.get();
+    }
+
+    /** Highest {@link #inFlight()} seen. */
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    /** Fraction of permits in use, 0.0 to 1.0. */
+    public double utilization() {
+        return inFlight.get() / (double) maxConcurrent;
+    }
+
+    /** Permits handed out so far. */
+    public long acquired() {
+        return acquired.sum();
+    }
+
+    /** Callers turned away because the queue was full. */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead{name=" + name
+                + ", inFlight=" + inFlight + "/" + maxConcurrent
+                + ", waiting=" + waiting + (maxQueue >= 0 ? "/" + maxQueue : "")
+                + ", peak=" + peakInFlight
+                + ", acquired=" + acquired.sum()
+                + ", rejected=" + rejected.sum() + "}";
+    }
+
+    /**
+     * Thrown when a bulkhead has no free permit and no room in its queue.
+     */
+    public static final class BulkheadFullException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final String bulkhead;
+
+        public BulkheadFullException(String bulkhead, int maxConcurrent, int maxQueue) {
+            super("Bulkhead [" + bulkhead + "] is full: " + maxConcurrent
+                    + " calls in flight and " + maxQueue + " waiting");
+            this.bulkhead = bulkhead;
+        }
+
+        public String bulkhead() {
+            return bulkhead;
+        }
+    }
+}
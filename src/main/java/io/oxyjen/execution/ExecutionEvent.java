@@ -61,7 +61,9 @@ public sealed interface ExecutionEvent {
         ParallelCompleted,
         CheckpointCreated,
         CheckpointRestored,
-        ChunkGenerated {
+        ChunkGenerated,
+        CircuitBreakerStateChanged,
+        RetryBudgetExhausted {
 /** Identifier of the node this event is scoped to. */
     	String nodeId();
     }
@@ -336,4 +338,45 @@ public sealed interface ExecutionEvent {
            String chunk,
            int index
    ) implements NodeEvent {}
-}
\ No newline at end of file
+
+   /**
+    * Emitted when a model's circuit breaker changes state, as observed by
+    * the node whose call caused (or first saw) the change. Lets operators
+    * see a provider being cut off and let back in without scraping logs.
+    *
+    * @param nodeId   the node whose LLM call observed the transition
+    * @param breaker  name of the circuit breaker (typically the provider)
+    * @param from     previous state: {@code CLOSED}, {@code OPEN} or {@code HALF_OPEN}
+    * @param to       new state
+    */
+   record CircuitBreakerStateChanged(
+           String executionId,
+           Instant at,
+           String nodeId,
+           String breaker,
+           String from,
+           String to
+   ) implements NodeEvent {}
+
+   /**
+    * Emitted when a retryable failure is not retried because the shared
+    * {@link io.oxyjen.semantics.retry.RetryBudget} is spent. The node fails
+    * fast instead, so a burst of these means retries were being shed to
+    * protect a struggling provider.
+    *
+    * @param nodeId    the node (or chain) whose retry was refused
+    * @param attempt   the attempt that failed and would have been retried
+    * @param failure   structured details of that failure
+    * @param requests  requests recorded by the budget so far
+    * @param retries   retries the budget has granted so far
+    */
+   record RetryBudgetExhausted(
+           String executionId,
+           Instant at,
+           String nodeId,
+           int attempt,
+           FailureInfo failure,
+           long requests,
+           long retries
+   ) implements NodeEvent {}
+}
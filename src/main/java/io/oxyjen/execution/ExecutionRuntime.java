@@ -1,5 +1,8 @@
 package io.oxyjen.execution;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
@@ -9,6 +12,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.oxyjen.observe.ObservationBus;
+import io.oxyjen.semantics.retry.RetryBudget;
 
 /**
  * Centralized concurrency runtime injected into {@link io.oxyjen.NodeContext}
@@ -50,6 +54,9 @@ public final class ExecutionRuntime {
         SKIP_FAILED
     }
  
+    /** Name of the bulkhead backed by the global limiter. */
+    public static final String DEFAULT_BULKHEAD = "default";
+
     private final ExecutorService executor;
     private final Semaphore limiter;
     private final FailureMode failureMode;
@@ -64,6 +71,10 @@ public final class ExecutionRuntime {
     private final int maxConcurrency;
     
     private final ObservationBus observationBus;
+    private final RetryBudget retryBudget;
+    private final HashedWheelTimer timer;
+    private final Bulkhead defaultBulkhead;
+    private final Map<String, Bulkhead> bulkheads;
  
     /**
      * Central observation bus for this runtime.
@@ -75,7 +86,10 @@ public final class ExecutionRuntime {
             FailureMode failureMode,
             long defaultTimeoutMs,
             int maxConcurrency,
-            ObservationBus observationBus
+            ObservationBus observationBus,
+            RetryBudget retryBudget,
+            HashedWheelTimer timer,
+            Map<String, Bulkhead> bulkheads
     ) {
         this.executor = executor;
         this.limiter = limiter;
@@ -84,6 +98,11 @@ public final class ExecutionRuntime {
         this.metrics = new MetricsRegistry();
         this.maxConcurrency = maxConcurrency;
         this.observationBus = observationBus;
+        this.retryBudget = retryBudget;
+        this.timer = timer;
+        // the global limiter doubles as the bulkhead for unrouted IO nodes
+        this.defaultBulkhead = new Bulkhead(DEFAULT_BULKHEAD, limiter, maxConcurrency, -1);
+        this.bulkheads = Collections.unmodifiableMap(new LinkedHashMap<>(bulkheads));
     }
  
     public ExecutorService getExecutor() {
@@ -93,6 +112,33 @@ public final class ExecutionRuntime {
     public Semaphore getLimiter() {
         return limiter;
     }
+
+    /**
+     * The bulkhead a node routed to {@code name} should use: the named
+     * bulkhead if one is configured, otherwise the default one, which is
+     * backed by {@link #getLimiter()}.
+     */
+    public Bulkhead bulkheadFor(String name) {
+        Bulkhead bulkhead = name != null ? bulkheads.get(name) : null;
+        return bulkhead != null ? bulkhead : defaultBulkhead;
+    }
+
+    /**
+     * The bulkhead configured under {@code name}, or {@code null}.
+     */
+    public Bulkhead bulkhead(String name) {
+        return DEFAULT_BULKHEAD.equals(name) ? defaultBulkhead : bulkheads.get(name);
+    }
+
+    /**
+     * Every bulkhead including {@value #DEFAULT_BULKHEAD}, for utilization metrics.
+     */
+    public Map<String, Bulkhead> bulkheads() {
+        Map<String, Bulkhead> all = new LinkedHashMap<>();
+        all.put(DEFAULT_BULKHEAD, defaultBulkhead);
+        all.putAll(bulkheads);
+        return Collections.unmodifiableMap(all);
+    }
  
     public FailureMode getFailureMode() {
         return failureMode;
@@ -111,6 +157,22 @@ public final class ExecutionRuntime {
         return observationBus;
     }
     
+    /**
+     * Retry budget shared by every retrying node in this execution, or
+     * {@code null} if retries are unbudgeted.
+     */
+    public RetryBudget retryBudget() {
+        return retryBudget;
+    }
+    
+    /**
+     * Timer for backoffs, timeouts and delayed work in this execution.
+     * Scheduling on it holds no thread while waiting.
+     */
+    public HashedWheelTimer timer() {
+        return timer;
+    }
+    
     /** @deprecated Use {@link #observationBus()} instead. */
     public MetricsRegistry getMetrics() {
         return metrics;
@@ -145,6 +207,9 @@ public final class ExecutionRuntime {
         private FailureMode failureMode = FailureMode.FAIL_FAST;
         private long defaultTimeoutMs = 30_000L;
         private ObservationBus observationBus = new ObservationBus();
+        private RetryBudget retryBudget = null;
+        private HashedWheelTimer timer = null;
+        private final Map<String, int[]> bulkheads = new LinkedHashMap<>();
  
         /**
          * Thread pool for all async node execution in the graph.
@@ -195,6 +260,56 @@ public final class ExecutionRuntime {
             return this;
         }
  
+        /**
+         * Cap retries across the whole execution, e.g.
+         * {@code RetryBudget.of(0.2)} for at most 20% extra load. Consulted by
+         * {@link io.oxyjen.graph.cycles.RetryNode}, and by {@code LLMNode} and
+         * {@code SchemaNode}, which charge their chain's retries and schema
+         * repairs to it through {@code LLMChain#withRuntime}. There is no
+         * need to pass it to the chain as well; a chain built with a budget
+         * of its own keeps that one instead. Default: unbudgeted.
+         */
+        public Builder retryBudget(RetryBudget budget) {
+            this.retryBudget = budget;
+            return this;
+        }
+ 
+        /**
+         * Timer for backoffs, timeouts and delayed work.
+         * Default: {@link HashedWheelTimer#shared()}.
+         */
+        public Builder timer(HashedWheelTimer timer) {
+            this.timer = timer;
+            return this;
+        }
+ 
+        /**
+         * Independent concurrency compartment, e.g. {@code bulkhead("gemini", 4)}.
+         * LLM nodes route to the bulkhead named after their model's provider
+         * ({@code "openai"}, {@code "gemini"}), tool calls to
+         * {@code "tool:<toolName>"}; custom nodes choose via
+         * {@link io.oxyjen.llm.UsesRuntimeLimiter#bulkhead()}. Callers wait
+         * without bound; see {@link #bulkhead(String, int, int)}.
+         */
+        public Builder bulkhead(String name, int maxConcurrent) {
+            return bulkhead(name, maxConcurrent, -1);
+        }
+ 
+        /**
+         * Like {@link #bulkhead(String, int)}, rejecting callers with
+         * {@link Bulkhead.BulkheadFullException} once {@code maxQueue} are
+         * already waiting.
+         */
+        public Builder bulkhead(String name, int maxConcurrent, int maxQueue) {
+            if (name == null || name.isBlank() || DEFAULT_BULKHEAD.equals(name)) {
+                throw new IllegalArgumentException("Bulkhead name must be non-blank and not '" + DEFAULT_BULKHEAD + "'");
+            }
+            if (maxConcurrent < 1) throw new IllegalArgumentException("maxConcurrent must be >= 1");
+            if (maxQueue < -1) throw new IllegalArgumentException("maxQueue must be >= 0, or -1 for unbounded");
+            bulkheads.put(name, new int[] {maxConcurrent, maxQueue});
+            return this;
+        }
+ 
         public ExecutionRuntime build() {
             if (executor == null) {
                 executor = Executors.newFixedThreadPool(maxConcurrency);
@@ -205,9 +320,18 @@ public final class ExecutionRuntime {
                 failureMode,
                 defaultTimeoutMs,
                 maxConcurrency,
-                observationBus
+                observationBus,
+                retryBudget,
+                timer != null ? timer : HashedWheelTimer.shared(),
+                buildBulkheads()
             );
         }
+ 
+        private Map<String, Bulkhead> buildBulkheads() {
+            Map<String, Bulkhead> built = new LinkedHashMap<>();
+            bulkheads.forEach((name, limits) -> built.put(name, new Bulkhead(name, limits[0], limits[1])));
+            return built;
+        }
     }
     
     /**
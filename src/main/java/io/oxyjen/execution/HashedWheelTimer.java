@@ -0,0 +1,263 @@
+package io.oxyjen.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hashed-wheel timer for backoffs, timeouts and delayed permits.
+ *
+ * One daemon thread advances a wheel of {@code wheelSize} buckets every
+ * {@code tick}; a pending timeout sits in the bucket of its deadline and
+ * costs an object, not a thread. Scheduling and cancelling are O(1), which
+ * matters when hundreds of MapNode elements are backing off at once.
+ * Deadlines fire up to one tick late.
+ *
+ * Tasks run on the timer thread and must be short: complete a future,
+ * interrupt a thread, release a permit. Real work should be attached to the
+ * completed future with an {@code *Async} method and its own executor.
+ *
+ * Owned by {@link ExecutionRuntime#timer()}; components outside a graph
+ * use {@link #shared()}.
+ */
+public final class HashedWheelTimer {
+
+    private static final Logger LOG = Logger.getLogger("io.oxyjen");
+
+    private final long tickNanos;
+    private final List<List<Timeout>> wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private static final class Holder {
+        static final HashedWheelTimer SHARED = new HashedWheelTimer("oxyjen-timer", 10, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * @param name      name of the timer thread
+     * @param tick      wheel resolution, e.g. 10ms
+     * @param wheelSize number of buckets, rounded up to a power of two
+     */
+    public HashedWheelTimer(String name, long tick, TimeUnit unit, int wheelSize) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException("tick must be > 0");
+        }
+        if (wheelSize < 1 || wheelSize > (1 << 20)) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^20");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1 == 0 ? 1 : (wheelSize - 1) << 1);
+        this.wheel = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.mask = size - 1;
+        this.tickNanos = unit.toNanos(tick);
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Process-wide timer (10ms ticks), also the default for every
+     * {@link ExecutionRuntime}.
+     */
+    public static HashedWheelTimer shared() {
+        return Holder.SHARED;
+    }
+
+    /**
+     * Runs {@code task} on the timer thread after {@code delay}.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+        if (!running) {
+            throw new IllegalStateException("Timer is stopped");
+        }
+        long deadline = System.nanoTime() - startNanos + Math.max(0L, unit.toNanos(delay));
+        Timeout timeout = new Timeout(task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Future completed after {@code delay}, or already completed if the
+     * delay is not positive. Cancelling it cancels the timeout.
+     */
+    public CompletableFuture<Void> delay(long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Timeout timeout = schedule(() -> future.complete(null), delay, unit);
+        future.whenComplete((v, error) -> {
+            if (future.isCancelled()) {
+                timeout.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Completes {@code future} with a {@link TimeoutException} if it is still
+     * pending after {@code timeout}; the timer entry is dropped as soon as
+     * the future completes. Returns {@code future}.
+     */
+    public <T> CompletableFuture<T> orTimeout(CompletableFuture<T> future, long timeout, TimeUnit unit) {
+        if (future.isDone()) {
+            return future;
+        }
+        Timeout entry = schedule(() -> future.completeExceptionally(new TimeoutException()), timeout, unit);
+        future.whenComplete((v, error) -> entry.cancel());
+        return future;
+    }
+
+    /**
+     * Stops the timer thread; pending timeouts never fire. Not allowed on
+     * {@link #shared()}.
+     */
+    public void stop() {
+        if (this == Holder.SHARED) {
+            throw new IllegalStateException("The shared timer cannot be stopped");
+        }
+        running = false;
+        worker.interrupt();
+    }
+
+    /** Timeouts scheduled but not yet fired or cancelled, approximately. */
+    public int pendingCount() {
+        int count = 0;
+        for (Timeout timeout : pending) {
+            if (timeout.state.get() == Timeout.PENDING) count++;
+        }
+        synchronized (wheel) {
+            for (List<Timeout> bucket : wheel) {
+                for (Timeout timeout : bucket) {
+                    if (timeout.state.get() == Timeout.PENDING) count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long now = waitForTick(tick);
+            if (now < 0) {
+                continue;
+            }
+            synchronized (wheel) {
+                transferPending(tick);
+                expire(wheel.get((int) (tick & mask)), now);
+            }
+            tick++;
+        }
+    }
+
+    // sleeps until the end of the given tick, returns nanos since start
+    private long waitForTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        while (running) {
+            long now = System.nanoTime() - startNanos;
+            long sleep = deadline - now;
+            if (sleep <= 0) {
+                return now;
+            }
+            LockSupport.parkNanos(this, sleep);
+        }
+        return -1;
+    }
+
+    private void transferPending(long tick) {
+        // bounded so a flood of schedules cannot stall the wheel
+        for (int i = 0; i < 100_000; i++) {
+            Timeout timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.PENDING) {
+                continue;
+            }
+            long due = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (due - tick) / wheel.size();
+            long ticks = Math.max(due, tick); // already due: fire in this tick
+            wheel.get((int) (ticks & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket, long now) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.state.get() != Timeout.PENDING) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+                bucket.set(kept++, timeout);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    /**
+     * Handle to a scheduled task.
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private long remainingRounds; // touched only by the timer thread
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if the task will now never run
+         */
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LOG.log(Level.WARNING, "[HashedWheelTimer] timer task failed", t);
+            }
+        }
+    }
+}
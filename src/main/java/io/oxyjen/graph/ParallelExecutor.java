@@ -13,13 +13,14 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
+import io.oxyjen.core.AsyncNodePlugin;
 import io.oxyjen.core.Edge;
 import io.oxyjen.core.Graph;
 import io.oxyjen.core.NodeContext;
 import io.oxyjen.core.NodePlugin;
+import io.oxyjen.execution.Bulkhead;
 import io.oxyjen.execution.ExecutionEvent;
 import io.oxyjen.execution.ExecutionMetadataKeys;
 import io.oxyjen.execution.ExecutionRuntime;
@@ -209,9 +210,10 @@ public class ParallelExecutor {
             String executionId,
             ObservationBus bus
     ) {
-    	Semaphore limiter = runtime.getLimiter();
     	NodePlugin<?, ?> unwrappedNode = node.unwrap();
     	boolean isIO = unwrappedNode instanceof UsesRuntimeLimiter;
+    	// IO nodes run in their bulkhead, so one slow provider cannot take every permit
+    	Bulkhead limiter = isIO ? runtime.bulkheadFor(((UsesRuntimeLimiter) unwrappedNode).bulkhead()) : null;
     	NodePlugin<Object, Object> actualNode = (NodePlugin<Object, Object>) unwrappedNode;
     	if (isIO) {
     		try {
@@ -222,88 +224,64 @@ public class ParallelExecutor {
     		}
     	}
     	
-    	CompletableFuture<Void> future = CompletableFuture.<Object>supplyAsync(() -> {
-    		Instant nodeStart = Instant.now();
-            int attempt = 1;
-            String nodeId = node.getName();
- 
-            // emit NodeStarted
-            emit(bus, new ExecutionEvent.NodeStarted(executionId, nodeStart, nodeId, attempt));
-            ExecutionMetadataKeys.setCurrentNodeId(nodeId);
-        	try {
-                context.getLogger().info("[DAG] Executing: " + nodeId);
-                actualNode.onStart(context);
-                Object output = actualNode.process(input, context);
-                actualNode.onFinish(context);
-                context.getLogger().info("[DAG] Completed: " + nodeId);
-                Duration duration = Duration.between(nodeStart, Instant.now());
-                NodeMetrics metrics = resolveNodeMetrics(context, nodeId, duration);
-                emit(bus, new ExecutionEvent.NodeCompleted(
-                        executionId,
-                        Instant.now(),
-                        nodeId,
-                        metrics
-                ));
-                if (actualNode instanceof RouterNode) {
-                    nodeOutputs.put(nodeId, Optional.ofNullable(output));
-                    return output;
-                }
-                nodeOutputs.put(nodeId, Optional.ofNullable(output));
-                return output;
-            } catch (Exception e) {
-            	context.removeMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId));
-            	// emit NodeFailed
-                emit(bus, new ExecutionEvent.NodeFailed(
-                        executionId,
-                        Instant.now(),
-                        nodeId,
-                        FailureInfo.from(e),
-                        attempt
-                ));
-            	if (!(e instanceof MergeNode.MergeTimeoutException)) {
-            	    context.getLogger().severe("[DAG] Error in node [" + nodeId + "]: " + e.getMessage());
-                }
-                try { context.getExceptionHandler().handleException(actualNode, e, context); } catch (Exception ignored) {}
-                try { actualNode.onError(e, context); } catch (Exception ignored) {}
-                context.setMetadata("failed:" + nodeId, true);
-                ExecutionRuntime runtime = context.getRuntime();
-                ExecutionRuntime.FailureMode mode = runtime.getFailureMode();
-                switch (mode) {
-                    case FAIL_FAST -> {
-                        // stop everything
-                        throw new RuntimeException("Node failed: " + actualNode.getName(), e);
-                    }
+    	CompletableFuture<Object> outcome;
+    	if (actualNode instanceof AsyncNodePlugin<Object, Object> asyncNode) {
+    		// the executor thread only starts the node; it is released while the node waits
+    		outcome = CompletableFuture.supplyAsync(() -> {
+    			Instant nodeStart = Instant.now();
+    			String nodeId = node.getName();
+    			emit(bus, new ExecutionEvent.NodeStarted(executionId, nodeStart, nodeId, 1));
+    			ExecutionMetadataKeys.setCurrentNodeId(nodeId);
+    			CompletableFuture<Object> running;
+    			try {
+    				context.getLogger().info("[DAG] Executing: " + nodeId);
+    				actualNode.onStart(context);
+    				running = asyncNode.processAsync(input, context);
+    			} catch (Exception e) {
+    				running = CompletableFuture.failedFuture(e);
+    			} finally {
+    				ExecutionMetadataKeys.clearCurrentNodeId();
+    			}
+    			return running.handle((output, error) -> {
+    				try {
+    					if (error != null) {
+    						Throwable cause = error instanceof CompletionException && error.getCause() != null
+    								? error.getCause() : error;
+    						if (cause instanceof Error fatal) {
+    							throw fatal;
+    						}
+    						throw cause instanceof Exception failure ? failure : new RuntimeException(cause);
+    					}
+    					return nodeCompleted(actualNode, nodeId, nodeStart, output, context, nodeOutputs, executionId, bus);
+    				} catch (Exception e) {
+    					return nodeFailed(node, actualNode, nodeId, e, graph, context, nodeOutputs, nodeFailures, executionId, bus);
+    				} finally {
+    					if (isIO) limiter.release();
+    				}
+    			});
+    		}, runtime.getExecutor()).thenCompose(running -> running);
+    	} else {
+    		outcome = CompletableFuture.<Object>supplyAsync(() -> {
+    			Instant nodeStart = Instant.now();
+    			String nodeId = node.getName();
+    			// emit NodeStarted
+    			emit(bus, new ExecutionEvent.NodeStarted(executionId, nodeStart, nodeId, 1));
+    			ExecutionMetadataKeys.setCurrentNodeId(nodeId);
+    			try {
+    				context.getLogger().info("[DAG] Executing: " + nodeId);
+    				actualNode.onStart(context);
+    				Object output = actualNode.process(input, context);
+    				return nodeCompleted(actualNode, nodeId, nodeStart, output, context, nodeOutputs, executionId, bus);
+    			} catch (Exception e) {
+    				return nodeFailed(node, actualNode, nodeId, e, graph, context, nodeOutputs, nodeFailures, executionId, bus);
+    			} finally {
+    				ExecutionMetadataKeys.clearCurrentNodeId();
+    				if (isIO) limiter.release();
+    			}
+    		}, runtime.getExecutor());
+    	}
 
-                    case COLLECT_ERRORS -> {
-                    	if (node.unwrap() instanceof MergeNode && e instanceof MergeNode.MergeTimeoutException) {
-                            throw new CompletionException(e);
-                        }
-                        // continue graph but preserve error
-                    	nodeFailures.put(node.getName(), e);
-                        nodeOutputs.put(node.getName(), Optional.ofNullable(e));
-                        return e;
-                    }
-                    
-                    case SKIP_FAILED -> {
-                        // skip this node's downstream
-                    	// emit NodeSkipped for all downstream
-                        for (Edge edge : graph.getEdgesFrom(node)) {
-                            emit(bus, new ExecutionEvent.NodeSkipped(
-                                    executionId,
-                                    Instant.now(),
-                                    edge.getTarget().getName(),
-                                    "upstream node failed: " + node.getName()
-                            ));
-                        }
-                        return null;
-                    }
-                }
-                return null; // fallback
-            } finally {
-            	ExecutionMetadataKeys.clearCurrentNodeId();
-            	if (isIO) limiter.release();
-            }           
-        }, runtime.getExecutor()).thenCompose(output -> {
+    	CompletableFuture<Void> future = outcome.thenCompose(output -> {
             Throwable failure = nodeFailures.get(node.getName());
             if (failure != null) {
                 context.getLogger().warning(
@@ -449,6 +427,92 @@ public class ParallelExecutor {
     	}
     }
 
+    private Object nodeCompleted(
+            NodePlugin<Object, Object> actualNode,
+            String nodeId,
+            Instant nodeStart,
+            Object output,
+            NodeContext context,
+            Map<String, Optional<Object>> nodeOutputs,
+            String executionId,
+            ObservationBus bus
+    ) {
+        actualNode.onFinish(context);
+        context.getLogger().info("[DAG] Completed: " + nodeId);
+        Duration duration = Duration.between(nodeStart, Instant.now());
+        NodeMetrics metrics = resolveNodeMetrics(context, nodeId, duration);
+        emit(bus, new ExecutionEvent.NodeCompleted(
+                executionId,
+                Instant.now(),
+                nodeId,
+                metrics
+        ));
+        nodeOutputs.put(nodeId, Optional.ofNullable(output));
+        return output;
+    }
+
+    private Object nodeFailed(
+            NodePlugin<?, ?> node,
+            NodePlugin<Object, Object> actualNode,
+            String nodeId,
+            Exception e,
+            Graph graph,
+            NodeContext context,
+            Map<String, Optional<Object>> nodeOutputs,
+            Map<String, Throwable> nodeFailures,
+            String executionId,
+            ObservationBus bus
+    ) {
+        context.removeMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId));
+        // emit NodeFailed
+        emit(bus, new ExecutionEvent.NodeFailed(
+                executionId,
+                Instant.now(),
+                nodeId,
+                FailureInfo.from(e),
+                1
+        ));
+        if (!(e instanceof MergeNode.MergeTimeoutException)) {
+            context.getLogger().severe("[DAG] Error in node [" + nodeId + "]: " + e.getMessage());
+        }
+        try { context.getExceptionHandler().handleException(actualNode, e, context); } catch (Exception ignored) {}
+        try { actualNode.onError(e, context); } catch (Exception ignored) {}
+        context.setMetadata("failed:" + nodeId, true);
+        ExecutionRuntime runtime = context.getRuntime();
+        ExecutionRuntime.FailureMode mode = runtime.getFailureMode();
+        switch (mode) {
+            case FAIL_FAST -> {
+                // stop everything
+                throw new RuntimeException("Node failed: " + actualNode.getName(), e);
+            }
+
+            case COLLECT_ERRORS -> {
+                if (node.unwrap() instanceof MergeNode && e instanceof MergeNode.MergeTimeoutException) {
+                    throw new CompletionException(e);
+                }
+                // continue graph but preserve error
+                nodeFailures.put(node.getName(), e);
+                nodeOutputs.put(node.getName(), Optional.ofNullable(e));
+                return e;
+            }
+
+            case SKIP_FAILED -> {
+                // skip this node's downstream
+                // emit NodeSkipped for all downstream
+                for (Edge edge : graph.getEdgesFrom(node)) {
+                    emit(bus, new ExecutionEvent.NodeSkipped(
+                            executionId,
+                            Instant.now(),
+                            edge.getTarget().getName(),
+                            "upstream node failed: " + node.getName()
+                    ));
+                }
+                return null;
+            }
+        }
+        return null; // fallback
+    }
+
     private NodeMetrics resolveNodeMetrics(NodeContext context, String nodeId, Duration fallbackDuration) {
         Object stored = context.removeMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId));
         if (stored instanceof NodeMetrics metrics) {
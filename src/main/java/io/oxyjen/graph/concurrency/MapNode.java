@@ -5,21 +5,28 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import io.oxyjen.core.AsyncNodePlugin;
 import io.oxyjen.core.NodeContext;
-import io.oxyjen.core.NodePlugin;
 import io.oxyjen.execution.ExecutionRuntime;
+import io.oxyjen.execution.HashedWheelTimer;
 import io.oxyjen.execution.result.Cancelled;
 import io.oxyjen.execution.result.Failure;
 import io.oxyjen.execution.result.NotExecuted;
@@ -58,10 +65,16 @@ import io.oxyjen.execution.result.TaskResult;
  *       .map(i -> documents.get(i)).toList();
  * }</pre>
  *
+ * A mapper that returns a future ({@link Builder#mapWithAsync}) holds no
+ * thread while an element is in flight: the window is refilled as futures
+ * complete and the global timeout is a timer on the runtime's
+ * {@link HashedWheelTimer}. Use it for mappers that call an
+ * {@code AsyncChatModel} or an {@code LLMChain}'s async path.
+ *
  * @param <I> The element type of the input collection.
  * @param <O> The output type produced by the mapping function.
  */
-public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<O>> {
+public class MapNode<I, O> implements AsyncNodePlugin<Iterable<I>, MapNode.MapResult<O>> {
 	 
 	 private record IndexedResult<O>(int index, TaskResult<O> result) {
 		 IndexedResult {
@@ -114,6 +127,15 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
             this.notExecutedIndices = Collections.unmodifiableSet(notExecSet);
         }
         
+        /**
+         * Builds a result from per-element outcomes already in input order.
+         * For nodes that produce MapNode-shaped output without running a
+         * MapNode themselves (e.g. provider batch jobs).
+         */
+        public static <O> MapResult<O> of(List<TaskResult<O>> results) {
+            return new MapResult<>(new ArrayList<>(results), results.size());
+        }
+        
         /** Returns the ElementResult at index - always Success or Failure, never null. */
         public TaskResult<O> get(int index) {
             return snapshot.get(index);
@@ -196,6 +218,7 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
  
     private final String name;
     private final BiFunction<I, NodeContext, O> mapFn;
+    private final BiFunction<I, NodeContext, CompletableFuture<O>> asyncMapFn;
     private final long globalTimeoutMs;
     private final boolean continueOnError;
     private final long completionPollTimeoutMs;
@@ -205,6 +228,7 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
     private MapNode(
             String name,
             BiFunction<I, NodeContext, O> mapFn,
+            BiFunction<I, NodeContext, CompletableFuture<O>> asyncMapFn,
             long globalTimeoutMs,
             long completionPollTimeoutMs,
             boolean continueOnError,
@@ -212,7 +236,11 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
             long cancellationGraceMs
     ) {
         this.name = Objects.requireNonNull(name);
-        this.mapFn = Objects.requireNonNull(mapFn);
+        if (mapFn == null && asyncMapFn == null) {
+            throw new NullPointerException("mapFn");
+        }
+        this.mapFn = mapFn;
+        this.asyncMapFn = asyncMapFn;
         this.globalTimeoutMs = globalTimeoutMs;
         this.completionPollTimeoutMs = completionPollTimeoutMs;
         this.continueOnError = continueOnError;
@@ -222,6 +250,21 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
  
     @Override
     public MapResult<O> process(Iterable<I> input, NodeContext context) {
+    	if (asyncMapFn != null) {
+    		CompletableFuture<MapResult<O>> run = processAsync(input, context);
+    		try {
+    			return run.get();
+    		} catch (InterruptedException e) {
+    			Thread.currentThread().interrupt();
+    			run.cancel(true);
+    			throw new RuntimeException("[MapNode:" + name + "] interrupted", e);
+    		} catch (ExecutionException e) {
+    			Throwable cause = e.getCause() != null ? e.getCause() : e;
+    			if (cause instanceof RuntimeException re) throw re;
+    			if (cause instanceof Error fatal) throw fatal;
+    			throw new RuntimeException(cause);
+    		}
+    	}
     	// In MapNode.process()
     	if (maxInFlight <= 0) {
     	    context.getLogger().warning(
@@ -378,6 +421,167 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
          return result;
     }
     
+    /**
+     * With an async mapper, maps without holding a thread while elements are
+     * in flight. A blocking mapper runs {@link #process} on the caller's
+     * thread and returns a completed future.
+     */
+    @Override
+    public CompletableFuture<MapResult<O>> processAsync(Iterable<I> input, NodeContext context) {
+        if (asyncMapFn == null) {
+            try {
+                return CompletableFuture.completedFuture(process(input, context));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        List<I> elements = new ArrayList<>();
+        input.forEach(elements::add);
+        if (elements.isEmpty()) {
+            context.getLogger().info("[MapNode:" + name + "] Empty input.");
+            return CompletableFuture.completedFuture(new MapResult<O>(Collections.<TaskResult<O>>emptyList(), 0));
+        }
+        ExecutionRuntime runtime = context.getRuntime();
+        AsyncRun run;
+        if (runtime == null) {
+            context.getLogger().warning(
+                "[MapNode:" + name + "] No ExecutionRuntime — running sequentially."
+            );
+            run = new AsyncRun(elements, context, 1, !continueOnError,
+                ForkJoinPool.commonPool(), HashedWheelTimer.shared());
+        } else {
+            int windowSize = maxInFlight > 0 ? maxInFlight : runtime.getMaxConcurrency();
+            if (windowSize <= 0) windowSize = Runtime.getRuntime().availableProcessors();
+            boolean failFast = runtime.getFailureMode() == ExecutionRuntime.FailureMode.FAIL_FAST
+                               && !continueOnError;
+            context.getLogger().info(
+                "[MapNode:" + name + "] Mapping " + elements.size()
+                    + " elements async, window=" + windowSize
+                    + ", globalTimeout=" + globalTimeoutMs + "ms"
+            );
+            run = new AsyncRun(elements, context, windowSize, failFast,
+                runtime.getExecutor(), runtime.timer());
+        }
+        return run.start();
+    }
+
+    /**
+     * One async map: keeps {@code windowSize} elements in flight and refills
+     * the window from their completions.
+     */
+    private final class AsyncRun {
+
+        private final List<I> elements;
+        private final NodeContext context;
+        private final int windowSize;
+        private final boolean failFast;
+        private final Executor executor;
+        private final HashedWheelTimer timer;
+        private final AtomicReferenceArray<TaskResult<O>> results;
+        private final Map<Integer, CompletableFuture<O>> inFlight = new ConcurrentHashMap<>();
+        private final CompletableFuture<MapResult<O>> done = new CompletableFuture<>();
+        private int submitted;  // guarded by this
+        private int collected;  // guarded by this
+
+        AsyncRun(List<I> elements, NodeContext context, int windowSize, boolean failFast,
+                Executor executor, HashedWheelTimer timer) {
+            this.elements = elements;
+            this.context = context;
+            this.windowSize = windowSize;
+            this.failFast = failFast;
+            this.executor = executor;
+            this.timer = timer;
+            this.results = new AtomicReferenceArray<>(elements.size());
+        }
+
+        CompletableFuture<MapResult<O>> start() {
+            HashedWheelTimer.Timeout deadline = timer.schedule(this::expire, globalTimeoutMs, TimeUnit.MILLISECONDS);
+            done.whenComplete((result, error) -> {
+                deadline.cancel();
+                if (done.isCancelled()) {
+                    inFlight.values().forEach(f -> f.cancel(true));
+                }
+            });
+            synchronized (this) {
+                while (submitted < elements.size() && submitted < windowSize) {
+                    launch(submitted++);
+                }
+            }
+            return done;
+        }
+
+        private void launch(int index) {
+            I element = elements.get(index);
+            NodeContext childContext = context.child("element-" + index);
+            CompletableFuture<O> call;
+            try {
+                call = Objects.requireNonNull(asyncMapFn.apply(element, childContext),
+                    "async mapper returned null");
+            } catch (Throwable t) {
+                if (t instanceof VirtualMachineError vme) throw vme;
+                call = CompletableFuture.failedFuture(t);
+            }
+            inFlight.put(index, call);
+            // completions run on the executor, so a mapper that completes
+            // inline does not recurse through the whole window
+            call.whenCompleteAsync((output, error) -> collect(index, output, error), executor);
+        }
+
+        private synchronized void collect(int index, O output, Throwable error) {
+            inFlight.remove(index);
+            if (done.isDone()) {
+                return;
+            }
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                context.getLogger().warning(
+                    "[MapNode:" + name + "] Element[" + index + "] failed: " + cause.getMessage()
+                );
+                results.set(index, new Failure<>(cause));
+                if (failFast) {
+                    done.completeExceptionally(new MapElementException(name, index, cause));
+                    inFlight.values().forEach(f -> f.cancel(true));
+                    return;
+                }
+            } else {
+                results.set(index, new Success<>(output));
+            }
+            collected++;
+            if (submitted < elements.size()) {
+                launch(submitted++);
+            } else if (collected == elements.size()) {
+                MapResult<O> result = new MapResult<>(freezeSnapshot(results, elements.size()), elements.size());
+                context.getLogger().info("[MapNode:" + name + "] Done - " + result);
+                done.complete(result);
+            }
+        }
+
+        private synchronized void expire() {
+            if (done.isDone()) {
+                return;
+            }
+            context.getLogger().warning(
+                "[MapNode:" + name + "] Global deadline exceeded after "
+                    + collected + "/" + elements.size() + " collected."
+            );
+            inFlight.values().forEach(f -> f.cancel(true));
+            String timeoutReason = "Global timeout of " + globalTimeoutMs + "ms exceeded";
+            for (int i = 0; i < elements.size(); i++) {
+                results.compareAndSet(i, null,
+                    i < submitted ? new Cancelled<>(timeoutReason) : new NotExecuted<>(timeoutReason));
+            }
+            if (failFast) {
+                done.completeExceptionally(new RuntimeException(
+                    "[MapNode:" + name + "] timed out after " + globalTimeoutMs + "ms. "
+                        + "Cancelled " + (submitted - collected) + " in-flight tasks."
+                ));
+                return;
+            }
+            done.complete(new MapResult<>(freezeSnapshot(results, elements.size()), elements.size()));
+        }
+    }
+
     /**
      * Acquires limiter before submit (submission throttling not worker blocking).
      */
@@ -508,6 +712,7 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
     public static final class Builder<I, O> {
  
         private BiFunction<I, NodeContext, O> mapFn;
+        private BiFunction<I, NodeContext, CompletableFuture<O>> asyncMapFn;
         private long globalTimeoutMs         = 60_000L;
         private long completionPollTimeoutMs = 0L;
         private boolean continueOnError      = false;
@@ -516,12 +721,26 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
  
         public Builder<I, O> mapWith(BiFunction<I, NodeContext, O> fn) {
             this.mapFn = Objects.requireNonNull(fn);;
+            this.asyncMapFn = null;
             return this;
         }
         
         public Builder<I, O> mapWith(Function<I, O> fn) {
         	Objects.requireNonNull(fn);
             this.mapFn = (element, ctx) -> fn.apply(element);
+            this.asyncMapFn = null;
+            return this;
+        }
+
+        /**
+         * Maps with a function that starts the work and returns its future.
+         * No thread is held while an element is in flight; cancelling the
+         * node or hitting the timeout cancels the pending futures.
+         * {@link #completionPollTimeout} does not apply.
+         */
+        public Builder<I, O> mapWithAsync(BiFunction<I, NodeContext, CompletableFuture<O>> fn) {
+            this.asyncMapFn = Objects.requireNonNull(fn);
+            this.mapFn = null;
             return this;
         }
  
@@ -568,10 +787,10 @@ public class MapNode<I, O> implements NodePlugin<Iterable<I>, MapNode.MapResult<
         }
  
         public MapNode<I, O> build(String nodeName) {
-            if (mapFn == null) {
+            if (mapFn == null && asyncMapFn == null) {
                 throw new IllegalStateException("MapNode [" + nodeName + "] requires mapWith()");
             }
-            return new MapNode<>(nodeName, mapFn, globalTimeoutMs,
+            return new MapNode<>(nodeName, mapFn, asyncMapFn, globalTimeoutMs,
                 completionPollTimeoutMs, continueOnError, maxInFlight, cancellationGraceMs);
         }
     }
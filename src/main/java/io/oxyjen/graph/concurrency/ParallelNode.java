@@ -216,8 +216,9 @@ public class ParallelNode<I,O> implements NodePlugin<I, ParallelNode.ParallelRes
                 })
             );
         }
-        CompletableFuture<Void> all = CompletableFuture.allOf(collectors.toArray(new CompletableFuture[0]))
-                        .orTimeout(timeout, TimeUnit.MILLISECONDS);
+        CompletableFuture<Void> all = runtime.timer().orTimeout(
+                CompletableFuture.allOf(collectors.toArray(new CompletableFuture[0])),
+                timeout, TimeUnit.MILLISECONDS);
         try {
             all.join();
         } catch (CompletionException | CancellationException e) {
@@ -1,10 +1,24 @@
 package io.oxyjen.graph.cycles;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.concurrent.CancellationException;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import io.oxyjen.core.AsyncNodePlugin;
 import io.oxyjen.core.NodeContext;
 import io.oxyjen.core.NodePlugin;
+import io.oxyjen.execution.ExecutionEvent;
+import io.oxyjen.execution.ExecutionMetadataKeys;
+import io.oxyjen.execution.HashedWheelTimer;
+import io.oxyjen.execution.ExecutionRuntime;
+import io.oxyjen.execution.FailureInfo;
+import io.oxyjen.semantics.retry.RetryBudget;
 import io.oxyjen.semantics.retry.RetryPolicy;
 
 /**
@@ -24,6 +38,10 @@ import io.oxyjen.semantics.retry.RetryPolicy;
  *
  * maxAttempts is the total number of tries, not the number of retries.
  *
+ * In a graph the node runs through {@link #processAsync}: backoffs wait on
+ * the runtime's timer, not on a sleeping thread, and an
+ * {@link AsyncNodePlugin} delegate is called through its async path.
+ *
  * Usage:
  * <pre>
  * RetryNode.wrap(myHttpNode)
@@ -39,7 +57,7 @@ import io.oxyjen.semantics.retry.RetryPolicy;
  *     .build("retryExtract");
  * </pre>
  */
-public final class RetryNode<I, O> implements NodePlugin<I, O> {
+public final class RetryNode<I, O> implements AsyncNodePlugin<I, O> {
 
     private final NodePlugin<I, O> delegate;
     private final RetryPolicy policy;
@@ -59,65 +77,212 @@ public final class RetryNode<I, O> implements NodePlugin<I, O> {
     public O process(I input, NodeContext context) {
         Throwable lastException = null;
         int maxAttempts = policy.maxAttempts();
+        RetryBudget budget = budgetFor(context);
+        if (budget != null) {
+            budget.recordRequest();
+        }
 
         for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            // Isolated child context per attempt
-            NodeContext attemptContext = context.child(name + "/attempt-" + attempt);
-            attemptContext.setMetadata("retryAttempt", attempt);
-            attemptContext.setMetadata("retryMaxAttempts", maxAttempts);
-            attemptContext.setMetadata("retryNodeName", name);
-
+            NodeContext attemptContext = attemptContext(context, attempt);
             try {
-                context.getLogger().info(
-                    "[RetryNode:" + name + "] Attempt " + attempt + "/" + maxAttempts
-                );
-
                 O result = delegate.process(input, attemptContext);
-
-                if (attempt > 1) {
-                    context.getLogger().info(
-                        "[RetryNode:" + name + "] Succeeded on attempt " + attempt
-                    );
-                    listener.onRecovery(new RetryEvent(name, attempt, maxAttempts, null, attemptContext));
-                }
+                recovered(context, attemptContext, attempt);
                 return result;
 
             } catch (Exception e) {
                 lastException = e;
-                RetryEvent event = RetryEvent.of(name, attempt, maxAttempts, e, attemptContext);
-                context.getLogger().warning(
-                    "[RetryNode:" + name + "] Attempt " + attempt + " failed: "
-                    + e.getClass().getSimpleName() + ": " + e.getMessage()
-                );
-
-                listener.onFailure(event);
-                RetryPolicy.Decision decision = policy.decide(e, attempt);
-
-                if (!decision.shouldRetry()) {
-                    context.getLogger().severe(
-                        "[RetryNode:" + name + "] Policy says stop retrying: "
-                        + e.getClass().getSimpleName()
-                    );
-                    sneakyThrow(e);
-                    return null;
-                }
-                if (attempt == maxAttempts) break;
-
-                long backoffMs = decision.delayMs() > 0
-                    ? decision.delayMs()
-                    : policy.calculateBackoff(attempt);
-
-                context.getLogger().info(
-                    "[RetryNode:" + name + "] Retrying in " + backoffMs
-                    + "ms (attempt " + (attempt + 1) + "/" + maxAttempts + ")"
-                );
-                listener.onRetry(event);
+                long backoffMs = backoffAfter(e, attempt, budget, context, attemptContext);
+                if (backoffMs < 0) break;
                 sleep(backoffMs, context);
             }
         }
         throw new RetryExhaustedException(name, maxAttempts, lastException);
     }
 
+    /**
+     * Same attempts as {@link #process}, without holding a thread: backoffs
+     * are scheduled on the runtime's timer and the next attempt starts on
+     * the runtime's executor. Cancelling the returned future stops retrying.
+     */
+    @Override
+    public CompletableFuture<O> processAsync(I input, NodeContext context) {
+        RetryBudget budget = budgetFor(context);
+        if (budget != null) {
+            budget.recordRequest();
+        }
+        CompletableFuture<O> result = new CompletableFuture<>();
+        String nodeId = ExecutionMetadataKeys.currentNodeId(name);
+        attemptAsync(input, context, nodeId, budget, 1, result);
+        return result;
+    }
+
+    private void attemptAsync(I input, NodeContext context, String nodeId, RetryBudget budget,
+            int attempt, CompletableFuture<O> result) {
+        if (result.isDone()) {
+            return;
+        }
+        NodeContext attemptContext = attemptContext(context, attempt);
+        CompletableFuture<O> call;
+        // later attempts start on a timer-released thread, outside the executor's node scope
+        if (attempt > 1) {
+            ExecutionMetadataKeys.setCurrentNodeId(nodeId);
+        }
+        try {
+            call = delegate instanceof AsyncNodePlugin<I, O> async
+                ? async.processAsync(input, attemptContext)
+                : CompletableFuture.completedFuture(delegate.process(input, attemptContext));
+        } catch (Exception e) {
+            call = CompletableFuture.failedFuture(e);
+        } finally {
+            if (attempt > 1) {
+                ExecutionMetadataKeys.clearCurrentNodeId();
+            }
+        }
+        cancelWith(result, call);
+        call.whenComplete((output, error) -> {
+            if (error == null) {
+                try {
+                    recovered(context, attemptContext, attempt);
+                    result.complete(output);
+                } catch (Throwable listenerFailure) {
+                    result.completeExceptionally(listenerFailure);
+                }
+                return;
+            }
+            Throwable cause = unwrap(error);
+            if (!(cause instanceof Exception failure)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            long backoffMs;
+            try {
+                backoffMs = backoffAfter(failure, attempt, budget, context, attemptContext);
+            } catch (Throwable stop) {
+                result.completeExceptionally(stop);
+                return;
+            }
+            if (backoffMs < 0) {
+                result.completeExceptionally(
+                    new RetryExhaustedException(name, policy.maxAttempts(), failure));
+                return;
+            }
+            ExecutionRuntime runtime = context.getRuntime();
+            HashedWheelTimer timer = runtime != null ? runtime.timer() : HashedWheelTimer.shared();
+            Executor executor = runtime != null ? runtime.getExecutor() : ForkJoinPool.commonPool();
+            CompletableFuture<Void> backoff = timer.delay(backoffMs, TimeUnit.MILLISECONDS);
+            cancelWith(result, backoff);
+            backoff.thenRunAsync(() -> attemptAsync(input, context, nodeId, budget, attempt + 1, result), executor);
+        });
+    }
+
+    private static void cancelWith(CompletableFuture<?> result, CompletableFuture<?> step) {
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                step.cancel(true);
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    // isolated child context per attempt
+    private NodeContext attemptContext(NodeContext context, int attempt) {
+        int maxAttempts = policy.maxAttempts();
+        NodeContext attemptContext = context.child(name + "/attempt-" + attempt);
+        attemptContext.setMetadata("retryAttempt", attempt);
+        attemptContext.setMetadata("retryMaxAttempts", maxAttempts);
+        attemptContext.setMetadata("retryNodeName", name);
+        context.getLogger().info(
+            "[RetryNode:" + name + "] Attempt " + attempt + "/" + maxAttempts
+        );
+        return attemptContext;
+    }
+
+    private void recovered(NodeContext context, NodeContext attemptContext, int attempt) {
+        if (attempt > 1) {
+            context.getLogger().info(
+                "[RetryNode:" + name + "] Succeeded on attempt " + attempt
+            );
+            listener.onRecovery(new RetryEvent(name, attempt, policy.maxAttempts(), null, attemptContext));
+        }
+    }
+
+    /**
+     * Reports a failed attempt and returns the backoff before the next one,
+     * or -1 if it was the last. Rethrows {@code e} if the policy stops here.
+     */
+    private long backoffAfter(Exception e, int attempt, RetryBudget budget,
+            NodeContext context, NodeContext attemptContext) {
+        int maxAttempts = policy.maxAttempts();
+        RetryEvent event = RetryEvent.of(name, attempt, maxAttempts, e, attemptContext);
+        context.getLogger().warning(
+            "[RetryNode:" + name + "] Attempt " + attempt + " failed: "
+            + e.getClass().getSimpleName() + ": " + e.getMessage()
+        );
+
+        listener.onFailure(event);
+        RetryPolicy.Decision decision = policy.decide(e, attempt, budget);
+
+        if (decision.budgetExhausted()) {
+            context.getLogger().warning(
+                "[RetryNode:" + name + "] Retry budget exhausted, failing fast: "
+                + e.getClass().getSimpleName()
+            );
+            emitBudgetExhausted(context, budget, attempt, e);
+        }
+        if (!decision.shouldRetry()) {
+            context.getLogger().severe(
+                "[RetryNode:" + name + "] Policy says stop retrying: "
+                + e.getClass().getSimpleName()
+            );
+            sneakyThrow(e);
+        }
+        if (attempt == maxAttempts) return -1;
+
+        long backoffMs = decision.delayMs() > 0
+            ? decision.delayMs()
+            : policy.calculateBackoff(attempt);
+
+        context.getLogger().info(
+            "[RetryNode:" + name + "] Retrying in " + backoffMs
+            + "ms (attempt " + (attempt + 1) + "/" + maxAttempts + ")"
+        );
+        listener.onRetry(event);
+        return backoffMs;
+    }
+
+    // the policy's own budget wins over the runtime-wide one
+    private RetryBudget budgetFor(NodeContext context) {
+        if (policy.budget() != null) {
+            return policy.budget();
+        }
+        ExecutionRuntime runtime = context.getRuntime();
+        return runtime != null ? runtime.retryBudget() : null;
+    }
+
+    private void emitBudgetExhausted(NodeContext context, RetryBudget budget, int attempt, Throwable failure) {
+        ExecutionRuntime runtime = context.getRuntime();
+        if (runtime == null || runtime.observationBus() == null || runtime.observationBus().isEmpty()) {
+            return;
+        }
+        String executionId = context.getMetadata("executionId");
+        runtime.observationBus().emit(new ExecutionEvent.RetryBudgetExhausted(
+            executionId != null ? executionId : "unknown",
+            Instant.now(),
+            name,
+            attempt,
+            FailureInfo.from(failure),
+            budget.requests(),
+            budget.retries()
+        ));
+    }
+
     /**
      * Cancellation-aware sleep.
      * Graph cancellation interrupts the thread, stop retrying immediately.
@@ -0,0 +1,78 @@
+package io.oxyjen.llm;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.oxyjen.llm.internal.BlockingAsyncChatModel;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+
+/**
+ * A {@link ChatModel} that can also run a call without blocking a thread.
+ *
+ * <p>Implemented by the HTTP-backed provider models. Decorators such as the
+ * chain's timeout wrapper use it to wait on the exchange itself instead of
+ * parking an extra thread on a blocking call, and to abort the exchange when
+ * they give up on it.
+ *
+ * <p>Decorators (rate limiter, circuit breaker, pool, timeout) implement it
+ * whatever they wrap and report their delegate's {@link #supportsAsync()};
+ * over a blocking delegate their async methods make the blocking call on
+ * the caller's thread and return a completed future.
+ */
+public interface AsyncChatModel extends ChatModel {
+
+    /**
+     * Starts a chat completion.
+     *
+     * <p>Cancelling the returned future aborts the underlying request, the
+     * connection is released and no response is read.
+     *
+     * @param input The input string
+     * @return future of the model's response
+     */
+    CompletableFuture<LLMResponse> chatAsync(String input);
+
+    /**
+     * Non-blocking {@link #chatStructured}. The default ignores the schema,
+     * like {@link ChatModel#chatStructured}'s.
+     */
+    default CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+        return chatAsync(input);
+    }
+
+    /**
+     * Non-blocking {@link #chat(List, JSONSchema)}. The default sends one
+     * prompt built by {@link Message#transcript}.
+     *
+     * @param responseSchema schema for native structured output, or null
+     */
+    default CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+        String input = Message.transcript(messages);
+        return responseSchema != null ? chatStructuredAsync(input, responseSchema) : chatAsync(input);
+    }
+
+    /**
+     * Whether the async methods really leave the caller's thread free.
+     * False for a decorator over a blocking model.
+     */
+    default boolean supportsAsync() {
+        return true;
+    }
+
+    /**
+     * True if {@code model} is an {@link AsyncChatModel} that
+     * {@link #supportsAsync() supports async} calls.
+     */
+    static boolean isAsync(ChatModel model) {
+        return model instanceof AsyncChatModel async && async.supportsAsync();
+    }
+
+    /**
+     * {@code model} itself if it is an {@link AsyncChatModel}, else a view
+     * whose async methods make the blocking call on the caller's thread.
+     */
+    static AsyncChatModel of(ChatModel model) {
+        return model instanceof AsyncChatModel async ? async : new BlockingAsyncChatModel(model);
+    }
+}
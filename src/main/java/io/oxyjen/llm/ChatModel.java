@@ -1,5 +1,10 @@
 package io.oxyjen.llm;
 
+import java.util.List;
+
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+
 /**
  * The smallest, stable contract for "something that can chat."
  * 
@@ -25,4 +30,43 @@ public interface ChatModel {
      * @return The model's response
      */
     LLMResponse chat(String input);
+
+    /**
+     * {@link #chat(String)} with the output constrained to
+     * {@code responseSchema} by the provider's native structured output
+     * mode, where it has one.
+     *
+     * The default ignores the schema and calls {@link #chat(String)};
+     * callers must still validate the response. Providers with a native
+     * mode override this, and decorators forward it to their delegate.
+     */
+    default LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+        return chat(input);
+    }
+
+    /**
+     * Multi-turn chat: {@code messages} go to the provider as separate
+     * turns, so a follow-up that keeps earlier turns unchanged shares
+     * their prefix (and the provider's prompt cache).
+     *
+     * The default sends a single user turn through {@link #chatStructured}
+     * or {@link #chat(String)}, and anything longer as one prompt built by
+     * {@link Message#transcript}.
+     *
+     * @param responseSchema schema for native structured output, or null
+     */
+    default LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+        String input = Message.transcript(messages);
+        return responseSchema != null ? chatStructured(input, responseSchema) : chat(input);
+    }
+
+    /**
+     * Provider this model calls, matching {@code ModelInfo.provider()} of
+     * its responses (e.g. {@code "openai"}), or {@code null} if unknown.
+     * Known before any call, so nodes can be routed to a per-provider
+     * bulkhead. Decorators report their delegate's provider.
+     */
+    default String provider() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,474 @@
+package io.oxyjen.llm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.oxyjen.llm.exceptions.RateLimitException;
+import io.oxyjen.llm.internal.Futures;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.resilience.ratelimit.RateLimitedChatModel;
+import io.oxyjen.resilience.ratelimit.RateLimiter;
+
+/**
+ * Spreads calls over several equivalent models, typically the same model
+ * behind different API keys or projects, so their quotas add up.
+ *
+ * Each call goes to the member with the fewest requests in flight
+ * ({@link Strategy#LEAST_OUTSTANDING}), or to the less loaded of two random
+ * members ({@link Strategy#POWER_OF_TWO_CHOICES}). Requests waiting on a
+ * member's own rate limiter count as in flight, so a throttled key is
+ * naturally avoided.
+ *
+ * A member that answers 429 is ejected for the provider's retry-after (or
+ * {@code rateLimitEjection}) and the call moves to another member; a member
+ * failing {@code failureThreshold} times in a row is ejected for
+ * {@code failureEjection} and the error is rethrown for the caller's retry
+ * policy. When every member is ejected the pool throws
+ * {@link RateLimitException} with the time until the first one returns.
+ *
+ * <pre>{@code
+ * ChatModel pool = LLM.pool()
+ *     .add("key-a", LLM.openai("gpt-4o-mini", keyA), RateLimiters.fixedInterval(500))
+ *     .add("key-b", LLM.openai("gpt-4o-mini", keyB), RateLimiters.fixedInterval(500))
+ *     .build();
+ * }</pre>
+ *
+ * The async methods pick members the same way and move on after a 429
+ * without holding a thread.
+ *
+ * To {@link LLMNode} and {@link LLMChain} the pool is a single model.
+ */
+public final class ChatModelPool implements AsyncChatModel {
+
+    public enum Strategy {
+        /** Member with the fewest calls in flight; ties go round-robin. */
+        LEAST_OUTSTANDING,
+        /** Less loaded of two members picked at random. */
+        POWER_OF_TWO_CHOICES
+    }
+
+    private final List<Member> members;
+    private final Strategy strategy;
+    private final Duration rateLimitEjection;
+    private final Duration failureEjection;
+    private final int failureThreshold;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private ChatModelPool(Builder builder) {
+        this.members = List.copyOf(builder.members);
+        this.strategy = builder.strategy;
+        this.rateLimitEjection = builder.rateLimitEjection;
+        this.failureEjection = builder.failureEjection;
+        this.failureThreshold = builder.failureThreshold;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public LLMResponse chat(String input) {
+        return call(model -> model.chat(input));
+    }
+
+    @Override
+    public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+        return call(model -> model.chatStructured(input, responseSchema));
+    }
+
+    @Override
+    public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+        return call(model -> model.chat(messages, responseSchema));
+    }
+
+    private LLMResponse call(Function<ChatModel, LLMResponse> request) {
+        List<Member> tried = new ArrayList<>(members.size());
+        RateLimitException lastRateLimit = null;
+        while (tried.size() < members.size()) {
+            Member member = select(tried);
+            if (member == null) {
+                break;
+            }
+            tried.add(member);
+            member.outstanding.incrementAndGet();
+            try {
+                LLMResponse response = request.apply(member.model);
+                member.onSuccess();
+                return response;
+            } catch (RateLimitException e) {
+                // quota is per key: eject this one and let another member take the call
+                long cooldownMs = e.hasRetryAfter() ? e.getRetryAfterMs() : rateLimitEjection.toMillis();
+                member.onRateLimited(cooldownMs);
+                lastRateLimit = e;
+            } catch (RuntimeException | Error e) {
+                member.onFailure(failureThreshold, failureEjection.toMillis());
+                throw e;
+            } finally {
+                member.outstanding.decrementAndGet();
+            }
+        }
+        throw exhausted(lastRateLimit);
+    }
+
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(String input) {
+        return callAsync(model -> model.chatAsync(input));
+    }
+
+    @Override
+    public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+        return callAsync(model -> model.chatStructuredAsync(input, responseSchema));
+    }
+
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+        return callAsync(model -> model.chatAsync(messages, responseSchema));
+    }
+
+    /**
+     * True if every member supports async calls.
+     */
+    @Override
+    public boolean supportsAsync() {
+        for (Member member : members) {
+            if (!AsyncChatModel.isAsync(member.model)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CompletableFuture<LLMResponse> callAsync(
+            Function<AsyncChatModel, CompletableFuture<LLMResponse>> request) {
+        CompletableFuture<LLMResponse> result = new CompletableFuture<>();
+        attemptAsync(request, new ArrayList<>(members.size()), null, result);
+        return result;
+    }
+
+    // same member selection and ejection as call(), one member at a time
+    private void attemptAsync(Function<AsyncChatModel, CompletableFuture<LLMResponse>> request,
+            List<Member> tried, RateLimitException lastRateLimit, CompletableFuture<LLMResponse> result) {
+        Member member = tried.size() < members.size() ? select(tried) : null;
+        if (member == null) {
+            result.completeExceptionally(exhausted(lastRateLimit));
+            return;
+        }
+        tried.add(member);
+        member.outstanding.incrementAndGet();
+        CompletableFuture<LLMResponse> call;
+        try {
+            call = request.apply(AsyncChatModel.of(member.model));
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<LLMResponse> attempt = call;
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                attempt.cancel(true);
+            }
+        });
+        attempt.whenComplete((response, error) -> {
+            member.outstanding.decrementAndGet();
+            if (error == null) {
+                member.onSuccess();
+                result.complete(response);
+                return;
+            }
+            Throwable cause = Futures.unwrap(error);
+            if (cause instanceof RateLimitException rateLimited) {
+                long cooldownMs = rateLimited.hasRetryAfter()
+                        ? rateLimited.getRetryAfterMs() : rateLimitEjection.toMillis();
+                member.onRateLimited(cooldownMs);
+                if (!result.isDone()) {
+                    attemptAsync(request, tried, rateLimited, result);
+                }
+                return;
+            }
+            if (!(cause instanceof CancellationException)) {
+                member.onFailure(failureThreshold, failureEjection.toMillis());
+            }
+            result.completeExceptionally(cause);
+        });
+    }
+
+    private RateLimitException exhausted(RateLimitException lastRateLimit) {
+        long waitMs = millisUntilFirstReturn();
+        RateLimitException exhausted = new RateLimitException(
+            "All " + members.size() + " pool members are ejected; first returns in " + waitMs + "ms",
+            waitMs
+        );
+        if (lastRateLimit != null) {
+            exhausted.addSuppressed(lastRateLimit);
+        }
+        return exhausted;
+    }
+
+    /**
+     * Members in the order they were added, for health and load metrics.
+     */
+    public List<Member> members() {
+        return members;
+    }
+
+    public Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * The members' provider if they all share one, else {@code null}.
+     */
+    @Override
+    public String provider() {
+        String provider = members.get(0).model.provider();
+        for (Member member : members) {
+            if (provider == null || !provider.equals(member.model.provider())) {
+                return null;
+            }
+        }
+        return provider;
+    }
+
+    // null when every member not yet tried is ejected
+    private Member select(List<Member> tried) {
+        long now = System.nanoTime();
+        List<Member> available = new ArrayList<>(members.size());
+        for (Member member : members) {
+            if (!tried.contains(member) && !member.isEjected(now)) {
+                available.add(member);
+            }
+        }
+        if (available.isEmpty()) {
+            return null;
+        }
+        if (available.size() == 1) {
+            return available.get(0);
+        }
+        return switch (strategy) {
+            case LEAST_OUTSTANDING -> leastOutstanding(available);
+            case POWER_OF_TWO_CHOICES -> powerOfTwo(available);
+        };
+    }
+
+    private Member leastOutstanding(List<Member> available) {
+        int start = Math.floorMod(cursor.getAndIncrement(), available.size());
+        Member best = null;
+        for (int i = 0; i < available.size(); i++) {
+            Member candidate = available.get((start + i) % available.size());
+            if (best == null || candidate.outstanding() < best.outstanding()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private Member powerOfTwo(List<Member> available) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(available.size());
+        int second = random.nextInt(available.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Member a = available.get(first);
+        Member b = available.get(second);
+        return b.outstanding() < a.outstanding() ? b : a;
+    }
+
+    private long millisUntilFirstReturn() {
+        long now = System.nanoTime();
+        long soonest = Long.MAX_VALUE;
+        for (Member member : members) {
+            soonest = Math.min(soonest, member.ejectedUntilNanos - now);
+        }
+        return Math.max(1L, Duration.ofNanos(soonest).toMillis());
+    }
+
+    /**
+     * One model in the pool, with its load and health.
+     */
+    public static final class Member {
+        private final String name;
+        private final ChatModel model;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+        private final LongAdder ejections = new LongAdder();
+        private volatile long ejectedUntilNanos = System.nanoTime();
+
+        private Member(String name, ChatModel model) {
+            this.name = name;
+            this.model = model;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /** Calls in flight on this member, including those waiting on its rate limiter. */
+        public int outstanding() {
+            return outstanding.get();
+        }
+
+        public long successes() {
+            return successes.sum();
+        }
+
+        /** Failed calls other than 429s. */
+        public long failures() {
+            return failures.sum();
+        }
+
+        /** 429 responses. */
+        public long rateLimited() {
+            return rateLimited.sum();
+        }
+
+        public long ejections() {
+            return ejections.sum();
+        }
+
+        public boolean isEjected() {
+            return isEjected(System.nanoTime());
+        }
+
+        /** Time until this member takes calls again, zero if it is healthy. */
+        public Duration ejectedFor() {
+            return Duration.ofNanos(Math.max(0L, ejectedUntilNanos - System.nanoTime()));
+        }
+
+        private boolean isEjected(long now) {
+            return ejectedUntilNanos - now > 0;
+        }
+
+        private void onSuccess() {
+            successes.increment();
+            consecutiveFailures.set(0);
+        }
+
+        private void onRateLimited(long cooldownMs) {
+            rateLimited.increment();
+            eject(cooldownMs);
+        }
+
+        private void onFailure(int threshold, long ejectionMs) {
+            failures.increment();
+            if (consecutiveFailures.incrementAndGet() >= threshold) {
+                consecutiveFailures.set(0);
+                eject(ejectionMs);
+            }
+        }
+
+        private synchronized void eject(long millis) {
+            long until = System.nanoTime() + Duration.ofMillis(millis).toNanos();
+            if (until - ejectedUntilNanos > 0) {
+                ejectedUntilNanos = until;
+            }
+            ejections.increment();
+        }
+
+        @Override
+        public String toString() {
+            return "Member{name=" + name
+                + ", outstanding=" + outstanding
+                + ", successes=" + successes.sum()
+                + ", failures=" + failures.sum()
+                + ", rateLimited=" + rateLimited.sum()
+                + ", ejected=" + isEjected() + "}";
+        }
+    }
+
+    public static final class Builder {
+        private final List<Member> members = new ArrayList<>();
+        private Strategy strategy = Strategy.LEAST_OUTSTANDING;
+        private Duration rateLimitEjection = Duration.ofSeconds(30);
+        private Duration failureEjection = Duration.ofSeconds(30);
+        private int failureThreshold = 5;
+
+        private Builder() {}
+
+        public Builder add(ChatModel model) {
+            return add("member-" + members.size(), model);
+        }
+
+        public Builder add(String name, ChatModel model) {
+            if (model == null) {
+                throw new IllegalArgumentException("Pool member cannot be null");
+            }
+            for (Member member : members) {
+                if (member.name.equals(name)) {
+                    throw new IllegalArgumentException("Duplicate pool member name: " + name);
+                }
+            }
+            members.add(new Member(name, model));
+            return this;
+        }
+
+        /**
+         * Member with its own rate limiter, e.g. the quota of its API key.
+         * The limiter backs off on that member's 429s.
+         */
+        public Builder add(String name, ChatModel model, RateLimiter limiter) {
+            if (limiter == null) {
+                throw new IllegalArgumentException("Rate limiter cannot be null");
+            }
+            return add(name, RateLimitedChatModel.of(model, limiter));
+        }
+
+        public Builder strategy(Strategy strategy) {
+            if (strategy == null) {
+                throw new IllegalArgumentException("Strategy cannot be null");
+            }
+            this.strategy = strategy;
+            return this;
+        }
+
+        /**
+         * Ejection after a 429 without a retry-after hint. Default: 30s.
+         */
+        public Builder rateLimitEjection(Duration duration) {
+            this.rateLimitEjection = requirePositive(duration);
+            return this;
+        }
+
+        /**
+         * Eject a member for {@code duration} after {@code threshold}
+         * consecutive failures. Default: 5 failures, 30s.
+         */
+        public Builder ejectAfterFailures(int threshold, Duration duration) {
+            if (threshold < 1) {
+                throw new IllegalArgumentException("Failure threshold must be >= 1, got: " + threshold);
+            }
+            this.failureThreshold = threshold;
+            this.failureEjection = requirePositive(duration);
+            return this;
+        }
+
+        public ChatModelPool build() {
+            if (members.isEmpty()) {
+                throw new IllegalStateException("Pool needs at least one member");
+            }
+            return new ChatModelPool(this);
+        }
+
+        private static Duration requirePositive(Duration duration) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("Duration must be positive, got: " + duration);
+            }
+            return duration;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ChatModelPool{strategy=" + strategy + ", members=" + members + "}";
+    }
+}
@@ -0,0 +1,109 @@
+package io.oxyjen.llm;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for a hedging {@link LLMChain}.
+ *
+ * <p>Hedging trades tokens for tail latency, these numbers say how good the
+ * trade is: how often a hedge fired, how often it actually won, and how many
+ * tokens went to requests whose answer was thrown away.
+ *
+ * <p>Token counts for a cancelled request are estimated from the prompt,
+ * since the provider never reports usage for it.
+ */
+public final class HedgeMetrics {
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong budgetRejected = new AtomicLong();
+    private final AtomicLong poolSaturated = new AtomicLong();
+    private final AtomicLong hedgeTokens = new AtomicLong();
+    private final AtomicLong wastedTokens = new AtomicLong();
+
+    /** Calls that went through the hedging model. */
+    public long requests() {
+        return requests.get();
+    }
+
+    /** Calls for which a hedge request was fired. */
+    public long hedged() {
+        return hedged.get();
+    }
+
+    /** Hedged calls answered by the hedge rather than the primary. */
+    public long hedgeWins() {
+        return hedgeWins.get();
+    }
+
+    /** Calls past the hedge delay that were not hedged because the budget was spent. */
+    public long budgetRejected() {
+        return budgetRejected.get();
+    }
+
+    /**
+     * Calls past the hedge delay that were not hedged because every thread
+     * for blocking hedges was busy. Always 0 when both models are async.
+     */
+    public long poolSaturated() {
+        return poolSaturated.get();
+    }
+
+    /** Tokens consumed by hedge requests, winners and losers. */
+    public long hedgeTokens() {
+        return hedgeTokens.get();
+    }
+
+    /** Tokens consumed by whichever request lost the race. */
+    public long wastedTokens() {
+        return wastedTokens.get();
+    }
+
+    /** Fraction of calls that were hedged. */
+    public double hedgeRate() {
+        long total = requests.get();
+        return total == 0 ? 0.0 : hedged.get() / (double) total;
+    }
+
+    // recording is internal to the hedging model
+
+    public void recordRequest() {
+        requests.incrementAndGet();
+    }
+
+    public void recordHedge() {
+        hedged.incrementAndGet();
+    }
+
+    public void recordHedgeWin() {
+        hedgeWins.incrementAndGet();
+    }
+
+    public void recordBudgetRejected() {
+        budgetRejected.incrementAndGet();
+    }
+
+    public void recordPoolSaturated() {
+        poolSaturated.incrementAndGet();
+    }
+
+    public void recordHedgeTokens(long tokens) {
+        hedgeTokens.addAndGet(tokens);
+    }
+
+    public void recordWastedTokens(long tokens) {
+        wastedTokens.addAndGet(tokens);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgeMetrics{requests=" + requests
+                + ", hedged=" + hedged
+                + ", hedgeWins=" + hedgeWins
+                + ", budgetRejected=" + budgetRejected
+                + ", poolSaturated=" + poolSaturated
+                + ", hedgeTokens=" + hedgeTokens
+                + ", wastedTokens=" + wastedTokens + "}";
+    }
+}
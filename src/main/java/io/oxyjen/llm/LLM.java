@@ -1,6 +1,7 @@
 package io.oxyjen.llm;
 import java.time.Duration;
 
+import io.oxyjen.llm.transport.HttpTransport;
 import io.oxyjen.llm.transport.gemini.GeminiModels;
 import io.oxyjen.llm.transport.openai.OpenAIModels;
 import io.oxyjen.resilience.ratelimit.RateLimitedChatModel;
@@ -70,6 +71,14 @@ public final class LLM {
         return OpenAIModels.create(model, apiKey);
     }
     
+    /**
+     * Create OpenAI model on a shared {@link HttpTransport}, so several
+     * models reuse one connection pool.
+     */
+    public static ChatModel openai(String model, String apiKey, HttpTransport transport) {
+        return OpenAIModels.create(model, apiKey, transport);
+    }
+    
     /**
      * Entry point for building fallback chains.
      * 
@@ -88,6 +97,23 @@ public final class LLM {
         return LLMChain.builder();
     }
     
+    /**
+     * Create a pool that load-balances one model over several API keys.
+     * 
+     * Example:
+     * <pre>
+     * ChatModel pool = LLM.pool()
+     *     .add("key-a", LLM.openai("gpt-4o-mini", keyA))
+     *     .add("key-b", LLM.openai("gpt-4o-mini", keyB))
+     *     .build();
+     * </pre>
+     * 
+     * @return ChatModelPool builder
+     */
+    public static ChatModelPool.Builder pool() {
+        return ChatModelPool.builder();
+    }
+    
     /**
      * Wrap any ChatModel with rate limiting.
      *
@@ -166,6 +192,10 @@ public final class LLM {
     public static ChatModel gemini(String model, String apiKey, Duration requestTimeout) {
         return GeminiModels.create(model, apiKey, requestTimeout);
     }
+
+    public static ChatModel gemini(String model, String apiKey, HttpTransport transport) {
+        return GeminiModels.create(model, apiKey, transport);
+    }
     
     
     // TODO v0.4+: expose profile registration via LLM
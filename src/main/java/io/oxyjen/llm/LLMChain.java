@@ -3,18 +3,38 @@ package io.oxyjen.llm;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import io.oxyjen.execution.ExecutionEvent;
+import io.oxyjen.execution.ExecutionRuntime;
 import io.oxyjen.execution.FailureInfo;
+import io.oxyjen.execution.HashedWheelTimer;
+import io.oxyjen.llm.exceptions.CircuitOpenException;
 import io.oxyjen.llm.exceptions.InvalidAPIKeyException;
 import io.oxyjen.llm.exceptions.LLMException;
 import io.oxyjen.llm.exceptions.NetworkException;
 import io.oxyjen.llm.exceptions.RateLimitException;
 import io.oxyjen.llm.exceptions.TimeoutException;
+import io.oxyjen.llm.internal.Futures;
+import io.oxyjen.llm.internal.HedgedChatModel;
 import io.oxyjen.llm.internal.TimedChatModel;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
 import io.oxyjen.observe.ObservationBus;
+import io.oxyjen.resilience.circuitbreaker.CircuitBreaker;
+import io.oxyjen.resilience.circuitbreaker.CircuitBreakerChatModel;
 import io.oxyjen.resilience.ratelimit.RateLimitedChatModel;
+import io.oxyjen.semantics.retry.RetryBudget;
 import io.oxyjen.semantics.retry.RetryPolicy;
 
 /**
@@ -26,6 +46,11 @@ import io.oxyjen.semantics.retry.RetryPolicy;
  * - Timeout protection
  * - Error classification
  * - Jitter & retry cap
+ * - Circuit breakers: models wrapped in {@code CircuitBreakerChatModel}
+ *   are skipped while open, transitions are emitted on the bus
+ * - Hedged requests: a slow primary call is raced against a second model
+ * - Latency-aware routing: optionally try the currently fastest healthy
+ *   model first instead of the declaration order
  *
  * maxRetries is the total number of attempts per model, not extra retries.
  *
@@ -53,120 +78,519 @@ public final class LLMChain implements ChatModel {
     private final ChatModel primary;
     private final List<ChatModel> fallbacks;
     private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
     private final ObservationBus bus;
     private final String nodeId;
+    private final HedgeMetrics hedgeMetrics;
+    private final HashedWheelTimer timer;
+    private final boolean ownTimer;
+    private final Map<ChatModel, ModelStats> modelStats;
+    private final double explorationRate;
 
     private LLMChain(Builder builder) {
-        if (builder.timeout != null) {
-            this.primary = new TimedChatModel(builder.primary, builder.timeout);
-        } else {
-            this.primary = builder.primary;
-        }
+        this.timer = builder.timer != null ? builder.timer : HashedWheelTimer.shared();
+        this.ownTimer = builder.timer != null;
+        ChatModel timedPrimary = timed(builder.primary, builder, timer);
 
         this.fallbacks = new ArrayList<>(builder.fallbacks.size());
         for (ChatModel fallback : builder.fallbacks) {
-            if (builder.timeout != null) {
-                this.fallbacks.add(new TimedChatModel(fallback, builder.timeout));
+            this.fallbacks.add(timed(fallback, builder, timer));
+        }
+
+        if (builder.hedging) {
+            ChatModel hedgeTarget;
+            if (builder.hedgeModel != null) {
+                hedgeTarget = timed(builder.hedgeModel, builder, timer);
+            } else if (!this.fallbacks.isEmpty()) {
+                hedgeTarget = this.fallbacks.get(0);
             } else {
-                this.fallbacks.add(fallback);
+                throw new IllegalStateException("Hedging needs hedgeWith(model) or at least one fallback");
             }
+            this.hedgeMetrics = new HedgeMetrics();
+            this.primary = new HedgedChatModel(timedPrimary, hedgeTarget, builder.hedgeDelay,
+                    builder.hedgePercentile, builder.hedgeBudget, hedgeMetrics).withTimer(timer);
+        } else {
+            this.hedgeMetrics = null;
+            this.primary = timedPrimary;
         }
 
         this.retryPolicy = builder.retryPolicy != null
                 ? builder.retryPolicy
                 : buildRetryPolicy(builder);
+        this.retryBudget = builder.retryBudget != null
+                ? builder.retryBudget
+                : retryPolicy.budget();
         
         this.bus = builder.bus;
         this.nodeId = builder.nodeId;
+        this.explorationRate = builder.explorationRate;
+        this.modelStats = builder.latencyRouting ? buildModelStats() : null;
+    }
+
+    // a view of base with the given budget and timer; models, stats and metrics are shared
+    private LLMChain(LLMChain base, RetryBudget retryBudget, HashedWheelTimer timer) {
+        this.primary = base.primary;
+        this.fallbacks = base.fallbacks;
+        this.retryPolicy = base.retryPolicy;
+        this.retryBudget = retryBudget;
+        this.bus = base.bus;
+        this.nodeId = base.nodeId;
+        this.hedgeMetrics = base.hedgeMetrics;
+        this.timer = timer;
+        this.ownTimer = base.ownTimer;
+        this.modelStats = base.modelStats;
+        this.explorationRate = base.explorationRate;
+    }
+
+    /**
+     * This chain as run by a node of a graph: unless the chain has a retry
+     * budget of its own (builder or retry policy), its retries are charged
+     * to the runtime's {@link ExecutionRuntime#retryBudget()}, and unless
+     * the builder set a timer, backoffs and timeouts are scheduled on the
+     * runtime's {@link ExecutionRuntime#timer()}. Returns this chain if
+     * there is nothing to change. {@code LLMNode} and {@code SchemaNode}
+     * call it on every execution.
+     */
+    public LLMChain withRuntime(ExecutionRuntime runtime) {
+        if (runtime == null) {
+            return this;
+        }
+        RetryBudget budget = retryBudget != null ? retryBudget : runtime.retryBudget();
+        HashedWheelTimer runtimeTimer = ownTimer || runtime.timer() == null ? timer : runtime.timer();
+        if (budget == retryBudget && runtimeTimer == timer) {
+            return this;
+        }
+        return new LLMChain(this, budget, runtimeTimer);
+    }
+
+    private Map<ChatModel, ModelStats> buildModelStats() {
+        // identity: the same model instance may not be declared twice, but equals() is the model's business
+        Map<ChatModel, ModelStats> stats = new IdentityHashMap<>();
+        stats.put(primary, new ModelStats("primary"));
+        for (int i = 0; i < fallbacks.size(); i++) {
+            stats.putIfAbsent(fallbacks.get(i), new ModelStats("fallback-" + (i + 1)));
+        }
+        return stats;
     }
     
+    private static ChatModel timed(ChatModel model, Builder builder, HashedWheelTimer timer) {
+        if (builder.adaptiveTimeoutMin != null) {
+            return TimedChatModel.adaptive(model, builder.adaptiveTimeoutPercentile,
+                    builder.adaptiveTimeoutMin, builder.timeout).withTimer(timer);
+        }
+        return builder.timeout != null ? new TimedChatModel(model, builder.timeout).withTimer(timer) : model;
+    }
+
+    // deadlines and hedge delays follow this chain's timer, which a runtime-bound view may have swapped
+    private ChatModel retimed(ChatModel model) {
+        if (model instanceof HedgedChatModel hedged) {
+            return hedged.withTimer(timer);
+        }
+        return model instanceof TimedChatModel timed ? timed.withTimer(timer) : model;
+    }
+
     @Override 
     public LLMResponse chat(String input) {
     	return chat(input, null);
     }
 
+    /** The primary model's provider. */
+    @Override
+    public String provider() {
+        return primary.provider();
+    }
+
     /**
      * Variant that accepts a per-call {@code executionId} used by
      * {@code LLMNode} which resolves the executionId from {@code NodeContext}
      * and passes it here so retry events carry the right correlation id.
      */
     public LLMResponse chat(String input, String executionId) {
-        List<ChatModel> models = new ArrayList<>();
-        models.add(primary);
-        models.addAll(fallbacks);
+        return call(model -> model.chat(input), executionId);
+    }
+
+    /**
+     * Structured output through the same retry, fallback, circuit-breaker
+     * and budget behavior; each model in the chain gets the schema.
+     */
+    @Override
+    public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+        return call(model -> model.chatStructured(input, responseSchema), null);
+    }
+
+    /**
+     * Multi-turn {@link #chatStructured}: the whole conversation goes to
+     * each model the chain tries.
+     */
+    @Override
+    public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+        return call(model -> model.chat(messages, responseSchema), null);
+    }
 
-        Exception lastException = null;
-        int totalRetries = 0;
+    private LLMResponse call(Function<ChatModel, LLMResponse> request, String executionId) {
+        List<ChatModel> models = modelsInOrder();
+        CallState state = new CallState();
+        if (retryBudget != null) {
+            retryBudget.recordRequest();
+        }
 
         for (ChatModel model : models) {
-            printDecoratorChain(model);
+            if (!prepare(model, state)) {
+                continue;
+            }
 
             for (int attempt = 1; attempt <= retryPolicy.maxAttempts(); attempt++) {
                 try {
                     log("Attempt " + attempt + " with " + modelName(model));
-                    LLMResponse response = model.chat(input);
-                    log("Success with " + modelName(model));
-                    // If the provider didn't fill in retryCount (it won't —
-                    // retryCount is a chain-level concept, not provider-level),
-                    // rebuild the response with the retry count we tracked here.
-                    // Only rebuild if retries actually occurred to avoid
-                    // unnecessary allocation on the happy path.
-                    if (totalRetries > 0) {
-                        return new LLMResponse(
-                                response.text(),
-                                response.promptTokens(),
-                                response.completionTokens(),
-                                response.costMicros(),
-                                response.modelInfo(),
-                                response.cacheHit()
-                        );
-                    }
-                    return response;
+                    LLMResponse response = invoke(model, request);
+                    return onSuccess(model, response, state, executionId);
                 } catch (Exception e) {
-                    lastException = e;
-                    totalRetries++;
-                    String reason = classifyReason(e);
-                    log("Failed: " + e.getMessage() + " [reason=" + reason + "]");
-
-                    RetryPolicy.Decision decision = retryPolicy.decide(e, attempt);
-                    boolean willRetry = decision.shouldRetry() && attempt < retryPolicy.maxAttempts();
-                    long backoffMs = willRetry ? decision.delayMs() : 0L;
-                    // emit RetryAttempt if bus is available
-                    if (willRetry && bus != null && !bus.isEmpty()) {
-                        String eid = executionId != null ? executionId : "unknown";
-                        String nid = nodeId != null ? nodeId : "LLMChain";
-                        bus.emit(new ExecutionEvent.RetryAttempt(
-                                eid,
-                                Instant.now(),
-                                nid,
-                                attempt + 1,
-                                FailureInfo.from(e),
-                                backoffMs
-                        ));
-                    }
-                    if (willRetry) {
-                        log("Attempt " + (attempt + 1) + " reason=" + reason
-                                + " backoff=" + backoffMs + "ms");
-                        sleep(backoffMs);
-                        continue;
+                    long backoffMs = afterFailure(e, attempt, state, executionId);
+                    if (backoffMs < 0) {
+                        break;
                     }
+                    sleep(backoffMs);
+                }
+            }
+        }
 
-                    if (retryPolicy.isFailFast(e) || !retryPolicy.shouldRetry(e)) {
-                        sneakyThrow(e);
-                    }
+        throw allFailed(state);
+    }
 
-                    break;
-                }
+    /**
+     * Non-blocking {@link #chat(String)} with the same retry, fallback,
+     * circuit-breaker and budget behavior. A model that
+     * {@link AsyncChatModel#supportsAsync() supports async} calls is called
+     * through {@link AsyncChatModel#chatAsync(String)}, so the attempt holds
+     * no thread while it waits for a permit or the response; any other
+     * model runs on {@code executor}. Backoffs are scheduled on the chain's
+     * {@link HashedWheelTimer}, so a call that is backing off holds no
+     * thread either. Cancelling the returned future cancels the attempt in
+     * flight and stops further attempts.
+     */
+    public CompletableFuture<LLMResponse> chatAsync(String input, Executor executor) {
+        return chatAsync(input, null, executor);
+    }
+
+    /**
+     * {@link #chatAsync(String, Executor)} with a per-call {@code executionId}
+     * for retry events.
+     */
+    public CompletableFuture<LLMResponse> chatAsync(String input, String executionId, Executor executor) {
+        List<ChatModel> models = modelsInOrder();
+        CallState state = new CallState();
+        if (retryBudget != null) {
+            retryBudget.recordRequest();
+        }
+        CompletableFuture<LLMResponse> result = new CompletableFuture<>();
+        result.whenComplete((response, error) -> {
+            if (!result.isCancelled()) {
+                return;
+            }
+            CompletableFuture<Void> backoff = state.backoff;
+            if (backoff != null) {
+                backoff.cancel(false);
+            }
+            CompletableFuture<LLMResponse> inFlight = state.inFlight;
+            if (inFlight != null) {
+                inFlight.cancel(true);
+            }
+        });
+        executor.execute(() -> attemptAsync(input, executionId, executor, models, 0, 1, state, result));
+        return result;
+    }
+
+    private void attemptAsync(String input, String executionId, Executor executor, List<ChatModel> models,
+            int modelIndex, int attempt, CallState state, CompletableFuture<LLMResponse> result) {
+        if (result.isDone()) {
+            return;
+        }
+        if (attempt == 1) {
+            // find the next model whose breaker lets it try
+            while (modelIndex < models.size() && !prepare(models.get(modelIndex), state)) {
+                modelIndex++;
+            }
+            if (modelIndex == models.size()) {
+                result.completeExceptionally(allFailed(state));
+                return;
+            }
+        }
+        ChatModel model = models.get(modelIndex);
+        int currentModel = modelIndex;
+        log("Attempt " + attempt + " with " + modelName(model));
+        CompletableFuture<LLMResponse> call = invokeAsync(model, input);
+        state.inFlight = call;
+        if (result.isCancelled()) {
+            call.cancel(true);
+        }
+        call.whenComplete((response, error) -> {
+            if (error == null) {
+                result.complete(onSuccess(model, response, state, executionId));
+                return;
+            }
+            Throwable cause = Futures.unwrap(error);
+            if (result.isDone() || !(cause instanceof Exception failure)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            long backoffMs;
+            try {
+                backoffMs = afterFailure(failure, attempt, state, executionId);
+            } catch (Throwable fatal) {
+                result.completeExceptionally(fatal);
+                return;
+            }
+            if (backoffMs < 0) {
+                // the failure may have completed on a transport thread: the next model starts on the executor
+                executor.execute(() -> attemptAsync(input, executionId, executor, models,
+                        currentModel + 1, 1, state, result));
+                return;
+            }
+            state.backoff = timer.delay(backoffMs, TimeUnit.MILLISECONDS);
+            state.backoff.thenRunAsync(() -> attemptAsync(input, executionId, executor, models,
+                    currentModel, attempt + 1, state, result), executor);
+        });
+    }
+
+    /**
+     * Declaration order, or with latency-aware routing healthy models
+     * first by ascending {@link ModelStats#score()}, with a random model promoted to the front
+     * on {@code explorationRate} of calls so demoted models keep being
+     * measured.
+     */
+    private List<ChatModel> modelsInOrder() {
+        List<ChatModel> models = new ArrayList<>(fallbacks.size() + 1);
+        models.add(primary);
+        models.addAll(fallbacks);
+        if (modelStats == null || models.size() < 2) {
+            return models;
+        }
+        // snapshot scores: they move under concurrent calls and the sort needs them stable
+        double[] scores = new double[models.size()];
+        boolean[] healthy = new boolean[models.size()];
+        Integer[] order = new Integer[models.size()];
+        for (int i = 0; i < models.size(); i++) {
+            ModelStats stats = modelStats.get(models.get(i));
+            scores[i] = stats.score();
+            healthy[i] = stats.isHealthy();
+            order[i] = i;
+        }
+        // a model failing fast must not outrank a slower one that answers
+        Arrays.sort(order, (a, b) -> healthy[a] != healthy[b]
+                ? (healthy[a] ? -1 : 1)
+                : Double.compare(scores[a], scores[b]));
+        List<ChatModel> ranked = new ArrayList<>(models.size());
+        for (int index : order) {
+            ranked.add(models.get(index));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (explorationRate > 0 && random.nextDouble() < explorationRate) {
+            ranked.add(0, ranked.remove(1 + random.nextInt(ranked.size() - 1)));
+        }
+        return ranked;
+    }
+
+    private LLMResponse invoke(ChatModel model, Function<ChatModel, LLMResponse> request) {
+        ModelStats stats = modelStats != null ? modelStats.get(model) : null;
+        ChatModel target = retimed(model);
+        if (stats == null) {
+            return request.apply(target);
+        }
+        long start = System.nanoTime();
+        try {
+            LLMResponse response = request.apply(target);
+            stats.recordSuccess(System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException | Error e) {
+            stats.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    // blocking models run here, on the executor thread the attempt was started on
+    private CompletableFuture<LLMResponse> invokeAsync(ChatModel model, String input) {
+        ModelStats stats = modelStats != null ? modelStats.get(model) : null;
+        ChatModel target = retimed(model);
+        long start = System.nanoTime();
+        CompletableFuture<LLMResponse> call;
+        if (AsyncChatModel.isAsync(target)) {
+            try {
+                call = ((AsyncChatModel) target).chatAsync(input);
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
             }
+        } else {
+            call = Futures.completed(target, m -> m.chat(input));
+        }
+        if (stats != null) {
+            call.whenComplete((response, error) -> {
+                if (error == null) {
+                    stats.recordSuccess(System.nanoTime() - start);
+                } else if (!(Futures.unwrap(error) instanceof CancellationException)) {
+                    stats.recordFailure(System.nanoTime() - start);
+                }
+            });
+        }
+        return call;
+    }
+
+    /**
+     * Before the first attempt on a model. Returns false if the model
+     * must be skipped because its breaker is open.
+     */
+    private boolean prepare(ChatModel model, CallState state) {
+        printDecoratorChain(model);
+
+        // an open breaker means the provider is known-bad: skip it before any attempt
+        CircuitBreaker breaker = circuitBreakerOf(model);
+        state.breaker = breaker;
+        state.seenTransitions = breaker != null ? breaker.transitionCount() : 0L;
+        if (breaker != null && breaker.state() == CircuitBreaker.State.OPEN) {
+            log("Skipping " + modelName(model) + ", circuit '" + breaker.name() + "' is open");
+            state.lastException = new CircuitOpenException(breaker.name());
+            return false;
+        }
+        return true;
+    }
+
+    private LLMResponse onSuccess(ChatModel model, LLMResponse response, CallState state, String executionId) {
+        log("Success with " + modelName(model));
+        emitBreakerTransition(state.breaker, state.seenTransitions, executionId);
+        // If the provider didn't fill in retryCount (it won't —
+        // retryCount is a chain-level concept, not provider-level),
+        // rebuild the response with the retry count we tracked here.
+        // Only rebuild if retries actually occurred to avoid
+        // unnecessary allocation on the happy path.
+        if (state.totalRetries > 0) {
+            return new LLMResponse(
+                    response.text(),
+                    response.promptTokens(),
+                    response.completionTokens(),
+                    response.costMicros(),
+                    response.modelInfo(),
+                    response.cacheHit(),
+                    response.rateLimits()
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Decides what follows a failed attempt: the backoff in ms before
+     * retrying the same model, or -1 to move to the next model. Rethrows
+     * failures that must not fall through to the fallbacks.
+     */
+    private long afterFailure(Exception e, int attempt, CallState state, String executionId) {
+        CircuitBreaker breaker = state.breaker;
+        state.lastException = e;
+        state.totalRetries++;
+        String reason = classifyReason(e);
+        log("Failed: " + e.getMessage() + " [reason=" + reason + "]");
+
+        state.seenTransitions = emitBreakerTransition(breaker, state.seenTransitions, executionId);
+        if (e instanceof CircuitOpenException
+                || (breaker != null && breaker.state() == CircuitBreaker.State.OPEN)) {
+            // no point waiting out a backoff for a model that will be rejected
+            log("Circuit '" + (breaker != null ? breaker.name() : "?") + "' is open, moving to next model");
+            return -1;
         }
 
-        throw new LLMException(
+        RetryPolicy.Decision decision = retryPolicy.decide(e, attempt, retryBudget);
+        boolean willRetry = decision.shouldRetry() && attempt < retryPolicy.maxAttempts();
+        long backoffMs = willRetry ? decision.delayMs() : 0L;
+        if (decision.budgetExhausted()) {
+            // shed the retry; a fallback's first attempt is not a retry
+            log("Retry budget exhausted, moving to next model");
+            emitBudgetExhausted(attempt, e, executionId);
+            return -1;
+        }
+        // emit RetryAttempt if bus is available
+        if (willRetry && bus != null && !bus.isEmpty()) {
+            String eid = executionId != null ? executionId : "unknown";
+            String nid = nodeId != null ? nodeId : "LLMChain";
+            bus.emit(new ExecutionEvent.RetryAttempt(
+                    eid,
+                    Instant.now(),
+                    nid,
+                    attempt + 1,
+                    FailureInfo.from(e),
+                    backoffMs
+            ));
+        }
+        if (willRetry) {
+            log("Attempt " + (attempt + 1) + " reason=" + reason
+                    + " backoff=" + backoffMs + "ms");
+            return backoffMs;
+        }
+
+        if (retryPolicy.isFailFast(e) || !retryPolicy.shouldRetry(e)) {
+            sneakyThrow(e);
+        }
+        return -1;
+    }
+
+    private LLMException allFailed(CallState state) {
+        Exception lastException = state.lastException;
+        return new LLMException(
                 "All models failed after retries. Last error: "
                         + (lastException != null ? lastException.getMessage() : "unknown"),
                 lastException
         );
     }
 
+    /** Per-call bookkeeping shared by the sync and async paths. */
+    private static final class CallState {
+        volatile CircuitBreaker breaker;
+        volatile Exception lastException;
+        volatile int totalRetries;
+        volatile long seenTransitions;
+        volatile CompletableFuture<Void> backoff;
+        volatile CompletableFuture<LLMResponse> inFlight;
+    }
+
+    private void emitBudgetExhausted(int attempt, Exception failure, String executionId) {
+        if (bus == null || bus.isEmpty()) {
+            return;
+        }
+        bus.emit(new ExecutionEvent.RetryBudgetExhausted(
+                executionId != null ? executionId : "unknown",
+                Instant.now(),
+                nodeId != null ? nodeId : "LLMChain",
+                attempt,
+                FailureInfo.from(failure),
+                retryBudget.requests(),
+                retryBudget.retries()
+        ));
+    }
+
+    /**
+     * Hedging counters, or {@code null} if the chain was built without
+     * {@link Builder#hedge(Duration)} / {@link Builder#hedgeAtPercentile(double)}.
+     */
+    public HedgeMetrics hedgeMetrics() {
+        return hedgeMetrics;
+    }
+
+    /**
+     * Per-model latency and error rates, primary first then fallbacks in
+     * declaration order, or an empty list if the chain was built without
+     * {@link Builder#latencyAwareRouting()}.
+     */
+    public List<ModelStats> modelStats() {
+        if (modelStats == null) {
+            return Collections.emptyList();
+        }
+        List<ModelStats> stats = new ArrayList<>(modelStats.size());
+        stats.add(modelStats.get(primary));
+        for (ChatModel fallback : fallbacks) {
+            ModelStats entry = modelStats.get(fallback);
+            if (!stats.contains(entry)) {
+                stats.add(entry);
+            }
+        }
+        return stats;
+    }
+
     private RetryPolicy buildRetryPolicy(Builder builder) {
         RetryPolicy.Builder policyBuilder = RetryPolicy.builder()
                 .maxAttempts(builder.maxRetries)
@@ -192,6 +616,44 @@ public final class LLMChain implements ChatModel {
         return policyBuilder.build();
     }
 
+    /**
+     * Emits the breaker's latest transition if it changed since {@code seen}.
+     * Returns the breaker's current transition count.
+     */
+    private long emitBreakerTransition(CircuitBreaker breaker, long seen, String executionId) {
+        if (breaker == null) {
+            return seen;
+        }
+        long count = breaker.transitionCount();
+        if (count != seen && bus != null && !bus.isEmpty()) {
+            CircuitBreaker.Transition transition = breaker.lastTransition();
+            bus.emit(new ExecutionEvent.CircuitBreakerStateChanged(
+                    executionId != null ? executionId : "unknown",
+                    transition.at(),
+                    nodeId != null ? nodeId : "LLMChain",
+                    transition.breaker(),
+                    transition.from().name(),
+                    transition.to().name()
+            ));
+        }
+        return count;
+    }
+
+    private CircuitBreaker circuitBreakerOf(ChatModel model) {
+        ChatModel current = model;
+        while (current != null) {
+            if (current instanceof CircuitBreakerChatModel guarded) {
+                return guarded.breaker();
+            }
+            current = current instanceof TimedChatModel
+                    || current instanceof RateLimitedChatModel
+                    || current instanceof HedgedChatModel
+                    ? getDelegate(current, "delegate")
+                    : null;
+        }
+        return null;
+    }
+
     private void printDecoratorChain(ChatModel model) {
         StringBuilder chain = new StringBuilder();
         ChatModel current = model;
@@ -201,6 +663,10 @@ public final class LLMChain implements ChatModel {
                 current = getDelegate(timed, "delegate");
             } else if (current instanceof RateLimitedChatModel rateLimited) {
                 current = getDelegate(rateLimited, "delegate");
+            } else if (current instanceof CircuitBreakerChatModel guarded) {
+                current = getDelegate(guarded, "delegate");
+            } else if (current instanceof HedgedChatModel hedged) {
+                current = getDelegate(hedged, "delegate");
             } else {
                 current = null;
             }
@@ -226,6 +692,7 @@ public final class LLMChain implements ChatModel {
         if (e instanceof TimeoutException) return "Timeout";
         if (e instanceof NetworkException) return "NetworkError";
         if (e instanceof InvalidAPIKeyException) return "InvalidAPIKey";
+        if (e instanceof CircuitOpenException) return "CircuitOpen";
         return e.getClass().getSimpleName();
     }
 
@@ -261,12 +728,23 @@ public final class LLMChain implements ChatModel {
         private List<ChatModel> fallbacks = new ArrayList<>();
         private int maxRetries = 3;
         private Duration timeout = null;
+        private Duration adaptiveTimeoutMin = null;
+        private double adaptiveTimeoutPercentile = 0.99;
         private boolean exponentialBackoff = true;
         private Duration maxBackoff = null;
         private double jitterFactor = 0.0;
         private RetryPolicy retryPolicy = null;
+        private RetryBudget retryBudget = null;
+        private HashedWheelTimer timer = null;
         private ObservationBus bus = null;
         private String nodeId = null;
+        private boolean hedging = false;
+        private Duration hedgeDelay = null;
+        private double hedgePercentile = 0.95;
+        private ChatModel hedgeModel = null;
+        private double hedgeBudget = 0.1;
+        private boolean latencyRouting = false;
+        private double explorationRate = 0.05;
 
         /**
          * Set primary model (required).
@@ -318,11 +796,54 @@ public final class LLMChain implements ChatModel {
             return this;
         }
 
+        /**
+         * Charge this chain's retries to a shared {@link RetryBudget}. Once
+         * the budget is spent, a failed attempt moves straight to the next
+         * fallback instead of retrying. Default: the retry policy's budget,
+         * else, when run by a graph node, the {@code ExecutionRuntime}'s
+         * (see {@link LLMChain#withRuntime}).
+         */
+        public Builder retryBudget(RetryBudget budget) {
+            this.retryBudget = budget;
+            return this;
+        }
+
+        /**
+         * Timer for {@link LLMChain#chatAsync} backoffs and call timeouts.
+         * Default: the {@code ExecutionRuntime}'s when run by a graph node
+         * (see {@link LLMChain#withRuntime}), else {@link HashedWheelTimer#shared()}.
+         */
+        public Builder timer(HashedWheelTimer timer) {
+            this.timer = timer;
+            return this;
+        }
+
         /**
          * Set timeout for each call.
          */
         public Builder timeout(Duration timeout) {
             this.timeout = timeout;
+            this.adaptiveTimeoutMin = null;
+            return this;
+        }
+
+        /**
+         * Per-call timeout that follows each model's observed latency:
+         * twice the given percentile (e.g. 0.99), clamped to [min, max].
+         * Until 20 calls have been observed, {@code max} applies.
+         */
+        public Builder adaptiveTimeout(double percentile, Duration min, Duration max) {
+            if (percentile <= 0 || percentile >= 1) {
+                throw new IllegalArgumentException(
+                    "Timeout percentile must be between 0 and 1, got: " + percentile
+                );
+            }
+            if (min == null || max == null || min.isNegative() || min.isZero() || min.compareTo(max) > 0) {
+                throw new IllegalArgumentException("Adaptive timeout needs 0 < min <= max");
+            }
+            this.timeout = max;
+            this.adaptiveTimeoutMin = min;
+            this.adaptiveTimeoutPercentile = percentile;
             return this;
         }
 
@@ -391,6 +912,88 @@ public final class LLMChain implements ChatModel {
            return this;
        }
 
+        /**
+         * Hedge the primary: if it has not answered after {@code delay},
+         * send the same request to the hedge model (see {@link #hedgeWith})
+         * and return whichever answers first, cancelling the other.
+         */
+        public Builder hedge(Duration delay) {
+            if (delay == null || delay.isNegative()) {
+                throw new IllegalArgumentException("hedge delay must be >= 0");
+            }
+            this.hedging = true;
+            this.hedgeDelay = delay;
+            return this;
+        }
+
+        /**
+         * Like {@link #hedge(Duration)}, with the delay set to the given
+         * percentile of the primary's observed latency (e.g. 0.95). No
+         * hedging happens until 20 calls have been observed.
+         */
+        public Builder hedgeAtPercentile(double percentile) {
+            if (percentile <= 0 || percentile >= 1) {
+                throw new IllegalArgumentException(
+                    "Hedge percentile must be between 0 and 1, got: " + percentile
+                );
+            }
+            this.hedging = true;
+            this.hedgeDelay = null;
+            this.hedgePercentile = percentile;
+            return this;
+        }
+
+        /**
+         * Model the hedge request goes to, e.g. the same model on a second
+         * API key. Default: the first fallback.
+         */
+        public Builder hedgeWith(ChatModel model) {
+            this.hedgeModel = model;
+            return this;
+        }
+
+        /**
+         * Maximum fraction of calls that may be hedged. Default: 0.1.
+         * A call is only hedged if the fraction still holds with its hedge
+         * counted, so 0 disables hedging and 0.1 allows the first hedge at
+         * the tenth call.
+         */
+        public Builder hedgeBudget(double maxHedgeRatio) {
+            if (maxHedgeRatio < 0 || maxHedgeRatio > 1) {
+                throw new IllegalArgumentException(
+                    "Hedge budget must be between 0 and 1, got: " + maxHedgeRatio
+                );
+            }
+            this.hedgeBudget = maxHedgeRatio;
+            return this;
+        }
+
+        /**
+         * Try models in order of their current expected latency, tracked
+         * per model as an EWMA of latency and error rate, instead of
+         * primary first. On 5% of calls a random other model goes first so
+         * a recovered model can win its place back.
+         * See {@link LLMChain#modelStats()}.
+         */
+        public Builder latencyAwareRouting() {
+            return latencyAwareRouting(0.05);
+        }
+
+        /**
+         * Like {@link #latencyAwareRouting()} with the given fraction of
+         * exploratory calls.
+         */
+        public Builder latencyAwareRouting(double explorationRate) {
+            if (explorationRate < 0 || explorationRate > 1) {
+                throw new IllegalArgumentException(
+                    "Exploration rate must be between 0 and 1, got: " + explorationRate
+                );
+            }
+            this.latencyRouting = true;
+            this.explorationRate = explorationRate;
+            return this;
+        }
+
         public LLMChain build() {
             if (primary == null) {
                 throw new IllegalStateException("Primary model must be set");
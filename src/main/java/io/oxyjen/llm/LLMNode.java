@@ -1,11 +1,12 @@
 package io.oxyjen.llm;
 
 import java.time.Duration;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.CompletableFuture;
 
+import io.oxyjen.core.AsyncNodePlugin;
 import io.oxyjen.core.Memory;
 import io.oxyjen.core.NodeContext;
-import io.oxyjen.core.NodePlugin;
+import io.oxyjen.execution.Bulkhead;
 import io.oxyjen.execution.ExecutionMetadataKeys;
 import io.oxyjen.execution.metrics.NodeMetrics;
 
@@ -31,19 +32,21 @@ import io.oxyjen.execution.metrics.NodeMetrics;
  *     .build();
  * </pre>
  */
-public final class LLMNode implements NodePlugin<String, String>, UsesRuntimeLimiter {
+public final class LLMNode implements AsyncNodePlugin<String, String>, UsesRuntimeLimiter {
     
     private final ChatModel model;
     private final String memoryName;
+    private final String bulkhead;
     
-    private LLMNode(ChatModel model, String memoryName) {
+    private LLMNode(ChatModel model, String memoryName, String bulkhead) {
         this.model = model;
         this.memoryName = memoryName;
+        this.bulkhead = bulkhead;
     }
     
     @Override
     public String process(String input, NodeContext context) {
-        Semaphore runtimeLimiter = acquireRuntimeLimiterIfNested(context);
+        Bulkhead runtimeLimiter = acquireRuntimeLimiterIfNested(context);
         String nodeId = ExecutionMetadataKeys.currentNodeId(getName());
         try {
             Memory memory = context.memory(memoryName);
@@ -53,22 +56,10 @@ public final class LLMNode implements NodePlugin<String, String>, UsesRuntimeLim
             
             // 2. Call model
             java.time.Instant start = java.time.Instant.now();
-            LLMResponse response = model.chat(input);
+            LLMResponse response = modelFor(context).chat(input);
             
             // 3. Store assistant response
-            memory.append("assistant", response);
-            
-            context.setMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId),
-                    new NodeMetrics.LlmNodeMetrics(
-                            Duration.between(start, java.time.Instant.now()),
-                            response.promptTokens(),
-                            response.completionTokens(),
-                            response.costMicros(),
-                            response.modelInfo(),
-                            null,
-                            null
-                    ));
-            return response.text();
+            return completed(memory, context, nodeId, start, response);
         } catch(Exception e) {
             context.removeMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId));
             throw e instanceof RuntimeException re ? re : new RuntimeException(e);
@@ -76,11 +67,87 @@ public final class LLMNode implements NodePlugin<String, String>, UsesRuntimeLim
             releaseRuntimeLimiter(runtimeLimiter);
         }
     }
+
+    /**
+     * Same as {@link #process}, but no thread waits on the model: a chain
+     * runs its async path on the runtime's executor and timer, an
+     * {@link AsyncChatModel} its own async call.
+     */
+    @Override
+    public CompletableFuture<String> processAsync(String input, NodeContext context) {
+        Bulkhead runtimeLimiter = acquireRuntimeLimiterIfNested(context);
+        String nodeId = ExecutionMetadataKeys.currentNodeId(getName());
+        CompletableFuture<LLMResponse> call;
+        Memory memory;
+        java.time.Instant start;
+        try {
+            memory = context.memory(memoryName);
+            memory.append("user", input);
+            start = java.time.Instant.now();
+            call = callAsync(input, context);
+        } catch (RuntimeException e) {
+            releaseRuntimeLimiter(runtimeLimiter);
+            context.removeMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId));
+            return CompletableFuture.failedFuture(e);
+        }
+        return call.handle((response, error) -> {
+            releaseRuntimeLimiter(runtimeLimiter);
+            if (error != null) {
+                context.removeMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId));
+                throw error instanceof java.util.concurrent.CompletionException ce
+                        ? ce : new java.util.concurrent.CompletionException(error);
+            }
+            return completed(memory, context, nodeId, start, response);
+        });
+    }
+
+    private CompletableFuture<LLMResponse> callAsync(String input, NodeContext context) {
+        ChatModel target = modelFor(context);
+        if (target instanceof LLMChain chain) {
+            var runtime = context.getRuntime();
+            return runtime != null
+                    ? chain.chatAsync(input, null, runtime.getExecutor())
+                    : CompletableFuture.completedFuture(chain.chat(input));
+        }
+        return AsyncChatModel.of(target).chatAsync(input);
+    }
+
+    private String completed(Memory memory, NodeContext context, String nodeId,
+            java.time.Instant start, LLMResponse response) {
+        memory.append("assistant", response);
+        context.setMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId),
+                new NodeMetrics.LlmNodeMetrics(
+                        Duration.between(start, java.time.Instant.now()),
+                        response.promptTokens(),
+                        response.completionTokens(),
+                        response.costMicros(),
+                        response.modelInfo(),
+                        null,
+                        null
+                ));
+        return response.text();
+    }
     
+    // a chain charges its retries to the runtime's budget
+    private ChatModel modelFor(NodeContext context) {
+        if (model instanceof LLMChain chain && context != null) {
+            return chain.withRuntime(context.getRuntime());
+        }
+        return model;
+    }
+
     @Override
     public String getName() {
         return "LLM[" + model.getClass().getSimpleName() + "]";
     }
+
+    /**
+     * The bulkhead set on the builder, else the model's provider.
+     */
+    @Override
+    public String bulkhead() {
+        return bulkhead != null ? bulkhead : model.provider();
+    }
    
     
     public static Builder builder() {
@@ -91,6 +158,7 @@ public final class LLMNode implements NodePlugin<String, String>, UsesRuntimeLim
         
         private ChatModel model;
         private String memoryName = "chat";
+        private String bulkhead;
         
         /**
          * Set model by name.
@@ -132,15 +200,23 @@ public final class LLMNode implements NodePlugin<String, String>, UsesRuntimeLim
             return this;
         }
         
+        /**
+         * Run in the named runtime bulkhead. Default: the model's provider.
+         */
+        public Builder bulkhead(String name) {
+            this.bulkhead = name;
+            return this;
+        }
+        
         public LLMNode build() {
             if (model == null) {
                 throw new IllegalStateException("ChatModel must be provided");
             }
-            return new LLMNode(model, memoryName);
+            return new LLMNode(model, memoryName, bulkhead);
         }
     }
     
-    private Semaphore acquireRuntimeLimiterIfNested(NodeContext context) {
+    private Bulkhead acquireRuntimeLimiterIfNested(NodeContext context) {
         if (context == null || !context.isChild()) {
             return null;
         }
@@ -148,7 +224,7 @@ public final class LLMNode implements NodePlugin<String, String>, UsesRuntimeLim
         if (runtime == null) {
             return null;
         }
-        Semaphore limiter = runtime.getLimiter();
+        Bulkhead limiter = runtime.bulkheadFor(bulkhead());
         try {
             limiter.acquire();
             return limiter;
@@ -158,7 +234,7 @@ public final class LLMNode implements NodePlugin<String, String>, UsesRuntimeLim
         }
     }
 
-    private void releaseRuntimeLimiter(Semaphore limiter) {
+    private void releaseRuntimeLimiter(Bulkhead limiter) {
         if (limiter != null) {
             limiter.release();
         }
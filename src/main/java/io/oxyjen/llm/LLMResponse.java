@@ -3,6 +3,7 @@ package io.oxyjen.llm;
 import java.math.BigDecimal;
 
 import io.oxyjen.llm.models.ModelInfo;
+import io.oxyjen.llm.models.RateLimitStatus;
 
 /**
  * The result of a single {@link ChatModel#chat(String)} call.
@@ -28,6 +29,8 @@ import io.oxyjen.llm.models.ModelInfo;
  * @param cacheHit          whether this response was served from
  *                          provider-side prompt cache; {@code null} if
  *                          the provider doesn't report caching
+ * @param rateLimits        quota left on the provider side after this call;
+ *                          {@code null} if the provider doesn't report it
  */
 public record LLMResponse(
         String text,
@@ -35,13 +38,19 @@ public record LLMResponse(
         Long completionTokens,
         long costMicros,
         ModelInfo modelInfo,
-        Boolean cacheHit
+        Boolean cacheHit,
+        RateLimitStatus rateLimits
 ) {
 
     public LLMResponse {
         if (text == null) throw new IllegalArgumentException("LLMResponse.text must not be null");
     }
 
+    public LLMResponse(String text, Long promptTokens, Long completionTokens,
+            long costMicros, ModelInfo modelInfo, Boolean cacheHit) {
+        this(text, promptTokens, completionTokens, costMicros, modelInfo, cacheHit, null);
+    }
+
     /**
      * Convenience constructor for providers that don't report any metrics —
      * just wrap the response text.
@@ -0,0 +1,107 @@
+package io.oxyjen.llm;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running latency and error rate of one model in a latency-routed
+ * {@link LLMChain}.
+ *
+ * <p>Both are exponentially weighted moving averages, so a model that slows
+ * down or starts failing loses its place within a few calls, and one that
+ * recovers gets it back. Latency is measured on successful calls; a failure
+ * only moves it when it took longer than the current average (a timeout),
+ * so a model that fails in 5ms never looks like the fastest one.
+ *
+ * <p>{@link #score()} is the expected time to a successful answer,
+ * {@code latency / (1 - errorRate)}. The chain tries healthy models
+ * (error rate below {@value #UNHEALTHY_ERROR_RATE}) before unhealthy ones,
+ * each group in ascending score order.
+ */
+public final class ModelStats {
+
+    /** Weight of the newest sample in both averages. */
+    public static final double ALPHA = 0.2;
+
+    /** Error rate from which a model is ranked behind every healthy one. */
+    public static final double UNHEALTHY_ERROR_RATE = 0.1;
+
+    // floor for 1 - errorRate, so an always-failing model gets a large but finite score
+    private static final double MIN_SUCCESS_RATE = 0.05;
+
+    private final String name;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    // guarded by this
+    private double latencyNanos = -1;
+    private double errorRate = 0.0;
+
+    public ModelStats(String name) {
+        this.name = name;
+    }
+
+    /** "primary", "fallback-1", ... in declaration order. */
+    public String name() {
+        return name;
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long failures() {
+        return failures.get();
+    }
+
+    /** Average latency in ms, or -1 before the first measurement. */
+    public synchronized double latencyMs() {
+        return latencyNanos < 0 ? -1 : latencyNanos / 1_000_000.0;
+    }
+
+    /** Averaged fraction of failed calls, 0.0 to 1.0. */
+    public synchronized double errorRate() {
+        return errorRate;
+    }
+
+    public synchronized boolean isHealthy() {
+        return errorRate < UNHEALTHY_ERROR_RATE;
+    }
+
+    /**
+     * Expected ms to a successful answer; 0 before the first successful
+     * call, so every model gets measured once.
+     */
+    public synchronized double score() {
+        if (latencyNanos < 0) {
+            return 0.0;
+        }
+        return latencyNanos / 1_000_000.0 / Math.max(MIN_SUCCESS_RATE, 1.0 - errorRate);
+    }
+
+    // recording is internal to the chain
+
+    synchronized void recordSuccess(long nanos) {
+        calls.incrementAndGet();
+        latencyNanos = latencyNanos < 0 ? nanos : latencyNanos + ALPHA * (nanos - latencyNanos);
+        errorRate += ALPHA * (0.0 - errorRate);
+    }
+
+    synchronized void recordFailure(long nanos) {
+        calls.incrementAndGet();
+        failures.incrementAndGet();
+        if (latencyNanos >= 0 && nanos > latencyNanos) {
+            // slow failures (timeouts) count against latency, fast ones do not
+            latencyNanos += ALPHA * (nanos - latencyNanos);
+        }
+        errorRate += ALPHA * (1.0 - errorRate);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ModelStats{name=" + name
+                + ", calls=" + calls
+                + ", failures=" + failures
+                + ", latencyMs=" + String.format("%.1f", latencyMs())
+                + ", errorRate=" + String.format("%.3f", errorRate) + "}";
+    }
+}
@@ -16,5 +16,18 @@ package io.oxyjen.llm;
  *     // ParallelExecutor will acquire limiter before calling process()
  * }
  * </pre>
+ *
+ * Override {@link #bulkhead()} to run in a named
+ * {@link io.oxyjen.execution.Bulkhead} instead of the global limiter.
  */
-public interface UsesRuntimeLimiter {}
\ No newline at end of file
+public interface UsesRuntimeLimiter {
+
+    /**
+     * Name of the runtime bulkhead this node should run in, e.g. the
+     * provider it calls. {@code null}, or a name the runtime has no bulkhead
+     * for, means the runtime's default limiter.
+     */
+    default String bulkhead() {
+        return null;
+    }
+}
\ No newline at end of file
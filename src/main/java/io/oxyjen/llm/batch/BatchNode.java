@@ -0,0 +1,103 @@
+package io.oxyjen.llm.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.oxyjen.core.NodeContext;
+import io.oxyjen.core.NodePlugin;
+import io.oxyjen.execution.result.Cancelled;
+import io.oxyjen.execution.result.Failure;
+import io.oxyjen.execution.result.NotExecuted;
+import io.oxyjen.execution.result.Success;
+import io.oxyjen.execution.result.TaskResult;
+import io.oxyjen.graph.concurrency.MapNode.MapResult;
+import io.oxyjen.llm.LLMResponse;
+
+/**
+ * Graph node that maps a collection through an LLM using a provider batch job.
+ *
+ * Drop-in for a {@link io.oxyjen.graph.concurrency.MapNode} whose mapper only
+ * builds a prompt and calls a model, when nobody is waiting on the answer
+ * (overnight extraction, backfills). Produces the same {@link MapResult} so
+ * downstream nodes do not care which one ran.
+ *
+ * <pre>{@code
+ * BatchNode<Document> extract = BatchNode.<Document>builder()
+ *     .prompt(doc -> "Extract the invoice fields:\n" + doc.text())
+ *     .runner(runner)
+ *     .build("nightly-extract");
+ * }</pre>
+ *
+ * @param <I> element type of the input collection
+ */
+public final class BatchNode<I> implements NodePlugin<Iterable<I>, MapResult<String>> {
+
+	private final String name;
+	private final Function<I, String> promptFn;
+	private final BatchRunner runner;
+
+	private BatchNode(String name, Function<I, String> promptFn, BatchRunner runner) {
+		this.name = name;
+		this.promptFn = promptFn;
+		this.runner = runner;
+	}
+
+	@Override
+	public MapResult<String> process(Iterable<I> input, NodeContext context) {
+		List<I> elements = new ArrayList<>();
+		input.forEach(elements::add);
+		context.getLogger().info("[BatchNode:" + name + "] Submitting " + elements.size() + " elements as one batch");
+
+		List<TaskResult<LLMResponse>> responses = runner.runBatch(elements, promptFn);
+		List<TaskResult<String>> texts = new ArrayList<>(responses.size());
+		for (TaskResult<LLMResponse> r : responses) {
+			texts.add(toText(r));
+		}
+		MapResult<String> result = MapResult.of(texts);
+		context.getLogger().info("[BatchNode:" + name + "] Done - " + result);
+		return result;
+	}
+
+	private static TaskResult<String> toText(TaskResult<LLMResponse> r) {
+		if (r instanceof Success<LLMResponse> s) return new Success<>(s.value().text());
+		if (r instanceof Failure<LLMResponse> f) return new Failure<>(f.error());
+		if (r instanceof Cancelled<LLMResponse> c) return new Cancelled<>(c.reason());
+		return new NotExecuted<>(((NotExecuted<LLMResponse>) r).reason());
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	public static <I> Builder<I> builder() {
+		return new Builder<>();
+	}
+
+	public static final class Builder<I> {
+		private Function<I, String> promptFn;
+		private BatchRunner runner;
+
+		public Builder<I> prompt(Function<I, String> promptFn) {
+			this.promptFn = Objects.requireNonNull(promptFn);
+			return this;
+		}
+
+		public Builder<I> runner(BatchRunner runner) {
+			this.runner = Objects.requireNonNull(runner);
+			return this;
+		}
+
+		public BatchNode<I> build(String nodeName) {
+			if (promptFn == null) {
+				throw new IllegalStateException("BatchNode [" + nodeName + "] requires prompt()");
+			}
+			if (runner == null) {
+				throw new IllegalStateException("BatchNode [" + nodeName + "] requires runner()");
+			}
+			return new BatchNode<>(nodeName, promptFn, runner);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package io.oxyjen.llm.batch;
+
+import java.util.Objects;
+
+import io.oxyjen.llm.models.ChatRequest;
+
+/**
+ * One line of a batch submission.
+ *
+ * @param customId  caller-chosen id used to match the result back to its input;
+ *                  must be unique within a batch
+ * @param request   the chat request to run
+ */
+public record BatchRequest(String customId, ChatRequest request) {
+	public BatchRequest {
+		if (customId == null || customId.isBlank()) {
+			throw new IllegalArgumentException("customId must not be blank");
+		}
+		Objects.requireNonNull(request, "request must not be null");
+	}
+}
@@ -0,0 +1,276 @@
+package io.oxyjen.llm.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.oxyjen.execution.result.Cancelled;
+import io.oxyjen.execution.result.Failure;
+import io.oxyjen.execution.result.NotExecuted;
+import io.oxyjen.execution.result.Success;
+import io.oxyjen.execution.result.TaskResult;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.exceptions.LLMException;
+import io.oxyjen.llm.exceptions.TokenLimitExceededException;
+import io.oxyjen.llm.models.ChatRequest;
+import io.oxyjen.llm.models.ChatResponse;
+import io.oxyjen.llm.models.ModelInfo;
+import io.oxyjen.llm.models.TokenUsage;
+import io.oxyjen.llm.tokens.ContextWindow;
+
+/**
+ * Runs a list of prompts as one provider batch job.
+ *
+ * Offline counterpart of a {@code MapNode} whose mapper calls an LLM: instead
+ * of N synchronous calls competing for the interactive quota, the prompts are
+ * submitted as a single batch, polled until the provider finishes, and the
+ * results are mapped back to per-element {@link TaskResult}s in input order.
+ *
+ * Example:
+ * <pre>{@code
+ * BatchRunner runner = BatchRunner.builder()
+ *     .transport(new OpenAIBatchClient(apiKey))
+ *     .model("gpt-4o-mini")
+ *     .pollInterval(Duration.ofMinutes(1))
+ *     .timeout(Duration.ofHours(24))
+ *     .build();
+ *
+ * List<TaskResult<LLMResponse>> results = runner.runBatch(prompts);
+ * }</pre>
+ *
+ * Result mapping:
+ * - prompt estimated over context limit -> Failure (not submitted)
+ * - provider returned a response        -> Success
+ * - provider returned an error line     -> Failure
+ * - batch FAILED, no line for element   -> Failure
+ * - batch EXPIRED/CANCELLED, no line    -> Cancelled
+ * - runner timed out before completion  -> Cancelled (batch is cancelled too)
+ */
+public final class BatchRunner {
+
+	private final BatchTransport transport;
+	private final String model;
+	private final String provider;
+	private final Double temperature;
+	private final Integer maxTokens;
+	private final long pollIntervalMs;
+	private final long timeoutMs;
+
+	private BatchRunner(Builder builder) {
+		this.transport = builder.transport;
+		this.model = builder.model;
+		this.provider = builder.provider;
+		this.temperature = builder.temperature;
+		this.maxTokens = builder.maxTokens;
+		this.pollIntervalMs = builder.pollInterval.toMillis();
+		this.timeoutMs = builder.timeout.toMillis();
+	}
+
+	/**
+	 * Submits every prompt as one batch and blocks until it completes,
+	 * fails, or the runner's timeout elapses.
+	 *
+	 * @return one result per prompt, in input order
+	 */
+	public List<TaskResult<LLMResponse>> runBatch(List<String> prompts) {
+		return runBatch(prompts, Function.identity());
+	}
+
+	/**
+	 * Variant that builds the prompt for each element with {@code promptFn}.
+	 */
+	public <I> List<TaskResult<LLMResponse>> runBatch(List<I> elements, Function<I, String> promptFn) {
+		Objects.requireNonNull(promptFn, "promptFn must not be null");
+		if (elements == null || elements.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<BatchRequest> requests = new ArrayList<>(elements.size());
+		// elements that cannot fit the context window fail locally, never submitted
+		Map<String, TaskResult<ChatResponse>> rejected = new HashMap<>();
+		for (int i = 0; i < elements.size(); i++) {
+			try {
+				String prompt = ContextWindow.fit(model, promptFn.apply(elements.get(i)), maxTokens, ContextWindow.Overflow.REJECT);
+				requests.add(new BatchRequest(customId(i), toChatRequest(prompt)));
+			} catch (TokenLimitExceededException e) {
+				rejected.put(customId(i), new Failure<>(e));
+			}
+		}
+		if (requests.isEmpty()) {
+			return fill(elements.size(), rejected, i -> new NotExecuted<>("Nothing to submit"));
+		}
+
+		String batchId;
+		try {
+			batchId = transport.submit(requests);
+		} catch (RuntimeException e) {
+			// nothing was accepted, none of the elements ran
+			return fill(elements.size(), rejected,
+					i -> new NotExecuted<>("Batch submission failed: " + e.getMessage()));
+		}
+
+		BatchStatus status = awaitTerminal(batchId);
+		if (status == null) {
+			cancelQuietly(batchId);
+			return fill(elements.size(), rejected,
+					i -> new Cancelled<>("Batch " + batchId + " did not finish within " + timeoutMs + "ms"));
+		}
+
+		Map<String, TaskResult<ChatResponse>> results = new HashMap<>(transport.results(batchId));
+		results.putAll(rejected);
+		BatchStatus.State state = status.state();
+		return fill(elements.size(), results, i -> state == BatchStatus.State.FAILED
+				? new Failure<>(new LLMException("Batch " + batchId + " failed before element[" + i + "] ran"))
+				: state == BatchStatus.State.COMPLETED
+						? new Failure<>(new LLMException("Batch " + batchId + " returned no result for element[" + i + "]"))
+						: new Cancelled<>("Batch " + batchId + " ended as " + state));
+	}
+
+	/** Polls until terminal; returns null if the timeout elapses first. */
+	private BatchStatus awaitTerminal(String batchId) {
+		long deadline = System.currentTimeMillis() + timeoutMs;
+		while (true) {
+			BatchStatus status = transport.status(batchId);
+			if (status.isTerminal()) {
+				return status;
+			}
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				return null;
+			}
+			try {
+				Thread.sleep(Math.min(pollIntervalMs, remaining));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancelQuietly(batchId);
+				throw new RuntimeException("Interrupted waiting for batch " + batchId, e);
+			}
+		}
+	}
+
+	private List<TaskResult<LLMResponse>> fill(
+			int size,
+			Map<String, TaskResult<ChatResponse>> results,
+			Function<Integer, TaskResult<LLMResponse>> missing
+	) {
+		List<TaskResult<LLMResponse>> ordered = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			TaskResult<ChatResponse> result = results.get(customId(i));
+			if (result instanceof Success<ChatResponse> s) {
+				ordered.add(new Success<>(toLLMResponse(s.value())));
+			} else if (result instanceof Failure<ChatResponse> f) {
+				ordered.add(new Failure<>(f.error()));
+			} else {
+				ordered.add(missing.apply(i));
+			}
+		}
+		return Collections.unmodifiableList(ordered);
+	}
+
+	private void cancelQuietly(String batchId) {
+		try {
+			transport.cancel(batchId);
+		} catch (RuntimeException ignored) {
+			// best effort, the batch will expire on its own
+		}
+	}
+
+	private ChatRequest toChatRequest(String prompt) {
+		ChatRequest.Builder builder = ChatRequest.builder()
+				.model(model)
+				.addMessage("user", prompt);
+		if (temperature != null) builder.temperature(temperature);
+		if (maxTokens != null) builder.maxTokens(maxTokens);
+		return builder.build();
+	}
+
+	private LLMResponse toLLMResponse(ChatResponse response) {
+		TokenUsage usage = response.usage();
+		return new LLMResponse(
+				response.content(),
+				usage != null ? (long) usage.promptTokens() : null,
+				usage != null ? (long) usage.completionTokens() : null,
+				0L,
+				new ModelInfo(provider, model, 0),
+				null
+		);
+	}
+
+	private static String customId(int index) {
+		return "element-" + index;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static final class Builder {
+		private BatchTransport transport;
+		private String model;
+		private String provider = "openai";
+		private Double temperature;
+		private Integer maxTokens;
+		private Duration pollInterval = Duration.ofSeconds(30);
+		private Duration timeout = Duration.ofHours(24);
+
+		public Builder transport(BatchTransport transport) {
+			this.transport = transport;
+			return this;
+		}
+
+		public Builder model(String model) {
+			this.model = model;
+			return this;
+		}
+
+		/**
+		 * Provider name reported in {@link LLMResponse#modelInfo()}. Default: "openai".
+		 */
+		public Builder provider(String provider) {
+			this.provider = provider;
+			return this;
+		}
+
+		public Builder temperature(double temperature) {
+			this.temperature = temperature;
+			return this;
+		}
+
+		public Builder maxTokens(int maxTokens) {
+			this.maxTokens = maxTokens;
+			return this;
+		}
+
+		/** How often to poll batch status. Default: 30s. */
+		public Builder pollInterval(Duration interval) {
+			if (interval == null || interval.isNegative() || interval.isZero()) {
+				throw new IllegalArgumentException("pollInterval must be positive");
+			}
+			this.pollInterval = interval;
+			return this;
+		}
+
+		/** Total time to wait for the batch before cancelling it. Default: 24h. */
+		public Builder timeout(Duration timeout) {
+			if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+				throw new IllegalArgumentException("timeout must be positive");
+			}
+			this.timeout = timeout;
+			return this;
+		}
+
+		public BatchRunner build() {
+			if (transport == null) {
+				throw new IllegalStateException("BatchTransport must be set");
+			}
+			if (model == null || model.isBlank()) {
+				throw new IllegalStateException("Model must be set");
+			}
+			return new BatchRunner(this);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package io.oxyjen.llm.batch;
+
+/**
+ * Snapshot of a provider batch job.
+ *
+ * @param batchId    provider id of the batch
+ * @param state      lifecycle state
+ * @param total      number of requests in the batch, 0 if unknown
+ * @param completed  requests finished successfully so far
+ * @param failed     requests that failed so far
+ */
+public record BatchStatus(String batchId, State state, int total, int completed, int failed) {
+
+	public enum State {
+		VALIDATING,
+		IN_PROGRESS,
+		FINALIZING,
+		COMPLETED,
+		FAILED,
+		EXPIRED,
+		CANCELLING,
+		CANCELLED;
+
+		public boolean isTerminal() {
+			return this == COMPLETED || this == FAILED || this == EXPIRED || this == CANCELLED;
+		}
+	}
+
+	public boolean isTerminal() {
+		return state.isTerminal();
+	}
+}
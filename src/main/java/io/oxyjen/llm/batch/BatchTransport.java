@@ -0,0 +1,48 @@
+package io.oxyjen.llm.batch;
+
+import java.util.List;
+import java.util.Map;
+
+import io.oxyjen.execution.result.TaskResult;
+import io.oxyjen.llm.models.ChatResponse;
+
+/**
+ * Transport for asynchronous provider batch endpoints.
+ *
+ * <p>Batch endpoints trade latency for throughput: requests are uploaded in
+ * one submission, processed by the provider within a completion window
+ * (typically up to 24h) and downloaded as a whole. Quotas are separate from,
+ * and much larger than, the synchronous ones, and pricing is lower.
+ *
+ * <p>Like the synchronous clients this is pure transport, it knows how to
+ * submit, poll and download. Scheduling the polls and mapping results back
+ * to inputs is {@link BatchRunner}'s job.
+ *
+ * <p>Implementations must be thread-safe.
+ */
+public interface BatchTransport {
+
+	/**
+	 * Submits the requests as one batch job.
+	 *
+	 * @return provider id of the created batch
+	 */
+	String submit(List<BatchRequest> requests);
+
+	/**
+	 * Current state of a previously submitted batch.
+	 */
+	BatchStatus status(String batchId);
+
+	/**
+	 * Downloads the results of a batch, keyed by {@link BatchRequest#customId()}.
+	 * Requests the provider did not report on are absent from the map.
+	 * Only meaningful once {@link #status} is terminal.
+	 */
+	Map<String, TaskResult<ChatResponse>> results(String batchId);
+
+	/**
+	 * Requests cancellation of a running batch. Best effort.
+	 */
+	void cancel(String batchId);
+}
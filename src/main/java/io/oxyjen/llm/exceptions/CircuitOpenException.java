@@ -0,0 +1,21 @@
+package io.oxyjen.llm.exceptions;
+
+/**
+ * Thrown instead of calling a provider whose circuit breaker is open.
+ *
+ * No request was sent. LLMChain treats this as "skip to the next fallback",
+ * never as a retryable failure.
+ */
+public class CircuitOpenException extends LLMException {
+
+	private final String breakerName;
+
+	public CircuitOpenException(String breakerName) {
+		super("Circuit breaker '" + breakerName + "' is open, call not permitted");
+		this.breakerName = breakerName;
+	}
+
+	public String getBreakerName() {
+		return breakerName;
+	}
+}
@@ -0,0 +1,68 @@
+package io.oxyjen.llm.internal;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+
+/**
+ * {@link AsyncChatModel} view of a blocking model: each async call runs
+ * the blocking one on the caller's thread and returns a completed future.
+ *
+ * Returned by {@link AsyncChatModel#of}, not meant to be used directly.
+ */
+public final class BlockingAsyncChatModel implements AsyncChatModel {
+
+	private final ChatModel delegate;
+
+	public BlockingAsyncChatModel(ChatModel delegate) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("Delegate model cannot be null");
+		}
+		this.delegate = delegate;
+	}
+
+	@Override
+	public LLMResponse chat(String input) {
+		return delegate.chat(input);
+	}
+
+	@Override
+	public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+		return delegate.chatStructured(input, responseSchema);
+	}
+
+	@Override
+	public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+		return delegate.chat(messages, responseSchema);
+	}
+
+	@Override
+	public CompletableFuture<LLMResponse> chatAsync(String input) {
+		return Futures.completed(delegate, model -> model.chat(input));
+	}
+
+	@Override
+	public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+		return Futures.completed(delegate, model -> model.chatStructured(input, responseSchema));
+	}
+
+	@Override
+	public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+		return Futures.completed(delegate, model -> model.chat(messages, responseSchema));
+	}
+
+	@Override
+	public boolean supportsAsync() {
+		return false;
+	}
+
+	@Override
+	public String provider() {
+		return delegate.provider();
+	}
+}
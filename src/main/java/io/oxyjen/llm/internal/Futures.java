@@ -0,0 +1,66 @@
+package io.oxyjen.llm.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMResponse;
+
+/**
+ * Helpers shared by the async paths of the model decorators.
+ *
+ * Not meant to be used directly.
+ */
+public final class Futures {
+
+	private Futures() {}
+
+	/**
+	 * Runs {@code request} on {@code model} now, as a completed future.
+	 */
+	public static CompletableFuture<LLMResponse> completed(ChatModel model, Function<ChatModel, LLMResponse> request) {
+		try {
+			return CompletableFuture.completedFuture(request.apply(model));
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * Waits for {@code future} and rethrows its failure as thrown by the
+	 * model. An interrupted wait cancels the future.
+	 */
+	public static LLMResponse await(CompletableFuture<LLMResponse> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			throw asRuntime(e.getCause());
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Thread interrupted during LLM call", e);
+		}
+	}
+
+	/** The failure a dependent stage saw, without its {@link CompletionException} wrapper. */
+	public static Throwable unwrap(Throwable error) {
+		while ((error instanceof CompletionException || error instanceof ExecutionException)
+				&& error.getCause() != null) {
+			error = error.getCause();
+		}
+		return error;
+	}
+
+	static RuntimeException asRuntime(Throwable error) {
+		Throwable cause = unwrap(error);
+		if (cause instanceof RuntimeException runtime) {
+			return runtime;
+		}
+		if (cause instanceof Error fatal) {
+			throw fatal;
+		}
+		return new RuntimeException("LLM call failed", cause);
+	}
+}
@@ -0,0 +1,426 @@
+package io.oxyjen.llm.internal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.oxyjen.execution.HashedWheelTimer;
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.HedgeMetrics;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.llm.tokens.TokenEstimators;
+
+/**
+ * Sends the request to {@code delegate}; if it has not answered after the
+ * hedge delay, sends the same request to {@code hedge} and returns whichever
+ * answers first, cancelling the other.
+ *
+ * The delay is either fixed or the running {@code percentile} of the
+ * delegate's completed calls (no hedging until {@code MIN_SAMPLES} calls
+ * have been seen). A hedge is only sent while hedges stay within
+ * {@code maxHedgeRatio} of calls.
+ *
+ * When both models are {@link AsyncChatModel}s the race holds no thread:
+ * the hedge is fired by the {@link HashedWheelTimer} and the loser's
+ * exchange is aborted. Otherwise the primary runs on the caller's thread,
+ * which is interrupted if the hedge wins, and a blocking hedge takes one of
+ * a few dedicated threads. While all of them are busy the hedge is skipped
+ * rather than queued, since a hedge started late no longer cuts latency.
+ *
+ * Built by {@code LLMChain.Builder#hedge}, not meant to be used directly.
+ */
+public final class HedgedChatModel implements AsyncChatModel {
+
+	private static final int MIN_SAMPLES = 20;
+	private static final int WINDOW = 256;
+	private static final int BLOCKING_HEDGE_THREADS = 8;
+	private static final ExecutorService BLOCKING_HEDGES = createExecutor();
+	// a hedge never waits for a thread: it holds a slot or is not sent
+	private static final Semaphore BLOCKING_HEDGE_SLOTS = new Semaphore(BLOCKING_HEDGE_THREADS);
+
+	private final ChatModel delegate;
+	private final ChatModel hedge;
+	private final Duration fixedDelay;
+	private final double percentile;
+	private final double maxHedgeRatio;
+	private final HedgeMetrics metrics;
+	private final LatencyWindow latencies;
+	private final HashedWheelTimer timer;
+
+	public HedgedChatModel(ChatModel delegate, ChatModel hedge, Duration fixedDelay,
+			double percentile, double maxHedgeRatio, HedgeMetrics metrics) {
+		this(delegate, hedge, fixedDelay, percentile, maxHedgeRatio, metrics,
+				new LatencyWindow(WINDOW, MIN_SAMPLES), HashedWheelTimer.shared());
+	}
+
+	private HedgedChatModel(ChatModel delegate, ChatModel hedge, Duration fixedDelay,
+			double percentile, double maxHedgeRatio, HedgeMetrics metrics,
+			LatencyWindow latencies, HashedWheelTimer timer) {
+		if (delegate == null || hedge == null) {
+			throw new IllegalArgumentException("Delegate and hedge models cannot be null");
+		}
+		this.delegate = delegate;
+		this.hedge = hedge;
+		this.fixedDelay = fixedDelay;
+		this.percentile = percentile;
+		this.maxHedgeRatio = maxHedgeRatio;
+		this.metrics = metrics;
+		this.latencies = latencies;
+		this.timer = timer;
+	}
+
+	/**
+	 * The same hedging, sharing its latency window and metrics, with hedge
+	 * delays (and the timeouts of timed models it wraps) on {@code timer}.
+	 * Returns this model if it already uses {@code timer}.
+	 */
+	public HedgedChatModel withTimer(HashedWheelTimer timer) {
+		if (timer == null || timer == this.timer) {
+			return this;
+		}
+		return new HedgedChatModel(retimed(delegate, timer), retimed(hedge, timer), fixedDelay,
+				percentile, maxHedgeRatio, metrics, latencies, timer);
+	}
+
+	@Override
+	public LLMResponse chat(String input) {
+		return supportsAsync()
+				? Futures.await(chatAsync(input))
+				: raceBlocking(input, model -> model.chat(input), model -> model.chatAsync(input));
+	}
+
+	@Override
+	public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+		return supportsAsync()
+				? Futures.await(chatStructuredAsync(input, responseSchema))
+				: raceBlocking(input, model -> model.chatStructured(input, responseSchema),
+						model -> model.chatStructuredAsync(input, responseSchema));
+	}
+
+	@Override
+	public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+		return supportsAsync()
+				? Futures.await(chatAsync(messages, responseSchema))
+				: raceBlocking(Message.transcript(messages), model -> model.chat(messages, responseSchema),
+						model -> model.chatAsync(messages, responseSchema));
+	}
+
+	/**
+	 * Races without holding a thread; over blocking models this is
+	 * {@link #chat(String)} as a completed future.
+	 */
+	@Override
+	public CompletableFuture<LLMResponse> chatAsync(String input) {
+		return supportsAsync()
+				? raceAsync(input, model -> model.chatAsync(input))
+				: Futures.completed(this, model -> model.chat(input));
+	}
+
+	@Override
+	public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+		return supportsAsync()
+				? raceAsync(input, model -> model.chatStructuredAsync(input, responseSchema))
+				: Futures.completed(this, model -> model.chatStructured(input, responseSchema));
+	}
+
+	@Override
+	public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+		return supportsAsync()
+				? raceAsync(Message.transcript(messages), model -> model.chatAsync(messages, responseSchema))
+				: Futures.completed(this, model -> model.chat(messages, responseSchema));
+	}
+
+	@Override
+	public boolean supportsAsync() {
+		return AsyncChatModel.isAsync(delegate) && AsyncChatModel.isAsync(hedge);
+	}
+
+	public HedgeMetrics metrics() {
+		return metrics;
+	}
+
+	private CompletableFuture<LLMResponse> raceAsync(String input,
+			Function<AsyncChatModel, CompletableFuture<LLMResponse>> request) {
+		metrics.recordRequest();
+		Race race = new Race(input, false);
+		return race.start(start(request, (AsyncChatModel) delegate), () -> start(request, (AsyncChatModel) hedge));
+	}
+
+	// the primary runs here; the hedge winning interrupts it
+	private LLMResponse raceBlocking(String input, Function<ChatModel, LLMResponse> request,
+			Function<AsyncChatModel, CompletableFuture<LLMResponse>> asyncRequest) {
+		metrics.recordRequest();
+		Race race = new Race(input, !AsyncChatModel.isAsync(hedge));
+		CompletableFuture<LLMResponse> primary = new CompletableFuture<>();
+		Interrupter interrupter = new Interrupter(Thread.currentThread());
+		primary.whenComplete((response, error) -> {
+			if (primary.isCancelled()) {
+				interrupter.run();
+			}
+		});
+		CompletableFuture<LLMResponse> result = race.start(primary, () -> AsyncChatModel.isAsync(hedge)
+				? start(asyncRequest, (AsyncChatModel) hedge)
+				: runBlocking(request));
+
+		try {
+			primary.complete(request.apply(delegate));
+		} catch (RuntimeException | Error e) {
+			primary.completeExceptionally(e);
+		}
+		if (!interrupter.finish()) {
+			// the primary lost and was interrupted: clear it
+			Thread.interrupted();
+		}
+		return Futures.await(result);
+	}
+
+	private static CompletableFuture<LLMResponse> start(
+			Function<AsyncChatModel, CompletableFuture<LLMResponse>> request, AsyncChatModel model) {
+		try {
+			return request.apply(model);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	// runs on a slot the race acquired and gives it back; cancelling the
+	// returned future interrupts the worker
+	private CompletableFuture<LLMResponse> runBlocking(Function<ChatModel, LLMResponse> request) {
+		CompletableFuture<LLMResponse> call = new CompletableFuture<>();
+		try {
+			BLOCKING_HEDGES.execute(() -> {
+				Interrupter interrupter = new Interrupter(Thread.currentThread());
+				call.whenComplete((response, error) -> {
+					if (call.isCancelled()) {
+						interrupter.run();
+					}
+				});
+				try {
+					if (!call.isDone()) {
+						call.complete(request.apply(hedge));
+					}
+				} catch (Throwable t) {
+					call.completeExceptionally(t);
+				} finally {
+					if (!interrupter.finish()) {
+						Thread.interrupted();
+					}
+					BLOCKING_HEDGE_SLOTS.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			BLOCKING_HEDGE_SLOTS.release();
+			throw e;
+		}
+		return call;
+	}
+
+	/**
+	 * One hedged call. The first success wins, the call fails once both
+	 * requests (or the primary alone, if no hedge was sent) have failed.
+	 */
+	private final class Race {
+
+		private final String input;
+		private final boolean hedgeNeedsThread;
+		private final long start = System.nanoTime();
+		private final CompletableFuture<LLMResponse> result = new CompletableFuture<>();
+		private CompletableFuture<LLMResponse> primary;
+		private CompletableFuture<LLMResponse> hedged;  // guarded by this
+		private boolean primaryDone;                    // guarded by this
+		private boolean settled;                        // guarded by this
+		private int inFlight = 1;                       // guarded by this
+		private Throwable firstError;                   // guarded by this
+
+		Race(String input, boolean hedgeNeedsThread) {
+			this.input = input;
+			this.hedgeNeedsThread = hedgeNeedsThread;
+		}
+
+		CompletableFuture<LLMResponse> start(CompletableFuture<LLMResponse> primary,
+				Supplier<CompletableFuture<LLMResponse>> startHedge) {
+			this.primary = primary;
+			long delayNanos = hedgeDelayNanos();
+			HashedWheelTimer.Timeout hedgeTimer = delayNanos < 0
+					? null
+					: timer.schedule(() -> fireHedge(startHedge), delayNanos, TimeUnit.NANOSECONDS);
+			// the caller giving up cancels both requests
+			result.whenComplete((response, error) -> {
+				if (hedgeTimer != null) {
+					hedgeTimer.cancel();
+				}
+				if (result.isCancelled()) {
+					primary.cancel(true);
+					CompletableFuture<LLMResponse> hedgeCall;
+					synchronized (this) {
+						hedgeCall = hedged;
+					}
+					if (hedgeCall != null) {
+						hedgeCall.cancel(true);
+					}
+				}
+			});
+			primary.whenComplete((response, error) -> completed(response, error, false));
+			return result;
+		}
+
+		private void fireHedge(Supplier<CompletableFuture<LLMResponse>> startHedge) {
+			synchronized (this) {
+				if (primaryDone || settled || result.isDone()) {
+					return;
+				}
+				if (hedgeNeedsThread && !BLOCKING_HEDGE_SLOTS.tryAcquire()) {
+					metrics.recordPoolSaturated();
+					return;
+				}
+				if (!tryAcquireHedge()) {
+					if (hedgeNeedsThread) {
+						BLOCKING_HEDGE_SLOTS.release();
+					}
+					metrics.recordBudgetRejected();
+					return;
+				}
+				inFlight++;
+			}
+			CompletableFuture<LLMResponse> call;
+			try {
+				call = startHedge.get();
+			} catch (RuntimeException e) {
+				call = CompletableFuture.failedFuture(e);
+			}
+			boolean lost;
+			synchronized (this) {
+				hedged = call;
+				lost = settled || result.isDone();
+			}
+			if (lost) {
+				// the primary answered while the hedge was being sent
+				lose(call, true);
+			}
+			call.whenComplete((response, error) -> completed(response, error, true));
+		}
+
+		private void completed(LLMResponse response, Throwable error, boolean fromHedge) {
+			CompletableFuture<LLMResponse> loser;
+			Throwable failure = null;
+			synchronized (this) {
+				inFlight--;
+				if (!fromHedge) {
+					primaryDone = true;
+				}
+				if (settled || result.isDone()) {
+					return;
+				}
+				if (error != null) {
+					if (firstError == null) {
+						firstError = Futures.unwrap(error);
+					}
+					if (inFlight > 0) {
+						return;
+					}
+					failure = firstError;
+				}
+				settled = true;
+				loser = fromHedge ? primary : hedged;
+			}
+			if (failure != null) {
+				result.completeExceptionally(failure);
+				return;
+			}
+			if (fromHedge) {
+				metrics.recordHedgeWin();
+				metrics.recordHedgeTokens(tokensOf(response, input, hedge));
+			} else {
+				// only completed primary calls feed the hedge delay
+				recordLatency(System.nanoTime() - start);
+			}
+			if (loser != null) {
+				lose(loser, !fromHedge);
+			}
+			result.complete(response);
+		}
+
+		private void lose(CompletableFuture<LLMResponse> loser, boolean isHedge) {
+			long wasted = cancelLoser(loser, input, isHedge ? hedge : delegate);
+			metrics.recordWastedTokens(wasted);
+			if (isHedge) {
+				metrics.recordHedgeTokens(wasted);
+			}
+		}
+	}
+
+	// tokens the losing request consumed: real usage if it finished, else the prompt estimate
+	private static long cancelLoser(CompletableFuture<LLMResponse> loser, String input, ChatModel model) {
+		if (loser.cancel(true)) {
+			return estimate(input, model);
+		}
+		LLMResponse response = loser.isCompletedExceptionally() ? null : loser.getNow(null);
+		return response != null ? tokensOf(response, input, model) : estimate(input, model);
+	}
+
+	private static long tokensOf(LLMResponse response, String input, ChatModel model) {
+		Long total = response.totalTokens();
+		return total != null ? total : estimate(input, model);
+	}
+
+	// the prompt counted the way the model's own provider tokenizes it
+	private static long estimate(String input, ChatModel model) {
+		return TokenEstimators.forProvider(model.provider()).estimate(input);
+	}
+
+	// check and record under one lock, shared by every view of this model
+	private boolean tryAcquireHedge() {
+		synchronized (metrics) {
+			if (metrics.hedged() + 1 > maxHedgeRatio * metrics.requests()) {
+				return false;
+			}
+			metrics.recordHedge();
+			return true;
+		}
+	}
+
+	/** Hedge delay in nanos, or -1 while the percentile has too few samples. */
+	private long hedgeDelayNanos() {
+		return fixedDelay != null ? fixedDelay.toNanos() : latencies.percentile(percentile);
+	}
+
+	private void recordLatency(long nanos) {
+		latencies.record(nanos);
+	}
+
+	private static ChatModel retimed(ChatModel model, HashedWheelTimer timer) {
+		return model instanceof TimedChatModel timed ? timed.withTimer(timer) : model;
+	}
+
+	// unbounded only in name: BLOCKING_HEDGE_SLOTS caps the running hedges
+	private static ExecutorService createExecutor() {
+		return Executors.newCachedThreadPool(new ThreadFactory() {
+			private final AtomicInteger counter = new AtomicInteger(0);
+
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r);
+				t.setName("oxyjen-hedge-" + counter.getAndIncrement());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	@Override
+	public String provider() {
+		return delegate.provider();
+	}
+}
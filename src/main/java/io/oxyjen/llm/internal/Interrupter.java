@@ -0,0 +1,31 @@
+package io.oxyjen.llm.internal;
+
+/**
+ * Interrupts a thread blocked in a model call unless the call finished
+ * first. Both sides hold the monitor, so once {@link #finish()} returns the
+ * interrupt has either been delivered or can no longer happen.
+ */
+final class Interrupter implements Runnable {
+
+	private final Thread caller;
+	private boolean finished;
+	private boolean fired;
+
+	Interrupter(Thread caller) {
+		this.caller = caller;
+	}
+
+	@Override
+	public synchronized void run() {
+		if (!finished) {
+			fired = true;
+			caller.interrupt();
+		}
+	}
+
+	/** Ends the call; false if it was interrupted. */
+	synchronized boolean finish() {
+		finished = true;
+		return !fired;
+	}
+}
@@ -0,0 +1,37 @@
+package io.oxyjen.llm.internal;
+
+import java.util.Arrays;
+
+/**
+ * Ring of the last {@code size} call latencies, in nanos, for the
+ * percentile-driven decorators (hedge delay, adaptive timeout).
+ */
+final class LatencyWindow {
+
+	private final long[] latencies;
+	private final int minSamples;
+	private int index;
+	private int count;
+
+	LatencyWindow(int size, int minSamples) {
+		this.latencies = new long[size];
+		this.minSamples = minSamples;
+	}
+
+	synchronized void record(long nanos) {
+		latencies[index] = nanos;
+		index = (index + 1) % latencies.length;
+		if (count < latencies.length) count++;
+	}
+
+	/** The given percentile in nanos, or -1 while fewer than {@code minSamples} calls were seen. */
+	synchronized long percentile(double percentile) {
+		if (count < minSamples) {
+			return -1;
+		}
+		long[] sorted = Arrays.copyOf(latencies, count);
+		Arrays.sort(sorted);
+		int i = (int) Math.ceil(percentile * count) - 1;
+		return sorted[Math.max(0, Math.min(i, count - 1))];
+	}
+}
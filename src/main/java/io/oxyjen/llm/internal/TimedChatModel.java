@@ -1,92 +1,247 @@
 package io.oxyjen.llm.internal;
 
 import java.time.Duration;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
+import io.oxyjen.execution.HashedWheelTimer;
+import io.oxyjen.llm.AsyncChatModel;
 import io.oxyjen.llm.ChatModel;
 import io.oxyjen.llm.LLMResponse;
 import io.oxyjen.llm.exceptions.TimeoutException;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
 
-public final class TimedChatModel implements ChatModel {
+/**
+ * Bounds a model call by a timeout without a thread per call.
+ *
+ * Over an {@link AsyncChatModel} every call, plain, structured or
+ * multi-turn, goes through the async path: the {@link HashedWheelTimer}
+ * cancels the exchange at the deadline, which aborts the HTTP request, and
+ * the blocking methods just wait on it. Any other model is run on the
+ * caller's thread and the timer interrupts the caller at the deadline; a
+ * delegate that ignores interrupts can therefore overrun the timeout, but
+ * its result is discarded.
+ *
+ * The timeout is either fixed or adaptive: {@code HEADROOM} times the running
+ * percentile of observed latency, clamped to [min, max], and max until
+ * {@code MIN_SAMPLES} calls have been seen.
+ */
+public final class TimedChatModel implements AsyncChatModel {
+
+	private static final int MIN_SAMPLES = 20;
+	private static final int WINDOW = 256;
+	private static final double HEADROOM = 2.0;
 
-	private static final ExecutorService SHARED_EXECUTOR = createExecutor();
-	
 	private final ChatModel delegate;
 	private final Duration timeout;
-	
+	private final double percentile;
+	private final Duration minTimeout;
+	private final LatencyWindow latencies;
+	private final HashedWheelTimer timer;
+
 	public TimedChatModel(ChatModel delegate, Duration timeout) {
-        if (delegate == null) {
-            throw new IllegalArgumentException("Delegate model cannot be null");
-        }
-        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
-            throw new IllegalArgumentException("Timeout must be positive");
-        }
-        
-        this.delegate = delegate;
-        this.timeout = timeout;
-    }
-	
+		this(delegate, timeout, 0, null, null, HashedWheelTimer.shared());
+	}
+
+	private TimedChatModel(ChatModel delegate, Duration timeout, double percentile, Duration minTimeout,
+			LatencyWindow latencies, HashedWheelTimer timer) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("Delegate model cannot be null");
+		}
+		if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+			throw new IllegalArgumentException("Timeout must be positive");
+		}
+		this.delegate = delegate;
+		this.timeout = timeout;
+		this.percentile = percentile;
+		this.minTimeout = minTimeout;
+		this.latencies = latencies != null || minTimeout == null ? latencies : new LatencyWindow(WINDOW, MIN_SAMPLES);
+		this.timer = timer;
+	}
+
+	/**
+	 * The same timeout, sharing its latency window, with deadlines on
+	 * {@code timer}, e.g. the {@code ExecutionRuntime}'s. Returns this
+	 * model if it already uses {@code timer}.
+	 */
+	public TimedChatModel withTimer(HashedWheelTimer timer) {
+		if (timer == null || timer == this.timer) {
+			return this;
+		}
+		return new TimedChatModel(delegate, timeout, percentile, minTimeout, latencies, timer);
+	}
+
+	/**
+	 * Timeout that follows the delegate's latency: {@code 2 x} the given
+	 * percentile, never below {@code min} nor above {@code max}.
+	 */
+	public static TimedChatModel adaptive(ChatModel delegate, double percentile, Duration min, Duration max) {
+		if (percentile <= 0 || percentile >= 1) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 1, got: " + percentile);
+		}
+		if (min == null || min.isNegative() || min.isZero() || max == null || min.compareTo(max) > 0) {
+			throw new IllegalArgumentException("Need 0 < min <= max, got: " + min + ", " + max);
+		}
+		return new TimedChatModel(delegate, max, percentile, min, null, HashedWheelTimer.shared());
+	}
+
 	@Override
 	public LLMResponse chat(String input) {
-		String threadName = Thread.currentThread().getName();
-	    System.out.println("[TimedChatModel] " + threadName + " starting call, timeout=" + timeout);
-
-	    long start = System.currentTimeMillis();
-		Future<LLMResponse> future = SHARED_EXECUTOR.submit(() -> delegate.chat(input));
-
-        try {
-        	LLMResponse result = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-            long elapsed = System.currentTimeMillis() - start;
-            System.out.println("[TimedChatModel] " + threadName + " completed in " + elapsed + "ms");
-            return result;
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            long elapsed = System.currentTimeMillis() - start;
-            System.out.println(
-                "[TimedChatModel] " + threadName + " TIMED OUT after " + elapsed
-                + "ms (limit=" + timeout.toMillis() + "ms)"
-            );
-            throw new TimeoutException(
-                delegate.getClass().getSimpleName(),
-                timeout,
-                input.length()
-            );
-            
-        } catch (ExecutionException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof RuntimeException) {
-                throw (RuntimeException) cause;
-            }
-            throw new RuntimeException("LLM call failed", cause);
-            
-        } catch (InterruptedException e) {
-            // Restore interrupt status and throw
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Thread interrupted during LLM call", e);
-        }
-	}
-	
+		return supportsAsync()
+				? Futures.await(chatAsync(input))
+				: runInterruptibly(model -> model.chat(input), input);
+	}
+
+	@Override
+	public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+		return supportsAsync()
+				? Futures.await(chatStructuredAsync(input, responseSchema))
+				: runInterruptibly(model -> model.chatStructured(input, responseSchema), input);
+	}
+
+	@Override
+	public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+		return supportsAsync()
+				? Futures.await(chatAsync(messages, responseSchema))
+				: runInterruptibly(model -> model.chat(messages, responseSchema), Message.transcript(messages));
+	}
+
 	/**
-     * Creates a shared executor with daemon threads.
-     * CachedThreadPool grows as needed and reuses idle threads.
-     */
-    private static ExecutorService createExecutor() {
-        return Executors.newCachedThreadPool(new ThreadFactory() {
-            private final AtomicInteger counter = new AtomicInteger(0);
-            
-            @Override
-            public Thread newThread(Runnable r) {
-                Thread t = new Thread(r);
-                t.setName("oxyjen-timeout-" + counter.getAndIncrement());
-                t.setDaemon(true); // Won't prevent JVM shutdown
-                return t;
-            }
-        });
-    }
+	 * Bounded by cancelling the exchange at the deadline; over a blocking
+	 * delegate this is {@link #chat(String)} as a completed future.
+	 */
+	@Override
+	public CompletableFuture<LLMResponse> chatAsync(String input) {
+		return supportsAsync()
+				? timeAsync(model -> model.chatAsync(input), input)
+				: Futures.completed(this, model -> model.chat(input));
+	}
+
+	@Override
+	public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+		return supportsAsync()
+				? timeAsync(model -> model.chatStructuredAsync(input, responseSchema), input)
+				: Futures.completed(this, model -> model.chatStructured(input, responseSchema));
+	}
+
+	@Override
+	public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+		return supportsAsync()
+				? timeAsync(model -> model.chatAsync(messages, responseSchema), Message.transcript(messages))
+				: Futures.completed(this, model -> model.chat(messages, responseSchema));
+	}
+
+	@Override
+	public boolean supportsAsync() {
+		return AsyncChatModel.isAsync(delegate);
+	}
+
+	/** The timeout the next call gets. */
+	public Duration currentTimeout() {
+		return Duration.ofNanos(currentTimeoutNanos());
+	}
+
+	private CompletableFuture<LLMResponse> timeAsync(
+			Function<AsyncChatModel, CompletableFuture<LLMResponse>> request, String input) {
+		long timeoutNanos = currentTimeoutNanos();
+		long start = System.nanoTime();
+		CompletableFuture<LLMResponse> call;
+		try {
+			call = request.apply((AsyncChatModel) delegate);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		CompletableFuture<LLMResponse> result = new CompletableFuture<>();
+		AtomicBoolean expired = new AtomicBoolean();
+		HashedWheelTimer.Timeout deadline = timer.schedule(() -> {
+			if (result.isDone()) {
+				return;
+			}
+			expired.set(true);
+			call.cancel(true); // aborts the exchange
+			if (result.completeExceptionally(timedOut(input, timeoutNanos))) {
+				recordLatency(timeoutNanos);
+			}
+		}, timeoutNanos, TimeUnit.NANOSECONDS);
+		call.whenComplete((response, error) -> {
+			deadline.cancel();
+			if (error == null) {
+				if (result.complete(response)) {
+					recordLatency(System.nanoTime() - start);
+				}
+			} else if (!expired.get()) {
+				result.completeExceptionally(Futures.unwrap(error));
+			}
+		});
+		// the caller giving up aborts the exchange too
+		result.whenComplete((response, error) -> {
+			if (error != null) {
+				call.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	private LLMResponse runInterruptibly(Function<ChatModel, LLMResponse> request, String input) {
+		long timeoutNanos = currentTimeoutNanos();
+		long start = System.nanoTime();
+		Interrupter interrupter = new Interrupter(Thread.currentThread());
+		HashedWheelTimer.Timeout deadline = timer.schedule(interrupter, timeoutNanos, TimeUnit.NANOSECONDS);
+
+		try {
+			LLMResponse response = request.apply(delegate);
+			if (interrupter.finish()) {
+				recordLatency(System.nanoTime() - start);
+				return response;
+			}
+		} catch (RuntimeException | Error e) {
+			if (interrupter.finish()) {
+				throw e;
+			}
+		} finally {
+			deadline.cancel();
+		}
+
+		// finish() returned false, so the interrupt has been delivered: clear it
+		Thread.interrupted();
+		recordLatency(timeoutNanos);
+		throw timedOut(input, timeoutNanos);
+	}
+
+	private TimeoutException timedOut(String input, long timeoutNanos) {
+		return new TimeoutException(
+			delegate.getClass().getSimpleName(),
+			Duration.ofNanos(timeoutNanos),
+			input.length()
+		);
+	}
+
+	private long currentTimeoutNanos() {
+		long max = timeout.toNanos();
+		if (latencies == null) {
+			return max;
+		}
+		long observed = latencies.percentile(percentile);
+		if (observed < 0) {
+			return max;
+		}
+		long adaptive = (long) (observed * HEADROOM);
+		return Math.max(minTimeout.toNanos(), Math.min(adaptive, max));
+	}
+
+	private void recordLatency(long nanos) {
+		if (latencies != null) {
+			latencies.record(nanos);
+		}
+	}
+
+	@Override
+	public String provider() {
+		return delegate.provider();
+	}
 }
@@ -2,17 +2,26 @@ package io.oxyjen.llm.models;
 
 import java.util.List;
 
+import io.oxyjen.llm.schema.JSONSchema;
 import io.oxyjen.llm.semantics.Message;
 
 /**
  * Request to OpenAI chat completions API.
+ *
+ * {@code responseSchema} is optional; when set, the transport asks the
+ * provider to constrain its output to that schema natively.
  */
 public record ChatRequest(
 	String model,
 	List<Message> messages,
 	Double temperature,
-	Integer maxTokens
+	Integer maxTokens,
+	JSONSchema responseSchema
 ) {
+	public ChatRequest(String model, List<Message> messages, Double temperature, Integer maxTokens) {
+		this(model, messages, temperature, maxTokens, null);
+	}
+	
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -22,6 +31,7 @@ public record ChatRequest(
 		private List<Message> messages = new java.util.ArrayList<>();
 		private Double temperature;
 		private Integer maxTokens;
+		private JSONSchema responseSchema;
 		
 		public Builder model(String model) {
 			this.model = model;
@@ -44,6 +54,15 @@ public record ChatRequest(
 			return this;
 		}
 	
+		/**
+		 * Constrain the response to {@code schema} with the provider's
+		 * structured output mode.
+		 */
+		public Builder responseSchema(JSONSchema schema) {
+			this.responseSchema = schema;
+			return this;
+		}
+	
 		public ChatRequest build() {
 			if(model == null) {
 				throw new IllegalStateException("Model must be set");
@@ -51,7 +70,7 @@ public record ChatRequest(
 			if(messages.isEmpty()) {
 				throw new IllegalStateException("At least one message required");
 			}
-			return new ChatRequest(model, messages, temperature, maxTokens);
+			return new ChatRequest(model, messages, temperature, maxTokens, responseSchema);
 		}
 	}
 }
\ No newline at end of file
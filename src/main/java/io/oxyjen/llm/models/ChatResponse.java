@@ -2,5 +2,13 @@ package io.oxyjen.llm.models;
 
 /**
 * Response from OpenAI chat completions API.
+*
+* {@code rateLimits} is the quota the provider reported alongside the
+* response, or {@code null}.
 */
-public record ChatResponse(String content, TokenUsage usage) {}
+public record ChatResponse(String content, TokenUsage usage, RateLimitStatus rateLimits) {
+
+    public ChatResponse(String content, TokenUsage usage) {
+        this(content, usage, null);
+    }
+}
@@ -0,0 +1,43 @@
+package io.oxyjen.llm.models;
+
+import java.time.Duration;
+
+/**
+ * Quota left on the provider side, as reported with a response
+ * ({@code x-ratelimit-*} headers). Any field is {@code null} when the
+ * provider did not report it.
+ *
+ * @param limitRequests     requests allowed per window
+ * @param remainingRequests requests left in the current window
+ * @param resetRequests     time until the request quota is fully restored
+ * @param limitTokens       tokens allowed per window
+ * @param remainingTokens   tokens left in the current window
+ * @param resetTokens       time until the token quota is fully restored
+ */
+public record RateLimitStatus(
+        Long limitRequests,
+        Long remainingRequests,
+        Duration resetRequests,
+        Long limitTokens,
+        Long remainingTokens,
+        Duration resetTokens
+) {
+
+    public boolean hasRequestQuota() {
+        return remainingRequests != null && resetRequests != null;
+    }
+
+    public boolean hasTokenQuota() {
+        return remainingTokens != null && resetTokens != null;
+    }
+
+    /**
+     * Time until both quotas are restored, or {@code null} if neither
+     * reported a reset.
+     */
+    public Duration resetAll() {
+        if (resetRequests == null) return resetTokens;
+        if (resetTokens == null) return resetRequests;
+        return resetRequests.compareTo(resetTokens) >= 0 ? resetRequests : resetTokens;
+    }
+}
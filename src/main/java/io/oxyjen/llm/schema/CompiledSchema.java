@@ -0,0 +1,376 @@
+package io.oxyjen.llm.schema;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable validation tree compiled once from a {@link JSONSchema}.
+ *
+ * Compiling resolves everything {@link SchemaValidator} used to recompute on
+ * every call: regex patterns are compiled, enum values go into a hash set,
+ * properties and required names are copied into arrays.
+ *
+ * Validation runs in two passes. {@link #matches(Map)} only answers yes or
+ * no: it builds no paths and allocates no errors, which is all a valid
+ * document ever needs. Only when it fails does {@link #collect} walk the
+ * document again, building field paths and {@link FieldError}s in the same
+ * order and wording as before.
+ *
+ * Obtained through {@link JSONSchema#compiled()}, which caches it per
+ * schema instance.
+ */
+final class CompiledSchema {
+
+    private final String[] names;
+    private final PropertyRule[] rules;
+    private final Map<String, PropertyRule> byName;
+    private final String[] required;
+    // a schema without properties accepts any field
+    private final boolean closed;
+
+    private CompiledSchema(JSONSchema schema) {
+        Map<String, JSONSchema.PropertySchema> properties = schema.properties();
+        this.names = new String[properties.size()];
+        this.rules = new PropertyRule[properties.size()];
+        this.byName = new HashMap<>(properties.size() * 2);
+        int i = 0;
+        for (Map.Entry<String, JSONSchema.PropertySchema> entry : properties.entrySet()) {
+            names[i] = entry.getKey();
+            rules[i] = new PropertyRule(entry.getValue());
+            byName.put(names[i], rules[i]);
+            i++;
+        }
+        this.required = schema.required().toArray(new String[0]);
+        this.closed = !properties.isEmpty();
+    }
+
+    static CompiledSchema compile(JSONSchema schema) {
+        return new CompiledSchema(schema);
+    }
+
+    /** True if {@code data} satisfies the schema. */
+    boolean matches(Map<?, ?> data) {
+        if (closed) {
+            for (Object key : data.keySet()) {
+                if (!byName.containsKey(key)) {
+                    return false;
+                }
+            }
+        }
+        for (String name : required) {
+            if (!data.containsKey(name)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (data.containsKey(names[i]) && !rules[i].matches(data.get(names[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Adds every violation in {@code data} to {@code errors}. */
+    void collect(Map<?, ?> data, String path, List<FieldError> errors) {
+        if (closed) {
+            for (Object key : data.keySet()) {
+                if (!byName.containsKey(key)) {
+                    errors.add(new FieldError(
+                        path + "." + key,
+                        FieldError.ErrorType.UNKNOWN_FIELD,
+                        "defined in schema",
+                        key,
+                        "Field not allowed by schema"
+                    ));
+                }
+            }
+        }
+        for (String name : required) {
+            if (!data.containsKey(name)) {
+                errors.add(new FieldError(
+                    path + "." + name,
+                    FieldError.ErrorType.MISSING_REQUIRED,
+                    "present",
+                    null,
+                    "Missing required field"
+                ));
+            }
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (data.containsKey(names[i])) {
+                rules[i].collect(data.get(names[i]), path + "." + names[i], errors);
+            }
+        }
+    }
+
+    /**
+     * Compiled {@link JSONSchema.PropertySchema}.
+     */
+    private static final class PropertyRule {
+        private final SchemaType type;
+        private final String patternSource;
+        private final Pattern pattern;
+        private final Integer minLength;
+        private final Integer maxLength;
+        private final Long minimum;
+        private final Long maximum;
+        private final List<String> enumValues;
+        private final Set<String> enumSet;
+        private final PropertyRule items;
+        private final CompiledSchema nested;
+        private final PropertyRule additionalProperties;
+
+        PropertyRule(JSONSchema.PropertySchema prop) {
+            this.type = prop.type();
+            this.patternSource = prop.pattern();
+            this.pattern = compilePattern(prop.pattern());
+            this.minLength = prop.minLength();
+            this.maxLength = prop.maxLength();
+            this.minimum = prop.minimum();
+            this.maximum = prop.maximum();
+            List<String> values = prop.enumValues();
+            this.enumValues = values != null && !values.isEmpty() ? values : null;
+            this.enumSet = enumValues != null ? Set.copyOf(enumValues) : null;
+            this.items = prop.items() != null ? new PropertyRule(prop.items()) : null;
+            this.nested = prop.nestedSchema() != null ? prop.nestedSchema().compiled() : null;
+            this.additionalProperties = prop.additionalProperties() != null
+                ? new PropertyRule(prop.additionalProperties())
+                : null;
+        }
+
+        // an invalid pattern keeps failing at validation time, as it always did
+        private static Pattern compilePattern(String regex) {
+            if (regex == null) {
+                return null;
+            }
+            try {
+                return Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+        }
+
+        boolean matches(Object value) {
+            if (value == null) {
+                return false;
+            }
+            boolean typeOk = switch (type) {
+                case STRING -> value instanceof String str && stringMatches(str);
+                case NUMBER -> value instanceof Number number && numberMatches(number.doubleValue());
+                case BOOLEAN -> value instanceof Boolean;
+                case ARRAY -> value instanceof List<?> list && arrayMatches(list);
+                case OBJECT -> value instanceof Map<?, ?> map && objectMatches(map);
+            };
+            return typeOk && (enumSet == null || enumSet.contains(value.toString()));
+        }
+
+        private boolean stringMatches(String str) {
+            if (minLength != null && str.length() < minLength) return false;
+            if (maxLength != null && str.length() > maxLength) return false;
+            return patternSource == null || patternMatches(str);
+        }
+
+        private boolean numberMatches(double d) {
+            if (minimum != null && d < minimum) return false;
+            return maximum == null || d <= maximum;
+        }
+
+        private boolean arrayMatches(List<?> list) {
+            if (items == null) {
+                return true;
+            }
+            for (int i = 0; i < list.size(); i++) {
+                if (!items.matches(list.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean objectMatches(Map<?, ?> map) {
+            if (nested != null) {
+                return nested.matches(map);
+            }
+            if (additionalProperties != null) {
+                for (Object entryValue : map.values()) {
+                    if (!additionalProperties.matches(entryValue)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private boolean patternMatches(String str) {
+            return pattern != null ? pattern.matcher(str).matches() : str.matches(patternSource);
+        }
+
+        void collect(Object value, String path, List<FieldError> errors) {
+            if (value == null) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.CONSTRAINT_VIOLATION,
+                    "non-null",
+                    null,
+                    "Null value not allowed"
+                ));
+                return;
+            }
+            switch (type) {
+                case STRING  -> collectString(value, path, errors);
+                case NUMBER  -> collectNumber(value, path, errors);
+                case BOOLEAN -> collectBoolean(value, path, errors);
+                case ARRAY   -> collectArray(value, path, errors);
+                case OBJECT  -> collectObject(value, path, errors);
+            }
+            if (enumSet != null && !enumSet.contains(value.toString())) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.INVALID_ENUM_VALUE,
+                    enumValues,
+                    value,
+                    "Value not in allowed enum values"
+                ));
+            }
+        }
+
+        private void collectString(Object value, String path, List<FieldError> errors) {
+            if (!(value instanceof String str)) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.WRONG_TYPE,
+                    "string",
+                    value,
+                    "Expected string, got " + typeName(value)
+                ));
+                return;
+            }
+            if (minLength != null && str.length() < minLength) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.CONSTRAINT_VIOLATION,
+                    "minLength=" + minLength,
+                    str,
+                    "String length " + str.length() + " is less than minimum " + minLength
+                ));
+            }
+            if (maxLength != null && str.length() > maxLength) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.CONSTRAINT_VIOLATION,
+                    "maxLength=" + maxLength,
+                    str,
+                    "String length " + str.length() + " exceeds maximum " + maxLength
+                ));
+            }
+            if (patternSource != null && !patternMatches(str)) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.CONSTRAINT_VIOLATION,
+                    "pattern=" + patternSource,
+                    str,
+                    "String does not match required pattern"
+                ));
+            }
+        }
+
+        private void collectNumber(Object value, String path, List<FieldError> errors) {
+            if (!(value instanceof Number number)) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.WRONG_TYPE,
+                    "number",
+                    value,
+                    "Expected number, got " + typeName(value)
+                ));
+                return;
+            }
+            double d = number.doubleValue();
+            if (minimum != null && d < minimum) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.CONSTRAINT_VIOLATION,
+                    "minimum=" + minimum,
+                    value,
+                    "Value " + d + " is less than minimum " + minimum
+                ));
+            }
+            if (maximum != null && d > maximum) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.CONSTRAINT_VIOLATION,
+                    "maximum=" + maximum,
+                    value,
+                    "Value " + d + " exceeds maximum " + maximum
+                ));
+            }
+        }
+
+        private void collectBoolean(Object value, String path, List<FieldError> errors) {
+            if (!(value instanceof Boolean)) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.WRONG_TYPE,
+                    "boolean",
+                    value,
+                    "Expected boolean, got " + typeName(value)
+                ));
+            }
+        }
+
+        private void collectArray(Object value, String path, List<FieldError> errors) {
+            if (!(value instanceof List<?> list)) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.WRONG_TYPE,
+                    "array",
+                    value,
+                    "Expected array, got " + typeName(value)
+                ));
+                return;
+            }
+            if (items == null) {
+                return;
+            }
+            for (int i = 0; i < list.size(); i++) {
+                items.collect(list.get(i), path + "[" + i + "]", errors);
+            }
+        }
+
+        private void collectObject(Object value, String path, List<FieldError> errors) {
+            if (!(value instanceof Map<?, ?> map)) {
+                errors.add(new FieldError(
+                    path,
+                    FieldError.ErrorType.WRONG_TYPE,
+                    "object",
+                    value,
+                    "Expected object, got " + typeName(value)
+                ));
+                return;
+            }
+            if (nested != null) {
+                nested.collect(map, path, errors);
+                return;
+            }
+            if (additionalProperties != null) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    additionalProperties.collect(entry.getValue(), path + "." + entry.getKey(), errors);
+                }
+            }
+        }
+    }
+
+    static String typeName(Object value) {
+        if (value == null)             return "null";
+        if (value instanceof String)   return "string";
+        if (value instanceof Boolean)  return "boolean";
+        if (value instanceof Number)   return "number";
+        if (value instanceof List)     return "array";
+        if (value instanceof Map)      return "object";
+        return value.getClass().getSimpleName();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -20,6 +21,12 @@ public final class JSONSchema {
     private final Map<String, PropertySchema> properties;
     private final Set<String> required;
     private final String description;
+    // built on first use; the schema is immutable, so racing threads build equal values
+    private volatile String json;
+    private volatile CompiledSchema compiled;
+    private volatile SchemaValidator validator;
+    private volatile Map<String, Object> jsonSchemaTree;
+    private volatile Optional<Map<String, Object>> openApiTree;
     
     private JSONSchema(Builder builder) {
         this.type = builder.type;
@@ -33,6 +40,15 @@ public final class JSONSchema {
     }
     
     public String toJSON() {
+        String text = json;
+        if (text == null) {
+            text = buildJSON();
+            json = text;
+        }
+        return text;
+    }
+    
+    private String buildJSON() {
         // Simple JSON representation for OpenAI
         StringBuilder sb = new StringBuilder();
         sb.append("{");
@@ -77,6 +93,59 @@ public final class JSONSchema {
         return new HashSet<>(required);
     }
     
+    public String description() {
+        return description;
+    }
+    
+    /**
+     * Validation tree for this schema, compiled once per instance.
+     */
+    CompiledSchema compiled() {
+        CompiledSchema tree = compiled;
+        if (tree == null) {
+            tree = CompiledSchema.compile(this);
+            compiled = tree;
+        }
+        return tree;
+    }
+    
+    /**
+     * {@link ResponseSchemas#jsonSchema} translation, built once per instance.
+     */
+    Map<String, Object> jsonSchemaTree() {
+        Map<String, Object> tree = jsonSchemaTree;
+        if (tree == null) {
+            tree = ResponseSchemas.translateJsonSchema(this);
+            jsonSchemaTree = tree;
+        }
+        return tree;
+    }
+    
+    /**
+     * {@link ResponseSchemas#openApiSchema} translation, built once per
+     * instance; null if Gemini cannot express this schema.
+     */
+    Map<String, Object> openApiTree() {
+        Optional<Map<String, Object>> tree = openApiTree;
+        if (tree == null) {
+            tree = Optional.ofNullable(ResponseSchemas.translateOpenApi(this));
+            openApiTree = tree;
+        }
+        return tree.orElse(null);
+    }
+    
+    /**
+     * Shared validator for this schema, see {@link SchemaValidator#of(JSONSchema)}.
+     */
+    SchemaValidator validator() {
+        SchemaValidator shared = validator;
+        if (shared == null) {
+            shared = new SchemaValidator(this);
+            validator = shared;
+        }
+        return shared;
+    }
+    
     public static class Builder {
         private final SchemaType type;
         private final Map<String, PropertySchema> properties = new LinkedHashMap<>();
@@ -303,6 +372,10 @@ public final class JSONSchema {
         	return type;
         }
         
+        public String description() {
+        	return description;
+        }
+        
         public List<String> enumValues(){
         	return enumValues;
         }
@@ -433,20 +506,3 @@ public final class JSONSchema {
         }
     }
 }
-enum SchemaType {
-	STRING("string"),
-	NUMBER("number"),
-	BOOLEAN("boolean"),
-	OBJECT("object"),
-	ARRAY("array");
-
-	private final String json;
-
-	SchemaType(String json) {
-		this.json = json;
-	}
-
-	public String json() {
-		return json;
-	}
-}
\ No newline at end of file
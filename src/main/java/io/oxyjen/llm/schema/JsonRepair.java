@@ -0,0 +1,385 @@
+package io.oxyjen.llm.schema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.oxyjen.util.JsonParser;
+
+/**
+ * Tolerant reader for almost-valid JSON returned by a model.
+ *
+ * Fixes the breakage models commonly produce, locally and without another
+ * LLM call:
+ * - prose or markdown fences around the JSON: a fenced block is preferred,
+ *   then the last object that parses, so braces in prose are not mistaken
+ *   for the answer
+ * - trailing commas and missing commas
+ * - single-quoted strings and unquoted keys
+ * - Python literals (True, False, None) and bare words as values
+ * - // and block comments
+ * - output cut off by the token limit: a member whose value (or key) was
+ *   cut off is dropped, and open brackets are closed
+ *
+ * The result is a plain JSON tree (maps, lists and scalars, like
+ * {@link JsonParser#parse(String)}), ready for validation. Repair only fixes
+ * syntax; whether the content matches the schema is still up to the
+ * validator.
+ */
+public final class JsonRepair {
+
+    private JsonRepair() {}
+
+    /**
+     * Repair and parse the JSON object (or, failing that, array) in
+     * {@code text}: the one in the first ``` fence if there is one, else an
+     * object cut off at the end of the text, else the last complete object
+     * that parses as is, else the largest one.
+     *
+     * @return the parsed tree
+     * @throws IllegalArgumentException if the text contains no JSON object or array
+     */
+    public static Object repair(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Empty response from model");
+        }
+        int start = findStart(text);
+        if (start == -1) {
+            throw new IllegalArgumentException("No JSON object found in model response");
+        }
+        Reader reader = new Reader(tokenize(text, start));
+        return reader.value();
+    }
+
+    // CUT_STRING: a string the text ends in the middle of
+    private enum Kind { OPEN_OBJECT, CLOSE_OBJECT, OPEN_ARRAY, CLOSE_ARRAY, COLON, COMMA, STRING, CUT_STRING, NUMBER, WORD, EOF }
+
+    private static int findStart(String text) {
+        int fence = text.indexOf("```");
+        if (fence != -1) {
+            int body = text.indexOf('\n', fence);
+            if (body != -1) {
+                int close = text.indexOf("```", body);
+                int start = findStart(text, body + 1, close == -1 ? text.length() : close);
+                if (start != -1) {
+                    return start;
+                }
+            }
+        }
+        return findStart(text, 0, text.length());
+    }
+
+    private static int findStart(String text, int from, int to) {
+        int start = findRoot(text, from, to, '{', '}');
+        return start != -1 ? start : findRoot(text, from, to, '[', ']');
+    }
+
+    // start of the root value between from and to, or -1 if none opens there
+    private static int findRoot(String text, int from, int to, char open, char close) {
+        List<int[]> complete = new ArrayList<>();
+        int depth = 0;
+        int rootStart = -1;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (depth > 0 && (c == '"' || c == '\'')) {
+                int end = readString(text, i, new StringBuilder());
+                if (end < 0 || end > to) {
+                    break;
+                }
+                i = end - 1;
+            } else if (c == open) {
+                if (depth++ == 0) {
+                    rootStart = i;
+                }
+            } else if (c == close && depth > 0 && --depth == 0) {
+                complete.add(new int[] {rootStart, i + 1});
+            }
+        }
+        if (depth > 0) {
+            // cut off by the token limit: the answer is what runs to the end
+            return rootStart;
+        }
+        for (int i = complete.size() - 1; i >= 0; i--) {
+            int[] range = complete.get(i);
+            try {
+                JsonParser.parse(text.substring(range[0], range[1]));
+                return range[0];
+            } catch (IllegalArgumentException notJson) {
+                // prose in braces, or JSON that needs repair
+            }
+        }
+        int[] largest = null;
+        for (int[] range : complete) {
+            if (largest == null || range[1] - range[0] > largest[1] - largest[0]) {
+                largest = range;
+            }
+        }
+        return largest != null ? largest[0] : -1;
+    }
+
+    private record Token(Kind kind, String text) {}
+
+    private static List<Token> tokenize(String text, int start) {
+        List<Token> tokens = new ArrayList<>();
+        int depth = 0;
+        int pos = start;
+        int length = text.length();
+        while (pos < length) {
+            char c = text.charAt(pos);
+            switch (c) {
+                case '{' -> { tokens.add(new Token(Kind.OPEN_OBJECT, null)); depth++; pos++; }
+                case '[' -> { tokens.add(new Token(Kind.OPEN_ARRAY, null)); depth++; pos++; }
+                case '}' -> { tokens.add(new Token(Kind.CLOSE_OBJECT, null)); depth--; pos++; }
+                case ']' -> { tokens.add(new Token(Kind.CLOSE_ARRAY, null)); depth--; pos++; }
+                case ':' -> { tokens.add(new Token(Kind.COLON, null)); pos++; }
+                case ',' -> { tokens.add(new Token(Kind.COMMA, null)); pos++; }
+                case '"', '\'' -> {
+                    StringBuilder sb = new StringBuilder();
+                    int end = readString(text, pos, sb);
+                    tokens.add(new Token(end < 0 ? Kind.CUT_STRING : Kind.STRING, sb.toString()));
+                    pos = end < 0 ? length : end;
+                }
+                case '/' -> pos = skipComment(text, pos);
+                default -> {
+                    if (c == '-' || c == '+' || c == '.' || (c >= '0' && c <= '9')) {
+                        int end = pos + 1;
+                        while (end < length && isNumberChar(text.charAt(end))) {
+                            end++;
+                        }
+                        tokens.add(new Token(Kind.NUMBER, text.substring(pos, end)));
+                        pos = end;
+                    } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                        int end = pos + 1;
+                        while (end < length && isWordChar(text.charAt(end))) {
+                            end++;
+                        }
+                        tokens.add(new Token(Kind.WORD, text.substring(pos, end)));
+                        pos = end;
+                    } else {
+                        // whitespace, stray prose characters
+                        pos++;
+                    }
+                }
+            }
+            if (depth <= 0) {
+                // the root value is closed; whatever follows is prose
+                break;
+            }
+        }
+        tokens.add(new Token(Kind.EOF, null));
+        return tokens;
+    }
+
+    // reads a quoted string starting at the quote; returns the position after
+    // the closing quote, or -1 if the text ends inside the string
+    private static int readString(String text, int pos, StringBuilder sb) {
+        char quote = text.charAt(pos++);
+        int length = text.length();
+        while (pos < length) {
+            char c = text.charAt(pos++);
+            if (c == quote) {
+                return pos;
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos >= length) {
+                break;
+            }
+            char escaped = text.charAt(pos++);
+            switch (escaped) {
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'u' -> {
+                    if (pos + 4 <= length && isHex(text, pos)) {
+                        sb.append((char) Integer.parseInt(text, pos, pos + 4, 16));
+                        pos += 4;
+                    }
+                }
+                // \" \' \\ \/ and unknown escapes keep the character
+                default -> sb.append(escaped);
+            }
+        }
+        return -1;
+    }
+
+    private static int skipComment(String text, int pos) {
+        if (text.startsWith("//", pos)) {
+            int end = text.indexOf('\n', pos);
+            return end == -1 ? text.length() : end + 1;
+        }
+        if (text.startsWith("/*", pos)) {
+            int end = text.indexOf("*/", pos + 2);
+            return end == -1 ? text.length() : end + 2;
+        }
+        return pos + 1;
+    }
+
+    private static boolean isHex(String text, int pos) {
+        for (int i = pos; i < pos + 4; i++) {
+            if (Character.digit(text.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNumberChar(char c) {
+        return (c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-';
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '-';
+    }
+
+    /**
+     * Recursive descent over the tokens that never fails on structure:
+     * missing pieces are skipped and open containers are closed at EOF.
+     */
+    private static final class Reader {
+        // returned by read() when no value starts at the current token
+        private static final Object MISSING = new Object();
+
+        private final List<Token> tokens;
+        private int pos;
+
+        Reader(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        Object value() {
+            Object value = read();
+            if (value == MISSING) {
+                throw new IllegalArgumentException("No JSON object found in model response");
+            }
+            return value;
+        }
+
+        private Token peek() {
+            return tokens.get(pos);
+        }
+
+        private Object read() {
+            Token token = tokens.get(pos);
+            switch (token.kind()) {
+                case OPEN_OBJECT -> {
+                    pos++;
+                    return readObject();
+                }
+                case OPEN_ARRAY -> {
+                    pos++;
+                    return readArray();
+                }
+                case STRING -> {
+                    pos++;
+                    return token.text();
+                }
+                case CUT_STRING -> {
+                    // half a value is worse than none: drop it
+                    pos++;
+                    return MISSING;
+                }
+                case NUMBER -> {
+                    pos++;
+                    return number(token.text());
+                }
+                case WORD -> {
+                    pos++;
+                    return switch (token.text()) {
+                        case "true", "True" -> Boolean.TRUE;
+                        case "false", "False" -> Boolean.FALSE;
+                        case "null", "None" -> null;
+                        default -> token.text();
+                    };
+                }
+                default -> {
+                    return MISSING;
+                }
+            }
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            while (true) {
+                Token token = peek();
+                switch (token.kind()) {
+                    case EOF -> {
+                        return map;
+                    }
+                    case CLOSE_OBJECT -> {
+                        pos++;
+                        return map;
+                    }
+                    case CLOSE_ARRAY -> {
+                        // mismatched bracket: let the enclosing array take it
+                        return map;
+                    }
+                    case COMMA, COLON -> pos++;
+                    case STRING, WORD, NUMBER -> {
+                        pos++;
+                        String key = token.text();
+                        if (peek().kind() == Kind.COLON) {
+                            pos++;
+                        }
+                        Object value = read();
+                        if (value != MISSING) {
+                            map.put(key, value);
+                        }
+                    }
+                    default -> {
+                        // a value where a key belongs; drop it
+                        read();
+                    }
+                }
+            }
+        }
+
+        private List<Object> readArray() {
+            List<Object> list = new ArrayList<>();
+            while (true) {
+                Token token = peek();
+                switch (token.kind()) {
+                    case EOF -> {
+                        return list;
+                    }
+                    case CLOSE_ARRAY -> {
+                        pos++;
+                        return list;
+                    }
+                    case CLOSE_OBJECT -> {
+                        return list;
+                    }
+                    case COMMA, COLON -> pos++;
+                    default -> {
+                        Object value = read();
+                        if (value != MISSING) {
+                            list.add(value);
+                        }
+                    }
+                }
+            }
+        }
+
+        // a number cut off mid-way ("1.", "-", "2e") is dropped
+        private Object number(String text) {
+            char last = text.charAt(text.length() - 1);
+            if (last < '0' || last > '9') {
+                return MISSING;
+            }
+            try {
+                return JsonParser.parse(text);
+            } catch (IllegalArgumentException e) {
+                try {
+                    return Double.parseDouble(text);
+                } catch (NumberFormatException notANumber) {
+                    return MISSING;
+                }
+            }
+        }
+    }
+}
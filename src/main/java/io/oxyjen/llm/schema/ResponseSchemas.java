@@ -0,0 +1,170 @@
+package io.oxyjen.llm.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Translates a {@link JSONSchema} into the schema dialects providers accept
+ * for native structured output.
+ *
+ * Both translations return a plain JSON tree (maps, lists and scalars) for
+ * the transport to serialize. Properties and required names are sorted, so
+ * the same schema always produces the same request bytes. Each translation
+ * is built once per schema instance and shared, so the trees are unmodifiable.
+ */
+public final class ResponseSchemas {
+
+    private ResponseSchemas() {}
+
+    /**
+     * Standard JSON Schema, as used by OpenAI's
+     * {@code response_format: {"type": "json_schema"}}.
+     */
+    public static Map<String, Object> jsonSchema(JSONSchema schema) {
+        return schema.jsonSchemaTree();
+    }
+
+    /**
+     * Gemini's OpenAPI subset for {@code generationConfig.responseSchema}:
+     * upper-case types, string enums as {@code format: "enum"}.
+     *
+     * @return the schema, or {@code null} if it uses something Gemini
+     *         cannot express (maps, objects without properties, arrays
+     *         without item types); callers then fall back to plain JSON mode
+     */
+    public static Map<String, Object> openApiSchema(JSONSchema schema) {
+        return schema.openApiTree();
+    }
+
+    static Map<String, Object> translateJsonSchema(JSONSchema schema) {
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("type", SchemaType.OBJECT.json());
+        putIfPresent(tree, "description", schema.description());
+        putObjectMembers(tree, schema, ResponseSchemas::jsonSchema);
+        return freeze(tree);
+    }
+
+    static Map<String, Object> translateOpenApi(JSONSchema schema) {
+        try {
+            Map<String, Object> tree = new LinkedHashMap<>();
+            tree.put("type", SchemaType.OBJECT.name());
+            putIfPresent(tree, "description", schema.description());
+            if (schema.properties().isEmpty()) {
+                throw new Unsupported();
+            }
+            putObjectMembers(tree, schema, ResponseSchemas::openApi);
+            return freeze(tree);
+        } catch (Unsupported e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Object> jsonSchema(JSONSchema.PropertySchema prop) {
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("type", prop.type().json());
+        putIfPresent(tree, "description", prop.description());
+        if (prop.enumValues() != null) {
+            tree.put("enum", prop.enumValues());
+        }
+        putIfPresent(tree, "pattern", prop.pattern());
+        putIfPresent(tree, "minLength", prop.minLength());
+        putIfPresent(tree, "maxLength", prop.maxLength());
+        putIfPresent(tree, "minimum", prop.minimum());
+        putIfPresent(tree, "maximum", prop.maximum());
+        if (prop.type() == SchemaType.ARRAY && prop.items() != null) {
+            tree.put("items", jsonSchema(prop.items()));
+        }
+        if (prop.additionalProperties() != null) {
+            tree.put("additionalProperties", jsonSchema(prop.additionalProperties()));
+        }
+        if (prop.nestedSchema() != null) {
+            putObjectMembers(tree, prop.nestedSchema(), ResponseSchemas::jsonSchema);
+        }
+        return tree;
+    }
+
+    private static Map<String, Object> openApi(JSONSchema.PropertySchema prop) {
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("type", prop.type().name());
+        putIfPresent(tree, "description", prop.description());
+        // Gemini rejects an enum on anything but a string, the validator
+        // still checks it there
+        if (prop.type() == SchemaType.STRING
+                && prop.enumValues() != null && !prop.enumValues().isEmpty()) {
+            tree.put("format", "enum");
+            tree.put("enum", prop.enumValues());
+        }
+        // lengths and patterns are left to the validator
+        putIfPresent(tree, "minimum", prop.minimum());
+        putIfPresent(tree, "maximum", prop.maximum());
+        switch (prop.type()) {
+            case ARRAY -> {
+                if (prop.items() == null) {
+                    throw new Unsupported();
+                }
+                tree.put("items", openApi(prop.items()));
+            }
+            case OBJECT -> {
+                JSONSchema nested = prop.nestedSchema();
+                if (nested == null || nested.properties().isEmpty()) {
+                    throw new Unsupported();
+                }
+                putObjectMembers(tree, nested, ResponseSchemas::openApi);
+            }
+            default -> { }
+        }
+        return tree;
+    }
+
+    private static void putObjectMembers(Map<String, Object> tree, JSONSchema schema,
+            Function<JSONSchema.PropertySchema, Map<String, Object>> translate) {
+        Map<String, JSONSchema.PropertySchema> properties = new TreeMap<>(schema.properties());
+        if (!properties.isEmpty()) {
+            Map<String, Object> translated = new LinkedHashMap<>();
+            for (Map.Entry<String, JSONSchema.PropertySchema> entry : properties.entrySet()) {
+                translated.put(entry.getKey(), translate.apply(entry.getValue()));
+            }
+            tree.put("properties", translated);
+        }
+        if (!schema.required().isEmpty()) {
+            List<String> required = new ArrayList<>(schema.required());
+            Collections.sort(required);
+            tree.put("required", required);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T freeze(T node) {
+        if (node instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, value) -> copy.put(key, freeze(value)));
+            return (T) Collections.unmodifiableMap(copy);
+        }
+        if (node instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>();
+            list.forEach(value -> copy.add(freeze(value)));
+            return (T) Collections.unmodifiableList(copy);
+        }
+        return node;
+    }
+
+    private static void putIfPresent(Map<String, Object> tree, String key, Object value) {
+        if (value != null) {
+            tree.put(key, value);
+        }
+    }
+
+    // a construct the target dialect has no equivalent for
+    private static final class Unsupported extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -2,24 +2,33 @@ package io.oxyjen.llm.schema;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.oxyjen.execution.metrics.NodeMetrics;
 import io.oxyjen.llm.ChatModel;
 import io.oxyjen.llm.LLMResponse;
 import io.oxyjen.llm.models.ModelInfo;
 import io.oxyjen.llm.schema.FieldError.ErrorType;
+import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.semantics.retry.RetryBudget;
 import io.oxyjen.util.JsonParser;
-import io.oxyjen.util.JsonSerializer;
 
 /**
  * Enforces JSON schema by retrying until valid output.
  * 
  * Strategy:
- * 1. Call LLM with schema instructions
- * 2. Validate response
- * 3. If invalid, retry with error feedback
+ * 1. Call LLM with schema instructions, and with the schema itself through
+ *    the provider's native structured output mode where the model has one
+ *    (see {@link ChatModel#chat(List, JSONSchema)})
+ * 2. Parse the response once, strip unknown fields and validate the tree
+ *    (almost-valid JSON is first repaired locally, see {@link JsonRepair})
+ * 3. If invalid, retry as a conversation: the original turn unchanged, the
+ *    model's answer, then only the errors as a new turn. Each retry extends
+ *    the previous request instead of rewriting it, so it stays short and
+ *    hits the provider's prompt cache
  * 4. Max retries before giving up
  * 
  * <p>Token counts and cost are aggregated across all attempts each retry is
@@ -30,18 +39,40 @@ import io.oxyjen.util.JsonSerializer;
  */
 public final class SchemaEnforcer {
     
+    // Generic example showing flat structure
+    private static final String EXAMPLE =
+            "{\"field1\": \"value1\", \"field2\": \"value2\", \"listField\": [\"item1\"]}";
+    
     private final ChatModel model;
     private final JSONSchema schema;
     private final int maxRetries;
     private final String schemaJson;
     private final boolean failOnInvalid;
+    private final boolean nativeStructuredOutput;
+    // everything below depends only on the schema, so it is built once
+    private final SchemaValidator validator;
+    private final Set<String> knownFields;
+    private final String instructions;
     
     public SchemaEnforcer(ChatModel model, JSONSchema schema, int maxRetries, boolean failOnInvalid) {
+        this(model, schema, maxRetries, failOnInvalid, true);
+    }
+    
+    /**
+     * @param nativeStructuredOutput pass the schema to the provider's
+     *        structured output mode; validation still runs on every response
+     */
+    public SchemaEnforcer(ChatModel model, JSONSchema schema, int maxRetries, boolean failOnInvalid,
+            boolean nativeStructuredOutput) {
         this.model = model;
         this.schema = schema;
         this.maxRetries = maxRetries;
         this.schemaJson = schema.toJSON();
         this.failOnInvalid = failOnInvalid;
+        this.nativeStructuredOutput = nativeStructuredOutput;
+        this.validator = SchemaValidator.of(schema);
+        this.knownFields = Set.copyOf(schema.properties().keySet());
+        this.instructions = buildInstructions();
     }
     
     public SchemaEnforcer(ChatModel model, JSONSchema schema) {
@@ -55,12 +86,29 @@ public final class SchemaEnforcer {
     /**
      * Execute prompt with schema enforcement.
      * 
-     * @return Valid JSON string
+     * @return result carrying the validated JSON tree
      * @throws SchemaException if all retries fail
      */
     public SchemaResult execute(String prompt) {
-        SchemaValidator validator = new SchemaValidator(schema);
-        String currentPrompt = buildInitialPrompt(prompt);      
+        return execute(prompt, null);
+    }
+
+    /**
+     * Like {@link #execute(String)}, charging each repair attempt to a shared
+     * {@link RetryBudget}. When the budget is spent the enforcer stops early
+     * and treats the last response as final.
+     */
+    public SchemaResult execute(String prompt, RetryBudget budget) {
+        return execute(model, prompt, budget);
+    }
+
+    // SchemaNode passes its chain bound to the execution's runtime
+    SchemaResult execute(ChatModel model, String prompt, RetryBudget budget) {
+        if (budget != null) {
+            budget.recordRequest();
+        }
+        List<Message> conversation = new ArrayList<>();
+        conversation.add(new Message("user", buildInitialPrompt(prompt)));
         String lastResponse = null;
         List<FieldError> lastErrors = List.of();
         
@@ -73,8 +121,14 @@ public final class SchemaEnforcer {
         boolean promptTokensKnown = false;
         boolean completionTokensKnown = false;
               
+        int attempts = 0;
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
-            LLMResponse response = model.chat(currentPrompt);
+            if (attempt > 1 && budget != null && !budget.tryAcquireRetry()) {
+                break;
+            }
+            attempts = attempt;
+            LLMResponse response = model.chat(
+                    List.copyOf(conversation), nativeStructuredOutput ? schema : null);
             lastResponse = response.text();
             
             if (response.promptTokens() != null) {
@@ -90,36 +144,42 @@ public final class SchemaEnforcer {
                 modelInfo = response.modelInfo();
             }
             
-            String json;
+            // parse once; strip, validate and bind all work on the same tree
+            Object tree;
+            boolean repaired = false;
             try {
-            	json = extractJSON(response.text());
-            	json = stripUnknownFields(json, schema);
-            } catch (Exception extractionError) {
-            	lastErrors = List.of(
-                        new FieldError(
-                            "$",
-                            ErrorType.PARSE_ERROR,
-                            "json",
-                            response,
-                            extractionError.getMessage()
-                        )
-                    );
-            	if (attempt == maxRetries && !failOnInvalid) {
-                    return new SchemaResult(response.text(), false, lastErrors, buildMetrics(executionStart, totalPromptTokens, totalCompletionTokens, totalCostMicros, modelInfo, promptTokensKnown, completionTokensKnown, false));
-                }
-            	currentPrompt = buildRetryPrompt(
-            			prompt,
-            			response.text(),
-            			"Could not extract valid JSON object from response.",
-            			attempt);
-            	continue;
+            	tree = JsonParser.parse(extractJSON(response.text()));
+            } catch (Exception strictError) {
+            	// almost-valid JSON is fixed locally instead of spending a retry
+            	try {
+            		tree = JsonRepair.repair(response.text());
+            		repaired = true;
+            	} catch (Exception repairError) {
+            		// not even a broken JSON object in the response
+            		lastErrors = List.of(
+                            new FieldError(
+                                "$",
+                                ErrorType.PARSE_ERROR,
+                                "json",
+                                response,
+                                strictError.getMessage()
+                            )
+                        );
+            		if (attempt == maxRetries && !failOnInvalid) {
+            			return new SchemaResult(response.text(), false, lastErrors, buildMetrics(executionStart, totalPromptTokens, totalCompletionTokens, totalCostMicros, modelInfo, promptTokensKnown, completionTokensKnown, false));
+            		}
+            		appendRepairTurn(conversation, response.text(),
+            				"Could not extract a valid JSON object from your response.");
+            		continue;
+            	}
             }
-            SchemaValidator.ValidationResult result = validator.validate(json);          
+            tree = stripUnknownFields(tree);
+            SchemaValidator.ValidationResult result = validator.validate(tree);
             if (result.isValid()) {
-            	return new SchemaResult(json, true, List.of(), buildMetrics(executionStart, totalPromptTokens, totalCompletionTokens, totalCostMicros, modelInfo, promptTokensKnown, completionTokensKnown, true));
+            	return new SchemaResult(null, tree, true, List.of(), buildMetrics(executionStart, totalPromptTokens, totalCompletionTokens, totalCostMicros, modelInfo, promptTokensKnown, completionTokensKnown, true), repaired);
             }           
             lastErrors = result.errors();
-            currentPrompt = buildRetryPrompt(prompt, json, result.formatErrors(),attempt);
+            appendRepairTurn(conversation, response.text(), result.formatErrors());
         } 
         NodeMetrics.LlmNodeMetrics aggregatedMetrics = buildMetrics(
                 executionStart, totalPromptTokens, totalCompletionTokens,
@@ -127,7 +187,8 @@ public final class SchemaEnforcer {
         );
         if (failOnInvalid) {
             throw new SchemaException(
-                "Failed to get valid JSON after " + maxRetries + " attempts",
+                "Failed to get valid JSON after " + attempts + " attempts"
+                    + (attempts < maxRetries ? " (retry budget exhausted)" : ""),
                 lastResponse
             );
         }
@@ -160,7 +221,11 @@ public final class SchemaEnforcer {
     }
     
     private String buildInitialPrompt(String userPrompt) {
-    	return userPrompt + "\n\n" +
+    	return userPrompt + instructions;
+    }
+    
+    private String buildInstructions() {
+    	return "\n\n" +
                 "INSTRUCTIONS:\n" +
                 "- Return ONLY a raw JSON object as your entire response.\n" +
                 "- Do NOT include any text, explanation, or markdown.\n" +
@@ -170,51 +235,32 @@ public final class SchemaEnforcer {
                 "- Use \"unknown\" for missing scalar fields.\n" +
                 "- Use [] for missing array fields.\n\n" +
                 "EXAMPLE of correct output format (fill with real values, not these):\n" +
-                buildExample() + "\n\n" +
+                EXAMPLE + "\n\n" +
                 "SCHEMA (describes required fields and types):\n" +
                 schemaJson + "\n\n" +
                 "REMEMBER: Return ONLY the flat JSON object. No nesting under 'properties'.";
     }
     
-    private String buildRetryPrompt(
-    		String originalPrompt, 
-    		String previousOutput, String validationErrors,
-    		int attempt
-    	) {
-    	return originalPrompt + "\n\n" +
-                "Attempt " + attempt + " failed.\n\n" +
-                "Your previous response did NOT match the required JSON schema.\n\n" +
-                "Previous JSON:\n" + previousOutput + "\n\n" +
-                "Schema violations:\n" + validationErrors + "\n\n" +
-                "You MUST correct the JSON.\n" +
-                "Return ONLY valid JSON.\n" +
-                "No explanations.\n" +
-                "No markdown.\n\n" +
-                "Please return ONLY corrected JSON matching this schema:\n" +
-                schemaJson;
-    }
-    
-    private String buildExample() {
-        // Generic example showing flat structure
-        return "{\"field1\": \"value1\", \"field2\": \"value2\", \"listField\": [\"item1\"]}";
+    /**
+     * Adds the model's answer and the errors it has to fix. The schema and
+     * instructions are already in the first turn and are not repeated.
+     */
+    private void appendRepairTurn(List<Message> conversation, String previousOutput, String validationErrors) {
+    	conversation.add(new Message("assistant", previousOutput != null ? previousOutput : ""));
+    	conversation.add(new Message("user",
+    			"Your previous response did NOT match the required JSON schema.\n\n" +
+    			"Schema violations:\n" + validationErrors + "\n\n" +
+    			"Return ONLY the corrected JSON object. No explanations. No markdown."));
     }
     
-    private String stripUnknownFields(String json, JSONSchema schema) {
-        try {
-            Object parsed = JsonParser.parse(json);
-            if (!(parsed instanceof Map)) return json;
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = (Map<String, Object>) parsed;
-
-            // Remove any key not defined in schema properties
-            map.keySet().retainAll(schema.properties().keySet());
-
-            // Re-serialize back to JSON string
-            return JsonSerializer.toJsonString(map);
-        } catch (Exception e) {
-            return json; // if stripping fails, return original
+    /**
+     * Removes top-level keys the schema does not define, in place.
+     */
+    private Object stripUnknownFields(Object parsed) {
+        if (parsed instanceof Map<?, ?> map) {
+            map.keySet().retainAll(knownFields);
         }
+        return parsed;
     }
     
     private String extractJSON(String response) {
@@ -45,9 +45,19 @@ public final class SchemaGenerator {
 	// Track visited classes to prevent infinite recursion
     private static final ThreadLocal<Set<Class<?>>> VISITED = 
         ThreadLocal.withInitial(HashSet::new);
+    // JSONSchema is immutable, so one instance per class is shared by every caller
+    private static final ClassValue<JSONSchema> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected JSONSchema computeValue(Class<?> clazz) {
+            return generate(clazz);
+        }
+    };
 	/**
      * Generate schema from a Java class.
      * 
+     * The schema is generated once per class and cached; later calls return
+     * the same instance, along with its cached JSON text and validator.
+     * 
      * @param clazz The class to generate schema for
      * @return JSONSchema representing the class structure
      */
@@ -55,7 +65,10 @@ public final class SchemaGenerator {
         if (clazz == null) {
             throw new IllegalArgumentException("Class cannot be null");
         }
-        
+        return SCHEMAS.get(clazz);
+    }
+    
+    private static JSONSchema generate(Class<?> clazz) {
         try {
             VISITED.get().clear();
             return generateSchema(clazz);
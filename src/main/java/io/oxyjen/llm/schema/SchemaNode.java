@@ -1,13 +1,14 @@
 package io.oxyjen.llm.schema;
 
 import java.util.Map;
-import java.util.concurrent.Semaphore;
 
 import io.oxyjen.core.NodeContext;
 import io.oxyjen.core.NodePlugin;
+import io.oxyjen.execution.Bulkhead;
 import io.oxyjen.execution.ExecutionMetadataKeys;
 import io.oxyjen.llm.ChatModel;
 import io.oxyjen.llm.LLM;
+import io.oxyjen.llm.LLMChain;
 import io.oxyjen.llm.UsesRuntimeLimiter;
 import io.oxyjen.util.JsonMapper;
 import io.oxyjen.util.JsonParser;
@@ -26,6 +27,7 @@ public final class SchemaNode<T> implements NodePlugin<String, T>, UsesRuntimeLi
     private final Class<T> targetType;
     private final SchemaEnforcer enforcer;
     private final boolean failOnInvalid;
+    private final String bulkhead;
     
     private SchemaNode(Builder<T> builder) {
         this.model = builder.model;
@@ -34,18 +36,23 @@ public final class SchemaNode<T> implements NodePlugin<String, T>, UsesRuntimeLi
         this.memoryKey = builder.memoryKey;
         this.targetType = builder.targetType;
         this.failOnInvalid = builder.failOnInvalid;
-        this.enforcer = new SchemaEnforcer(model, schema, maxRetries, failOnInvalid);
+        this.bulkhead = builder.bulkhead;
+        this.enforcer = new SchemaEnforcer(model, schema, maxRetries, failOnInvalid,
+                builder.nativeStructuredOutput);
     }
     
     @Override
     public T process(String input, NodeContext context) {
-        Semaphore runtimeLimiter = acquireRuntimeLimiterIfNested(context);
+        Bulkhead runtimeLimiter = acquireRuntimeLimiterIfNested(context);
         String nodeId = ExecutionMetadataKeys.currentNodeId(getName());
         if (memoryKey != null) {
             context.memory(memoryKey).append("user", input);
         } 
         try {
-            SchemaResult result = enforcer.execute(input);
+            var runtime = context != null ? context.getRuntime() : null;
+            // a chain charges its own retries to the runtime's budget too
+            ChatModel target = model instanceof LLMChain chain ? chain.withRuntime(runtime) : model;
+            SchemaResult result = enforcer.execute(target, input, runtime != null ? runtime.retryBudget() : null);
             context.setMetadata(ExecutionMetadataKeys.nodeMetricsKey(nodeId), result.getMetrics());
             if (memoryKey != null) {
                 context.memory(memoryKey).append("assistant", result.getRawJson());
@@ -61,10 +68,14 @@ public final class SchemaNode<T> implements NodePlugin<String, T>, UsesRuntimeLi
                 return null; //soft-fail
             }
             try {
+                // bind from the tree the enforcer already validated
+                Object tree = result.getTree() != null
+                        ? result.getTree()
+                        : JsonParser.parse(result.getRawJson());
                 if (targetType == Map.class) {
-                    return targetType.cast(JsonParser.parse(result.getRawJson()));
+                    return targetType.cast(tree);
                 } 
-                return JsonMapper.deserialize(result.getRawJson(), targetType);
+                return JsonMapper.fromJsonTree(tree, targetType);
             } catch (Exception e) {
             	// store deserialization error
             	context.setMetadata("deserializationError", e.getMessage());
@@ -81,7 +92,15 @@ public final class SchemaNode<T> implements NodePlugin<String, T>, UsesRuntimeLi
         }
     }
 
-    private Semaphore acquireRuntimeLimiterIfNested(NodeContext context) {
+    /**
+     * The bulkhead set on the builder, else the model's provider.
+     */
+    @Override
+    public String bulkhead() {
+        return bulkhead != null ? bulkhead : model.provider();
+    }
+
+    private Bulkhead acquireRuntimeLimiterIfNested(NodeContext context) {
         if (context == null || !context.isChild()) {
             return null;
         }
@@ -89,7 +108,7 @@ public final class SchemaNode<T> implements NodePlugin<String, T>, UsesRuntimeLi
         if (runtime == null) {
             return null;
         }
-        Semaphore limiter = runtime.getLimiter();
+        Bulkhead limiter = runtime.bulkheadFor(bulkhead());
         try {
             limiter.acquire();
             return limiter;
@@ -99,7 +118,7 @@ public final class SchemaNode<T> implements NodePlugin<String, T>, UsesRuntimeLi
         }
     }
 
-    private void releaseRuntimeLimiter(Semaphore limiter) {
+    private void releaseRuntimeLimiter(Bulkhead limiter) {
         if (limiter != null) {
             limiter.release();
         }
@@ -116,6 +135,8 @@ public final class SchemaNode<T> implements NodePlugin<String, T>, UsesRuntimeLi
         private String memoryKey;
         private Class<T> targetType;
         private boolean failOnInvalid = true;
+        private String bulkhead;
+        private boolean nativeStructuredOutput = true;
         
         private Builder(Class<T> type) {
             this.targetType = type;
@@ -151,6 +172,25 @@ public final class SchemaNode<T> implements NodePlugin<String, T>, UsesRuntimeLi
             return this;
         }
         
+        /**
+         * Run in the named runtime bulkhead. Default: the model's provider.
+         */
+        public Builder<T> bulkhead(String name) {
+            this.bulkhead = name;
+            return this;
+        }
+        
+        /**
+         * Send the schema to the provider's structured output mode
+         * (OpenAI {@code json_schema}, Gemini {@code responseSchema}), so
+         * the first response usually validates. Default: true. Models
+         * without such a mode are prompted as before.
+         */
+        public Builder<T> nativeStructuredOutput(boolean value) {
+            this.nativeStructuredOutput = value;
+            return this;
+        }
+        
         public SchemaNode<T> build() {
             if (model == null) {
                 throw new IllegalStateException("Model is required");
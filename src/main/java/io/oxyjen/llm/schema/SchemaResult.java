@@ -3,27 +3,70 @@ package io.oxyjen.llm.schema;
 import java.util.List;
 
 import io.oxyjen.execution.metrics.NodeMetrics;
+import io.oxyjen.util.JsonSerializer;
 
 public final class SchemaResult {
 
-    private final String rawJson;
+    private volatile String rawJson;
+    private final Object tree;
     private final boolean valid;
     private final List<FieldError> errors;
     private final NodeMetrics.LlmNodeMetrics metrics;
+    private final boolean repaired;
 
     public SchemaResult(String rawJson, boolean valid, List<FieldError> errors, NodeMetrics.LlmNodeMetrics metrics) {
+        this(rawJson, null, valid, errors, metrics);
+    }
+
+    /**
+     * Result carrying the parsed JSON tree. When {@code rawJson} is null it
+     * is serialized from the tree on first access.
+     */
+    public SchemaResult(String rawJson, Object tree, boolean valid, List<FieldError> errors, NodeMetrics.LlmNodeMetrics metrics) {
+        this(rawJson, tree, valid, errors, metrics, false);
+    }
+
+    /**
+     * @param repaired whether the output only parsed after {@link JsonRepair}
+     */
+    public SchemaResult(String rawJson, Object tree, boolean valid, List<FieldError> errors, NodeMetrics.LlmNodeMetrics metrics, boolean repaired) {
         this.rawJson = rawJson;
+        this.tree = tree;
         this.valid = valid;
         this.errors = errors;
         this.metrics = metrics;
+        this.repaired = repaired;
     }
 
     public boolean isValid() {
         return valid;
     }
 
+    /**
+     * True if the model's output was not valid JSON and was fixed locally
+     * by {@link JsonRepair} rather than by another LLM call.
+     */
+    public boolean isRepaired() {
+        return repaired;
+    }
+
     public String getRawJson() {
-        return rawJson;
+        String json = rawJson;
+        if (json == null && tree != null) {
+            json = JsonSerializer.toJsonString(tree);
+            rawJson = json;
+        }
+        return json;
+    }
+
+    /**
+     * The validated JSON tree (maps, lists and scalars, as produced by
+     * {@link io.oxyjen.util.JsonParser}), or null if the output could not
+     * be parsed. Bind it with {@link io.oxyjen.util.JsonMapper#fromJsonTree}
+     * instead of parsing {@link #getRawJson()} again.
+     */
+    public Object getTree() {
+        return tree;
     }
 
     public List<FieldError> getErrors() {
@@ -33,4 +76,4 @@ public final class SchemaResult {
     public NodeMetrics.LlmNodeMetrics getMetrics(){
     	return metrics;
     }
-}
\ No newline at end of file
+}
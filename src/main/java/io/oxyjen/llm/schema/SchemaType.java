@@ -0,0 +1,20 @@
+package io.oxyjen.llm.schema;
+
+/** JSON Schema {@code type} keywords, with their spelling in the schema. */
+enum SchemaType {
+	STRING("string"),
+	NUMBER("number"),
+	BOOLEAN("boolean"),
+	OBJECT("object"),
+	ARRAY("array");
+
+	private final String json;
+
+	SchemaType(String json) {
+		this.json = json;
+	}
+
+	public String json() {
+		return json;
+	}
+}
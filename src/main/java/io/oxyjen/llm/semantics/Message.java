@@ -1,7 +1,30 @@
 package io.oxyjen.llm.semantics;
 
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Message in chat request.
  */
 // role will be enum based in v0.3
-public record Message(String role, String content) {}
+public record Message(String role, String content) {
+
+	/**
+	 * The conversation as a single prompt, for models that take one input:
+	 * the first turn verbatim, every later turn under its upper-cased role.
+	 */
+	public static String transcript(List<Message> messages) {
+		if (messages.size() == 1) {
+			return messages.get(0).content();
+		}
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < messages.size(); i++) {
+			Message message = messages.get(i);
+			if (i > 0) {
+				sb.append("\n\n").append(message.role().toUpperCase(Locale.ROOT)).append(":\n");
+			}
+			sb.append(message.content());
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,38 @@
+package io.oxyjen.llm.tokens;
+
+/**
+ * Character-ratio estimator, used for Gemini.
+ *
+ * <p>Gemini's SentencePiece tokenizer averages about 4 characters per token
+ * for Latin-script text. Characters outside Latin script (CJK, etc.) are
+ * counted as one token each.
+ */
+public final class CharRatioTokenEstimator implements TokenEstimator {
+
+    private final double charsPerToken;
+
+    public CharRatioTokenEstimator(double charsPerToken) {
+        if (charsPerToken <= 0) {
+            throw new IllegalArgumentException("charsPerToken must be > 0");
+        }
+        this.charsPerToken = charsPerToken;
+    }
+
+    @Override
+    public int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int latin = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c > 0x024F && Character.isLetter(c)) {
+                other++;
+            } else {
+                latin++;
+            }
+        }
+        return other + (int) Math.ceil(latin / charsPerToken);
+    }
+}
@@ -0,0 +1,109 @@
+package io.oxyjen.llm.tokens;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.oxyjen.llm.Models;
+import io.oxyjen.llm.exceptions.TokenLimitExceededException;
+import io.oxyjen.llm.models.ModelInfo;
+import io.oxyjen.llm.semantics.Message;
+
+/**
+ * Pre-flight context-length check.
+ *
+ * <p>Without this, an over-long prompt is only detected when the provider
+ * answers 400, a full network round trip later. {@link #fit} estimates the
+ * prompt locally against {@link ModelInfo#contextLength()} and rejects or
+ * truncates it before anything is sent.
+ */
+public final class ContextWindow {
+
+    /** What to do with a prompt that does not fit. */
+    public enum Overflow {
+        /** Throw {@link TokenLimitExceededException} before sending. */
+        REJECT,
+        /** Cut the prompt down to fit, keeping its beginning. */
+        TRUNCATE,
+        /** Send as-is and let the provider decide. */
+        ALLOW
+    }
+
+    /** Headroom for chat framing tokens the provider adds around the prompt. */
+    private static final int FRAMING_TOKENS = 16;
+
+    private ContextWindow() {}
+
+    /**
+     * Returns {@code prompt} if it fits in the model's context window
+     * alongside {@code reservedOutputTokens}, otherwise applies {@code overflow}.
+     * Models without known metadata are passed through unchanged.
+     *
+     * @param modelName            name as registered in {@link Models}
+     * @param prompt               the user prompt
+     * @param reservedOutputTokens max completion tokens requested, or null
+     * @param overflow             policy for prompts that do not fit
+     * @throws TokenLimitExceededException if the prompt does not fit and
+     *         the policy is {@link Overflow#REJECT}
+     */
+    public static String fit(String modelName, String prompt, Integer reservedOutputTokens, Overflow overflow) {
+        if (prompt == null || overflow == Overflow.ALLOW) {
+            return prompt;
+        }
+        ModelInfo info = Models.getInfo(modelName);
+        if (info == null || info.contextLength() <= 0) {
+            return prompt;
+        }
+        int budget = info.contextLength() - FRAMING_TOKENS
+                - (reservedOutputTokens != null ? reservedOutputTokens : 0);
+        // a token is never shorter than one char, short prompts cannot overflow
+        if (prompt.length() <= budget) {
+            return prompt;
+        }
+        TokenEstimator estimator = TokenEstimators.forModel(modelName);
+        int estimated = estimator.estimate(prompt);
+        if (estimated <= budget) {
+            return prompt;
+        }
+        if (overflow == Overflow.TRUNCATE) {
+            return estimator.truncate(prompt, Math.max(0, budget));
+        }
+        throw new TokenLimitExceededException(
+                "Prompt of ~" + estimated + " tokens exceeds the " + budget
+                + " tokens available in " + modelName + " (context "
+                + info.contextLength() + ", reserved for output "
+                + (reservedOutputTokens != null ? reservedOutputTokens : 0) + ")",
+                info.contextLength()
+        );
+    }
+
+    /**
+     * {@link #fit(String, String, Integer, Overflow)} for a conversation.
+     * The later turns are reserved like output, so only the first turn is
+     * ever cut, and it keeps its beginning. A single turn is fitted exactly
+     * like a plain prompt, and a conversation that fits is returned as is,
+     * so a retry extending it resends the first turn byte for byte.
+     *
+     * @return {@code messages}, or a copy with the first turn cut down
+     * @throws TokenLimitExceededException if the conversation does not fit
+     *         and the policy is {@link Overflow#REJECT}
+     */
+    public static List<Message> fit(String modelName, List<Message> messages,
+            Integer reservedOutputTokens, Overflow overflow) {
+        if (messages.isEmpty() || overflow == Overflow.ALLOW) {
+            return messages;
+        }
+        int reserved = reservedOutputTokens != null ? reservedOutputTokens : 0;
+        if (messages.size() > 1) {
+            reserved += TokenEstimators.forModel(modelName).estimate(
+                    Message.transcript(messages).substring(messages.get(0).content().length()));
+        }
+        Message first = messages.get(0);
+        String content = fit(modelName, first.content(), reserved, overflow);
+        if (content == first.content()) {
+            return messages;
+        }
+        List<Message> fitted = new ArrayList<>(messages);
+        fitted.set(0, new Message(first.role(), content));
+        return fitted;
+    }
+}
@@ -0,0 +1,64 @@
+package io.oxyjen.llm.tokens;
+
+import java.util.List;
+
+import io.oxyjen.llm.semantics.Message;
+
+/**
+ * Estimates how many tokens a provider will count for a piece of text,
+ * without a network round trip.
+ *
+ * <p>Estimates are approximations, not the provider's exact count. They are
+ * good enough to catch prompts that clearly overflow a context window, to
+ * fill in usage when a provider omits it, and to budget tokens-per-minute
+ * quotas. Use {@link TokenEstimators#forModel(String)} to get the right
+ * estimator for a model.
+ */
+public interface TokenEstimator {
+
+    /**
+     * Estimated token count of {@code text}. {@code null} or empty text is 0.
+     */
+    int estimate(String text);
+
+    /**
+     * Estimated token count of a chat request's messages, including the
+     * per-message framing the provider adds. Default: sum of contents.
+     */
+    default int estimate(List<Message> messages) {
+        int total = 0;
+        for (Message message : messages) {
+            total += estimate(message.content());
+        }
+        return total;
+    }
+
+    /**
+     * Longest prefix of {@code text} whose estimate fits in {@code maxTokens}.
+     * Returns {@code text} unchanged if it already fits.
+     */
+    default String truncate(String text, int maxTokens) {
+        if (text == null || estimate(text) <= maxTokens) {
+            return text;
+        }
+        if (maxTokens <= 0) {
+            return "";
+        }
+        // estimates are monotonic in prefix length, binary search the cut
+        int lo = 0;
+        int hi = text.length();
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (estimate(text.substring(0, mid)) <= maxTokens) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        // never split a surrogate pair
+        if (lo > 0 && Character.isHighSurrogate(text.charAt(lo - 1))) {
+            lo--;
+        }
+        return text.substring(0, lo);
+    }
+}
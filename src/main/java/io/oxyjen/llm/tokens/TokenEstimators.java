@@ -0,0 +1,77 @@
+package io.oxyjen.llm.tokens;
+
+import java.util.List;
+
+import io.oxyjen.llm.Models;
+import io.oxyjen.llm.models.ModelInfo;
+import io.oxyjen.llm.models.TokenUsage;
+import io.oxyjen.llm.semantics.Message;
+
+/**
+ * Factory for {@link TokenEstimator}s.
+ */
+public final class TokenEstimators {
+
+    private static final TokenEstimator OPENAI = new BpeTokenEstimator();
+    private static final TokenEstimator GEMINI = new CharRatioTokenEstimator(4.0);
+
+    private TokenEstimators() {}
+
+    public static TokenEstimator openai() {
+        return OPENAI;
+    }
+
+    public static TokenEstimator gemini() {
+        return GEMINI;
+    }
+
+    /**
+     * Estimator for a model name as used by {@link io.oxyjen.llm.LLM#of(String)}
+     * (e.g. "gpt-4o", "gemini/gemini-2.0-flash"). Unknown models get the
+     * OpenAI estimator, which is the more conservative of the two.
+     */
+    public static TokenEstimator forModel(String modelName) {
+        ModelInfo info = Models.getInfo(modelName);
+        if (info != null) {
+            return forProvider(info.provider());
+        }
+        if (modelName != null && modelName.startsWith("gemini")) {
+            return GEMINI;
+        }
+        return OPENAI;
+    }
+
+    /**
+     * Estimator for a provider name as reported by {@link ModelInfo#provider()}.
+     */
+    public static TokenEstimator forProvider(String provider) {
+        if ("google".equals(provider) || "gemini".equals(provider)) {
+            return GEMINI;
+        }
+        return OPENAI;
+    }
+
+    /**
+     * Fills zero (unreported) fields of {@code reported} with local estimates.
+     * Providers sometimes omit usage entirely, or report only completion
+     * tokens; real numbers are always kept.
+     *
+     * @param reported usage returned by the provider, may be null
+     */
+    public static TokenUsage fillMissing(String modelName, TokenUsage reported,
+                                         List<Message> prompt, String completion) {
+        int promptTokens = reported != null ? reported.promptTokens() : 0;
+        int completionTokens = reported != null ? reported.completionTokens() : 0;
+        if (promptTokens > 0 && completionTokens > 0) {
+            return reported;
+        }
+        TokenEstimator estimator = forModel(modelName);
+        if (promptTokens == 0) {
+            promptTokens = estimator.estimate(prompt);
+        }
+        if (completionTokens == 0) {
+            completionTokens = estimator.estimate(completion);
+        }
+        return new TokenUsage(promptTokens, completionTokens, promptTokens + completionTokens);
+    }
+}
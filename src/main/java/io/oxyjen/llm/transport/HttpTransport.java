@@ -0,0 +1,258 @@
+package io.oxyjen.llm.transport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Shared HTTP transport for every provider client and HTTP-based tool.
+ *
+ * <p>A {@link HttpClient} owns a connection pool, HTTP/2 sessions and a
+ * selector thread. Creating one per {@code ChatModel} means none of those are
+ * ever shared, every model (and every fallback in an {@code LLMChain}) pays
+ * its own TCP + TLS handshake. An {@code HttpTransport} wraps one client and
+ * is meant to be built once and handed to every client that talks HTTP:
+ *
+ * <pre>{@code
+ * HttpTransport transport = HttpTransport.builder()
+ *     .version(HttpClient.Version.HTTP_2)
+ *     .connectTimeout(Duration.ofSeconds(5))
+ *     .requestTimeout(Duration.ofSeconds(60))
+ *     .executor(Executors.newVirtualThreadPerTaskExecutor()) // JDK 21+
+ *     .warmUp("https://api.openai.com")
+ *     .build();
+ *
+ * ChatModel primary  = LLM.openai("gpt-4o", key, transport);
+ * ChatModel fallback = LLM.openai("gpt-4o-mini", key, transport);
+ * }</pre>
+ *
+ * <p>When nothing is configured, clients use a process-wide transport from
+ * {@link #shared(Duration)}, keyed by the connect timeout they always used,
+ * so clients that agree on it still share one connection pool.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+public final class HttpTransport {
+
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final ConcurrentMap<Duration, HttpTransport> SHARED_BY_CONNECT_TIMEOUT =
+            new ConcurrentHashMap<>();
+
+    private final HttpClient client;
+    private final HttpClient.Version version;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+
+    private HttpTransport(Builder builder) {
+        HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+                .version(builder.version)
+                .connectTimeout(builder.connectTimeout);
+        if (builder.executor != null) {
+            clientBuilder.executor(builder.executor);
+        }
+        this.client = clientBuilder.build();
+        this.version = builder.version;
+        this.connectTimeout = builder.connectTimeout;
+        this.requestTimeout = builder.requestTimeout;
+    }
+
+    /**
+     * Process-wide default transport. Created lazily on first use.
+     */
+    public static HttpTransport shared() {
+        return shared(DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    /**
+     * Process-wide transport with the given connect timeout and default
+     * settings otherwise. One instance per distinct timeout, created on
+     * first use; the connect timeout is fixed per {@link HttpClient}, so
+     * clients that need a different one cannot share a pool anyway.
+     */
+    public static HttpTransport shared(Duration connectTimeout) {
+        Builder.requirePositive(connectTimeout, "connectTimeout");
+        return SHARED_BY_CONNECT_TIMEOUT.computeIfAbsent(connectTimeout,
+                timeout -> builder().connectTimeout(timeout).build());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The underlying client. Exposed for callers that need a body handler
+     * this class does not wrap.
+     */
+    public HttpClient client() {
+        return client;
+    }
+
+    public HttpClient.Version version() {
+        return version;
+    }
+
+    public Duration connectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Default per-request timeout. Clients apply this to every request
+     * they build unless they were configured with their own.
+     */
+    public Duration requestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Starts a request builder for {@code uri} with the transport's
+     * default request timeout already applied.
+     */
+    public HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(requestTimeout);
+    }
+
+    /**
+     * Blocking send with a string body.
+     */
+    public HttpResponse<String> send(HttpRequest request)
+            throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Non-blocking send with a string body. Cancelling the returned future
+     * aborts the exchange.
+     */
+    public CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Returns {@code dependent}, wired so that cancelling it also cancels
+     * {@code source}. A future derived with {@code thenApply} does not
+     * propagate cancellation upstream on its own, so without this, a caller
+     * cancelling a mapped response would leave the exchange running.
+     */
+    public static <T> CompletableFuture<T> linkCancellation(
+            CompletableFuture<?> source, CompletableFuture<T> dependent) {
+        dependent.whenComplete((value, error) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    /**
+     * Opens connections to the given origins ahead of the first real call so
+     * the TCP and TLS handshakes are off the critical path.
+     *
+     * <p>Sends a {@code HEAD} request to each URL and discards the result.
+     * Failures are ignored, warm-up is an optimisation, never a requirement.
+     *
+     * @return future that completes once every warm-up request has finished
+     */
+    public CompletableFuture<Void> warmUp(String... urls) {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (String url : urls) {
+            try {
+                HttpRequest request = newRequest(URI.create(url))
+                        .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                        .build();
+                pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .handle((response, error) -> (Void) null));
+            } catch (IllegalArgumentException ignored) {
+                // malformed URL, nothing to warm
+            }
+        }
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture<?>[]::new));
+    }
+
+    @Override
+    public String toString() {
+        return "HttpTransport{version=" + version
+                + ", connectTimeout=" + connectTimeout
+                + ", requestTimeout=" + requestTimeout + "}";
+    }
+
+    public static final class Builder {
+
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        private Executor executor;
+        private final List<String> warmUpUrls = new ArrayList<>();
+
+        /**
+         * Preferred HTTP version. Default: HTTP/2 (falls back to HTTP/1.1
+         * when the server does not support it).
+         */
+        public Builder version(HttpClient.Version version) {
+            this.version = Objects.requireNonNull(version, "version must not be null");
+            return this;
+        }
+
+        public Builder connectTimeout(Duration timeout) {
+            requirePositive(timeout, "connectTimeout");
+            this.connectTimeout = timeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration timeout) {
+            requirePositive(timeout, "requestTimeout");
+            this.requestTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Executor used for async sends and response handling.
+         * Default: the {@link HttpClient} default executor. On JDK 21+ a
+         * virtual-thread-per-task executor is a good fit.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor must not be null");
+            return this;
+        }
+
+        /**
+         * Origins to connect to as soon as the transport is built.
+         * See {@link HttpTransport#warmUp(String...)}.
+         */
+        public Builder warmUp(String... urls) {
+            for (String url : urls) {
+                if (url != null && !url.isBlank()) {
+                    warmUpUrls.add(url);
+                }
+            }
+            return this;
+        }
+
+        public HttpTransport build() {
+            HttpTransport transport = new HttpTransport(this);
+            if (!warmUpUrls.isEmpty()) {
+                transport.warmUp(warmUpUrls.toArray(new String[0]));
+            }
+            return transport;
+        }
+
+        private static void requirePositive(Duration duration, String name) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.oxyjen.llm.transport;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.oxyjen.llm.models.RateLimitStatus;
+
+/**
+ * Parses the {@code x-ratelimit-*} headers providers send with every
+ * response:
+ * <pre>
+ * x-ratelimit-limit-requests: 500
+ * x-ratelimit-remaining-requests: 499
+ * x-ratelimit-reset-requests: 120ms
+ * x-ratelimit-limit-tokens: 200000
+ * x-ratelimit-remaining-tokens: 199250
+ * x-ratelimit-reset-tokens: 6m0s
+ * </pre>
+ */
+public final class RateLimitHeaders {
+
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+
+    private RateLimitHeaders() {}
+
+    /**
+     * @return the reported quota, or {@code null} if no rate limit header is present
+     */
+    public static RateLimitStatus parse(HttpHeaders headers) {
+        if (headers == null) {
+            return null;
+        }
+        Long limitRequests = number(headers, "x-ratelimit-limit-requests");
+        Long remainingRequests = number(headers, "x-ratelimit-remaining-requests");
+        Duration resetRequests = duration(headers, "x-ratelimit-reset-requests");
+        Long limitTokens = number(headers, "x-ratelimit-limit-tokens");
+        Long remainingTokens = number(headers, "x-ratelimit-remaining-tokens");
+        Duration resetTokens = duration(headers, "x-ratelimit-reset-tokens");
+        if (limitRequests == null && remainingRequests == null && resetRequests == null
+                && limitTokens == null && remainingTokens == null && resetTokens == null) {
+            return null;
+        }
+        return new RateLimitStatus(limitRequests, remainingRequests, resetRequests,
+                limitTokens, remainingTokens, resetTokens);
+    }
+
+    /**
+     * Parses a Go-style duration ({@code "1s"}, {@code "6m0s"},
+     * {@code "20ms"}, {@code "1h2m3.5s"}) or a bare number of seconds.
+     *
+     * @return the duration, or {@code null} if the value is not one
+     */
+    public static Duration parseDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            if (trimmed.matches("\\d+(\\.\\d+)?")) {
+                return Duration.ofNanos((long) (Double.parseDouble(trimmed) * 1_000_000_000L));
+            }
+            Matcher matcher = DURATION_PART.matcher(trimmed);
+            double nanos = 0;
+            int end = 0;
+            while (matcher.find()) {
+                if (matcher.start() != end) {
+                    return null;
+                }
+                double amount = Double.parseDouble(matcher.group(1));
+                nanos += switch (matcher.group(2)) {
+                    case "h" -> amount * 3_600_000_000_000L;
+                    case "m" -> amount * 60_000_000_000L;
+                    case "s" -> amount * 1_000_000_000L;
+                    default -> amount * 1_000_000L; // ms
+                };
+                end = matcher.end();
+            }
+            return end == trimmed.length() && end > 0 ? Duration.ofNanos((long) nanos) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long number(HttpHeaders headers, String name) {
+        String value = headers.firstValue(name).orElse(null);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Duration duration(HttpHeaders headers, String name) {
+        return parseDuration(headers.firstValue(name).orElse(null));
+    }
+}
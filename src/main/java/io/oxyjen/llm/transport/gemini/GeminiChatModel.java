@@ -1,13 +1,21 @@
 package io.oxyjen.llm.transport.gemini;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
-import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.AsyncChatModel;
 import io.oxyjen.llm.LLMResponse;
 import io.oxyjen.llm.models.ChatRequest;
 import io.oxyjen.llm.models.ChatResponse;
 import io.oxyjen.llm.models.ModelInfo;
 import io.oxyjen.llm.models.TokenUsage;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.llm.tokens.ContextWindow;
+import io.oxyjen.llm.tokens.TokenEstimators;
+import io.oxyjen.llm.transport.HttpTransport;
 
 /**
  * Gemini implementation of ChatModel.
@@ -26,7 +34,7 @@ import io.oxyjen.llm.models.TokenUsage;
  * - Memory management (that's NodeContext)
  * - Graph execution (that's Executor)
  */
-public final class GeminiChatModel implements ChatModel {
+public final class GeminiChatModel implements AsyncChatModel {
 
     private final GeminiClient client;
     private final String model;
@@ -34,6 +42,7 @@ public final class GeminiChatModel implements ChatModel {
     // Configuration (optional, can be null)
     private Double temperature;
     private Integer maxTokens;
+    private ContextWindow.Overflow contextOverflow = ContextWindow.Overflow.REJECT;
     
     // Last call metadata (for cost tracking, debugging)
     private TokenUsage lastUsage;
@@ -54,25 +63,115 @@ public final class GeminiChatModel implements ChatModel {
         this.model = model;
     }
 
+    /**
+     * Create Gemini chat model on an explicit transport.
+     * 
+     * @param apiKey Gemini API key
+     * @param model Model name
+     * @param transport HTTP transport shared with other clients
+     * @param requestTimeout per-request timeout, or null for the transport default
+     */
+    public GeminiChatModel(String apiKey, String model, HttpTransport transport, Duration requestTimeout) {
+        this.client = new GeminiClient(apiKey, transport, requestTimeout);
+        this.model = model;
+    }
+
+    @Override
+    public String provider() {
+        return "gemini";
+    }
+    
     @Override
     public LLMResponse chat(String input) {
-    	 ChatRequest.Builder requestBuilder = ChatRequest.builder()
-    			 .model(model)
-    			 .addMessage("user", input);
-    	 	if (temperature != null) requestBuilder.temperature(temperature);
-    	 	if (maxTokens != null) requestBuilder.maxTokens(maxTokens);
-    	 	ChatRequest request = requestBuilder.build();
-    	 	ChatResponse response = client.chat(request);
-    	 	this.lastUsage = response.usage();
-    	 	TokenUsage usage = response.usage();
-    	 	return new LLMResponse(
-    	 	        response.content(),
-    	 	        usage != null ? (long) usage.promptTokens() : null,
-    	 	        usage != null ? (long) usage.completionTokens() : null,
-    	 	        0L,
-    	 	        new ModelInfo("gemini", model, 0),
-    	 	        null
-    	 	);
+        ChatRequest request = buildRequest(input, null);
+        ChatResponse response = client.chat(request);
+        return toLLMResponse(request, response);
+    }
+
+    /**
+     * Chat in Gemini's JSON mode with {@code responseSchema}, so the model
+     * is constrained to the schema instead of only being told about it.
+     */
+    @Override
+    public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+        ChatRequest request = buildRequest(input, responseSchema);
+        ChatResponse response = client.chat(request);
+        return toLLMResponse(request, response);
+    }
+
+    /**
+     * Sends each message as its own turn, with native structured output
+     * when {@code responseSchema} is set.
+     */
+    @Override
+    public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+        ChatRequest request = buildRequest(messages, responseSchema);
+        ChatResponse response = client.chat(request);
+        return toLLMResponse(request, response);
+    }
+
+    /**
+     * Non-blocking {@link #chat(String)} on the transport's async client.
+     * Cancelling the returned future aborts the HTTP exchange.
+     */
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(String input) {
+        return send(() -> buildRequest(input, null));
+    }
+
+    /** Non-blocking {@link #chatStructured}. */
+    @Override
+    public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+        return send(() -> buildRequest(input, responseSchema));
+    }
+
+    /** Non-blocking {@link #chat(List, JSONSchema)}. */
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+        return send(() -> buildRequest(messages, responseSchema));
+    }
+
+    private CompletableFuture<LLMResponse> send(Supplier<ChatRequest> requestBuilder) {
+        ChatRequest request;
+        try {
+            request = requestBuilder.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<ChatResponse> call = client.chatAsync(request);
+        return HttpTransport.linkCancellation(call, call.thenApply(response -> toLLMResponse(request, response)));
+    }
+
+    private ChatRequest buildRequest(String input, JSONSchema responseSchema) {
+        return buildRequest(List.of(new Message("user", input)), responseSchema);
+    }
+
+    private ChatRequest buildRequest(List<Message> messages, JSONSchema responseSchema) {
+        // Pre-flight: reject/truncate prompts that cannot fit, no round trip;
+        // only the first turn is ever cut, and it keeps its beginning
+        List<Message> fitted = ContextWindow.fit(registryName(), messages, maxTokens, contextOverflow);
+        ChatRequest.Builder requestBuilder = ChatRequest.builder().model(model);
+        for (Message message : fitted) {
+            requestBuilder.addMessage(message.role(), message.content());
+        }
+        if (temperature != null) requestBuilder.temperature(temperature);
+        if (maxTokens != null) requestBuilder.maxTokens(maxTokens);
+        return requestBuilder.responseSchema(responseSchema).build();
+    }
+
+    private LLMResponse toLLMResponse(ChatRequest request, ChatResponse response) {
+        TokenUsage usage = TokenEstimators.fillMissing(
+                registryName(), response.usage(), request.messages(), response.content());
+        this.lastUsage = usage;
+        return new LLMResponse(
+                response.content(),
+                (long) usage.promptTokens(),
+                (long) usage.completionTokens(),
+                0L,
+                new ModelInfo("gemini", model, 0),
+                null,
+                response.rateLimits()
+        );
     }
 
     public GeminiChatModel withTemperature(double temp) {
@@ -88,6 +187,20 @@ public final class GeminiChatModel implements ChatModel {
         return this;
     }
 
+    /**
+     * What to do when a prompt is estimated not to fit the model's
+     * context window. Default: {@link ContextWindow.Overflow#REJECT}.
+     */
+    public GeminiChatModel withContextOverflow(ContextWindow.Overflow overflow) {
+        this.contextOverflow = overflow;
+        return this;
+    }
+
+    // Models registers Gemini models with the "gemini/" prefix the client strips
+    private String registryName() {
+        return model.startsWith("gemini/") ? model : "gemini/" + model;
+    }
+
     /**
      * Get token usage from last call.
      * Useful for cost tracking and debugging.
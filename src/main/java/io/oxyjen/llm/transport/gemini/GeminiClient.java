@@ -1,11 +1,12 @@
 package io.oxyjen.llm.transport.gemini;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import io.oxyjen.llm.exceptions.InvalidAPIKeyException;
 import io.oxyjen.llm.exceptions.LLMException;
@@ -14,8 +15,13 @@ import io.oxyjen.llm.exceptions.NetworkException;
 import io.oxyjen.llm.exceptions.RateLimitException;
 import io.oxyjen.llm.models.ChatRequest;
 import io.oxyjen.llm.models.ChatResponse;
+import io.oxyjen.llm.models.RateLimitStatus;
 import io.oxyjen.llm.models.TokenUsage;
+import io.oxyjen.llm.schema.ResponseSchemas;
 import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.llm.transport.HttpTransport;
+import io.oxyjen.llm.transport.RateLimitHeaders;
+import io.oxyjen.util.JsonSerializer;
 
 /**
  * Low-level HTTP client for GEMINI API.
@@ -39,26 +45,37 @@ public final class GeminiClient {
     private static final String BASE_URL = "https://generativelanguage.googleapis.com/v1beta/models/";
     private static final String GENERATE_ENDPOINT = ":generateContent";
 
-    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
     private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(120);
 
     private final String apiKey;
-    private final HttpClient httpClient;
+    private final HttpTransport transport;
     private final Duration requestTimeout;
 
     public GeminiClient(String apiKey) {
-        this(apiKey, DEFAULT_REQUEST_TIMEOUT);
+        this(apiKey, HttpTransport.shared(), DEFAULT_REQUEST_TIMEOUT);
     }
 
     public GeminiClient(String apiKey, Duration requestTimeout) {
+        this(apiKey, HttpTransport.shared(), requestTimeout);
+    }
+
+    /**
+     * Client on an explicit transport, using the transport's request timeout.
+     */
+    public GeminiClient(String apiKey, HttpTransport transport) {
+        this(apiKey, transport, transport != null ? transport.requestTimeout() : null);
+    }
+
+    public GeminiClient(String apiKey, HttpTransport transport, Duration requestTimeout) {
         if (apiKey == null || apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("API key cannot be null or empty");
         }
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
         this.apiKey = apiKey;
-        this.requestTimeout = requestTimeout;
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
-            .build();
+        this.transport = transport;
+        this.requestTimeout = requestTimeout != null ? requestTimeout : transport.requestTimeout();
     }
 
     public ChatResponse chat(ChatRequest request) {
@@ -67,10 +84,7 @@ public final class GeminiClient {
             HttpRequest httpRequest = buildHttpRequest(request);
             long httpStart = System.currentTimeMillis();
             System.out.println("[GeminiClient] " + threadName + " HTTP START model=" + request.model());
-            HttpResponse<String> response = httpClient.send(
-                httpRequest,
-                HttpResponse.BodyHandlers.ofString()
-            );
+            HttpResponse<String> response = transport.send(httpRequest);
             
             long httpElapsed = System.currentTimeMillis() - httpStart;
             System.out.println(
@@ -80,7 +94,7 @@ public final class GeminiClient {
             if (response.statusCode() != 200) {
                 throw classifyError(response, request.model());
             }
-            return parseResponse(response.body());
+            return parseResponse(response.body(), RateLimitHeaders.parse(response.headers()));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Request interrupted", e);
@@ -91,11 +105,30 @@ public final class GeminiClient {
         }
     }
 
+    /**
+     * Non-blocking {@link #chat(ChatRequest)}. Cancelling the returned
+     * future aborts the HTTP exchange.
+     */
+    public CompletableFuture<ChatResponse> chatAsync(ChatRequest request) {
+        HttpRequest httpRequest = buildHttpRequest(request);
+        CompletableFuture<HttpResponse<String>> exchange = transport.sendAsync(httpRequest);
+        return HttpTransport.linkCancellation(exchange, exchange.handle((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                throw new NetworkException("Gemini request failed: " + cause.getMessage(), cause);
+            }
+            if (response.statusCode() != 200) {
+                throw classifyError(response, request.model());
+            }
+            return parseResponse(response.body(), RateLimitHeaders.parse(response.headers()));
+        }));
+    }
+
     private HttpRequest buildHttpRequest(ChatRequest request) {
         String url = BASE_URL + request.model() + GENERATE_ENDPOINT + "?key=" + apiKey;
         String json = buildJsonBody(request);
-        return HttpRequest.newBuilder()
-            .uri(URI.create(url))
+        return transport.newRequest(URI.create(url))
             .header("Content-Type", "application/json")
             .header("X-goog-api-key", apiKey)
             .POST(HttpRequest.BodyPublishers.ofString(json))
@@ -107,7 +140,8 @@ public final class GeminiClient {
         // Gemini format:
         // {
         //   "contents": [{"role": "user", "parts": [{"text": "..."}]}],
-        //   "generationConfig": {"temperature": 0.0, "maxOutputTokens": 1000}
+        //   "generationConfig": {"temperature": 0.0, "maxOutputTokens": 1000,
+        //                        "responseMimeType": "application/json", "responseSchema": {...}}
         // }
         StringBuilder json = new StringBuilder();
         json.append("{");
@@ -128,7 +162,8 @@ public final class GeminiClient {
         json.append("]");
 
         // generationConfig block
-        boolean hasConfig = request.temperature() != null || request.maxTokens() != null;
+        boolean hasConfig = request.temperature() != null || request.maxTokens() != null
+                || request.responseSchema() != null;
         if (hasConfig) {
             json.append(",\"generationConfig\":{");
             boolean first = true;
@@ -139,6 +174,17 @@ public final class GeminiClient {
             if (request.maxTokens() != null) {
                 if (!first) json.append(",");
                 json.append("\"maxOutputTokens\":").append(request.maxTokens());
+                first = false;
+            }
+            if (request.responseSchema() != null) {
+                if (!first) json.append(",");
+                json.append("\"responseMimeType\":\"application/json\"");
+                // schemas Gemini cannot express still get plain JSON mode
+                Object schema = ResponseSchemas.openApiSchema(request.responseSchema());
+                if (schema != null) {
+                    json.append(",\"responseSchema\":");
+                    JsonSerializer.write(schema, json);
+                }
             }
             json.append("}");
         }
@@ -147,7 +193,7 @@ public final class GeminiClient {
         return json.toString();
     }
 
-    private ChatResponse parseResponse(String responseBody) {
+    private ChatResponse parseResponse(String responseBody, RateLimitStatus rateLimits) {
         // Gemini response:
         // {
         //   "candidates": [{
@@ -183,7 +229,7 @@ public final class GeminiClient {
             String content = responseBody.substring(quoteStart + 1, quoteEnd);
             content = unescapeJson(content);
             TokenUsage usage = parseTokenUsage(responseBody);
-            return new ChatResponse(content, usage);
+            return new ChatResponse(content, usage, rateLimits);
         } catch (Exception e) {
             throw new RuntimeException(
                 "Failed to parse Gemini response: " + e.getMessage(), e
@@ -4,6 +4,7 @@ import java.time.Duration;
 
 import io.oxyjen.llm.ChatModel;
 import io.oxyjen.llm.Models;
+import io.oxyjen.llm.transport.HttpTransport;
 
 /**
 * Factory for creating Gemini ChatModels.
@@ -23,20 +24,36 @@ public final class GeminiModels {
 
     public static ChatModel create(String modelName) {
         String apiKey = resolveApiKey();
-        return create(modelName, apiKey, null);
+        return create(modelName, apiKey, null, null);
     }
 
     /**
      * Create Gemini ChatModel with explicit API key.
      */
     public static ChatModel create(String modelName, String apiKey) {
-        return create(modelName, apiKey, null);
+        return create(modelName, apiKey, null, null);
     }
 
     /**
      * Create Gemini ChatModel with explicit API key and timeout.
      */
     public static ChatModel create(String modelName, String apiKey, Duration requestTimeout) {
+        return create(modelName, apiKey, null, requestTimeout);
+    }
+
+    /**
+     * Create Gemini ChatModel with explicit API key and transport.
+     */
+    public static ChatModel create(String modelName, String apiKey, HttpTransport transport) {
+        return create(modelName, apiKey, transport, null);
+    }
+
+    /**
+     * Create Gemini ChatModel with explicit API key, transport and timeout.
+     * A null transport uses {@link HttpTransport#shared()}.
+     */
+    public static ChatModel create(String modelName, String apiKey,
+                                   HttpTransport transport, Duration requestTimeout) {
         if (!Models.isSupported(modelName)) {
             throw new IllegalArgumentException(
                 "Unknown Gemini model: " + modelName + "\n" +
@@ -49,6 +66,9 @@ public final class GeminiModels {
             ? modelName.substring("gemini/".length())
             : modelName;
 
+        if (transport != null) {
+            return new GeminiChatModel(apiKey, geminiModelName, transport, requestTimeout);
+        }
         if (requestTimeout != null) {
             return new GeminiChatModel(apiKey, geminiModelName, requestTimeout);
         }
@@ -0,0 +1,307 @@
+package io.oxyjen.llm.transport.openai;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import io.oxyjen.execution.result.Failure;
+import io.oxyjen.execution.result.Success;
+import io.oxyjen.execution.result.TaskResult;
+import io.oxyjen.llm.batch.BatchRequest;
+import io.oxyjen.llm.batch.BatchStatus;
+import io.oxyjen.llm.batch.BatchTransport;
+import io.oxyjen.llm.exceptions.InvalidAPIKeyException;
+import io.oxyjen.llm.exceptions.LLMException;
+import io.oxyjen.llm.exceptions.NetworkException;
+import io.oxyjen.llm.exceptions.RateLimitException;
+import io.oxyjen.llm.models.ChatRequest;
+import io.oxyjen.llm.models.ChatResponse;
+import io.oxyjen.llm.models.TokenUsage;
+import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.llm.transport.HttpTransport;
+import io.oxyjen.util.JsonParser;
+import io.oxyjen.util.JsonSerializer;
+
+/**
+ * Low-level client for the OpenAI Batch API.
+ *
+ * Transport layer, same as {@link OpenAIClient}. It only knows how to:
+ * - Upload a JSONL input file (POST /files, purpose=batch)
+ * - Create a batch over it (POST /batches)
+ * - Poll it (GET /batches/{id})
+ * - Download and parse output/error files (GET /files/{id}/content)
+ *
+ * The base URL is configurable so tests (or an OpenAI-compatible gateway)
+ * can stand in for api.openai.com.
+ */
+public final class OpenAIBatchClient implements BatchTransport {
+
+    public static final String DEFAULT_BASE_URL = "https://api.openai.com/v1";
+    private static final String CHAT_ENDPOINT = "/v1/chat/completions";
+    private static final String COMPLETION_WINDOW = "24h";
+
+    private final String apiKey;
+    private final HttpTransport transport;
+    private final String baseUrl;
+
+    public OpenAIBatchClient(String apiKey) {
+        this(apiKey, OpenAIClient.defaultTransport(), DEFAULT_BASE_URL);
+    }
+
+    public OpenAIBatchClient(String apiKey, HttpTransport transport) {
+        this(apiKey, transport, DEFAULT_BASE_URL);
+    }
+
+    public OpenAIBatchClient(String apiKey, HttpTransport transport, String baseUrl) {
+        if (apiKey == null || apiKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("API key cannot be null or empty");
+        }
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
+        if (baseUrl == null || baseUrl.isBlank()) {
+            throw new IllegalArgumentException("Base URL cannot be null or empty");
+        }
+        this.apiKey = apiKey;
+        this.transport = transport;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public String submit(List<BatchRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one request");
+        }
+        String fileId = uploadInputFile(toJsonl(requests));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("input_file_id", fileId);
+        body.put("endpoint", CHAT_ENDPOINT);
+        body.put("completion_window", COMPLETION_WINDOW);
+        HttpRequest request = authorized("/batches")
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(JsonSerializer.toJsonString(body)))
+            .build();
+        return (String) asObject(send(request)).get("id");
+    }
+
+    @Override
+    public BatchStatus status(String batchId) {
+        HttpRequest request = authorized("/batches/" + batchId).GET().build();
+        return parseStatus(asObject(send(request)));
+    }
+
+    @Override
+    public Map<String, TaskResult<ChatResponse>> results(String batchId) {
+        HttpRequest request = authorized("/batches/" + batchId).GET().build();
+        Map<String, Object> batch = asObject(send(request));
+
+        Map<String, TaskResult<ChatResponse>> results = new HashMap<>();
+        Object outputFileId = batch.get("output_file_id");
+        if (outputFileId instanceof String id) {
+            parseResultLines(downloadFile(id), results);
+        }
+        Object errorFileId = batch.get("error_file_id");
+        if (errorFileId instanceof String id) {
+            parseResultLines(downloadFile(id), results);
+        }
+        return results;
+    }
+
+    @Override
+    public void cancel(String batchId) {
+        HttpRequest request = authorized("/batches/" + batchId + "/cancel")
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+        send(request);
+    }
+
+    private String uploadInputFile(String jsonl) {
+        String boundary = "oxyjen-" + UUID.randomUUID();
+        String multipart = "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"purpose\"\r\n\r\n"
+            + "batch\r\n"
+            + "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"batch.jsonl\"\r\n"
+            + "Content-Type: application/jsonl\r\n\r\n"
+            + jsonl + "\r\n"
+            + "--" + boundary + "--\r\n";
+        HttpRequest request = authorized("/files")
+            .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+            .POST(HttpRequest.BodyPublishers.ofString(multipart))
+            .build();
+        return (String) asObject(send(request)).get("id");
+    }
+
+    private String downloadFile(String fileId) {
+        HttpRequest request = authorized("/files/" + fileId + "/content").GET().build();
+        return send(request);
+    }
+
+    private String toJsonl(List<BatchRequest> requests) {
+        StringBuilder jsonl = new StringBuilder();
+        for (BatchRequest batchRequest : requests) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("custom_id", batchRequest.customId());
+            line.put("method", "POST");
+            line.put("url", CHAT_ENDPOINT);
+            line.put("body", toChatBody(batchRequest.request()));
+            JsonSerializer.write(line, jsonl);
+            jsonl.append('\n');
+        }
+        return jsonl.toString();
+    }
+
+    private Map<String, Object> toChatBody(ChatRequest request) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", request.model());
+        List<Map<String, Object>> messages = new ArrayList<>();
+        for (Message msg : request.messages()) {
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("role", msg.role());
+            message.put("content", msg.content());
+            messages.add(message);
+        }
+        body.put("messages", messages);
+        if (request.temperature() != null) {
+            body.put("temperature", request.temperature());
+        }
+        if (request.maxTokens() != null) {
+            body.put("max_tokens", request.maxTokens());
+        }
+        return body;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void parseResultLines(String jsonl, Map<String, TaskResult<ChatResponse>> into) {
+        for (String line : jsonl.split("\n")) {
+            if (line.isBlank()) continue;
+            Map<String, Object> entry = (Map<String, Object>) JsonParser.parse(line);
+            String customId = (String) entry.get("custom_id");
+            if (customId == null) continue;
+
+            Object error = entry.get("error");
+            Map<String, Object> response = (Map<String, Object>) entry.get("response");
+            int statusCode = response != null ? intValue(response.get("status_code")) : 0;
+            if (error instanceof Map<?, ?> err) {
+                into.put(customId, new Failure<>(new LLMException(
+                    "Batch request " + customId + " failed: " + err.get("message"))));
+            } else if (response == null || statusCode != 200) {
+                into.put(customId, new Failure<>(new LLMException(
+                    "Batch request " + customId + " failed with status " + statusCode
+                    + (response != null ? ": " + JsonSerializer.toJsonString(response.get("body")) : ""))));
+            } else {
+                into.put(customId, parseChatBody(customId, (Map<String, Object>) response.get("body")));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private TaskResult<ChatResponse> parseChatBody(String customId, Map<String, Object> body) {
+        try {
+            List<Object> choices = (List<Object>) body.get("choices");
+            Map<String, Object> message = (Map<String, Object>) ((Map<String, Object>) choices.get(0)).get("message");
+            String content = (String) message.get("content");
+            TokenUsage usage = new TokenUsage(0, 0, 0);
+            if (body.get("usage") instanceof Map<?, ?> u) {
+                int prompt = intValue(u.get("prompt_tokens"));
+                int completion = intValue(u.get("completion_tokens"));
+                usage = new TokenUsage(prompt, completion, prompt + completion);
+            }
+            return new Success<>(new ChatResponse(content != null ? content : "", usage));
+        } catch (RuntimeException e) {
+            return new Failure<>(new LLMException(
+                "Failed to parse batch result for " + customId + ": " + e.getMessage(), e));
+        }
+    }
+
+    private BatchStatus parseStatus(Map<String, Object> batch) {
+        int total = 0;
+        int completed = 0;
+        int failed = 0;
+        if (batch.get("request_counts") instanceof Map<?, ?> counts) {
+            total = intValue(counts.get("total"));
+            completed = intValue(counts.get("completed"));
+            failed = intValue(counts.get("failed"));
+        }
+        return new BatchStatus(
+            (String) batch.get("id"),
+            parseState((String) batch.get("status")),
+            total, completed, failed
+        );
+    }
+
+    private BatchStatus.State parseState(String status) {
+        if (status == null) {
+            throw new LLMException("Batch response has no status");
+        }
+        return switch (status) {
+            case "validating" -> BatchStatus.State.VALIDATING;
+            case "in_progress" -> BatchStatus.State.IN_PROGRESS;
+            case "finalizing" -> BatchStatus.State.FINALIZING;
+            case "completed" -> BatchStatus.State.COMPLETED;
+            case "failed" -> BatchStatus.State.FAILED;
+            case "expired" -> BatchStatus.State.EXPIRED;
+            case "cancelling" -> BatchStatus.State.CANCELLING;
+            case "cancelled" -> BatchStatus.State.CANCELLED;
+            default -> throw new LLMException("Unknown batch status: " + status);
+        };
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return transport.newRequest(URI.create(baseUrl + path))
+            .header("Authorization", "Bearer " + apiKey);
+    }
+
+    private String send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = transport.send(request);
+            int status = response.statusCode();
+            if (status < 200 || status >= 300) {
+                throw classifyError(status, response.body());
+            }
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Request interrupted", e);
+        } catch (LLMException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new NetworkException("OpenAI batch request failed: " + e.getMessage(), e);
+        }
+    }
+
+    private RuntimeException classifyError(int status, String body) {
+        return switch (status) {
+            case 401 -> new InvalidAPIKeyException(
+                "Invalid API key. Get your key from https://platform.openai.com/api-keys"
+            );
+            case 429 -> new RateLimitException("Batch rate limit exceeded. " + body);
+            case 500, 502, 503 -> new NetworkException(
+                "OpenAI server error (" + status + "). Try again later.", null
+            );
+            default -> new LLMException(
+                "OpenAI batch request failed with status " + status + ": " + body
+            );
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> asObject(String json) {
+        Object parsed = JsonParser.parse(json);
+        if (!(parsed instanceof Map<?, ?>)) {
+            throw new LLMException("Expected JSON object from batch API, got: " + json);
+        }
+        return (Map<String, Object>) parsed;
+    }
+
+    private int intValue(Object value) {
+        return value instanceof Number n ? n.intValue() : 0;
+    }
+}
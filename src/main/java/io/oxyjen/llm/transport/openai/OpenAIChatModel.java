@@ -1,11 +1,20 @@
 package io.oxyjen.llm.transport.openai;
 
-import io.oxyjen.llm.ChatModel;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import io.oxyjen.llm.AsyncChatModel;
 import io.oxyjen.llm.LLMResponse;
 import io.oxyjen.llm.models.ChatRequest;
 import io.oxyjen.llm.models.ChatResponse;
 import io.oxyjen.llm.models.ModelInfo;
 import io.oxyjen.llm.models.TokenUsage;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.llm.tokens.ContextWindow;
+import io.oxyjen.llm.tokens.TokenEstimators;
+import io.oxyjen.llm.transport.HttpTransport;
 
 /**
  * OpenAI implementation of ChatModel.
@@ -24,7 +33,7 @@ import io.oxyjen.llm.models.TokenUsage;
  * - Memory management (that's NodeContext)
  * - Graph execution (that's Executor)
  */
-public final class OpenAIChatModel implements ChatModel {
+public final class OpenAIChatModel implements AsyncChatModel {
     
     private final OpenAIClient client;
     private final String model;
@@ -32,6 +41,7 @@ public final class OpenAIChatModel implements ChatModel {
     // Configuration (optional, can be null)
     private Double temperature;
     private Integer maxTokens;
+    private ContextWindow.Overflow contextOverflow = ContextWindow.Overflow.REJECT;
     
     // Last call metadata (for cost tracking, debugging)
     private TokenUsage lastUsage;
@@ -43,41 +53,127 @@ public final class OpenAIChatModel implements ChatModel {
      * @param model Model name (e.g., "gpt-4o", "gpt-4o-mini")
      */
     public OpenAIChatModel(String apiKey, String model) {
-        this.client = new OpenAIClient(apiKey);
+        this(apiKey, model, OpenAIClient.defaultTransport());
+    }
+    
+    /**
+     * Create OpenAI chat model on an explicit transport.
+     * 
+     * @param apiKey OpenAI API key
+     * @param model Model name (e.g., "gpt-4o", "gpt-4o-mini")
+     * @param transport HTTP transport shared with other clients
+     */
+    public OpenAIChatModel(String apiKey, String model, HttpTransport transport) {
+        this.client = new OpenAIClient(apiKey, transport);
         this.model = model;
     }
     
+    @Override
+    public String provider() {
+        return "openai";
+    }
+    
     @Override
     public LLMResponse chat(String input) {
-        // Build request
-        ChatRequest.Builder requestBuilder = ChatRequest.builder()
-            .model(model)
-            .addMessage("user", input);
+        ChatRequest request = buildRequest(input, null);
         
+        // Call OpenAI
+        ChatResponse response = client.chat(request);
+        return toLLMResponse(request, response);
+    }
+    
+    /**
+     * Chat with OpenAI's {@code response_format: json_schema}, so the model
+     * is constrained to the schema instead of only being told about it.
+     */
+    @Override
+    public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+        ChatRequest request = buildRequest(input, responseSchema);
+        ChatResponse response = client.chat(request);
+        return toLLMResponse(request, response);
+    }
+
+    /**
+     * Sends each message as its own turn, with native structured output
+     * when {@code responseSchema} is set.
+     */
+    @Override
+    public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+        ChatRequest request = buildRequest(messages, responseSchema);
+        ChatResponse response = client.chat(request);
+        return toLLMResponse(request, response);
+    }
+    
+    /**
+     * Non-blocking {@link #chat(String)} on the transport's async client.
+     * Cancelling the returned future aborts the HTTP exchange.
+     */
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(String input) {
+        return send(() -> buildRequest(input, null));
+    }
+
+    /** Non-blocking {@link #chatStructured}. */
+    @Override
+    public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+        return send(() -> buildRequest(input, responseSchema));
+    }
+
+    /** Non-blocking {@link #chat(List, JSONSchema)}. */
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+        return send(() -> buildRequest(messages, responseSchema));
+    }
+
+    private CompletableFuture<LLMResponse> send(Supplier<ChatRequest> requestBuilder) {
+        ChatRequest request;
+        try {
+            request = requestBuilder.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<ChatResponse> call = client.chatAsync(request);
+        return HttpTransport.linkCancellation(call, call.thenApply(response -> toLLMResponse(request, response)));
+    }
+    
+    private ChatRequest buildRequest(String input, JSONSchema responseSchema) {
+        return buildRequest(List.of(new Message("user", input)), responseSchema);
+    }
+
+    private ChatRequest buildRequest(List<Message> messages, JSONSchema responseSchema) {
+        // Pre-flight: reject/truncate prompts that cannot fit, no round trip;
+        // only the first turn is ever cut, and it keeps its beginning
+        List<Message> fitted = ContextWindow.fit(model, messages, maxTokens, contextOverflow);
+        ChatRequest.Builder requestBuilder = ChatRequest.builder().model(model);
+        for (Message message : fitted) {
+            requestBuilder.addMessage(message.role(), message.content());
+        }
         if (temperature != null) {
             requestBuilder.temperature(temperature);
         }
         if (maxTokens != null) {
             requestBuilder.maxTokens(maxTokens);
         }
-        
-        ChatRequest request = requestBuilder.build();
-        
-        // Call OpenAI
-        ChatResponse response = client.chat(request);
+        return requestBuilder.responseSchema(responseSchema).build();
+    }
+    
+    private LLMResponse toLLMResponse(ChatRequest request, ChatResponse response) {
+        // Fill in usage locally if the provider left it out
+        TokenUsage usage = TokenEstimators.fillMissing(
+            model, response.usage(), request.messages(), response.content());
         
         // Store metadata for cost tracking
-        this.lastUsage = response.usage();
+        this.lastUsage = usage;
         
-        TokenUsage usage = response.usage();
         ModelInfo modelInfo = new ModelInfo("openai", model, 0);
         return new LLMResponse(
                 response.content(),
-                usage != null ? (long) usage.promptTokens() : null,
-                usage != null ? (long) usage.completionTokens() : null,
+                (long) usage.promptTokens(),
+                (long) usage.completionTokens(),
                 0L,
                 modelInfo,
-                null
+                null,
+                response.rateLimits()
         );
     }
     
@@ -99,6 +195,15 @@ public final class OpenAIChatModel implements ChatModel {
         return this;
     }
     
+    /**
+     * What to do when a prompt is estimated not to fit the model's
+     * context window. Default: {@link ContextWindow.Overflow#REJECT}.
+     */
+    public OpenAIChatModel withContextOverflow(ContextWindow.Overflow overflow) {
+        this.contextOverflow = overflow;
+        return this;
+    }
+    
     /**
      * Get token usage from last call.
      * Useful for cost tracking and debugging.
@@ -1,10 +1,12 @@
 package io.oxyjen.llm.transport.openai;
 
+import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import io.oxyjen.llm.Models;
 import io.oxyjen.llm.exceptions.InvalidAPIKeyException;
@@ -15,8 +17,13 @@ import io.oxyjen.llm.exceptions.RateLimitException;
 import io.oxyjen.llm.exceptions.TokenLimitExceededException;
 import io.oxyjen.llm.models.ChatRequest;
 import io.oxyjen.llm.models.ChatResponse;
+import io.oxyjen.llm.models.RateLimitStatus;
 import io.oxyjen.llm.models.TokenUsage;
+import io.oxyjen.llm.schema.ResponseSchemas;
 import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.llm.transport.HttpTransport;
+import io.oxyjen.llm.transport.RateLimitHeaders;
+import io.oxyjen.util.JsonSerializer;
 
 /**
  * Low-level HTTP client for OpenAI API.
@@ -39,23 +46,44 @@ public final class OpenAIClient {
     
     private static final String BASE_URL = "https://api.openai.com/v1";
     private static final String CHAT_ENDPOINT = BASE_URL + "/chat/completions";
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
     
     private final String apiKey;
-    private final HttpClient httpClient;
+    private final HttpTransport transport;
     
     /**
-     * Create client with API key.
+     * Create client with API key on the shared {@link HttpTransport}.
      * 
      * @param apiKey OpenAI API key (starts with sk-)
      */
     public OpenAIClient(String apiKey) {
+        this(apiKey, defaultTransport());
+    }
+    
+    /**
+     * Create client with API key on an explicit transport, so several
+     * clients can share one connection pool.
+     * 
+     * @param apiKey OpenAI API key (starts with sk-)
+     * @param transport HTTP transport to send requests through
+     */
+    public OpenAIClient(String apiKey, HttpTransport transport) {
         if (apiKey == null || apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("API key cannot be null or empty");
         }
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
         this.apiKey = apiKey;
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+        this.transport = transport;
+    }
+    
+    /**
+     * Shared transport used when none is given: 30s connect timeout, as
+     * OpenAI clients have always used.
+     */
+    static HttpTransport defaultTransport() {
+        return HttpTransport.shared(DEFAULT_CONNECT_TIMEOUT);
     }
     
     /**
@@ -68,17 +96,16 @@ public final class OpenAIClient {
     public ChatResponse chat(ChatRequest request) {
         try {
             HttpRequest httpRequest = buildHttpRequest(request);
-            HttpResponse<String> response = httpClient.send(
-                httpRequest,
-                HttpResponse.BodyHandlers.ofString()
-            );
+            HttpResponse<String> response = transport.send(httpRequest);
             if (response.statusCode() != 200) {
                 throw classifyError(response, request.model());
             }
-            return parseResponse(response.body());    
+            return parseResponse(response.body(), RateLimitHeaders.parse(response.headers()));    
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Request interrupted", e);
+        } catch (IOException e) {
+            throw new NetworkException("OpenAI request failed: " + e.getMessage(), e);
         } catch (RuntimeException e) {
             throw e;
         } catch (Exception e) {
@@ -86,16 +113,37 @@ public final class OpenAIClient {
         }
     }
     
+    /**
+     * Non-blocking {@link #chat(ChatRequest)}. Cancelling the returned
+     * future aborts the HTTP exchange.
+     */
+    public CompletableFuture<ChatResponse> chatAsync(ChatRequest request) {
+        HttpRequest httpRequest = buildHttpRequest(request);
+        CompletableFuture<HttpResponse<String>> exchange = transport.sendAsync(httpRequest);
+        return HttpTransport.linkCancellation(exchange, exchange.handle((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                if (cause instanceof IOException) {
+                    throw new NetworkException("OpenAI request failed: " + cause.getMessage(), cause);
+                }
+                throw new RuntimeException("OpenAI request failed", cause);
+            }
+            if (response.statusCode() != 200) {
+                throw classifyError(response, request.model());
+            }
+            return parseResponse(response.body(), RateLimitHeaders.parse(response.headers()));
+        }));
+    }
+    
     private HttpRequest buildHttpRequest(ChatRequest request) {
         // Build JSON body
         String json = buildJsonBody(request);
         
-        return HttpRequest.newBuilder()
-            .uri(URI.create(CHAT_ENDPOINT))
+        return transport.newRequest(URI.create(CHAT_ENDPOINT))
             .header("Authorization", "Bearer " + apiKey)
             .header("Content-Type", "application/json")
             .POST(HttpRequest.BodyPublishers.ofString(json))
-            .timeout(Duration.ofSeconds(60))
             .build();
     }
     
@@ -120,12 +168,21 @@ public final class OpenAIClient {
         }
         if (request.maxTokens() != null) {
             json.append(",\"max_tokens\":").append(request.maxTokens());
-        }        
+        }
+        if (request.responseSchema() != null && OpenAIModels.supportsStructuredOutput(request.model())) {
+            // older models reject response_format, they get the plain prompt;
+            // strict mode would need every property required and no maps; the
+            // enforcer validates anyway, so the schema is sent non-strict
+            json.append(",\"response_format\":{\"type\":\"json_schema\",\"json_schema\":{")
+                .append("\"name\":\"response\",\"strict\":false,\"schema\":");
+            JsonSerializer.write(ResponseSchemas.jsonSchema(request.responseSchema()), json);
+            json.append("}}");
+        }
         json.append("}");
         return json.toString();
     }
     
-    private ChatResponse parseResponse(String responseBody) {
+    private ChatResponse parseResponse(String responseBody, RateLimitStatus rateLimits) {
         // Extract: choices[0].message.content        
         try {
             int contentStart = responseBody.indexOf("\"content\":");
@@ -144,7 +201,7 @@ public final class OpenAIClient {
             String content = responseBody.substring(quoteStart + 1, quoteEnd);
             content = unescapeJson(content);
             TokenUsage usage = parseTokenUsage(responseBody);
-            return new ChatResponse(content, usage);
+            return new ChatResponse(content, usage, rateLimits);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse response: " + e.getMessage(), e);
         }
@@ -190,7 +247,7 @@ public final class OpenAIClient {
             	    "Available models: " + String.join(", ", Models.getSupportedModels())
             );
             case 429 -> new RateLimitException(
-                "Rate limit exceeded. Slow down or upgrade your plan. " + response.body() + "\n" + response.headers());
+                "Rate limit exceeded. Slow down or upgrade your plan. " + body, retryAfterMs(response));
             case 500, 502, 503 -> new NetworkException(
                  "OpenAI server error (" + status + "). Try again later.",
                  null
@@ -201,6 +258,30 @@ public final class OpenAIClient {
         };
     }
  
+    // Retry-After if sent, else the reset of whichever quota ran out; 0 if unknown
+    private long retryAfterMs(HttpResponse<String> response) {
+        if (response.headers() == null) {
+            return 0L;
+        }
+        Duration retryAfter = RateLimitHeaders.parseDuration(
+            response.headers().firstValue("retry-after").orElse(null));
+        if (retryAfter != null) {
+            return retryAfter.toMillis();
+        }
+        RateLimitStatus status = RateLimitHeaders.parse(response.headers());
+        if (status == null) {
+            return 0L;
+        }
+        long waitMs = 0L;
+        if (status.hasRequestQuota() && status.remainingRequests() == 0) {
+            waitMs = status.resetRequests().toMillis();
+        }
+        if (status.hasTokenQuota() && status.remainingTokens() == 0) {
+            waitMs = Math.max(waitMs, status.resetTokens().toMillis());
+        }
+        return waitMs;
+    }
+    
     private String escapeJson(String str) {
         return str
             .replace("\\", "\\\\")
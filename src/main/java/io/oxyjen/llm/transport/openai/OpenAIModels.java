@@ -2,6 +2,7 @@ package io.oxyjen.llm.transport.openai;
 
 import io.oxyjen.llm.ChatModel;
 import io.oxyjen.llm.Models;
+import io.oxyjen.llm.transport.HttpTransport;
 
 /**
 * Factory for creating OpenAI ChatModels.
@@ -60,6 +61,13 @@ public final class OpenAIModels {
     * Create OpenAI ChatModel with explicit API key.
     */
    public static ChatModel create(String modelName, String apiKey) {
+       return create(modelName, apiKey, OpenAIClient.defaultTransport());
+   }
+   
+   /**
+    * Create OpenAI ChatModel with explicit API key and transport.
+    */
+   public static ChatModel create(String modelName, String apiKey, HttpTransport transport) {
        if (!Models.isSupported(modelName)) {
            throw new IllegalArgumentException(
                "Unknown OpenAI model: " + modelName + "\n" +
@@ -67,7 +75,19 @@ public final class OpenAIModels {
            );
        }
        
-       return new OpenAIChatModel(apiKey, modelName);
+       return new OpenAIChatModel(apiKey, modelName, transport);
+   }
+   
+   /**
+    * Whether {@code modelName} accepts {@code response_format: json_schema}.
+    * GPT-4, GPT-4-turbo and GPT-3.5 predate structured outputs and reject
+    * the request, so a structured call to them is sent as a plain chat.
+    */
+   public static boolean supportsStructuredOutput(String modelName) {
+       return modelName != null
+           && !modelName.equals(Models.GPT_4)
+           && !modelName.startsWith(Models.GPT_4 + "-")
+           && !modelName.startsWith(Models.GPT_35_TURBO);
    }
    
    private OpenAIModels() {}
@@ -121,6 +121,21 @@ public final class ExecutionLogger implements ObservationListener {
                     + " index=" + e.index());
 
         }
+        else if (event instanceof ExecutionEvent.CircuitBreakerStateChanged e) {
+            warn(pad("CIRCUIT BREAKER")
+                    + " executionId=" + e.executionId()
+                    + " node=" + e.nodeId()
+                    + " breaker=" + e.breaker()
+                    + " " + e.from() + " -> " + e.to());
+        }
+        else if (event instanceof ExecutionEvent.RetryBudgetExhausted e) {
+            warn(pad("RETRY BUDGET EXHAUSTED")
+                    + " executionId=" + e.executionId()
+                    + " node=" + e.nodeId()
+                    + " attempt=" + e.attempt()
+                    + " retries=" + e.retries() + "/" + e.requests() + " requests"
+                    + " cause=" + e.failure().exceptionType());
+        }
     }
 
     private void info(String message) {
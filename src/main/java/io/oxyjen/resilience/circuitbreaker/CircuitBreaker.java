@@ -0,0 +1,375 @@
+package io.oxyjen.resilience.circuitbreaker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.oxyjen.llm.exceptions.TokenLimitExceededException;
+
+/**
+ * Closed / open / half-open circuit breaker over a count-based sliding window.
+ *
+ * - CLOSED: calls go through; the last {@code slidingWindowSize} outcomes are
+ *   recorded. Once at least {@code minimumCalls} are in the window and either
+ *   the failure rate or the slow-call rate reaches its threshold, the breaker
+ *   opens.
+ * - OPEN: calls are rejected without reaching the provider, until
+ *   {@code waitDurationInOpen} has passed.
+ * - HALF_OPEN: up to {@code permittedCallsInHalfOpen} trial calls go through.
+ *   If they all complete under the thresholds the breaker closes, otherwise
+ *   it opens again.
+ *
+ * Thread-safe. Wrap a model with {@link CircuitBreakerChatModel}.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * A state change.
+     *
+     * @param breaker name of the breaker
+     * @param from    state before
+     * @param to      state after
+     * @param at      when it happened
+     */
+    public record Transition(String breaker, State from, State to, Instant at) {}
+
+    // per-call outcome bits in the ring buffer
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long waitInOpenNanos;
+    private final int permittedCallsInHalfOpen;
+    private final List<Class<? extends Throwable>> ignored;
+    private final List<Consumer<Transition>> listeners = new CopyOnWriteArrayList<>();
+
+    // guarded by this
+    private final byte[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int failures;
+    private int slowCalls;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenCompleted;
+    private long transitionCount;
+    private Transition lastTransition;
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallNanos = builder.slowCallDuration.toNanos();
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.slidingWindowSize);
+        this.waitInOpenNanos = builder.waitDurationInOpen.toNanos();
+        this.permittedCallsInHalfOpen = builder.permittedCallsInHalfOpen;
+        this.ignored = List.copyOf(builder.ignored);
+        this.window = new byte[builder.slidingWindowSize];
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Whether a call may go through now. In HALF_OPEN this hands out one of
+     * the trial permits, so every {@code true} must be followed by
+     * {@link #onSuccess} or {@link #onError}.
+     */
+    public boolean tryAcquirePermission() {
+        Transition transition = null;
+        boolean permitted;
+        synchronized (this) {
+            transition = openToHalfOpenIfDue();
+            switch (state) {
+                case CLOSED -> permitted = true;
+                case HALF_OPEN -> {
+                    permitted = halfOpenPermits < permittedCallsInHalfOpen;
+                    if (permitted) halfOpenPermits++;
+                }
+                default -> permitted = false;
+            }
+        }
+        publish(transition);
+        return permitted;
+    }
+
+    /** Records a successful call that took {@code durationNanos}. */
+    public void onSuccess(long durationNanos) {
+        record(durationNanos, false);
+    }
+
+    /**
+     * Records a failed call. Errors of an ignored type only release the
+     * permit. By default these are {@link TokenLimitExceededException}, a
+     * property of the request, not of the provider, and the cancellation or
+     * interrupt of a call the caller gave up on, such as a hedge loser.
+     */
+    public void onError(long durationNanos, Throwable error) {
+        if (isIgnored(error)) {
+            synchronized (this) {
+                if (state == State.HALF_OPEN && halfOpenPermits > 0) halfOpenPermits--;
+            }
+            return;
+        }
+        record(durationNanos, true);
+    }
+
+    /**
+     * Current state. Moves OPEN to HALF_OPEN once the wait has elapsed, so
+     * a breaker nobody calls still reports the state the next call would see.
+     */
+    public State state() {
+        Transition transition;
+        State current;
+        synchronized (this) {
+            transition = openToHalfOpenIfDue();
+            current = state;
+        }
+        publish(transition);
+        return current;
+    }
+
+    /** Forces the breaker closed and clears the window. */
+    public void reset() {
+        Transition transition;
+        synchronized (this) {
+            clearWindow();
+            transition = transitionTo(State.CLOSED);
+        }
+        publish(transition);
+    }
+
+    /** Failure rate over the current window, 0.0 to 1.0. */
+    public synchronized double failureRate() {
+        return windowCount == 0 ? 0.0 : failures / (double) windowCount;
+    }
+
+    /** Slow-call rate over the current window, 0.0 to 1.0. */
+    public synchronized double slowCallRate() {
+        return windowCount == 0 ? 0.0 : slowCalls / (double) windowCount;
+    }
+
+    /**
+     * Number of state changes so far. Lets a caller tell whether a call it
+     * just made moved the breaker, see {@link #lastTransition()}.
+     */
+    public synchronized long transitionCount() {
+        return transitionCount;
+    }
+
+    public synchronized Transition lastTransition() {
+        return lastTransition;
+    }
+
+    /** Listener called on every state change, outside the breaker's lock. */
+    public void addListener(Consumer<Transition> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private void record(long durationNanos, boolean failed) {
+        boolean slow = durationNanos >= slowCallNanos;
+        Transition transition = null;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                return; // a call that started before the breaker opened
+            }
+            push((byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0)));
+            if (state == State.HALF_OPEN) {
+                halfOpenCompleted++;
+                if (failed || slow) {
+                    transition = open();
+                } else if (halfOpenCompleted >= permittedCallsInHalfOpen) {
+                    clearWindow();
+                    transition = transitionTo(State.CLOSED);
+                }
+            } else if (windowCount >= minimumCalls && overThreshold()) {
+                transition = open();
+            }
+        }
+        publish(transition);
+    }
+
+    private boolean overThreshold() {
+        return failures / (double) windowCount >= failureRateThreshold
+                || slowCalls / (double) windowCount >= slowCallRateThreshold;
+    }
+
+    private void push(byte outcome) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowIndex];
+            if ((evicted & FAILED) != 0) failures--;
+            if ((evicted & SLOW) != 0) slowCalls--;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if ((outcome & FAILED) != 0) failures++;
+        if ((outcome & SLOW) != 0) slowCalls++;
+    }
+
+    private void clearWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    private Transition open() {
+        openedAtNanos = System.nanoTime();
+        return transitionTo(State.OPEN);
+    }
+
+    private Transition openToHalfOpenIfDue() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= waitInOpenNanos) {
+            halfOpenPermits = 0;
+            halfOpenCompleted = 0;
+            return transitionTo(State.HALF_OPEN);
+        }
+        return null;
+    }
+
+    private Transition transitionTo(State next) {
+        if (state == next) {
+            return null;
+        }
+        Transition transition = new Transition(name, state, next, Instant.now());
+        state = next;
+        transitionCount++;
+        lastTransition = transition;
+        return transition;
+    }
+
+    private void publish(Transition transition) {
+        if (transition == null) {
+            return;
+        }
+        for (Consumer<Transition> listener : listeners) {
+            listener.accept(transition);
+        }
+    }
+
+    private boolean isIgnored(Throwable error) {
+        for (Class<? extends Throwable> type : ignored) {
+            if (type.isInstance(error)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" + name + ", state=" + state() + "}";
+    }
+
+    public static final class Builder {
+        private final String name;
+        private double failureRateThreshold = 0.5;
+        private double slowCallRateThreshold = 1.0;
+        private Duration slowCallDuration = Duration.ofSeconds(60);
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private Duration waitDurationInOpen = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpen = 3;
+        private final List<Class<? extends Throwable>> ignored =
+                new ArrayList<>(List.of(TokenLimitExceededException.class,
+                        CancellationException.class, InterruptedException.class));
+
+        private Builder(String name) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Circuit breaker name must not be blank");
+            }
+            this.name = name;
+        }
+
+        /** Failure rate (0 to 1] at which the breaker opens. Default: 0.5. */
+        public Builder failureRateThreshold(double rate) {
+            this.failureRateThreshold = requireRate(rate, "failureRateThreshold");
+            return this;
+        }
+
+        /** Slow-call rate (0 to 1] at which the breaker opens. Default: 1.0. */
+        public Builder slowCallRateThreshold(double rate) {
+            this.slowCallRateThreshold = requireRate(rate, "slowCallRateThreshold");
+            return this;
+        }
+
+        /** Calls taking at least this long count as slow. Default: 60s. */
+        public Builder slowCallDuration(Duration duration) {
+            this.slowCallDuration = requirePositive(duration, "slowCallDuration");
+            return this;
+        }
+
+        /** Number of most recent calls the rates are computed over. Default: 20. */
+        public Builder slidingWindowSize(int size) {
+            if (size <= 0) throw new IllegalArgumentException("slidingWindowSize must be > 0");
+            this.slidingWindowSize = size;
+            return this;
+        }
+
+        /** Calls needed in the window before rates are evaluated. Default: 10. */
+        public Builder minimumCalls(int calls) {
+            if (calls <= 0) throw new IllegalArgumentException("minimumCalls must be > 0");
+            this.minimumCalls = calls;
+            return this;
+        }
+
+        /** Time spent OPEN before trial calls are let through. Default: 30s. */
+        public Builder waitDurationInOpen(Duration duration) {
+            this.waitDurationInOpen = requirePositive(duration, "waitDurationInOpen");
+            return this;
+        }
+
+        /** Trial calls allowed in HALF_OPEN. Default: 3. */
+        public Builder permittedCallsInHalfOpen(int calls) {
+            if (calls <= 0) throw new IllegalArgumentException("permittedCallsInHalfOpen must be > 0");
+            this.permittedCallsInHalfOpen = calls;
+            return this;
+        }
+
+        /** Error types that say nothing about provider health and are not recorded. */
+        @SafeVarargs
+        public final Builder ignoreExceptions(Class<? extends Throwable>... types) {
+            for (Class<? extends Throwable> type : types) {
+                ignored.add(type);
+            }
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+
+        private static double requireRate(double rate, String name) {
+            if (rate <= 0 || rate > 1) {
+                throw new IllegalArgumentException(name + " must be in (0, 1], got: " + rate);
+            }
+            return rate;
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return duration;
+        }
+    }
+}
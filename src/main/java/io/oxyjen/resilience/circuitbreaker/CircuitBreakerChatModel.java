@@ -0,0 +1,145 @@
+package io.oxyjen.resilience.circuitbreaker;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.exceptions.CircuitOpenException;
+import io.oxyjen.llm.internal.Futures;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+
+/**
+ * ChatModel decorator guarded by a {@link CircuitBreaker}.
+ *
+ * While the breaker is open, {@link #chat} throws {@link CircuitOpenException}
+ * immediately instead of reaching the provider. In an {@code LLMChain} an open
+ * model is skipped before any attempt, so a degraded primary costs nothing
+ * and requests go straight to the fallbacks.
+ *
+ * <pre>{@code
+ * ChatModel primary = CircuitBreakerChatModel.of(
+ *     LLM.of("gpt-4o"),
+ *     CircuitBreaker.builder("openai")
+ *         .failureRateThreshold(0.5)
+ *         .slowCallDuration(Duration.ofSeconds(20))
+ *         .slowCallRateThreshold(0.8)
+ *         .build());
+ * }</pre>
+ */
+public final class CircuitBreakerChatModel implements AsyncChatModel {
+
+    private final ChatModel delegate;
+    private final CircuitBreaker breaker;
+
+    public CircuitBreakerChatModel(ChatModel delegate, CircuitBreaker breaker) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.breaker = Objects.requireNonNull(breaker, "breaker must not be null");
+    }
+
+    public static CircuitBreakerChatModel of(ChatModel model, CircuitBreaker breaker) {
+        return new CircuitBreakerChatModel(model, breaker);
+    }
+
+    @Override
+    public LLMResponse chat(String input) {
+        return call(model -> model.chat(input));
+    }
+
+    @Override
+    public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+        return call(model -> model.chatStructured(input, responseSchema));
+    }
+
+    @Override
+    public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+        return call(model -> model.chat(messages, responseSchema));
+    }
+
+    private LLMResponse call(Function<ChatModel, LLMResponse> request) {
+        if (!breaker.tryAcquirePermission()) {
+            throw new CircuitOpenException(breaker.name());
+        }
+        long start = System.nanoTime();
+        try {
+            LLMResponse response = request.apply(delegate);
+            breaker.onSuccess(System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException | Error e) {
+            // an interrupted call surfaces wrapped, record the interrupt itself
+            InterruptedException interrupt = interruptOf(e);
+            if (interrupt != null) {
+                Thread.currentThread().interrupt();
+            }
+            breaker.onError(System.nanoTime() - start, interrupt != null ? interrupt : e);
+            throw e;
+        }
+    }
+
+    private static InterruptedException interruptOf(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException interrupt) {
+                return interrupt;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(String input) {
+        return callAsync(model -> model.chatAsync(input));
+    }
+
+    @Override
+    public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+        return callAsync(model -> model.chatStructuredAsync(input, responseSchema));
+    }
+
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+        return callAsync(model -> model.chatAsync(messages, responseSchema));
+    }
+
+    @Override
+    public boolean supportsAsync() {
+        return AsyncChatModel.isAsync(delegate);
+    }
+
+    // the outcome is recorded when the exchange completes; a cancelled one
+    // is ignored by the breaker's defaults and only releases its permit
+    private CompletableFuture<LLMResponse> callAsync(
+            Function<AsyncChatModel, CompletableFuture<LLMResponse>> request) {
+        if (!breaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new CircuitOpenException(breaker.name()));
+        }
+        long start = System.nanoTime();
+        CompletableFuture<LLMResponse> call;
+        try {
+            call = request.apply(AsyncChatModel.of(delegate));
+        } catch (RuntimeException | Error e) {
+            breaker.onError(System.nanoTime() - start, e);
+            throw e;
+        }
+        call.whenComplete((response, error) -> {
+            if (error == null) {
+                breaker.onSuccess(System.nanoTime() - start);
+            } else {
+                breaker.onError(System.nanoTime() - start, Futures.unwrap(error));
+            }
+        });
+        return call;
+    }
+
+    public CircuitBreaker breaker() {
+        return breaker;
+    }
+
+    @Override
+    public String provider() {
+        return delegate.provider();
+    }
+}
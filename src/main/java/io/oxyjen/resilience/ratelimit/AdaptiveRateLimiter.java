@@ -1,13 +1,26 @@
 package io.oxyjen.resilience.ratelimit;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+import io.oxyjen.llm.models.RateLimitStatus;
+
+/**
+ * Fixed-interval limiter that also follows the provider: a 429 blocks all
+ * callers for the retry-after ({@link #on429(long)}), and the quota reported
+ * on successful responses stretches the interval so the remaining requests
+ * last until the window resets ({@link #onRateLimitStatus(RateLimitStatus)}).
+ */
 public final class AdaptiveRateLimiter implements RateLimiter {
 
     private final long baseIntervalMs;
     private final AtomicLong blockedUntil = new AtomicLong(0);
     // CAS slot scheduling, same as FixedIntervalRateLimiter
     private final AtomicLong lastSlotTime = new AtomicLong(0);
+    // interval derived from the provider's reported quota, valid until pacedUntil
+    private volatile long pacedIntervalMs = 0;
+    private volatile long pacedUntil = 0;
 
     public AdaptiveRateLimiter(int requestsPerMinute) {
         this.baseIntervalMs = 60_000L / requestsPerMinute;
@@ -22,11 +35,7 @@ public final class AdaptiveRateLimiter implements RateLimiter {
             long now = System.currentTimeMillis();
             long blocked = blockedUntil.get();
             if (blocked > now) {
-                long wait = blocked - now;
-                System.out.println("[AdaptiveRateLimiter] "
-                    + Thread.currentThread().getName()
-                    + " blocked until quota resets, waiting " + wait + "ms");
-                Thread.sleep(wait);
+                Thread.sleep(blocked - now);
                 // after sleeping, loop back and re-check
                 // blockedUntil might have been updated while we slept
                 continue;
@@ -35,7 +44,7 @@ public final class AdaptiveRateLimiter implements RateLimiter {
             // try to reserve CAS slot
             now = System.currentTimeMillis();
             long last = lastSlotTime.get();
-            long next = last + baseIntervalMs;
+            long next = last + intervalMs();
 
             if (next <= now) {
                 if (lastSlotTime.compareAndSet(last, now)) {
@@ -61,10 +70,12 @@ public final class AdaptiveRateLimiter implements RateLimiter {
                     }
                     long sleepMs = next - System.currentTimeMillis();
                     if (sleepMs > 0) Thread.sleep(sleepMs);
-                    // recheck after sleep
-                    // blockedUntil may have been updated while we slept
-                    if (blockedUntil.get() > System.currentTimeMillis()) {
-                        continue; // back to top
+                    // blockedUntil may have been updated while we slept:
+                    // keep the slot and wait the block out, reserving
+                    // another one would waste this one
+                    long blockedMs;
+                    while ((blockedMs = blockedUntil.get() - System.currentTimeMillis()) > 0) {
+                        Thread.sleep(blockedMs);
                     }
                     return;
                 }
@@ -73,6 +84,43 @@ public final class AdaptiveRateLimiter implements RateLimiter {
         }
     }
 
+    /**
+     * Same protocol as {@link #acquire()} without sleeping: waits on the
+     * shared scheduler. A 429 arriving after the slot was reserved delays
+     * the call until the block ends; the slot is kept, not reserved again.
+     */
+    @Override
+    public CompletableFuture<Void> acquireAsync() {
+        return awaitUnblocked().thenCompose(v -> {
+            long slot = reserveSlot();
+            return RateLimitScheduler.after(slot - System.currentTimeMillis(), TimeUnit.MILLISECONDS)
+                .thenCompose(ignored -> awaitUnblocked());
+        });
+    }
+
+    // completes once blockedUntil has passed, following any extension
+    private CompletableFuture<Void> awaitUnblocked() {
+        long waitMs = blockedUntil.get() - System.currentTimeMillis();
+        if (waitMs <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return RateLimitScheduler.after(waitMs, TimeUnit.MILLISECONDS)
+            .thenCompose(v -> awaitUnblocked());
+    }
+
+    // CAS-claims the next slot and returns its time
+    private long reserveSlot() {
+        while (true) {
+            long now = System.currentTimeMillis();
+            long last = lastSlotTime.get();
+            long next = Math.max(now, last + intervalMs());
+            if (lastSlotTime.compareAndSet(last, next)) {
+                return next;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
     /**
      * Called by LLMChain when provider returns 429 with Retry-After.
      * Updates shared blocked-until so ALL waiting threads respect it.
@@ -83,9 +131,38 @@ public final class AdaptiveRateLimiter implements RateLimiter {
         blockedUntil.updateAndGet(current -> Math.max(current, unblockAt));
         // also push lastSlotTime forward so CAS scheduling respects the block
         lastSlotTime.updateAndGet(current -> Math.max(current, unblockAt));
-        System.out.println("[AdaptiveRateLimiter] Provider blocked until +" 
-            + retryAfterMs + "ms. All threads will wait.");
+    }
+
+    /**
+     * Called by {@link RateLimitedChatModel} with the quota the provider
+     * reported on a successful response. The remaining requests are spread
+     * evenly over the time left until reset, so the limiter slows down
+     * before the provider starts answering 429; with nothing remaining it
+     * blocks until the reset, as {@link #on429(long)} would.
+     */
+    public void onRateLimitStatus(RateLimitStatus status) {
+        if (status == null || !status.hasRequestQuota()) {
+            return;
+        }
+        long resetMs = status.resetRequests().toMillis();
+        long remaining = status.remainingRequests();
+        if (remaining <= 0) {
+            on429(resetMs);
+            return;
+        }
+        pacedIntervalMs = resetMs / remaining;
+        pacedUntil = System.currentTimeMillis() + resetMs;
+    }
+
+    /** Interval between requests right now, at least the configured one. */
+    public long currentIntervalMs() {
+        return intervalMs();
     }
 
     public long getBlockedUntil() { return blockedUntil.get(); }
+
+    private long intervalMs() {
+        long paced = pacedIntervalMs;
+        return paced > baseIntervalMs && System.currentTimeMillis() < pacedUntil ? paced : baseIntervalMs;
+    }
 }
\ No newline at end of file
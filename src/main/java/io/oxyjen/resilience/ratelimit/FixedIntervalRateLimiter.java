@@ -1,5 +1,7 @@
 package io.oxyjen.resilience.ratelimit;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class FixedIntervalRateLimiter implements RateLimiter {
@@ -13,28 +15,36 @@ final class FixedIntervalRateLimiter implements RateLimiter {
 
     @Override
     public void acquire() throws InterruptedException {
+        if (Thread.interrupted()) throw new InterruptedException();
+        long waitMs = reserve();
+        if (waitMs > 0) {
+            Thread.sleep(waitMs);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync() {
+        return RateLimitScheduler.after(reserve(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Claims the next slot, returns how long until it is due. */
+    private long reserve() {
         while (true) {
-        	if (Thread.interrupted()) throw new InterruptedException();
             long now = System.currentTimeMillis();
             long last = lastSlotTime.get();
             long next = last + intervalMs;
-            System.out.println(
-            	    "Limiter="
-            	    + System.identityHashCode(this)
-            	);
             if (next <= now) {
                 // slot is in the past, try to claim current time + interval
                 if (lastSlotTime.compareAndSet(last, now)) {
-                    return; // no sleep needed, fire immediately
+                    return 0; // no sleep needed, fire immediately
                 }
             } else {
                 // slot is in the future
                 if (lastSlotTime.compareAndSet(last, next)) {
-                    Thread.sleep(next - now);
-                    return;
+                    return next - now;
                 }
             }
             Thread.onSpinWait(); // hint to CPU, reduces spin overhead
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package io.oxyjen.resilience.ratelimit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.oxyjen.execution.HashedWheelTimer;
+
+/**
+ * Timer behind {@link RateLimiter#acquireAsync()}.
+ *
+ * Waits are scheduled on the shared {@link HashedWheelTimer}: a caller
+ * waiting for a permit holds a timer entry, not a thread. The timer thread
+ * only completes futures, dependents that do real work should be attached
+ * with an {@code *Async} method and their own executor.
+ */
+final class RateLimitScheduler {
+
+    private RateLimitScheduler() {}
+
+    /**
+     * Future completed after {@code delay}, or already completed if the
+     * delay is not positive. Cancelling it cancels the scheduled wait.
+     */
+    static CompletableFuture<Void> after(long delay, TimeUnit unit) {
+        return HashedWheelTimer.shared().delay(delay, unit);
+    }
+}
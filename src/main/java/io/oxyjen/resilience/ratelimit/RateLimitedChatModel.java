@@ -1,24 +1,38 @@
 package io.oxyjen.resilience.ratelimit;
 
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
+import io.oxyjen.llm.AsyncChatModel;
 import io.oxyjen.llm.ChatModel;
 import io.oxyjen.llm.LLMResponse;
 import io.oxyjen.llm.exceptions.RateLimitException;
+import io.oxyjen.llm.internal.Futures;
+import io.oxyjen.llm.models.RateLimitStatus;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
 
 /**
  * Internal rate limiting wrapper for ChatModel.
  * Not part of the public API - users interact via LLM factory methods.
  * Spaces API calls evenly over time using a token bucket approach.
+ * With a {@link TokenRateLimiter}, estimated tokens are reserved before each
+ * call and reconciled with the reported usage afterwards, or refunded when
+ * the call fails. Quota the
+ * provider reports on successful responses paces adaptive and token
+ * limiters before they hit a 429.
+ * Over an {@link AsyncChatModel} the async methods wait for the permit and
+ * the response without holding a thread.
  */
-public final class RateLimitedChatModel implements ChatModel {
+public final class RateLimitedChatModel implements AsyncChatModel {
 
     private static final long DEFAULT_429_COOLDOWN_MS = 30_000L;
 
     private final ChatModel delegate;
     private final RateLimiter rateLimiter;
-    private final AtomicInteger permitCounter = new AtomicInteger(0);
 
     RateLimitedChatModel(ChatModel delegate, RateLimiter rateLimiter) {
         this.delegate = Objects.requireNonNull(delegate);
@@ -27,38 +41,175 @@ public final class RateLimitedChatModel implements ChatModel {
 
     @Override
     public LLMResponse chat(String input) {
-    	String threadName = Thread.currentThread().getName();
-    	long requestStart = System.currentTimeMillis();
-    	System.out.println("[RateLimiter] " + threadName + " requesting permit");
+    	return acquireAndCall(input, model -> model.chat(input));
+    }
+
+    @Override
+    public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+    	return acquireAndCall(input, model -> model.chatStructured(input, responseSchema));
+    }
+
+    @Override
+    public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+    	return acquireAndCall(Message.transcript(messages), model -> model.chat(messages, responseSchema));
+    }
+
+    private LLMResponse acquireAndCall(String input, Function<ChatModel, LLMResponse> request) {
+    	int reservedTokens = 0;
     	try {
-    		rateLimiter.acquire();
+    		if (rateLimiter instanceof TokenRateLimiter tokens) {
+    			reservedTokens = tokens.acquire(input);
+    		} else {
+    			rateLimiter.acquire();
+    		}
     	} catch (InterruptedException e) {
     		Thread.currentThread().interrupt();
     		throw new RuntimeException("Interrupted waiting for rate limit token", e);
     	}
-    	long waitedMs = System.currentTimeMillis() - requestStart;
-        int permitNum = permitCounter.incrementAndGet();
+    	return call(request, reservedTokens);
+    }
 
-        System.out.println(
-            "[RateLimiter] " + threadName
-            + " acquired permit #" + permitNum
-            + " after " + waitedMs + "ms wait"
-        );
+    /**
+     * Waits for the permit via {@link RateLimiter#acquireAsync()}, holding
+     * no thread, then starts the delegate's async call. Over a blocking
+     * delegate this is {@link #chat(String)} as a completed future.
+     */
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(String input) {
+        return supportsAsync()
+            ? acquireAndCallAsync(input, model -> model.chatAsync(input))
+            : Futures.completed(this, model -> model.chat(input));
+    }
 
-        try {
-            return delegate.chat(input);
-        } catch (RateLimitException e) {
-        	// tell the adaptive limiter about the block
-            if (rateLimiter instanceof AdaptiveRateLimiter adaptive) {
-                adaptive.on429(e.hasRetryAfter() ? e.getRetryAfterMs() : DEFAULT_429_COOLDOWN_MS);
+    @Override
+    public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+        return supportsAsync()
+            ? acquireAndCallAsync(input, model -> model.chatStructuredAsync(input, responseSchema))
+            : Futures.completed(this, model -> model.chatStructured(input, responseSchema));
+    }
+
+    @Override
+    public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+        return supportsAsync()
+            ? acquireAndCallAsync(Message.transcript(messages), model -> model.chatAsync(messages, responseSchema))
+            : Futures.completed(this, model -> model.chat(messages, responseSchema));
+    }
+
+    @Override
+    public boolean supportsAsync() {
+        return AsyncChatModel.isAsync(delegate);
+    }
+
+    /**
+     * Non-blocking {@link #chat(String)} for a blocking delegate: waits for
+     * the permit holding no thread, then runs the call on {@code executor}.
+     * Over an async delegate this is {@link #chatAsync(String)}.
+     */
+    public CompletableFuture<LLMResponse> chatAsync(String input, Executor executor) {
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (supportsAsync()) {
+            return chatAsync(input);
+        }
+        return acquireAsync(input)
+            .thenApplyAsync(reservedTokens -> call(model -> model.chat(input), reservedTokens), executor);
+    }
+
+    private CompletableFuture<Integer> acquireAsync(String input) {
+        return rateLimiter instanceof TokenRateLimiter tokens
+            ? tokens.acquireAsync(input)
+            : rateLimiter.acquireAsync().thenApply(v -> 0);
+    }
+
+    private CompletableFuture<LLMResponse> acquireAndCallAsync(String input,
+            Function<AsyncChatModel, CompletableFuture<LLMResponse>> request) {
+        CompletableFuture<LLMResponse> result = new CompletableFuture<>();
+        acquireAsync(input).whenComplete((reservedTokens, error) -> {
+            if (error != null) {
+                result.completeExceptionally(Futures.unwrap(error));
+                return;
+            }
+            if (result.isDone()) {
+                // cancelled while waiting: the reservation was never used
+                onFailure(reservedTokens, null);
+                return;
             }
+            CompletableFuture<LLMResponse> call;
+            try {
+                call = request.apply((AsyncChatModel) delegate);
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<LLMResponse> inFlight = call;
+            result.whenComplete((response, failure) -> {
+                if (result.isCancelled()) {
+                    inFlight.cancel(true);
+                }
+            });
+            inFlight.whenComplete((response, failure) -> {
+                if (failure == null) {
+                    onSuccess(response, reservedTokens);
+                    result.complete(response);
+                } else {
+                    Throwable cause = Futures.unwrap(failure);
+                    onFailure(reservedTokens, cause);
+                    result.completeExceptionally(cause);
+                }
+            });
+        });
+        return result;
+    }
+
+    private LLMResponse call(Function<ChatModel, LLMResponse> request, int reservedTokens) {
+        LLMResponse response;
+        try {
+            response = request.apply(delegate);
+        } catch (RuntimeException | Error e) {
+            onFailure(reservedTokens, e);
             throw e; // re-throw so LLMChain handles retry
         }
-        finally {
-            System.out.println(
-                "[RateLimiter] permit #" + permitNum
-                + " released by " + threadName
-            );
+        onSuccess(response, reservedTokens);
+        return response;
+    }
+
+    private void onSuccess(LLMResponse response, int reservedTokens) {
+        if (rateLimiter instanceof TokenRateLimiter tokens) {
+            // swap the estimate for what the provider actually counted
+            tokens.reconcile(reservedTokens, response.totalTokens());
+        }
+        pace(response.rateLimits());
+    }
+
+    private void onFailure(int reservedTokens, Throwable error) {
+        // a failed call consumed no provider tokens, whatever the cause
+        if (rateLimiter instanceof TokenRateLimiter tokens) {
+            tokens.reconcile(reservedTokens, 0L);
+        }
+        if (error instanceof RateLimitException rateLimited) {
+            cooldown(rateLimited);
+        }
+    }
+
+    // tell the adaptive limiter about the block
+    private void cooldown(RateLimitException e) {
+        long cooldownMs = e.hasRetryAfter() ? e.getRetryAfterMs() : DEFAULT_429_COOLDOWN_MS;
+        if (rateLimiter instanceof AdaptiveRateLimiter adaptive) {
+            adaptive.on429(cooldownMs);
+        } else if (rateLimiter instanceof TokenRateLimiter tokens) {
+            tokens.on429(cooldownMs);
+        } else if (rateLimiter instanceof SharedFileRateLimiter shared) {
+            shared.on429(cooldownMs);
+        }
+    }
+
+    // slow down ahead of the provider's limit instead of waiting for a 429
+    private void pace(RateLimitStatus status) {
+        if (status == null) {
+            return;
+        }
+        if (rateLimiter instanceof AdaptiveRateLimiter adaptive) {
+            adaptive.onRateLimitStatus(status);
+        } else if (rateLimiter instanceof TokenRateLimiter tokens) {
+            tokens.onRateLimitStatus(status);
         }
     }
 
@@ -66,4 +217,9 @@ public final class RateLimitedChatModel implements ChatModel {
     public static RateLimitedChatModel of(ChatModel model, RateLimiter limiter) {
         return new RateLimitedChatModel(model, limiter);
     }
-}
\ No newline at end of file
+
+    @Override
+    public String provider() {
+        return delegate.provider();
+    }
+}
@@ -1,18 +1,50 @@
 package io.oxyjen.resilience.ratelimit;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 public interface RateLimiter {
     void acquire() throws InterruptedException;
     
+    /**
+     * Non-blocking variant of {@link #acquire()}: the returned future
+     * completes when the permit is available. Built-in limiters reserve
+     * their slot immediately and let a shared scheduler complete the
+     * future, so no thread is held while waiting.
+     *
+     * The future may complete on the scheduler thread; attach real work
+     * with an {@code *Async} method and your own executor.
+     *
+     * Default: runs the blocking {@link #acquire()} on the common pool,
+     * for custom limiters that cannot reserve ahead.
+     */
+    default CompletableFuture<Void> acquireAsync() {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        });
+    }
+    
     static RateLimiter.Builder builder() {
         return new Builder();
     }
     
     enum Algorithm {
-        FIXED_INTERVAL
+        /** One request every {@code 60s / rpm}, no bursts. */
+        FIXED_INTERVAL,
+        /** Refill at {@code rpm}, bank up to {@code burstCapacity} permits while idle. */
+        TOKEN_BUCKET
     }
     
     final class Builder {
         private int requestsPerMinute;
+        private long tokensPerMinute;
+        private int burstCapacity = 1;
+        private boolean fair;
         private Algorithm algorithm = Algorithm.FIXED_INTERVAL;
         
         public Builder requestsPerMinute(int rpm) {
@@ -20,20 +52,60 @@ public interface RateLimiter {
             return this;
         }
         
+        /**
+         * Also limit tokens per minute. The built limiter is then a
+         * {@link TokenRateLimiter} wrapping the requests-per-minute one.
+         */
+        public Builder tokensPerMinute(long tpm) {
+            this.tokensPerMinute = tpm;
+            return this;
+        }
+        
         public Builder algorithm(Algorithm algorithm) {
             this.algorithm = algorithm;
             return this;
         }
         
+        /**
+         * Permits a {@link Algorithm#TOKEN_BUCKET} limiter may bank while
+         * idle and then release at once. Default: 1 (no bursts).
+         */
+        public Builder burstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+        
+        /**
+         * Serve {@link Algorithm#TOKEN_BUCKET} waiters strictly in arrival
+         * order, at some throughput cost under contention. Default: false.
+         */
+        public Builder fair(boolean fair) {
+            this.fair = fair;
+            return this;
+        }
+        
         public RateLimiter build() {
         	if (requestsPerMinute <= 0) {
                 throw new IllegalArgumentException(
                     "requestsPerMinute must be > 0, got: " + requestsPerMinute
                 );
             }
-            return switch (algorithm) {
+            if (burstCapacity <= 0) {
+                throw new IllegalArgumentException(
+                    "burstCapacity must be > 0, got: " + burstCapacity
+                );
+            }
+            RateLimiter requests = switch (algorithm) {
                 case FIXED_INTERVAL -> new FixedIntervalRateLimiter(requestsPerMinute);
+                case TOKEN_BUCKET -> new TokenBucketRateLimiter(requestsPerMinute, burstCapacity, fair);
             };
+            if (tokensPerMinute > 0) {
+                return TokenRateLimiter.builder()
+                    .tokensPerMinute(tokensPerMinute)
+                    .requestLimiter(requests)
+                    .build();
+            }
+            return requests;
         }
     }
 }
\ No newline at end of file
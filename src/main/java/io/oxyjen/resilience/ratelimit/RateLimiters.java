@@ -1,5 +1,7 @@
 package io.oxyjen.resilience.ratelimit;
 
+import java.nio.file.Path;
+
 public final class RateLimiters {
     
     private RateLimiters() {}
@@ -8,6 +10,14 @@ public final class RateLimiters {
         return new FixedIntervalRateLimiter(requestsPerMinute);
     }
     
+    public static RateLimiter tokenBucket(int requestsPerMinute, int burstCapacity) {
+        return RateLimiter.builder()
+            .algorithm(RateLimiter.Algorithm.TOKEN_BUCKET)
+            .requestsPerMinute(requestsPerMinute)
+            .burstCapacity(burstCapacity)
+            .build();
+    }
+    
     // provider profiles - safe defaults out of the box
     public static RateLimiter geminiFreeTier() {
         // conservative fixed interval, quota=5 per observation
@@ -17,4 +27,17 @@ public final class RateLimiters {
     public static RateLimiter adaptive(int requestsPerMinute) {
         return new AdaptiveRateLimiter(requestsPerMinute);
     }
+    
+    // pacing and 429 back-off shared by every process mapping the same file
+    public static RateLimiter sharedFile(Path stateFile, int requestsPerMinute) {
+        return new SharedFileRateLimiter(stateFile, requestsPerMinute);
+    }
+    
+    // TPM bucket on top of an adaptive RPM limiter, both back off on 429
+    public static TokenRateLimiter tokensPerMinute(long tokensPerMinute, int requestsPerMinute) {
+        return TokenRateLimiter.builder()
+            .tokensPerMinute(tokensPerMinute)
+            .requestLimiter(new AdaptiveRateLimiter(requestsPerMinute))
+            .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package io.oxyjen.resilience.ratelimit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limiter whose state is shared by every process on the machine.
+ *
+ * Same slot protocol as {@link AdaptiveRateLimiter}, but {@code lastSlotTime}
+ * and {@code blockedUntil} live in a small memory-mapped file instead of
+ * {@code AtomicLong}s. All updates are CAS through a {@link VarHandle} view
+ * on the {@link MappedByteBuffer}, which is atomic across processes mapping
+ * the same file. Several JVMs using the same API key therefore share pacing,
+ * and a 429 seen by one of them blocks all of them.
+ *
+ * <pre>{@code
+ * RateLimiter limiter = RateLimiters.sharedFile(
+ *     Path.of("/tmp/oxyjen-gemini.lock"), 4);
+ * }</pre>
+ *
+ * Every process must use the same requests-per-minute for a given file.
+ * Times are wall-clock epoch millis, the only clock processes share.
+ */
+public final class SharedFileRateLimiter implements RateLimiter {
+
+    // file layout: two 8-byte aligned longs
+    private static final int LAST_SLOT_OFFSET = 0;
+    private static final int BLOCKED_UNTIL_OFFSET = 8;
+    private static final int FILE_SIZE = 16;
+
+    private static final VarHandle LONGS =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Path file;
+    private final long baseIntervalMs;
+    private final MappedByteBuffer state;
+
+    public SharedFileRateLimiter(Path file, int requestsPerMinute) {
+        if (requestsPerMinute <= 0) {
+            throw new IllegalArgumentException(
+                "requestsPerMinute must be > 0, got: " + requestsPerMinute
+            );
+        }
+        this.file = file;
+        this.baseIntervalMs = 60_000L / requestsPerMinute;
+        // the mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.state = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map rate limiter state file " + file, e);
+        }
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        while (true) {
+            if (Thread.interrupted()) throw new InterruptedException();
+
+            long now = System.currentTimeMillis();
+            long blocked = blockedUntil();
+            if (blocked > now) {
+                Thread.sleep(blocked - now);
+                continue; // another process may have extended the block
+            }
+            long sleepMs = reserveSlot() - System.currentTimeMillis();
+            if (sleepMs > 0) Thread.sleep(sleepMs);
+            if (blockedUntil() > System.currentTimeMillis()) {
+                continue; // 429 arrived while we waited for the slot
+            }
+            return;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync() {
+        long now = System.currentTimeMillis();
+        long blocked = blockedUntil();
+        if (blocked > now) {
+            return RateLimitScheduler.after(blocked - now, TimeUnit.MILLISECONDS)
+                .thenCompose(v -> acquireAsync());
+        }
+        long slot = reserveSlot();
+        return RateLimitScheduler.after(slot - System.currentTimeMillis(), TimeUnit.MILLISECONDS)
+            .thenCompose(v -> blockedUntil() > System.currentTimeMillis()
+                ? acquireAsync()
+                : CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Provider returned 429: blocks every process sharing the file for
+     * {@code retryAfterMs}. Only ever moves the block forward.
+     */
+    public void on429(long retryAfterMs) {
+        long unblockAt = System.currentTimeMillis() + retryAfterMs;
+        advance(BLOCKED_UNTIL_OFFSET, unblockAt);
+        advance(LAST_SLOT_OFFSET, unblockAt);
+    }
+
+    public long getBlockedUntil() {
+        return blockedUntil();
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    // CAS-claims the next slot across all processes and returns its time
+    private long reserveSlot() {
+        while (true) {
+            long now = System.currentTimeMillis();
+            long last = (long) LONGS.getVolatile(state, LAST_SLOT_OFFSET);
+            long next = Math.max(now, last + baseIntervalMs);
+            if (LONGS.compareAndSet(state, LAST_SLOT_OFFSET, last, next)) {
+                return next;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private long blockedUntil() {
+        return (long) LONGS.getVolatile(state, BLOCKED_UNTIL_OFFSET);
+    }
+
+    private void advance(int offset, long value) {
+        while (true) {
+            long current = (long) LONGS.getVolatile(state, offset);
+            if (current >= value || LONGS.compareAndSet(state, offset, current, value)) {
+                return;
+            }
+        }
+    }
+}
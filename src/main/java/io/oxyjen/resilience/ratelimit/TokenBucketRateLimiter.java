@@ -0,0 +1,162 @@
+package io.oxyjen.resilience.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket: refills at {@code requestsPerMinute / 60s}, holds up to
+ * {@code burstCapacity} permits, so idle time is banked for short bursts.
+ *
+ * When the bucket is empty a caller reserves the next future permit (the
+ * bucket goes into debt) and parks until that permit's time. Reservations
+ * are handed out in lock-acquisition order, so waiters wake in FIFO order;
+ * with {@code fair = true} the lock itself is fair, so arrival order is
+ * preserved under heavy contention too. No spinning, no I/O on the hot path.
+ *
+ * A waiter that gives up hands its slot back: everyone parked behind it
+ * moves up one slot and is unparked to wait for the earlier time.
+ */
+final class TokenBucketRateLimiter implements RateLimiter {
+
+    private final double permitsPerNano;
+    private final long nanosPerPermit;
+    private final double capacity;
+    private final ReentrantLock lock;
+
+    // guarded by lock
+    private double available;
+    private long lastRefillNanos;
+    private final List<Waiter> parked = new ArrayList<>();
+
+    TokenBucketRateLimiter(int requestsPerMinute, int burstCapacity, boolean fair) {
+        this.permitsPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.nanosPerPermit = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+        this.capacity = burstCapacity;
+        this.lock = new ReentrantLock(fair);
+        this.available = burstCapacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        if (Thread.interrupted()) throw new InterruptedException();
+
+        Waiter waiter;
+        lock.lockInterruptibly();
+        try {
+            long readyAt = reserve();
+            if (readyAt - System.nanoTime() <= 0) {
+                return;
+            }
+            waiter = new Waiter(Thread.currentThread(), readyAt);
+            parked.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            long remaining;
+            while ((remaining = waiter.readyAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    lock.lock();
+                    try {
+                        refund(waiter.readyAt);
+                    } finally {
+                        lock.unlock();
+                    }
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            lock.lock();
+            try {
+                parked.remove(waiter);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync() {
+        long readyAt;
+        lock.lock();
+        try {
+            readyAt = reserve();
+        } finally {
+            lock.unlock();
+        }
+        CompletableFuture<Void> permit =
+            RateLimitScheduler.after(readyAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        // a caller that gives up waiting hands its reservation back
+        permit.whenComplete((v, error) -> {
+            if (permit.isCancelled()) {
+                lock.lock();
+                try {
+                    refund(readyAt);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+        return permit;
+    }
+
+    // takes one permit, possibly into debt; returns when it is due. Caller holds lock
+    private long reserve() {
+        long now = System.nanoTime();
+        refill(now);
+        available -= 1;
+        if (available >= 0) {
+            return now; // permit in hand
+        }
+        return now + (long) Math.ceil(-available / permitsPerNano);
+    }
+
+    /** Permits currently in the bucket; negative while waiters hold reservations. */
+    double availablePermits() {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // an interrupted or cancelled waiter gives its slot (due at readyAt) back;
+    // parked waiters behind it move up one slot. Caller holds lock
+    private void refund(long readyAt) {
+        refill(System.nanoTime());
+        available = Math.min(capacity, available + 1);
+        for (Waiter waiter : parked) {
+            if (waiter.readyAt > readyAt) {
+                waiter.readyAt -= nanosPerPermit;
+                LockSupport.unpark(waiter.thread);
+            }
+        }
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * permitsPerNano);
+            lastRefillNanos = now;
+        }
+    }
+
+    private static final class Waiter {
+        final Thread thread;
+        volatile long readyAt;
+
+        Waiter(Thread thread, long readyAt) {
+            this.thread = thread;
+            this.readyAt = readyAt;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package io.oxyjen.resilience.ratelimit;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.oxyjen.llm.models.RateLimitStatus;
+import io.oxyjen.llm.tokens.TokenEstimator;
+import io.oxyjen.llm.tokens.TokenEstimators;
+
+/**
+ * Tokens-per-minute limiter, optionally combined with a requests-per-minute one.
+ *
+ * Provider quotas are bound by tokens as much as by requests: a handful of
+ * large prompts can exhaust TPM while RPM still has plenty of room. This
+ * limiter keeps a token bucket refilled at {@code tokensPerMinute / 60s}:
+ *
+ * - before a call, the estimated prompt tokens plus the expected completion
+ *   are reserved ({@link #acquire(String)})
+ * - after the call, the reservation is reconciled with the real usage the
+ *   provider reported ({@link #reconcile(int, Long)}), refunding the
+ *   difference or charging the overrun; a failed call is refunded in full
+ *
+ * Reservations may push the bucket into debt; each caller sleeps for its own
+ * share of the debt, so waiters are served in arrival order without spinning.
+ *
+ * Used by {@link RateLimitedChatModel}, which does the reserve/reconcile
+ * round trip around every call:
+ * <pre>{@code
+ * RateLimiter limiter = RateLimiter.builder()
+ *     .requestsPerMinute(500)
+ *     .tokensPerMinute(200_000)
+ *     .build();
+ * ChatModel model = LLM.withRateLimit(LLM.of("gpt-4o"), limiter);
+ * }</pre>
+ */
+public final class TokenRateLimiter implements RateLimiter {
+
+    /** Completion tokens reserved per call when the caller gives no hint. */
+    public static final int DEFAULT_EXPECTED_OUTPUT_TOKENS = 256;
+
+    private final RateLimiter requestLimiter;
+    private final long capacity;
+    private final double tokensPerMs;
+    private final TokenEstimator estimator;
+    private final int expectedOutputTokens;
+
+    // bucket state, guarded by this
+    private double available;
+    private long lastRefill;
+
+    private TokenRateLimiter(Builder builder) {
+        this.requestLimiter = builder.requestLimiter;
+        this.capacity = builder.tokensPerMinute;
+        this.tokensPerMs = builder.tokensPerMinute / 60_000.0;
+        this.estimator = builder.estimator;
+        this.expectedOutputTokens = builder.expectedOutputTokens;
+        this.available = capacity;
+        this.lastRefill = System.currentTimeMillis();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Takes a request permit and reserves {@link #expectedOutputTokens()} tokens.
+     * Prefer {@link #acquire(String)} when the prompt is known.
+     */
+    @Override
+    public void acquire() throws InterruptedException {
+        acquireTokens(expectedOutputTokens);
+    }
+
+    /**
+     * Takes a request permit and reserves the estimated tokens for
+     * {@code prompt} plus the expected completion.
+     *
+     * @return the number of tokens reserved, to pass to {@link #reconcile}
+     */
+    public int acquire(String prompt) throws InterruptedException {
+        int tokens = estimator.estimate(prompt) + expectedOutputTokens;
+        return acquireTokens(tokens);
+    }
+
+    /**
+     * Takes a request permit and reserves exactly {@code tokens}.
+     *
+     * @return the number of tokens reserved (clamped to the bucket size)
+     */
+    public int acquireTokens(int tokens) throws InterruptedException {
+        if (tokens < 0) {
+            throw new IllegalArgumentException("tokens must be >= 0, got: " + tokens);
+        }
+        if (requestLimiter != null) {
+            requestLimiter.acquire();
+        }
+        // a single call larger than the whole bucket waits for a full refill
+        int reserved = (int) Math.min(tokens, capacity);
+        long waitMs = reserveTokens(reserved);
+        if (waitMs > 0) {
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                // the call will not happen, others should not wait for it
+                reconcile(reserved, 0L);
+                throw e;
+            }
+        }
+        return reserved;
+    }
+
+    /**
+     * Non-blocking {@link #acquire()}: request permit first, then the
+     * default token reservation, both waited out on the shared scheduler.
+     */
+    @Override
+    public CompletableFuture<Void> acquireAsync() {
+        return acquireTokensAsync(expectedOutputTokens).thenApply(reserved -> null);
+    }
+
+    /**
+     * Non-blocking {@link #acquire(String)}.
+     *
+     * @return future of the number of tokens reserved
+     */
+    public CompletableFuture<Integer> acquireAsync(String prompt) {
+        return acquireTokensAsync(estimator.estimate(prompt) + expectedOutputTokens);
+    }
+
+    /**
+     * Non-blocking {@link #acquireTokens(int)}.
+     */
+    public CompletableFuture<Integer> acquireTokensAsync(int tokens) {
+        if (tokens < 0) {
+            throw new IllegalArgumentException("tokens must be >= 0, got: " + tokens);
+        }
+        CompletableFuture<Void> request = requestLimiter != null
+            ? requestLimiter.acquireAsync()
+            : CompletableFuture.completedFuture(null);
+        return request.thenCompose(v -> {
+            int reserved = (int) Math.min(tokens, capacity);
+            return RateLimitScheduler.after(reserveTokens(reserved), TimeUnit.MILLISECONDS)
+                .thenApply(done -> reserved);
+        });
+    }
+
+    /**
+     * Replaces a reservation with the usage the provider actually reported.
+     * A {@code null} actual (provider did not report usage) keeps the
+     * reservation as charged; pass {@code 0} for a call that failed, so the
+     * whole reservation is refunded.
+     */
+    public void reconcile(int reserved, Long actualTokens) {
+        if (actualTokens == null) {
+            return;
+        }
+        synchronized (this) {
+            refill(System.currentTimeMillis());
+            available = Math.min(capacity, available + reserved - actualTokens);
+        }
+    }
+
+    /**
+     * Called on a 429: empties the bucket for {@code retryAfterMs} so
+     * subsequent reservations wait out the provider's block, and forwards
+     * to the request limiter if it backs off on 429 too.
+     */
+    public void on429(long retryAfterMs) {
+        synchronized (this) {
+            refill(System.currentTimeMillis());
+            available = Math.min(available, -retryAfterMs * tokensPerMs);
+        }
+        if (requestLimiter instanceof AdaptiveRateLimiter adaptive) {
+            adaptive.on429(retryAfterMs);
+        } else if (requestLimiter instanceof SharedFileRateLimiter shared) {
+            shared.on429(retryAfterMs);
+        }
+    }
+
+    /**
+     * Called by {@link RateLimitedChatModel} with the quota the provider
+     * reported on a successful response. The bucket never holds more than
+     * the provider says is left, and goes into debt until the reset when
+     * nothing is; the request part is forwarded to an adaptive request
+     * limiter.
+     */
+    public void onRateLimitStatus(RateLimitStatus status) {
+        if (status == null) {
+            return;
+        }
+        if (status.hasTokenQuota()) {
+            long remaining = status.remainingTokens();
+            synchronized (this) {
+                refill(System.currentTimeMillis());
+                double ceiling = remaining > 0
+                    ? remaining
+                    : -status.resetTokens().toMillis() * tokensPerMs;
+                available = Math.min(available, ceiling);
+            }
+        }
+        if (requestLimiter instanceof AdaptiveRateLimiter adaptive) {
+            adaptive.onRateLimitStatus(status);
+        }
+    }
+
+    /** Tokens currently available; negative while reservations are in debt. */
+    public synchronized long availableTokens() {
+        refill(System.currentTimeMillis());
+        return (long) Math.floor(available);
+    }
+
+    public long tokensPerMinute() {
+        return capacity;
+    }
+
+    public int expectedOutputTokens() {
+        return expectedOutputTokens;
+    }
+
+    // takes tokens, possibly into debt; returns how long until they are due
+    private synchronized long reserveTokens(int tokens) {
+        refill(System.currentTimeMillis());
+        available -= tokens;
+        return available >= 0 ? 0 : (long) Math.ceil(-available / tokensPerMs);
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * tokensPerMs);
+            lastRefill = now;
+        }
+    }
+
+    public static final class Builder {
+        private long tokensPerMinute;
+        private RateLimiter requestLimiter;
+        private TokenEstimator estimator = TokenEstimators.openai();
+        private int expectedOutputTokens = DEFAULT_EXPECTED_OUTPUT_TOKENS;
+
+        public Builder tokensPerMinute(long tpm) {
+            this.tokensPerMinute = tpm;
+            return this;
+        }
+
+        /** Also enforce a fixed-interval requests-per-minute limit. */
+        public Builder requestsPerMinute(int rpm) {
+            this.requestLimiter = RateLimiters.fixedInterval(rpm);
+            return this;
+        }
+
+        /** Also enforce an existing request limiter (e.g. an adaptive one). */
+        public Builder requestLimiter(RateLimiter limiter) {
+            this.requestLimiter = limiter;
+            return this;
+        }
+
+        /** Estimator for prompt tokens. Default: {@link TokenEstimators#openai()}. */
+        public Builder estimator(TokenEstimator estimator) {
+            this.estimator = Objects.requireNonNull(estimator, "estimator must not be null");
+            return this;
+        }
+
+        /** Completion tokens reserved per call before usage is known. Default: 256. */
+        public Builder expectedOutputTokens(int tokens) {
+            if (tokens < 0) {
+                throw new IllegalArgumentException("expectedOutputTokens must be >= 0, got: " + tokens);
+            }
+            this.expectedOutputTokens = tokens;
+            return this;
+        }
+
+        public TokenRateLimiter build() {
+            if (tokensPerMinute <= 0) {
+                throw new IllegalArgumentException(
+                    "tokensPerMinute must be > 0, got: " + tokensPerMinute
+                );
+            }
+            return new TokenRateLimiter(this);
+        }
+    }
+}
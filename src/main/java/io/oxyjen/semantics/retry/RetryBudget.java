@@ -0,0 +1,155 @@
+package io.oxyjen.semantics.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared cap on retries across every retrying component of an execution.
+ *
+ * {@code LLMChain}, {@code RetryNode} and {@code SchemaEnforcer} each retry on
+ * their own, so during a provider brownout a MapNode of 1000 elements turns
+ * into 1000 x maxAttempts x models calls. A budget bounds that: every request
+ * deposits {@code ratio} of a retry token, every retry withdraws a whole one,
+ * and a retry with an empty bucket fails fast instead of adding load.
+ *
+ * The bucket holds at most {@code burst} tokens (and starts full), so a quiet
+ * period can't save up a storm, and a handful of retries are always possible
+ * at low traffic.
+ *
+ * <pre>{@code
+ * RetryBudget budget = RetryBudget.builder()
+ *     .ratio(0.2)    // retries <= 20% of requests
+ *     .burst(10)
+ *     .build();
+ * }</pre>
+ */
+public final class RetryBudget {
+
+    // balance is kept in thousandths of a retry token
+    private static final long SCALE = 1_000L;
+
+    private final double ratio;
+    private final int burst;
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private RetryBudget(Builder builder) {
+        this.ratio = builder.ratio;
+        this.burst = builder.burst;
+        this.deposit = Math.round(builder.ratio * SCALE);
+        this.capacity = Math.max(1, builder.burst) * SCALE;
+        this.balance = new AtomicLong(builder.burst * SCALE);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Budget allowing retries up to {@code ratio} of requests, with the default burst.
+     */
+    public static RetryBudget of(double ratio) {
+        return builder().ratio(ratio).build();
+    }
+
+    /**
+     * Records a first attempt. Call once per logical request, not per retry.
+     */
+    public void recordRequest() {
+        requests.incrementAndGet();
+        balance.accumulateAndGet(deposit, (current, add) -> Math.min(capacity, current + add));
+    }
+
+    /**
+     * Withdraws one retry.
+     *
+     * @return false if the budget is spent and the caller should fail instead of retrying
+     */
+    public boolean tryAcquireRetry() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                retries.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /** Whole retries currently available. */
+    public long available() {
+        return balance.get() / SCALE;
+    }
+
+    public double ratio() {
+        return ratio;
+    }
+
+    public int burst() {
+        return burst;
+    }
+
+    /** First attempts recorded. */
+    public long requests() {
+        return requests.get();
+    }
+
+    /** Retries granted. */
+    public long retries() {
+        return retries.get();
+    }
+
+    /** Retries refused because the budget was spent. */
+    public long rejected() {
+        return rejected.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget{ratio=" + ratio
+                + ", burst=" + burst
+                + ", available=" + available()
+                + ", requests=" + requests
+                + ", retries=" + retries
+                + ", rejected=" + rejected + "}";
+    }
+
+    public static final class Builder {
+        private double ratio = 0.2;
+        private int burst = 10;
+
+        /**
+         * Retries allowed per request, e.g. 0.2 for at most 20% extra load.
+         * Default: 0.2.
+         */
+        public Builder ratio(double ratio) {
+            if (ratio < 0.0 || Double.isNaN(ratio)) {
+                throw new IllegalArgumentException("ratio must be >= 0");
+            }
+            this.ratio = ratio;
+            return this;
+        }
+
+        /**
+         * Retries that may be spent at once, and the budget's starting
+         * balance. Default: 10.
+         */
+        public Builder burst(int burst) {
+            if (burst < 0) {
+                throw new IllegalArgumentException("burst must be >= 0");
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        public RetryBudget build() {
+            return new RetryBudget(this);
+        }
+    }
+}
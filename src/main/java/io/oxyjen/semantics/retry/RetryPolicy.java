@@ -29,6 +29,7 @@ public final class RetryPolicy {
     private final double jitterFactor;
     private final Set<Class<? extends Throwable>> retryables;
     private final Set<Class<? extends Throwable>> failFast;
+    private final RetryBudget budget;
 
     private RetryPolicy(Builder builder) {
         this.maxAttempts = builder.maxAttempts;
@@ -38,12 +39,20 @@ public final class RetryPolicy {
         this.jitterFactor = builder.jitterFactor;
         this.retryables = Collections.unmodifiableSet(new LinkedHashSet<>(builder.retryables));
         this.failFast = Collections.unmodifiableSet(new LinkedHashSet<>(builder.failFast));
+        this.budget = builder.budget;
     }
 
     public int maxAttempts() {
         return maxAttempts;
     }
 
+    /**
+     * Budget set on this policy, or {@code null}.
+     */
+    public RetryBudget budget() {
+        return budget;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -68,8 +77,19 @@ public final class RetryPolicy {
 
     /**
      * Evaluate a failure and decide whether to retry plus how long to wait.
+     * A retry is charged to this policy's {@link #budget()}, if any.
      */
     public Decision decide(Throwable failure, int attempt) {
+        return decide(failure, attempt, budget);
+    }
+
+    /**
+     * Like {@link #decide(Throwable, int)}, charging a retry to the given
+     * budget (typically the {@code ExecutionRuntime}'s) instead of the
+     * policy's own. A retry the budget can't cover is refused with
+     * {@link Decision#budgetExhausted()} set. {@code null} means unbudgeted.
+     */
+    public Decision decide(Throwable failure, int attempt, RetryBudget budget) {
         if (failure == null) {
             return Decision.noRetry();
         }
@@ -80,6 +100,10 @@ public final class RetryPolicy {
             return Decision.noRetry();
         }
 
+        if (budget != null && !budget.tryAcquireRetry()) {
+            return Decision.budgetRejected();
+        }
+
         long delayMs = retryAfterMs(failure);
         if (delayMs <= 0) {
             delayMs = calculateBackoff(failure, attempt);
@@ -160,28 +184,45 @@ public final class RetryPolicy {
     }
 
     public static final class Decision {
-        private static final Decision NO_RETRY = new Decision(false, 0L);
+        private static final Decision NO_RETRY = new Decision(false, 0L, false);
+        private static final Decision BUDGET_EXHAUSTED = new Decision(false, 0L, true);
 
         private final boolean shouldRetry;
         private final long delayMs;
+        private final boolean budgetExhausted;
 
-        private Decision(boolean shouldRetry, long delayMs) {
+        private Decision(boolean shouldRetry, long delayMs, boolean budgetExhausted) {
             this.shouldRetry = shouldRetry;
             this.delayMs = delayMs;
+            this.budgetExhausted = budgetExhausted;
         }
 
         public static Decision retry(long delayMs) {
-            return new Decision(true, Math.max(0L, delayMs));
+            return new Decision(true, Math.max(0L, delayMs), false);
         }
 
         public static Decision noRetry() {
             return NO_RETRY;
         }
 
+        /**
+         * The failure was retryable but the {@link RetryBudget} is spent.
+         */
+        public static Decision budgetRejected() {
+            return BUDGET_EXHAUSTED;
+        }
+
         public boolean shouldRetry() {
             return shouldRetry;
         }
 
+        /**
+         * True if the retry was refused only because the budget is spent.
+         */
+        public boolean budgetExhausted() {
+            return budgetExhausted;
+        }
+
         public long delayMs() {
             return delayMs;
         }
@@ -195,6 +236,7 @@ public final class RetryPolicy {
         private double jitterFactor = 0.0;
         private final Set<Class<? extends Throwable>> retryables = new LinkedHashSet<>();
         private final Set<Class<? extends Throwable>> failFast = new LinkedHashSet<>();
+        private RetryBudget budget = null;
 
         public Builder maxAttempts(int maxAttempts) {
             if (maxAttempts < 1) {
@@ -286,6 +328,14 @@ public final class RetryPolicy {
             return this;
         }
 
+        /**
+         * Charge every retry to a shared {@link RetryBudget}. Default: none.
+         */
+        public Builder budget(RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
         public RetryPolicy build() {
             return new RetryPolicy(this);
         }
@@ -268,7 +268,7 @@ public final class ToolExecutor {
             //output schema validation(optional)
             if (validateOutput && tool.outputSchema() != null) {
                 SchemaValidator outputValidator = 
-                    new SchemaValidator(tool.outputSchema());
+                    SchemaValidator.of(tool.outputSchema());
                 
                 SchemaValidator.ValidationResult outputValidation = 
                     outputValidator.validate(jsonTree);
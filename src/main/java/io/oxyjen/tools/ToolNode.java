@@ -7,6 +7,8 @@ import java.util.Set;
 
 import io.oxyjen.core.NodeContext;
 import io.oxyjen.core.NodePlugin;
+import io.oxyjen.execution.Bulkhead;
+import io.oxyjen.execution.ExecutionRuntime;
 
 /**
  * Graph node that executes tools.
@@ -93,7 +95,22 @@ public final class ToolNode implements NodePlugin<ToolCall, ToolResult> {
 	public ToolResult process(ToolCall input, NodeContext context) {
 		Objects.requireNonNull(input, "ToolCall cannot be null");
         Objects.requireNonNull(context, "NodeContext cannot be null");
-		return executor.execute(input, context);
+		ExecutionRuntime runtime = context.getRuntime();
+		Bulkhead bulkhead = runtime != null ? runtime.bulkhead("tool:" + input.getName()) : null;
+		if (bulkhead == null) {
+			return executor.execute(input, context);
+		}
+		try {
+			bulkhead.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted waiting for " + bulkhead, e);
+		}
+		try {
+			return executor.execute(input, context);
+		} finally {
+			bulkhead.release();
+		}
 	}
 	@Override
     public String getName() {
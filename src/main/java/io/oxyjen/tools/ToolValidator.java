@@ -78,7 +78,7 @@ public final class ToolValidator {
         if (schema != null) {
             try {
                 SchemaValidator.ValidationResult result =
-                        new SchemaValidator(schema).validate(call.getArguments());
+                        SchemaValidator.of(schema).validate(call.getArguments());
 
                 if (!result.isValid()) {
                     errors.addAll(
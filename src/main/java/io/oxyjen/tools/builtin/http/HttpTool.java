@@ -3,7 +3,6 @@ package io.oxyjen.tools.builtin.http;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
@@ -12,12 +11,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
 
 import io.oxyjen.core.NodeContext;
 import io.oxyjen.llm.schema.JSONSchema;
 import io.oxyjen.llm.schema.JSONSchema.PropertySchema;
+import io.oxyjen.llm.transport.HttpTransport;
 import io.oxyjen.tools.Tool;
 import io.oxyjen.tools.ToolExecutionException;
 import io.oxyjen.tools.ToolResult;
@@ -43,15 +44,17 @@ public final class HttpTool implements Tool{
 	private final Set<String> allowedDomains;
 	private final long timeoutMs;
 	private final int maxResponseSize;
-	private final HttpClient client;
+	private final HttpTransport transport;
 	
 	public HttpTool(Set<String> allowedDomains, long timeoutMs, int maxResponseSize) {
+		this(allowedDomains, timeoutMs, maxResponseSize, HttpTransport.shared(Duration.ofMillis(timeoutMs)));
+	}
+	
+	public HttpTool(Set<String> allowedDomains, long timeoutMs, int maxResponseSize, HttpTransport transport) {
 		this.allowedDomains = Set.copyOf(allowedDomains);
 		this.timeoutMs = timeoutMs;
 		this.maxResponseSize = maxResponseSize;
-		this.client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMillis(timeoutMs))
-                .build();
+		this.transport = Objects.requireNonNull(transport, "transport must not be null");
 	}
 	@Override
 	public String name() {
@@ -203,10 +206,7 @@ public final class HttpTool implements Tool{
                 default -> throw new IllegalArgumentException("Unsupported method: " + method);
             }           
             HttpRequest request = requestBuilder.build();      
-            HttpResponse<String> response = client.send(
-                request,
-                HttpResponse.BodyHandlers.ofString()
-            );
+            HttpResponse<String> response = transport.send(request);
             String responseBody = response.body();
             if (responseBody != null && responseBody.length() > maxResponseSize) {
                 responseBody = responseBody.substring(0, maxResponseSize) +
@@ -298,6 +298,7 @@ public final class HttpTool implements Tool{
         private Set<String> allowedDomains = new HashSet<>();
         private long timeoutMs = 30000;
         private int maxResponseSize = 1_000_000;
+        private HttpTransport transport;
         
         public Builder allowDomain(String domain) {
             allowedDomains.add(domain);
@@ -319,8 +320,19 @@ public final class HttpTool implements Tool{
             return this;
         }
         
+        /**
+         * Send requests through the given transport instead of the shared one.
+         * Default: the shared transport whose connect timeout is {@link #timeout(long)}.
+         */
+        public Builder transport(HttpTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+        
         public HttpTool build() {
-            return new HttpTool(allowedDomains, timeoutMs, maxResponseSize);
+            return transport != null
+                ? new HttpTool(allowedDomains, timeoutMs, maxResponseSize, transport)
+                : new HttpTool(allowedDomains, timeoutMs, maxResponseSize);
         }
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package io.oxyjen.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.GenericArrayType;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.RecordComponent;
@@ -11,6 +13,7 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -264,32 +267,25 @@ public final class JsonMapper {
     }
     @SuppressWarnings("unchecked")
     private static <T> T deserializeRecord(Map<String, Object> jsonMap, Class<T> recordClass) {
-        RecordComponent[] components = recordClass.getRecordComponents();
-        Set<String> allowedFields = Arrays.stream(components)
-                .map(RecordComponent::getName)
-                .collect(Collectors.toSet());
-
+        RecordPlan plan = RECORD_PLANS.get(recordClass);
         for (String key : jsonMap.keySet()) {
-            if (!allowedFields.contains(key)) {
+            if (!plan.index.containsKey(key)) {
                 throw new IllegalArgumentException(
                     "Unknown field: " + key + " for record " + recordClass.getSimpleName()
                 );
             }
         }
-        Object[] args = new Object[components.length];
+        Object[] args = new Object[plan.names.length];
         
-        for (int i = 0; i < components.length; i++) {
-            RecordComponent component = components[i];
-            String fieldName = component.getName();
-            Class<?> fieldType = component.getType();
-            Type genericType = component.getGenericType();
-            if (component.isAnnotationPresent(JsonIgnore.class)) {
+        for (int i = 0; i < args.length; i++) {
+            Class<?> fieldType = plan.types[i];
+            if (plan.ignored[i]) {
                 args[i] = getDefaultValue(fieldType);
                 continue;
             }
-            boolean present = jsonMap.containsKey(fieldName);
-            Object jsonValue = jsonMap.get(fieldName);   
-            if (!present) {
+            // absent and explicit null are treated alike
+            Object jsonValue = jsonMap.get(plan.names[i]);
+            if (jsonValue == null) {
                 if (fieldType == Optional.class) {
                     args[i] = Optional.empty();
                     continue;
@@ -299,45 +295,17 @@ public final class JsonMapper {
                     continue;
                 }
                 throw new IllegalArgumentException(
-                    "Missing required primitive field: " + fieldName +
+                    "Missing required primitive field: " + plan.names[i] +
                     " in " + recordClass.getSimpleName()
                 );
             }
-            if (jsonValue == null) {
-            	 if (fieldType == Optional.class) {
-            	        args[i] = Optional.empty();
-            	        continue;
-            	    }
-
-            	    if (!fieldType.isPrimitive()) {
-            	        args[i] = null;
-            	        continue;
-            	    }
-            	    throw new IllegalArgumentException(
-            	        "Missing required primitive field: " + fieldName +
-            	        " in " + recordClass.getSimpleName()
-            	    );
-            }
-            args[i] = convert(jsonValue, fieldType, genericType);
+            args[i] = convert(jsonValue, fieldType, plan.genericTypes[i]);
         }
         try {
-            Constructor<T> constructor = recordClass.getDeclaredConstructor(
-                Arrays.stream(components)
-                    .map(RecordComponent::getType)
-                    .toArray(Class[]::new)
-            );
-            constructor.setAccessible(true);
-            return constructor.newInstance(args);
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof RuntimeException) {
-                throw (RuntimeException) cause;
-            }
-            throw new RuntimeException(
-                "Failed to instantiate record " + recordClass.getSimpleName() + 
-                ": " + cause.getMessage(), cause
-            );
-        } catch (Exception e) {
+            return (T) plan.constructor.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException(
                 "Failed to instantiate record " + recordClass.getSimpleName() + 
                 ": " + e.getMessage(), e
@@ -346,15 +314,9 @@ public final class JsonMapper {
     }
     @SuppressWarnings("unchecked")
     private static <T> T deserializePOJO(Map<String, Object> jsonMap, Class<T> pojoClass) {
-    	List<Method> setters = Arrays.stream(pojoClass.getMethods())
-                .filter(JsonMapper::isSetter)
-                .toList();
-    	Set<String> validFields = setters.stream()
-    	        .map(JsonMapper::getFieldNameFromSetter)
-    	        .collect(Collectors.toSet());
-
+        PojoPlan plan = POJO_PLANS.get(pojoClass);
     	for (String key : jsonMap.keySet()) {
-    	    if (!validFields.contains(key)) {
+    	    if (!plan.fields.contains(key)) {
     	        throw new IllegalArgumentException(
     	            "Unknown field: " + key + " for class " + pojoClass.getSimpleName()
     	        );
@@ -362,32 +324,26 @@ public final class JsonMapper {
     	}
         T instance;
         try {
-            Constructor<T> constructor = pojoClass.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            instance = constructor.newInstance();
-        } catch (Exception e) {
+            if (plan.constructor == null) {
+                throw plan.constructorError;
+            }
+            instance = (T) plan.constructor.invokeExact();
+        } catch (Throwable e) {
             throw new RuntimeException(
                 "Failed to create instance of " + pojoClass.getSimpleName() + 
                 ". Ensure it has a no-arg constructor.", e
             );
         }
-        for (Method method : setters) {
-            String fieldName = getFieldNameFromSetter(method);
-            if (!jsonMap.containsKey(fieldName)) {
+        for (Setter setter : plan.setters) {
+            if (!jsonMap.containsKey(setter.field)) {
                 continue; 
             }
-            Object jsonValue = jsonMap.get(fieldName); 
-//            if (jsonValue == null) {
-//                continue;
-//            }
-            Class<?> paramType = method.getParameterTypes()[0];
-            Type genericType = method.getGenericParameterTypes()[0];
-            Object convertedValue = convert(jsonValue, paramType, genericType);
+            Object convertedValue = convert(jsonMap.get(setter.field), setter.type, setter.genericType);
             try {
-                method.invoke(instance, convertedValue);
-            } catch (Exception e) {
+                setter.handle.invokeExact((Object) instance, convertedValue);
+            } catch (Throwable e) {
                 throw new RuntimeException(
-                    "Failed to set field " + fieldName + " on " + 
+                    "Failed to set field " + setter.field + " on " + 
                     pojoClass.getSimpleName(), e
                 );
             }
@@ -448,4 +404,117 @@ public final class JsonMapper {
         if (type == char.class) return '\0';
         return null; 
     }
+
+    /*
+     * Reflection is resolved once per class: component order, generic
+     * types and a MethodHandle for the canonical constructor or setters.
+     * ClassValue keeps the plans reachable only as long as the class is.
+     */
+    private static final ClassValue<RecordPlan> RECORD_PLANS = new ClassValue<>() {
+        @Override
+        protected RecordPlan computeValue(Class<?> type) {
+            return new RecordPlan(type);
+        }
+    };
+    private static final ClassValue<PojoPlan> POJO_PLANS = new ClassValue<>() {
+        @Override
+        protected PojoPlan computeValue(Class<?> type) {
+            return new PojoPlan(type);
+        }
+    };
+
+    private static final class RecordPlan {
+        final String[] names;
+        final Class<?>[] types;
+        final Type[] genericTypes;
+        final boolean[] ignored;
+        final Map<String, Integer> index;
+        // (Object[]) -> Object
+        final MethodHandle constructor;
+
+        RecordPlan(Class<?> recordClass) {
+            RecordComponent[] components = recordClass.getRecordComponents();
+            int n = components.length;
+            this.names = new String[n];
+            this.types = new Class<?>[n];
+            this.genericTypes = new Type[n];
+            this.ignored = new boolean[n];
+            this.index = new HashMap<>(n * 2);
+            for (int i = 0; i < n; i++) {
+                names[i] = components[i].getName();
+                types[i] = components[i].getType();
+                genericTypes[i] = components[i].getGenericType();
+                ignored[i] = components[i].isAnnotationPresent(JsonIgnore.class);
+                index.put(names[i], i);
+            }
+            try {
+                Constructor<?> canonical = recordClass.getDeclaredConstructor(types);
+                canonical.setAccessible(true);
+                this.constructor = MethodHandles.lookup().unreflectConstructor(canonical)
+                        .asSpreader(Object[].class, n)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (Exception e) {
+                throw new RuntimeException(
+                    "Failed to instantiate record " + recordClass.getSimpleName() + 
+                    ": " + e.getMessage(), e
+                );
+            }
+        }
+    }
+
+    private static final class PojoPlan {
+        final Set<String> fields;
+        final List<Setter> setters;
+        // () -> Object, or null with the reason in constructorError
+        final MethodHandle constructor;
+        final Exception constructorError;
+
+        PojoPlan(Class<?> pojoClass) {
+            List<Setter> found = new ArrayList<>();
+            for (Method method : pojoClass.getMethods()) {
+                if (isSetter(method)) {
+                    found.add(new Setter(method));
+                }
+            }
+            this.setters = List.copyOf(found);
+            this.fields = found.stream().map(setter -> setter.field).collect(Collectors.toUnmodifiableSet());
+            MethodHandle handle = null;
+            Exception error = null;
+            try {
+                Constructor<?> noArg = pojoClass.getDeclaredConstructor();
+                noArg.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(noArg)
+                        .asType(MethodType.methodType(Object.class));
+            } catch (Exception e) {
+                error = e;
+            }
+            this.constructor = handle;
+            this.constructorError = error;
+        }
+    }
+
+    private static final class Setter {
+        final String field;
+        final Class<?> type;
+        final Type genericType;
+        // (Object, Object) -> void
+        final MethodHandle handle;
+
+        Setter(Method method) {
+            this.field = getFieldNameFromSetter(method);
+            this.type = method.getParameterTypes()[0];
+            this.genericType = method.getGenericParameterTypes()[0];
+            MethodHandle h;
+            try {
+                method.trySetAccessible();
+                h = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                // fail on use, as the reflective call used to
+                h = MethodHandles.throwException(void.class, IllegalAccessException.class)
+                        .bindTo(e);
+                h = MethodHandles.dropArguments(h, 0, method.getDeclaringClass(), type);
+            }
+            this.handle = h.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+    }
 }
\ No newline at end of file
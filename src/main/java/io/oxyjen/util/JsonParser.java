@@ -1,66 +1,135 @@
 package io.oxyjen.util;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
-import java.math.BigInteger;
-import java.math.BigDecimal;
+import java.util.Set;
 
 /**
  * Lightweight JSON parser.
- * 
+ *
  * Parses JSON strings into Java objects:
  * - JSON object -> Map<String, Object>
  * - JSON array -> List<Object>
  * - JSON string -> String
- * - JSON number -> Double/Long
+ * - JSON number -> Double/Long (BigInteger beyond long range)
  * - JSON boolean -> Boolean
  * - JSON null -> null
- * 
- * Full JSON support for deserialization
+ *
+ * Full JSON support for deserialization.
+ *
+ * The input is scanned as a char array. Strings without escapes are copied
+ * in one step, and numbers are converted without creating substrings.
+ * {@link #parseExact(String)} returns decimals as BigDecimal instead of
+ * Double, and {@link #parseLazy(String)} validates the whole document in
+ * one pass, indexing where each object and array ends, and only builds each
+ * one when it is first accessed.
  */
 public final class JsonParser {
 
-	private final String json;
+    // exactly representable powers of ten, for the fast double path
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // mantissas up to 15 digits are exact in a double
+    private static final int MAX_FAST_DIGITS = 15;
+
+	private final char[] json;
+	private final int end;
+	private final boolean exactDecimals;
+	// values of objects and arrays become lazy views instead of being built
+	private final boolean lazy;
+	// validate only, build nothing
+	private boolean skipping;
+	// lazy mode: extents of every container, from the validation pass
+	private ContainerIndex index;
     private int pos = 0;
-    
-    private JsonParser(String json) {
+
+    private JsonParser(char[] json, int end, boolean exactDecimals, boolean lazy) {
         this.json = json;
+        this.end = end;
+        this.exactDecimals = exactDecimals;
+        this.lazy = lazy;
     }
     /**
      * Parse JSON string to Object tree
-     * 
+     *
      * @param json JSON string
      * @return parsed object (Map, List, String, Number, Boolean, or null)
      */
     public static Object parse(String json) {
+        return parse(json, false, false);
+    }
+    /**
+     * Parse UTF-8 encoded JSON to Object tree.
+     */
+    public static Object parse(byte[] json) {
+        if (json == null || json.length == 0) {
+            throw new IllegalArgumentException("JSON cannot be null or empty");
+        }
+        return parse(new String(json, StandardCharsets.UTF_8));
+    }
+    /**
+     * Like {@link #parse(String)}, but decimals are returned as
+     * {@link BigDecimal} so no precision is lost.
+     */
+    public static Object parseExact(String json) {
+        return parse(json, true, false);
+    }
+    /**
+     * Like {@link #parse(String)}, but objects and arrays are only built
+     * when first accessed. The whole document is still validated up front,
+     * so malformed JSON fails here, not on access.
+     *
+     * The validation pass records where every object and array ends, so
+     * building one only scans its own members: nested containers are
+     * skipped by offset, and each character is read at most twice overall.
+     * Strings and numbers are converted when their enclosing container is
+     * built, so values keep their usual types (String, Long, Double...).
+     *
+     * The returned maps and lists are mutable once built. Until every
+     * level has been accessed they keep a reference to the input.
+     */
+    public static Object parseLazy(String json) {
+        return parse(json, false, true);
+    }
+
+    private static Object parse(String json, boolean exactDecimals, boolean lazy) {
         if (json == null || json.trim().isEmpty()) {
             throw new IllegalArgumentException("JSON cannot be null or empty");
         }
-        
-        JsonParser parser = new JsonParser(json);
-        Object result = parser.parseValue();
+
+        char[] chars = json.toCharArray();
+        JsonParser parser = new JsonParser(chars, chars.length, exactDecimals, lazy);
+        Object result = lazy ? parser.parseLazyValue() : parser.parseValue();
         parser.skipWhitespace();
-        
-        if (parser.pos < parser.json.length()) {
+
+        if (parser.pos < parser.end) {
             throw new IllegalArgumentException(
-                "Unexpected characters after JSON: " + 
-                parser.json.substring(parser.pos)
+                "Unexpected characters after JSON: " +
+                new String(parser.json, parser.pos, parser.end - parser.pos)
             );
         }
-        
+
         return result;
     }
     //parse a JSON value
     private Object parseValue() {
         skipWhitespace();
-        
-        if (pos >= json.length()) {
+
+        if (pos >= end) {
             throw new IllegalArgumentException("Unexpected end of JSON");
         }
-        char c = json.charAt(pos);
+        char c = json[pos];
         return switch (c) {
         	case '{' -> parseObject();
         	case '[' -> parseArray();
@@ -70,10 +139,36 @@ public final class JsonParser {
             default -> parseNumber();
         };
     }
-   
+    // containers are validated once, up front, and built on first access
+    private Object parseLazyValue() {
+        skipWhitespace();
+        if (pos >= end) {
+            throw new IllegalArgumentException("Unexpected end of JSON");
+        }
+        int start = pos;
+        char c = json[pos];
+        if (c != '{' && c != '[') {
+            return parseValue();
+        }
+        if (index == null) {
+            // the root: validate everything, recording each container's extent
+            index = new ContainerIndex();
+            skipping = true;
+            try {
+                parseValue();
+            } finally {
+                skipping = false;
+            }
+        } else {
+            // already validated, jump over it
+            pos = index.endOf(start);
+        }
+        return c == '{' ? new LazyObject(json, end, start, index) : new LazyArray(json, end, start, index);
+    }
+
     private void skipWhitespace() {
-        while (pos < json.length()) {
-            char c = json.charAt(pos);
+        while (pos < end) {
+            char c = json[pos];
             if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
                 pos++;
             } else {
@@ -82,25 +177,29 @@ public final class JsonParser {
         }
     }
     private Map<String, Object> parseObject() {
-    	Map<String, Object> map = new LinkedHashMap<>();
-    	
+    	Map<String, Object> map = skipping ? null : new LinkedHashMap<>();
+    	int slot = skipping && index != null ? index.open(pos) : -1;
+
     	consume('{');
     	skipWhitespace();
     	if(peek() == '}') {
     		consume('}');
+    		closeSlot(slot);
     		return map;
     	}
-    	
+
     	while (true) {
     		skipWhitespace();
-    		
+
     		String key = parseString();
     		skipWhitespace();
     		consume(':');
     		skipWhitespace();
-    		Object value = parseValue();
-    		
-    		map.put(key, value);
+    		Object value = lazy && !skipping ? parseLazyValue() : parseValue();
+
+    		if (map != null) {
+    			map.put(key, value);
+    		}
     		skipWhitespace();
     		if(peek() == '}') {
     			consume('}');
@@ -108,23 +207,28 @@ public final class JsonParser {
     		}
     		consume(',');
     	}
-    	return map;	
+    	closeSlot(slot);
+    	return map;
     }
     private List<Object> parseArray() {
-    	List<Object> list = new ArrayList<>();
-    	
+    	List<Object> list = skipping ? null : new ArrayList<>();
+    	int slot = skipping && index != null ? index.open(pos) : -1;
+
     	consume('[');
     	skipWhitespace();
     	if (peek() == ']') {
     		consume(']');
+    		closeSlot(slot);
     		return list;
     	}
-    	
+
     	while (true) {
     		skipWhitespace();
-    		Object value = parseValue();
-    		list.add(value);
-    		
+    		Object value = lazy && !skipping ? parseLazyValue() : parseValue();
+    		if (list != null) {
+    			list.add(value);
+    		}
+
     		skipWhitespace();
     		if (peek() == ']') {
     			consume(']');
@@ -132,120 +236,206 @@ public final class JsonParser {
     		}
     		consume(',');
     	}
+    	closeSlot(slot);
     	return list;
     }
+    private void closeSlot(int slot) {
+    	if (slot >= 0) {
+    		index.close(slot, pos);
+    	}
+    }
     private String parseString() {
         consume('"');
-        
-        StringBuilder sb = new StringBuilder();       
-        while (pos < json.length()) {
-            char c = json.charAt(pos++);            
+
+        // fast path: no escapes, copy the whole run at once
+        int start = pos;
+        while (pos < end) {
+            char c = json[pos];
+            if (c == '"') {
+                pos++;
+                return skipping ? null : new String(json, start, pos - 1 - start);
+            }
+            if (c == '\\') {
+                break;
+            }
+            pos++;
+        }
+        if (pos >= end) {
+            throw new IllegalArgumentException("Unterminated string");
+        }
+
+        StringBuilder sb = skipping ? null : new StringBuilder(pos - start + 16).append(json, start, pos - start);
+        while (pos < end) {
+            char c = json[pos++];
             if (c == '"') {
-                return sb.toString();
-            }            
+                return sb == null ? null : sb.toString();
+            }
             if (c == '\\') {
-                if (pos >= json.length()) {
+                if (pos >= end) {
                     throw new IllegalArgumentException("Unterminated escape sequence");
                 }
-                
-                char escaped = json.charAt(pos++);
-                switch (escaped) {
-                    case '"' -> sb.append('"');
-                    case '\\' -> sb.append('\\');
-                    case '/' -> sb.append('/');
-                    case 'b' -> sb.append('\b');
-                    case 'f' -> sb.append('\f');
-                    case 'n' -> sb.append('\n');
-                    case 'r' -> sb.append('\r');
-                    case 't' -> sb.append('\t');
-                    case 'u' -> {
-                        // unicode escape: \\uXXXX
-                        if (pos + 4 > json.length()) {
-                            throw new IllegalArgumentException("Invalid unicode escape");
-                        }
-                        String hex = json.substring(pos, pos + 4);
-                        pos += 4;
-                        sb.append((char) Integer.parseInt(hex, 16));
-                    }
+
+                char escaped = json[pos++];
+                char unescaped = switch (escaped) {
+                    case '"' -> '"';
+                    case '\\' -> '\\';
+                    case '/' -> '/';
+                    case 'b' -> '\b';
+                    case 'f' -> '\f';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    case 't' -> '\t';
+                    case 'u' -> parseUnicodeEscape();
                     default -> throw new IllegalArgumentException(
                         "Invalid escape sequence: \\" + escaped
                     );
+                };
+                if (sb != null) {
+                    sb.append(unescaped);
                 }
             } else {
-                sb.append(c);
+                // copy the run up to the next quote or escape
+                int run = pos - 1;
+                while (pos < end && json[pos] != '"' && json[pos] != '\\') {
+                    pos++;
+                }
+                if (sb != null) {
+                    sb.append(json, run, pos - run);
+                }
             }
         }
         throw new IllegalArgumentException("Unterminated string");
     }
+    // unicode escape: \\uXXXX
+    private char parseUnicodeEscape() {
+        if (pos + 4 > end) {
+            throw new IllegalArgumentException("Invalid unicode escape");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(json[pos + i], 16);
+            if (digit < 0) {
+                throw new NumberFormatException(
+                    "For input string: \"" + new String(json, pos, 4) + "\" under radix 16");
+            }
+            value = (value << 4) | digit;
+        }
+        pos += 4;
+        return (char) value;
+    }
     private Number parseNumber() {
     	int start = pos;
+    	boolean negative = false;
     	if(peek() == '-') {
+    		negative = true;
     		pos++;
     	}
+    	// significant digits, accumulated while they fit exactly
+    	long mantissa = 0;
+    	int digits = 0;
     	if (peek() == '0') {
     		pos++;
-    		if (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+    		digits = 1;
+    		if (pos < end && isDigit(json[pos])) {
     			throw new IllegalArgumentException(
     					"Leading zeros are not allowed at position " + pos);
     		}
-    	} else if (Character.isDigit(peek())) {
-    		while (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+    	} else if (isDigit(peek())) {
+    		while (pos < end && isDigit(json[pos])) {
+    			if (digits < 18) {
+    				mantissa = mantissa * 10 + (json[pos] - '0');
+    			}
+    			digits++;
     			pos++;
     		}
     	} else {
     		throw new IllegalArgumentException(
     				"Expected digit at position " + pos);
     	}
-    	
+
     	boolean isDecimal = false;
-    	if (pos < json.length() && json.charAt(pos) == '.') {
+    	int fractionDigits = 0;
+    	if (pos < end && json[pos] == '.') {
     		isDecimal = true;
     		pos++;
-    		if (pos >= json.length() || !Character.isDigit(json.charAt(pos))) {
+    		if (pos >= end || !isDigit(json[pos])) {
     			throw new IllegalArgumentException("Expected digit after decimal point at position " + pos);
     		}
-    		while (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+    		while (pos < end && isDigit(json[pos])) {
+    			if (digits < 18) {
+    				mantissa = mantissa * 10 + (json[pos] - '0');
+    			}
+    			digits++;
+    			fractionDigits++;
     			pos++;
     		}
     	}
-    	if (pos < json.length() && (json.charAt(pos) == 'e' || json.charAt(pos) == 'E')) {
+    	int exponent = 0;
+    	if (pos < end && (json[pos] == 'e' || json[pos] == 'E')) {
     		isDecimal = true;
     		pos++;
-    		if (pos < json.length() && (json.charAt(pos) == '+' || json.charAt(pos) == '-')) {
+    		boolean negativeExponent = false;
+    		if (pos < end && (json[pos] == '+' || json[pos] == '-')) {
+    			negativeExponent = json[pos] == '-';
     			pos++;
     		}
-    		if( pos >= json.length() || !Character.isDigit(json.charAt(pos))) {
+    		if( pos >= end || !isDigit(json[pos])) {
     			throw new IllegalArgumentException("Expected digit in exponent");
     		}
-    		while (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+    		while (pos < end && isDigit(json[pos])) {
+    			if (exponent < 10_000) {
+    				exponent = exponent * 10 + (json[pos] - '0');
+    			}
     			pos++;
     		}
+    		if (negativeExponent) {
+    			exponent = -exponent;
+    		}
+    	}
+    	if (skipping) {
+    		return null;
     	}
-    	
-    	String numberStr = json.substring(start, pos);
+
     	try {
     		if (isDecimal) {
-    			return new BigDecimal(numberStr);
-    		} else {
-    			try {
-    				return Long.parseLong(numberStr);
-    			} catch (NumberFormatException e) {
-    				return new BigInteger(numberStr);
+    			if (exactDecimals) {
+    				return new BigDecimal(json, start, pos - start);
+    			}
+    			int scale = exponent - fractionDigits;
+    			if (digits <= MAX_FAST_DIGITS && Math.abs(scale) < POWERS_OF_TEN.length) {
+    				// both operands exact, so the result is correctly rounded
+    				double value = scale < 0
+    						? mantissa / POWERS_OF_TEN[-scale]
+    						: mantissa * POWERS_OF_TEN[scale];
+    				return negative ? -value : value;
     			}
+    			return Double.parseDouble(new String(json, start, pos - start));
+    		}
+    		if (digits <= 18) {
+    			return negative ? -mantissa : mantissa;
+    		}
+    		String numberStr = new String(json, start, pos - start);
+    		try {
+    			return Long.parseLong(numberStr);
+    		} catch (NumberFormatException e) {
+    			return new BigInteger(numberStr);
     		}
     	} catch (NumberFormatException e) {
     		throw new IllegalArgumentException(
     				"Invalid number format at position " + start, e);
     	}
     }
-    
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
    private Boolean parseBoolean() {
-	   if (json.startsWith("true", pos)) {
+	   if (startsWith("true")) {
 		   pos += 4;
 		   validateLiteralEnd();
 		   return true;
 	   }
-	   if (json.startsWith("false", pos)) {
+	   if (startsWith("false")) {
 		   pos += 5;
 		   validateLiteralEnd();
 		   return false;
@@ -253,16 +443,27 @@ public final class JsonParser {
 	   throw new IllegalArgumentException("Expected 'true' or 'false'");
    }
    private Object parseNull() {
-	   if (json.startsWith("null", pos)) {
+	   if (startsWith("null")) {
 		   pos += 4;
 		   validateLiteralEnd();
 		   return null;
 	   }
 	   throw new IllegalArgumentException("Expected 'null'");
    }
+   private boolean startsWith(String literal) {
+	   if (pos + literal.length() > end) {
+		   return false;
+	   }
+	   for (int i = 0; i < literal.length(); i++) {
+		   if (json[pos + i] != literal.charAt(i)) {
+			   return false;
+		   }
+	   }
+	   return true;
+   }
    private void validateLiteralEnd() {
-	    if (pos < json.length()) {
-	        char c = json.charAt(pos);
+	    if (pos < end) {
+	        char c = json[pos];
 	        if (Character.isLetterOrDigit(c)) {
 	            throw new IllegalArgumentException(
 	                "Invalid literal continuation at position " + pos
@@ -272,24 +473,129 @@ public final class JsonParser {
 	}
     // peek at current char without consuming
     private char peek() {
-        if (pos >= json.length()) {
+        if (pos >= end) {
             throw new IllegalArgumentException("Unexpected end of JSON");
         }
-        return json.charAt(pos);
+        return json[pos];
     }
     // consume expected char
     private void consume(char expected) {
-        if (pos >= json.length()) {
+        if (pos >= end) {
             throw new IllegalArgumentException(
                 "Expected '" + expected + "' but reached end of JSON"
             );
-        }   
-        char actual = json.charAt(pos);
+        }
+        char actual = json[pos];
         if (actual != expected) {
             throw new IllegalArgumentException(
                 "Expected '" + expected + "' but got '" + actual + "'"
             );
-        }  
+        }
         pos++;
     }
-}
\ No newline at end of file
+
+    /**
+     * Object from {@link #parseLazy(String)}: built on first access, then a
+     * plain LinkedHashMap underneath.
+     */
+    private static final class LazyObject extends AbstractMap<String, Object> {
+        private final char[] json;
+        private final int end;
+        private final int start;
+        private final ContainerIndex index;
+        private Map<String, Object> values;
+
+        LazyObject(char[] json, int end, int start, ContainerIndex index) {
+            this.json = json;
+            this.end = end;
+            this.start = start;
+            this.index = index;
+        }
+
+        private synchronized Map<String, Object> delegate() {
+            if (values == null) {
+                JsonParser parser = new JsonParser(json, end, false, true);
+                parser.index = index;
+                parser.pos = start;
+                values = parser.parseObject();
+            }
+            return values;
+        }
+
+        @Override public int size() { return delegate().size(); }
+        @Override public boolean containsKey(Object key) { return delegate().containsKey(key); }
+        @Override public Object get(Object key) { return delegate().get(key); }
+        @Override public Object put(String key, Object value) { return delegate().put(key, value); }
+        @Override public Object remove(Object key) { return delegate().remove(key); }
+        @Override public void clear() { delegate().clear(); }
+        @Override public Set<String> keySet() { return delegate().keySet(); }
+        @Override public Collection<Object> values() { return delegate().values(); }
+        @Override public Set<Map.Entry<String, Object>> entrySet() { return delegate().entrySet(); }
+    }
+
+    /**
+     * Array from {@link #parseLazy(String)}: built on first access, then a
+     * plain ArrayList underneath.
+     */
+    private static final class LazyArray extends AbstractList<Object> {
+        private final char[] json;
+        private final int end;
+        private final int start;
+        private final ContainerIndex index;
+        private List<Object> values;
+
+        LazyArray(char[] json, int end, int start, ContainerIndex index) {
+            this.json = json;
+            this.end = end;
+            this.start = start;
+            this.index = index;
+        }
+
+        private synchronized List<Object> delegate() {
+            if (values == null) {
+                JsonParser parser = new JsonParser(json, end, false, true);
+                parser.index = index;
+                parser.pos = start;
+                values = parser.parseArray();
+            }
+            return values;
+        }
+
+        @Override public Object get(int index) { return delegate().get(index); }
+        @Override public int size() { return delegate().size(); }
+        @Override public Object set(int index, Object element) { return delegate().set(index, element); }
+        @Override public void add(int index, Object element) { delegate().add(index, element); }
+        @Override public Object remove(int index) { return delegate().remove(index); }
+    }
+
+    /**
+     * Start and end offsets of every object and array of a lazily parsed
+     * document, in document order. Written by the validation pass only.
+     */
+    private static final class ContainerIndex {
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int size;
+
+        int open(int start) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            starts[size] = start;
+            return size++;
+        }
+
+        void close(int slot, int end) {
+            ends[slot] = end;
+        }
+
+        int endOf(int start) {
+            int slot = Arrays.binarySearch(starts, 0, size, start);
+            if (slot < 0) {
+                throw new IllegalStateException("No container at position " + start);
+            }
+            return ends[slot];
+        }
+    }
+}
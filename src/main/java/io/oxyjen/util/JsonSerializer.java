@@ -1,7 +1,17 @@
 package io.oxyjen.util;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.IdentityHashMap;
@@ -24,8 +34,27 @@ import java.util.Optional;
  *
  * This is the reverse of JsonMapper - used to validate tool outputs
  * against an output schema before passing to the next node.
+ *
+ * {@link #write(Object, Appendable)} and {@link #write(Object, OutputStream)}
+ * stream JSON text straight from the objects without building the tree.
+ * Record accessors and POJO getters are resolved once per class.
  */
 public final class JsonSerializer {
+    // JSON escape for each ASCII char that needs one
+    private static final String[] ESCAPES = new String[128];
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = String.format("\\u%04x", c);
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+    }
+
     private JsonSerializer() {}
     /**
      * Convert any Java object to a JSON-compatible tree.
@@ -38,42 +67,156 @@ public final class JsonSerializer {
     }
     
     public static String toJsonString(Object obj) {
-        Object tree = toJsonTree(obj);
-        return treeToString(tree);
+        StringBuilder sb = new StringBuilder();
+        write(obj, sb);
+        return sb.toString();
     }
-    
-    private static String treeToString(Object value) {
-        if (value == null) return "null";
-        if (value instanceof String s)
-            return "\"" + s.replace("\\", "\\\\")
-                           .replace("\"", "\\\"")
-                           .replace("\n", "\\n")
-                           .replace("\r", "\\r")
-                           .replace("\t", "\\t") + "\"";
-        if (value instanceof Boolean || value instanceof Number)
-            return value.toString();
-        if (value instanceof List<?> list) {
-            StringBuilder sb = new StringBuilder("[");
-            boolean first = true;
-            for (Object item : list) {
-                if (!first) sb.append(",");
-                sb.append(treeToString(item));
-                first = false;
+
+    /**
+     * Write {@code obj} as JSON text to {@code out}.
+     *
+     * Output is streamed as the object is walked; if serialization fails
+     * part of the document may already have been written.
+     */
+    public static void write(Object obj, Appendable out) {
+        try {
+            writeValue(obj, out, new IdentityHashMap<>());
+        } catch (IOException e) {
+            throw new JsonSerializationException("Failed to write JSON", e);
+        }
+    }
+
+    /**
+     * Write {@code obj} as UTF-8 JSON to {@code out}. The stream is flushed
+     * but not closed.
+     */
+    public static void write(Object obj, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        write(obj, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonSerializationException("Failed to write JSON", e);
+        }
+    }
+
+    private static void writeValue(Object obj, Appendable out, IdentityHashMap<Object, Boolean> visited) throws IOException {
+        if (obj == null) {
+            out.append("null");
+            return;
+        }
+        if (obj instanceof String s) {
+            writeString(s, out);
+            return;
+        }
+        if (obj instanceof Number || obj instanceof Boolean) {
+            out.append(obj.toString());
+            return;
+        }
+        if (obj instanceof Enum<?> e) {
+            writeString(e.name(), out);
+            return;
+        }
+        if (obj instanceof Optional<?> opt) {
+            writeValue(opt.orElse(null), out, visited);
+            return;
+        }
+        if (obj instanceof char[] arr) {
+            writeString(new String(arr), out);
+            return;
+        }
+        enter(obj, visited);
+        try {
+            if (obj instanceof Collection<?> col) {
+                out.append('[');
+                boolean first = true;
+                for (Object item : col) {
+                    if (!first) out.append(',');
+                    writeValue(item, out, visited);
+                    first = false;
+                }
+                out.append(']');
+            } else if (obj.getClass().isArray()) {
+                writeArray(obj, out, visited);
+            } else if (obj instanceof Map<?, ?> map) {
+                out.append('{');
+                boolean first = true;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (!first) out.append(',');
+                    writeString(key(entry.getKey()), out);
+                    out.append(':');
+                    writeValue(entry.getValue(), out, visited);
+                    first = false;
+                }
+                out.append('}');
+            } else {
+                out.append('{');
+                boolean first = true;
+                for (Accessor accessor : ACCESSORS.get(obj.getClass())) {
+                    if (!first) out.append(',');
+                    writeString(accessor.name, out);
+                    out.append(':');
+                    writeValue(accessor.get(obj), out, visited);
+                    first = false;
+                }
+                out.append('}');
+            }
+        } finally {
+            visited.remove(obj);
+        }
+    }
+
+    private static void writeArray(Object array, Appendable out, IdentityHashMap<Object, Boolean> visited) throws IOException {
+        out.append('[');
+        if (array instanceof Object[] arr) {
+            for (int i = 0; i < arr.length; i++) {
+                if (i > 0) out.append(',');
+                writeValue(arr[i], out, visited);
             }
-            return sb.append("]").toString();
-        }
-        if (value instanceof Map<?, ?> map) {
-            StringBuilder sb = new StringBuilder("{");
-            boolean first = true;
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                if (!first) sb.append(",");
-                sb.append("\"").append(entry.getKey()).append("\":");
-                sb.append(treeToString(entry.getValue()));
-                first = false;
+        } else {
+            // primitive arrays: box one element at a time
+            int length = Array.getLength(array);
+            for (int i = 0; i < length; i++) {
+                if (i > 0) out.append(',');
+                out.append(String.valueOf(Array.get(array, i)));
+            }
+        }
+        out.append(']');
+    }
+
+    // one pass over the string, copying unescaped runs in bulk
+    private static void writeString(String s, Appendable out) throws IOException {
+        out.append('"');
+        int run = 0;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < ESCAPES.length && ESCAPES[c] != null) {
+                out.append(s, run, i).append(ESCAPES[c]);
+                run = i + 1;
             }
-            return sb.append("}").toString();
         }
-        return "\"" + value + "\"";
+        out.append(s, run, length).append('"');
+    }
+
+    private static void enter(Object obj, IdentityHashMap<Object, Boolean> visited) {
+        if (visited.put(obj, Boolean.TRUE) != null) {
+            throw new JsonSerializationException(
+                "Cyclic reference detected for type: "
+                        + obj.getClass().getSimpleName(),
+                null
+            );
+        }
+    }
+
+    private static String key(Object key) {
+        if (key == null) {
+            throw new JsonSerializationException(
+                    "Map contains null key",
+                    null
+            );
+        }
+        return key.toString();
     }
     
     private static Object toJsonTree(Object obj, IdentityHashMap<Object, Boolean> visited) {
@@ -87,14 +230,7 @@ public final class JsonSerializer {
         if (obj instanceof Optional<?> opt)
             return opt.isPresent() ? toJsonTree(opt.get(), visited) : null;
         if (isComplexType(obj)) {
-            if (visited.containsKey(obj)) {
-                throw new JsonSerializationException(
-                    "Cyclic reference detected for type: "
-                            + obj.getClass().getSimpleName(),
-                    null
-                );
-            }
-            visited.put(obj, Boolean.TRUE);
+            enter(obj, visited);
             try {
                 if (obj instanceof Collection<?> col) {
                     List<Object> list = new ArrayList<>();
@@ -109,24 +245,18 @@ public final class JsonSerializer {
                 if (obj instanceof Map<?, ?> map) {
                     Map<String, Object> result = new LinkedHashMap<>();
                     for (Map.Entry<?, ?> entry : map.entrySet()) {
-                        Object key = entry.getKey();
-                        if (key == null) {
-                            throw new JsonSerializationException(
-                                    "Map contains null key",
-                                    null
-                            );
-                        }
                         result.put(
-                                key.toString(),
+                                key(entry.getKey()),
                                 toJsonTree(entry.getValue(), visited)
                         );
                     }
                     return result;
                 }
-                if (obj.getClass().isRecord()) {
-                    return serializeRecord(obj, visited);
+                Map<String, Object> result = new LinkedHashMap<>();
+                for (Accessor accessor : ACCESSORS.get(obj.getClass())) {
+                    result.put(accessor.name, toJsonTree(accessor.get(obj), visited));
                 }
-                return serializePojo(obj, visited);
+                return result;
             } finally {
                 visited.remove(obj);
             }
@@ -137,46 +267,68 @@ public final class JsonSerializer {
         );
     }
 
-    private static Map<String, Object> serializeRecord(Object record, IdentityHashMap<Object, Boolean> visited) {
-        Map<String, Object> map = new LinkedHashMap<>();
-        RecordComponent[] components = record.getClass().getRecordComponents();
-        for (RecordComponent component : components) {
-            String name = component.getName();
+    /*
+     * Record components or getters of a class, resolved once: the field
+     * name and a MethodHandle of type (Object) -> Object.
+     */
+    private static final ClassValue<Accessor[]> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Accessor[] computeValue(Class<?> type) {
+            List<Accessor> accessors = new ArrayList<>();
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    accessors.add(new Accessor(component.getName(), component.getAccessor(),
+                            "Failed to access record component '" + component.getName() + "' on "
+                                    + type.getSimpleName()));
+                }
+            } else {
+                for (Method method : type.getMethods()) {
+                    if (isGetter(method)) {
+                        accessors.add(new Accessor(fieldNameFromGetter(method), method,
+                                "Failed to invoke getter '" + method.getName() + "' on "
+                                        + type.getSimpleName()));
+                    }
+                }
+            }
+            return accessors.toArray(new Accessor[0]);
+        }
+    };
+
+    private static final class Accessor {
+        final String name;
+        final String failure;
+        // null if the method could not be made accessible
+        final MethodHandle handle;
+        final Exception error;
+
+        Accessor(String name, Method method, String failure) {
+            this.name = name;
+            this.failure = failure;
+            MethodHandle h = null;
+            Exception e = null;
             try {
-            	Method accessor = component.getAccessor();
-            	accessor.setAccessible(true);
-            	Object value = accessor.invoke(record);
-                map.put(name, toJsonTree(value,visited));
-            } catch (Exception e) {
-                throw new JsonSerializationException(
-                    "Failed to access record component '" + name + "' on " +
-                    record.getClass().getSimpleName(), e
-                );
+                method.setAccessible(true);
+                h = MethodHandles.lookup().unreflect(method)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (Exception ex) {
+                e = ex;
             }
+            this.handle = h;
+            this.error = e;
         }
-        return map;
-    }
 
-    private static Map<String, Object> serializePojo(Object pojo, IdentityHashMap<Object, Boolean> visited) {
-        Map<String, Object> map = new LinkedHashMap<>();
-        Method[] methods = pojo.getClass().getMethods();
-        for (Method method : methods) {
-            if (!isGetter(method)) {
-                continue;
+        Object get(Object target) {
+            if (handle == null) {
+                throw new JsonSerializationException(failure, error);
             }
-            String fieldName = fieldNameFromGetter(method);
             try {
-            	method.setAccessible(true);
-                Object value = method.invoke(pojo);
-                map.put(fieldName, toJsonTree(value,visited));
-            } catch (Exception e) {
-                throw new JsonSerializationException(
-                    "Failed to invoke getter '" + method.getName() + "' on " +
-                    pojo.getClass().getSimpleName(), e
-                );
+                return handle.invokeExact(target);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new JsonSerializationException(failure, e);
             }
         }
-        return map;
     }
 
     private static Object serializeArray(Object array, IdentityHashMap<Object, Boolean> visited) {
@@ -6,10 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
 import io.oxyjen.core.NodeContext;
+import io.oxyjen.execution.ExecutionRuntime;
+import io.oxyjen.execution.HashedWheelTimer;
 import io.oxyjen.graph.concurrency.MapNode;
 import io.oxyjen.graph.concurrency.MapNode.MapResult;
 
@@ -76,4 +82,38 @@ class MapNodeTest {
 	    MapResult<Integer> result = node.process(Collections.emptyList(),new NodeContext());
 	    assertEquals(0, result.totalCount());
 	}
-}
\ No newline at end of file
+
+	@Test
+	void should_map_async_elements_without_a_thread_per_element() throws Exception {
+	    ExecutorService pool = Executors.newSingleThreadExecutor();
+	    try {
+	        NodeContext context = new NodeContext();
+	        context.setRuntime(ExecutionRuntime.builder().executor(pool).build());
+	        // each element completes on the timer; one executor thread serves the whole window
+	        MapNode<Integer, Integer> node = MapNode.<Integer, Integer>builder()
+	                .mapWithAsync((i, ctx) -> HashedWheelTimer.shared()
+	                        .delay(50, TimeUnit.MILLISECONDS)
+	                        .thenApply(ignored -> i * 10))
+	                .maxInFlight(4)
+	                .build("map");
+	        MapResult<Integer> result = node.processAsync(List.of(3, 1, 2, 5, 4), context)
+	                .get(5, TimeUnit.SECONDS);
+	        assertEquals(List.of(30, 10, 20, 50, 40), result.toSuccessfulList());
+	    } finally {
+	        pool.shutdownNow();
+	    }
+	}
+
+	@Test
+	void should_time_out_async_elements_on_the_timer() {
+	    MapNode<String, Integer> node = MapNode.<String, Integer>builder()
+	            .mapWithAsync((s, ctx) -> new CompletableFuture<Integer>())
+	            .timeout(100, TimeUnit.MILLISECONDS)
+	            .continueOnError()
+	            .build("map");
+	    MapResult<Integer> result = node.process(List.of("a", "b"), new NodeContext());
+	    assertEquals(0, result.successCount());
+	    assertTrue(result.cancelled(0));
+	    assertTrue(result.notExecuted(1));
+	}
+}
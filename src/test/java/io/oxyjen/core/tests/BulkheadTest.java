@@ -0,0 +1,135 @@
+package io.oxyjen.core.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.core.NodeContext;
+import io.oxyjen.execution.Bulkhead;
+import io.oxyjen.execution.ExecutionRuntime;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMNode;
+import io.oxyjen.llm.LLMResponse;
+
+class BulkheadTest {
+
+    @Test
+    void rejectsWhenPermitsAndQueueAreFull() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("gemini", 1, 0);
+        bulkhead.acquire();
+
+        Bulkhead.BulkheadFullException e =
+                assertThrows(Bulkhead.BulkheadFullException.class, bulkhead::acquire);
+        assertEquals("gemini", e.bulkhead());
+        assertEquals(1, bulkhead.rejected());
+        assertEquals(1.0, bulkhead.utilization());
+
+        bulkhead.release();
+        bulkhead.acquire();
+        assertEquals(2, bulkhead.acquired());
+        bulkhead.release();
+        assertEquals(0, bulkhead.inFlight());
+        assertEquals(1, bulkhead.peakInFlight());
+    }
+
+    @Test
+    void queuedCallerProceedsOnRelease() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("openai", 1, 1);
+        bulkhead.acquire();
+
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> {
+            try {
+                bulkhead.acquire();
+                bulkhead.release();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (bulkhead.waiting() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, bulkhead.waiting());
+
+        bulkhead.release();
+        waiter.get(2, TimeUnit.SECONDS);
+        assertEquals(0, bulkhead.waiting());
+        assertEquals(0, bulkhead.rejected());
+    }
+
+    @Test
+    void runtimeRoutesByNameAndFallsBackToDefault() {
+        ExecutionRuntime runtime = ExecutionRuntime.builder()
+                .maxConcurrency(4)
+                .bulkhead("openai", 2)
+                .bulkhead("tool:search", 1, 0)
+                .build();
+
+        assertEquals("openai", runtime.bulkheadFor("openai").name());
+        assertEquals(2, runtime.bulkheadFor("openai").maxConcurrent());
+
+        Bulkhead fallback = runtime.bulkheadFor("anthropic");
+        assertEquals(ExecutionRuntime.DEFAULT_BULKHEAD, fallback.name());
+        assertEquals(4, fallback.maxConcurrent());
+        assertSame(fallback, runtime.bulkheadFor(null));
+        assertNull(runtime.bulkhead("anthropic"));
+
+        assertEquals(List.of("default", "openai", "tool:search"), List.copyOf(runtime.bulkheads().keySet()));
+        assertThrows(IllegalArgumentException.class,
+                () -> ExecutionRuntime.builder().bulkhead(ExecutionRuntime.DEFAULT_BULKHEAD, 1));
+    }
+
+    @Test
+    void defaultBulkheadSharesTheGlobalLimiter() throws Exception {
+        ExecutionRuntime runtime = ExecutionRuntime.builder().maxConcurrency(2).build();
+        Bulkhead fallback = runtime.bulkheadFor(null);
+
+        fallback.acquire();
+        assertEquals(1, runtime.getLimiter().availablePermits());
+        fallback.release();
+        assertEquals(2, runtime.getLimiter().availablePermits());
+    }
+
+    @Test
+    void nestedLLMNodeRunsInItsProviderBulkhead() {
+        ExecutionRuntime runtime = ExecutionRuntime.builder()
+                .bulkhead("gemini", 1)
+                .bulkhead("openai", 1)
+                .build();
+        AtomicInteger geminiInFlight = new AtomicInteger(-1);
+        AtomicInteger openaiInFlight = new AtomicInteger(-1);
+
+        ChatModel gemini = new ChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                geminiInFlight.set(runtime.bulkhead("gemini").inFlight());
+                openaiInFlight.set(runtime.bulkhead("openai").inFlight());
+                return LLMResponse.of("ok");
+            }
+
+            @Override
+            public String provider() {
+                return "gemini";
+            }
+        };
+
+        NodeContext root = new NodeContext();
+        root.setRuntime(runtime);
+        LLMNode node = LLMNode.builder().model(gemini).build();
+
+        assertEquals("ok", node.process("hi", root.child("element-0")));
+        assertEquals(1, geminiInFlight.get());
+        assertEquals(0, openaiInFlight.get());
+        assertEquals(0, runtime.bulkhead("gemini").inFlight());
+        assertTrue(runtime.bulkhead("gemini").acquired() == 1);
+    }
+}
@@ -0,0 +1,86 @@
+package io.oxyjen.core.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.execution.HashedWheelTimer;
+
+class HashedWheelTimerTest {
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        // small wheel so delays span several rotations
+        timer = new HashedWheelTimer("test-timer", 5, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void firesAfterDelayAcrossRotations() throws Exception {
+        long start = System.nanoTime();
+        timer.delay(120, TimeUnit.MILLISECONDS).get(2, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= 120, "fired early after " + elapsedMs + "ms");
+    }
+
+    @Test
+    void cancelledTimeoutNeverRuns() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> ran.set(true), 30, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        Thread.sleep(100);
+        assertFalse(ran.get());
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, timer.pendingCount());
+    }
+
+    @Test
+    void manyWaitersShareOneThread() throws Exception {
+        int waiters = 1_000;
+        CountDownLatch done = new CountDownLatch(waiters);
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < waiters; i++) {
+            timeouts.add(timer.schedule(done::countDown, 10 + (i % 50), TimeUnit.MILLISECONDS));
+        }
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertTrue(timeouts.stream().allMatch(HashedWheelTimer.Timeout::isExpired));
+    }
+
+    @Test
+    void orTimeoutFailsPendingFutureOnly() throws Exception {
+        CompletableFuture<String> slow = timer.orTimeout(new CompletableFuture<>(), 20, TimeUnit.MILLISECONDS);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> slow.get(1, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof TimeoutException);
+
+        CompletableFuture<String> fast = timer.orTimeout(new CompletableFuture<>(), 50, TimeUnit.MILLISECONDS);
+        fast.complete("ok");
+        Thread.sleep(100);
+        assertEquals("ok", fast.get());
+        assertEquals(0, timer.pendingCount());
+    }
+
+    @Test
+    void sharedTimerCannotBeStopped() {
+        assertThrows(IllegalStateException.class, () -> HashedWheelTimer.shared().stop());
+    }
+}
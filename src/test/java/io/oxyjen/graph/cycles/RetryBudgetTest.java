@@ -0,0 +1,161 @@
+package io.oxyjen.graph.cycles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.core.NodeContext;
+import io.oxyjen.core.NodePlugin;
+import io.oxyjen.execution.ExecutionEvent;
+import io.oxyjen.execution.ExecutionRuntime;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMChain;
+import io.oxyjen.llm.LLMNode;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.exceptions.NetworkException;
+import io.oxyjen.semantics.retry.RetryBudget;
+import io.oxyjen.semantics.retry.RetryPolicy;
+
+class RetryBudgetTest {
+
+    private static RetryPolicy transientRetries(int maxAttempts) {
+        return RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .baseBackoff(Duration.ZERO)
+                .retryOn(IllegalStateException.class, NetworkException.class)
+                .build();
+    }
+
+    @Test
+    void budgetAllowsBurstThenRatioOfRequests() {
+        RetryBudget budget = RetryBudget.builder().ratio(0.2).burst(2).build();
+
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+        assertEquals(4, budget.retries());
+        assertEquals(2, budget.rejected());
+    }
+
+    @Test
+    void balanceIsCappedAtBurst() {
+        RetryBudget budget = RetryBudget.builder().ratio(1.0).burst(3).build();
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+        assertEquals(3, budget.available());
+    }
+
+    @Test
+    void policyRefusesRetryWhenBudgetIsSpent() {
+        RetryBudget budget = RetryBudget.builder().ratio(0.0).burst(1).build();
+        RetryPolicy policy = transientRetries(3);
+
+        assertTrue(policy.decide(new IllegalStateException(), 1, budget).shouldRetry());
+        RetryPolicy.Decision refused = policy.decide(new IllegalStateException(), 1, budget);
+        assertFalse(refused.shouldRetry());
+        assertTrue(refused.budgetExhausted());
+
+        // non-retryable failures never touch the budget
+        assertFalse(policy.decide(new IllegalArgumentException(), 1, budget).budgetExhausted());
+    }
+
+    @Test
+    void retryNodesShareTheRuntimeBudgetAndEmitExhaustion() {
+        List<ExecutionEvent> events = new CopyOnWriteArrayList<>();
+        ExecutionRuntime runtime = ExecutionRuntime.builder()
+                .retryBudget(RetryBudget.builder().ratio(0.0).burst(2).build())
+                .build();
+        runtime.observationBus().register(events::add);
+        NodeContext context = new NodeContext();
+        context.setRuntime(runtime);
+
+        AtomicInteger calls = new AtomicInteger();
+        NodePlugin<String, String> down = new NodePlugin<>() {
+            @Override
+            public String process(String input, NodeContext ctx) {
+                calls.incrementAndGet();
+                throw new IllegalStateException("brownout");
+            }
+        };
+        RetryNode<String, String> retry = RetryNode.wrap(down)
+                .policy(transientRetries(5))
+                .build("retry");
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalStateException.class, () -> retry.process("x", context));
+        }
+
+        // 10 first attempts + the 2 retries the budget allowed, not 10 x 5
+        assertEquals(12, calls.get());
+        assertEquals(10, events.stream()
+                .filter(e -> e instanceof ExecutionEvent.RetryBudgetExhausted)
+                .count());
+        runtime.getExecutor().shutdownNow();
+    }
+
+    @Test
+    void chainMovesToFallbackWhenBudgetIsSpent() {
+        AtomicInteger primaryCalls = new AtomicInteger();
+        ChatModel primary = input -> {
+            primaryCalls.incrementAndGet();
+            throw new NetworkException("down", null);
+        };
+        ChatModel fallback = input -> LLMResponse.of("fallback");
+
+        LLMChain chain = LLMChain.builder()
+                .primary(primary)
+                .fallback(fallback)
+                .retryPolicy(transientRetries(5))
+                .retryBudget(RetryBudget.builder().ratio(0.0).burst(0).build())
+                .build();
+
+        assertEquals("fallback", chain.chat("hi").text());
+        assertEquals(1, primaryCalls.get());
+    }
+
+    @Test
+    void chainInAnLLMNodeChargesTheRuntimeBudget() {
+        ExecutionRuntime runtime = ExecutionRuntime.builder()
+                .retryBudget(RetryBudget.builder().ratio(0.0).burst(1).build())
+                .build();
+        NodeContext context = new NodeContext();
+        context.setRuntime(runtime);
+
+        AtomicInteger primaryCalls = new AtomicInteger();
+        ChatModel primary = input -> {
+            primaryCalls.incrementAndGet();
+            throw new NetworkException("down", null);
+        };
+        LLMChain chain = LLMChain.builder()
+                .primary(primary)
+                .fallback(input -> LLMResponse.of("fallback"))
+                .retryPolicy(transientRetries(5))
+                .build();
+        LLMNode node = LLMNode.builder().chain(chain).build();
+
+        assertEquals("fallback", node.process("hi", context));
+        assertEquals("fallback", node.process("hi", context));
+
+        // first call: attempt + the one retry the runtime allowed; second call: no retry left
+        assertEquals(3, primaryCalls.get());
+        assertEquals(1, runtime.retryBudget().retries());
+        assertEquals(2, runtime.retryBudget().requests());
+        runtime.getExecutor().shutdownNow();
+    }
+}
@@ -1,12 +1,17 @@
 package io.oxyjen.graph.cycles;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import io.oxyjen.core.AsyncNodePlugin;
 import io.oxyjen.core.NodeContext;
 import io.oxyjen.core.NodePlugin;
 import io.oxyjen.semantics.retry.RetryPolicy;
@@ -60,4 +65,37 @@ class RetryNodeTest {
         assertThrows(IllegalArgumentException.class, () -> retry.process("input", new NodeContext()));
         assertEquals(1, attempts.get());
     }
+
+    @Test
+    void asyncPathRetriesAnAsyncDelegateAfterTimerBackoff() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        AsyncNodePlugin<String, String> flaky = new AsyncNodePlugin<>() {
+            @Override
+            public String process(String input, NodeContext context) {
+                throw new AssertionError("blocking path used");
+            }
+
+            @Override
+            public CompletableFuture<String> processAsync(String input, NodeContext context) {
+                if (attempts.incrementAndGet() < 3) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("transient"));
+                }
+                return CompletableFuture.completedFuture(input + "-ok");
+            }
+        };
+
+        RetryNode<String, String> retry = RetryNode.wrap(flaky)
+                .policy(RetryPolicy.builder()
+                        .maxAttempts(4)
+                        .baseBackoff(Duration.ofMillis(20))
+                        .retryOn(IllegalStateException.class)
+                        .build())
+                .build("retry");
+
+        CompletableFuture<String> result = retry.processAsync("input", new NodeContext());
+        // the first backoff is pending on the timer, nothing is sleeping
+        assertFalse(result.isDone());
+        assertEquals("input-ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
 }
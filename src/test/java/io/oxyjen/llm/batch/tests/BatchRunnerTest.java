@@ -0,0 +1,77 @@
+package io.oxyjen.llm.batch.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.core.NodeContext;
+import io.oxyjen.execution.result.Cancelled;
+import io.oxyjen.execution.result.Failure;
+import io.oxyjen.execution.result.Success;
+import io.oxyjen.execution.result.TaskResult;
+import io.oxyjen.graph.concurrency.MapNode.MapResult;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.batch.BatchNode;
+import io.oxyjen.llm.batch.BatchRunner;
+import io.oxyjen.llm.transport.HttpTransport;
+import io.oxyjen.llm.transport.openai.OpenAIBatchClient;
+
+class BatchRunnerTest {
+
+	private BatchRunner runner(FakeOpenAIBatchServer server, Duration timeout) {
+		return BatchRunner.builder()
+				.transport(new OpenAIBatchClient("sk-test", HttpTransport.shared(), server.baseUrl()))
+				.model("gpt-4o-mini")
+				.pollInterval(Duration.ofMillis(20))
+				.timeout(timeout)
+				.build();
+	}
+
+	@Test
+	void mapsBatchResultsBackToInputOrder() throws Exception {
+		try (FakeOpenAIBatchServer server = new FakeOpenAIBatchServer(2)) {
+			List<TaskResult<LLMResponse>> results = runner(server, Duration.ofSeconds(10))
+					.runBatch(List.of("a", "FAIL b", "c"));
+
+			assertEquals(3, results.size());
+			LLMResponse first = ((Success<LLMResponse>) results.get(0)).value();
+			assertEquals("echo: a", first.text());
+			assertEquals(3L, first.promptTokens());
+			assertEquals("gpt-4o-mini", first.modelInfo().model());
+			assertInstanceOf(Failure.class, results.get(1));
+			assertEquals("echo: c", ((Success<LLMResponse>) results.get(2)).value().text());
+			assertEquals("Bearer sk-test", server.lastAuthorization);
+		}
+	}
+
+	@Test
+	void cancelsBatchWhenTimeoutElapses() throws Exception {
+		try (FakeOpenAIBatchServer server = new FakeOpenAIBatchServer(-1)) {
+			List<TaskResult<LLMResponse>> results = runner(server, Duration.ofMillis(150))
+					.runBatch(List.of("a", "b"));
+
+			assertTrue(server.cancelled.get());
+			assertTrue(results.stream().allMatch(r -> r instanceof Cancelled));
+		}
+	}
+
+	@Test
+	void batchNodeProducesMapResult() throws Exception {
+		try (FakeOpenAIBatchServer server = new FakeOpenAIBatchServer(0)) {
+			BatchNode<Integer> node = BatchNode.<Integer>builder()
+					.prompt(i -> "item " + i)
+					.runner(runner(server, Duration.ofSeconds(10)))
+					.build("batch");
+
+			MapResult<String> result = node.process(List.of(1, 2), new NodeContext());
+
+			assertEquals(2, result.successCount());
+			assertEquals(List.of("echo: item 1", "echo: item 2"), result.toSuccessfulList());
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package io.oxyjen.llm.batch.tests;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.oxyjen.util.JsonParser;
+
+/**
+ * Local stand-in for the OpenAI Batch API.
+ *
+ * Echoes every prompt back as "echo: <prompt>". Prompts containing "FAIL"
+ * land in the error file instead. The batch reports in_progress for
+ * {@code pollsBeforeDone} polls, then completed; -1 never completes.
+ */
+final class FakeOpenAIBatchServer implements AutoCloseable {
+
+	private final HttpServer server;
+	private final int pollsBeforeDone;
+	private final AtomicInteger polls = new AtomicInteger();
+	final AtomicBoolean cancelled = new AtomicBoolean();
+	private final List<String> outputLines = new ArrayList<>();
+	private final List<String> errorLines = new ArrayList<>();
+	volatile String lastAuthorization;
+
+	FakeOpenAIBatchServer(int pollsBeforeDone) throws IOException {
+		this.pollsBeforeDone = pollsBeforeDone;
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/v1/", this::handle);
+		server.start();
+	}
+
+	String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+		String path = exchange.getRequestURI().getPath();
+		String method = exchange.getRequestMethod();
+		String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+		if (method.equals("POST") && path.equals("/v1/files")) {
+			ingest(body);
+			respond(exchange, 200, "{\"id\":\"file-in\",\"purpose\":\"batch\"}");
+		} else if (method.equals("POST") && path.equals("/v1/batches")) {
+			respond(exchange, 200, batchJson("validating"));
+		} else if (method.equals("GET") && path.equals("/v1/batches/batch_1")) {
+			boolean done = pollsBeforeDone >= 0 && polls.getAndIncrement() >= pollsBeforeDone;
+			respond(exchange, 200, batchJson(cancelled.get() ? "cancelled" : done ? "completed" : "in_progress"));
+		} else if (method.equals("POST") && path.equals("/v1/batches/batch_1/cancel")) {
+			cancelled.set(true);
+			respond(exchange, 200, batchJson("cancelling"));
+		} else if (method.equals("GET") && path.equals("/v1/files/file-out/content")) {
+			respond(exchange, 200, String.join("\n", outputLines) + "\n");
+		} else if (method.equals("GET") && path.equals("/v1/files/file-err/content")) {
+			respond(exchange, 200, String.join("\n", errorLines) + "\n");
+		} else {
+			respond(exchange, 404, "{\"error\":{\"message\":\"not found\"}}");
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private synchronized void ingest(String multipart) {
+		for (String line : multipart.split("\r?\n")) {
+			if (!line.startsWith("{\"custom_id\"")) continue;
+			Map<String, Object> request = (Map<String, Object>) JsonParser.parse(line);
+			String customId = (String) request.get("custom_id");
+			Map<String, Object> chat = (Map<String, Object>) request.get("body");
+			List<Object> messages = (List<Object>) chat.get("messages");
+			String prompt = (String) ((Map<String, Object>) messages.get(0)).get("content");
+			if (prompt.contains("FAIL")) {
+				errorLines.add("{\"custom_id\":\"" + customId + "\",\"response\":{\"status_code\":400,"
+						+ "\"body\":{\"error\":{\"message\":\"bad prompt\"}}},\"error\":null}");
+			} else {
+				outputLines.add("{\"custom_id\":\"" + customId + "\",\"response\":{\"status_code\":200,"
+						+ "\"body\":{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"echo: " + prompt + "\"}}],"
+						+ "\"usage\":{\"prompt_tokens\":3,\"completion_tokens\":2,\"total_tokens\":5}}},\"error\":null}");
+			}
+		}
+	}
+
+	private synchronized String batchJson(String status) {
+		int total = outputLines.size() + errorLines.size();
+		String files = status.equals("completed")
+				? ",\"output_file_id\":\"file-out\",\"error_file_id\":\"file-err\""
+				: "";
+		return "{\"id\":\"batch_1\",\"status\":\"" + status + "\"" + files
+				+ ",\"request_counts\":{\"total\":" + total + ",\"completed\":" + outputLines.size()
+				+ ",\"failed\":" + errorLines.size() + "}}";
+	}
+
+	private void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		exchange.getResponseBody().write(bytes);
+		exchange.close();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+}
@@ -6,7 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,6 +22,7 @@ import io.oxyjen.execution.ExecutionEvent;
 import io.oxyjen.execution.ExecutionRuntime;
 import io.oxyjen.execution.metrics.NodeMetrics;
 import io.oxyjen.graph.ParallelExecutor;
+import io.oxyjen.llm.AsyncChatModel;
 import io.oxyjen.llm.ChatModel;
 import io.oxyjen.llm.LLMChain;
 import io.oxyjen.llm.LLMNode;
@@ -219,5 +225,45 @@ public class LLMNodeTest {
         assertTrue(metrics.outputValid() == null);
     }
 
+    @Test
+    void asyncModelHoldsNoExecutorThreadWhileWaiting() throws Exception {
+        log("LLMNode over an async model frees the executor thread");
+
+        CompletableFuture<LLMResponse> pending = new CompletableFuture<>();
+        CountDownLatch called = new CountDownLatch(1);
+        AsyncChatModel model = new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                called.countDown();
+                return pending;
+            }
+        };
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            ExecutionRuntime runtime = ExecutionRuntime.builder()
+                    .executor(pool)
+                    .build();
+            Graph graph = Graph.builder("llm-async")
+                    .addNode("llm", LLMNode.builder().model(model).build())
+                    .build();
+
+            CompletableFuture<String> run = CompletableFuture.supplyAsync(
+                    () -> new ParallelExecutor(runtime).runSingle(graph, "hello", new NodeContext()));
+            assertTrue(called.await(5, TimeUnit.SECONDS));
+
+            // the only executor thread is free while the model call is pending
+            assertEquals("free", pool.submit(() -> "free").get(5, TimeUnit.SECONDS));
+
+            pending.complete(LLMResponse.of("async:hello"));
+            assertEquals("async:hello", run.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
 
 }
@@ -0,0 +1,192 @@
+package io.oxyjen.llm.llmchain.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.ChatModelPool;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.exceptions.RateLimitException;
+
+class ChatModelPoolTest {
+
+    @Test
+    void concurrentCallsGoToTheLeastLoadedMember() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        ChatModelPool pool = ChatModelPool.builder()
+                .add("a", blocking("a", started, release))
+                .add("b", blocking("b", started, release))
+                .build();
+
+        CompletableFuture<LLMResponse> first = CompletableFuture.supplyAsync(() -> pool.chat("x"));
+        CompletableFuture<LLMResponse> second = CompletableFuture.supplyAsync(() -> pool.chat("y"));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        assertEquals(1, pool.members().get(0).outstanding());
+        assertEquals(1, pool.members().get(1).outstanding());
+
+        release.countDown();
+        assertNotEquals(first.get(2, TimeUnit.SECONDS).text(), second.get(2, TimeUnit.SECONDS).text());
+        assertEquals(0, pool.members().get(0).outstanding());
+    }
+
+    @Test
+    void rateLimitedMemberIsEjectedAndCallFailsOver() {
+        AtomicInteger limitedCalls = new AtomicInteger();
+        ChatModel limited = input -> {
+            limitedCalls.incrementAndGet();
+            throw new RateLimitException("quota", 60_000);
+        };
+        ChatModelPool pool = ChatModelPool.builder()
+                .add("limited", limited)
+                .add("healthy", input -> LLMResponse.of("ok"))
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("ok", pool.chat("hi").text());
+        }
+
+        ChatModelPool.Member member = pool.members().get(0);
+        assertTrue(limitedCalls.get() <= 1);
+        assertTrue(member.isEjected());
+        assertTrue(member.ejectedFor().toSeconds() > 50);
+        assertFalse(pool.members().get(1).isEjected());
+        assertEquals(5, pool.members().get(1).successes());
+    }
+
+    @Test
+    void asyncCallFailsOverWithoutBlocking() throws Exception {
+        CompletableFuture<LLMResponse> pending = new CompletableFuture<>();
+        ChatModelPool pool = ChatModelPool.builder()
+                .add("limited", async(() -> CompletableFuture.failedFuture(new RateLimitException("quota", 60_000))))
+                .add("healthy", async(() -> pending))
+                .build();
+
+        assertTrue(pool.supportsAsync());
+        CompletableFuture<LLMResponse> call = pool.chatAsync("hi");
+        assertFalse(call.isDone());
+        assertEquals(1, pool.members().get(1).outstanding());
+
+        pending.complete(LLMResponse.of("ok"));
+        assertEquals("ok", call.get(2, TimeUnit.SECONDS).text());
+        assertTrue(pool.members().get(0).isEjected());
+        assertEquals(0, pool.members().get(1).outstanding());
+    }
+
+    @Test
+    void throwsRateLimitWhenEveryMemberIsEjected() {
+        ChatModelPool pool = ChatModelPool.builder()
+                .add(input -> { throw new RateLimitException("a", 2_000); })
+                .add(input -> { throw new RateLimitException("b", 5_000); })
+                .build();
+
+        RateLimitException e = assertThrows(RateLimitException.class, () -> pool.chat("hi"));
+        assertTrue(e.getRetryAfterMs() > 1_000 && e.getRetryAfterMs() <= 2_000, "got " + e.getRetryAfterMs());
+        assertEquals(1, e.getSuppressed().length);
+
+        // no member is called while all are ejected
+        assertThrows(RateLimitException.class, () -> pool.chat("again"));
+        assertEquals(1, pool.members().get(0).rateLimited());
+        assertEquals(1, pool.members().get(1).rateLimited());
+    }
+
+    @Test
+    void consecutiveFailuresEjectAMember() throws Exception {
+        ChatModelPool pool = ChatModelPool.builder()
+                .add("broken", input -> { throw new IllegalStateException("boom"); })
+                .ejectAfterFailures(2, Duration.ofMillis(100))
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> pool.chat("1"));
+        assertFalse(pool.members().get(0).isEjected());
+        assertThrows(IllegalStateException.class, () -> pool.chat("2"));
+        assertTrue(pool.members().get(0).isEjected());
+        assertThrows(RateLimitException.class, () -> pool.chat("3"));
+
+        Thread.sleep(150);
+        assertThrows(IllegalStateException.class, () -> pool.chat("4"));
+        assertEquals(3, pool.members().get(0).failures());
+    }
+
+    @Test
+    void powerOfTwoChoicesUsesEveryMember() {
+        AtomicInteger[] calls = {new AtomicInteger(), new AtomicInteger(), new AtomicInteger()};
+        ChatModelPool.Builder builder = ChatModelPool.builder()
+                .strategy(ChatModelPool.Strategy.POWER_OF_TWO_CHOICES);
+        for (AtomicInteger counter : calls) {
+            builder.add(input -> {
+                counter.incrementAndGet();
+                return LLMResponse.of("ok");
+            });
+        }
+        ChatModelPool pool = builder.build();
+
+        for (int i = 0; i < 300; i++) {
+            pool.chat("hi");
+        }
+        for (AtomicInteger counter : calls) {
+            assertTrue(counter.get() > 30, "uneven spread: " + counter.get());
+        }
+    }
+
+    @Test
+    void providerIsSharedOnlyWhenAllMembersAgree() {
+        ChatModel openai = provider("openai");
+        assertEquals("openai", ChatModelPool.builder().add(openai).add(provider("openai")).build().provider());
+        assertNull(ChatModelPool.builder().add(openai).add(provider("gemini")).build().provider());
+    }
+
+    private static ChatModel blocking(String name, CountDownLatch started, CountDownLatch release) {
+        return input -> {
+            started.countDown();
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return LLMResponse.of(name);
+        };
+    }
+
+    private static ChatModel provider(String name) {
+        return new ChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                return LLMResponse.of("ok");
+            }
+
+            @Override
+            public String provider() {
+                return name;
+            }
+        };
+    }
+
+    private static AsyncChatModel async(Supplier<CompletableFuture<LLMResponse>> call) {
+        return new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                return call.get();
+            }
+        };
+    }
+}
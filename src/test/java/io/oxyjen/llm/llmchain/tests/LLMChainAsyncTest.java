@@ -0,0 +1,154 @@
+package io.oxyjen.llm.llmchain.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMChain;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.exceptions.InvalidAPIKeyException;
+import io.oxyjen.llm.exceptions.NetworkException;
+import io.oxyjen.resilience.ratelimit.RateLimitedChatModel;
+import io.oxyjen.resilience.ratelimit.RateLimiters;
+import io.oxyjen.semantics.retry.RetryPolicy;
+
+class LLMChainAsyncTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static RetryPolicy retries(int maxAttempts, long backoffMs) {
+        return RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .baseBackoff(Duration.ofMillis(backoffMs))
+                .fixedBackoff()
+                .retryOn(NetworkException.class)
+                .failOn(InvalidAPIKeyException.class)
+                .build();
+    }
+
+    @Test
+    void backoffsHoldNoThread() throws Exception {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        ChatModel flaky = input -> {
+            if (calls.computeIfAbsent(input, k -> new AtomicInteger()).incrementAndGet() < 3) {
+                throw new NetworkException("blip", null);
+            }
+            return LLMResponse.of("ok " + input);
+        };
+        LLMChain chain = LLMChain.builder()
+                .primary(flaky)
+                .retryPolicy(retries(3, 200))
+                .build();
+
+        // one executor thread, many calls backing off at once
+        int concurrent = 20;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[concurrent];
+        AtomicInteger perCall = new AtomicInteger();
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrent; i++) {
+            futures[i] = chain.chatAsync("x" + i, executor).thenRun(perCall::incrementAndGet);
+        }
+        CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(concurrent, perCall.get());
+        // sleeping backoffs on one thread would take ~20 x 400ms
+        assertTrue(elapsedMs < 3_000, "took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void fallsBackAsync() throws Exception {
+        ChatModel down = input -> { throw new NetworkException("down", null); };
+        LLMChain chain = LLMChain.builder()
+                .primary(down)
+                .fallback(input -> LLMResponse.of("fallback"))
+                .retryPolicy(retries(2, 10))
+                .build();
+
+        assertEquals("fallback", chain.chatAsync("x", executor).get(2, TimeUnit.SECONDS).text());
+    }
+
+    @Test
+    void fatalErrorFailsFuture() {
+        ChatModel badKey = input -> { throw new InvalidAPIKeyException("bad key"); };
+        LLMChain chain = LLMChain.builder()
+                .primary(badKey)
+                .fallback(input -> LLMResponse.of("unreachable"))
+                .retryPolicy(retries(3, 10))
+                .build();
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> chain.chatAsync("x", executor).get(2, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof InvalidAPIKeyException);
+    }
+
+    @Test
+    void asyncModelAttemptsHoldNoExecutorThread() throws Exception {
+        CompletableFuture<LLMResponse> pending = new CompletableFuture<>();
+        AsyncChatModel async = new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                return pending;
+            }
+        };
+        LLMChain chain = LLMChain.builder()
+                .primary(RateLimitedChatModel.of(async, RateLimiters.tokenBucket(6_000, 2)))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        CompletableFuture<LLMResponse> call = chain.chatAsync("x", executor);
+        // the single executor thread is free while the response is outstanding
+        assertEquals("free", CompletableFuture.supplyAsync(() -> "free", executor).get(2, TimeUnit.SECONDS));
+
+        pending.complete(LLMResponse.of("ok"));
+        assertEquals("ok", call.get(2, TimeUnit.SECONDS).text());
+    }
+
+    @Test
+    void cancellingTheCallCancelsTheAttemptInFlight() throws Exception {
+        CompletableFuture<LLMResponse> pending = new CompletableFuture<>();
+        AsyncChatModel async = new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                return pending;
+            }
+        };
+        LLMChain chain = LLMChain.builder().primary(async).build();
+
+        CompletableFuture<LLMResponse> call = chain.chatAsync("x", executor);
+        CompletableFuture.runAsync(() -> {}, executor).get(2, TimeUnit.SECONDS); // first attempt started
+        call.cancel(true);
+
+        assertTrue(pending.isCancelled());
+    }
+}
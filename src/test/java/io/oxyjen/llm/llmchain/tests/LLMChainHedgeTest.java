@@ -0,0 +1,259 @@
+package io.oxyjen.llm.llmchain.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.HedgeMetrics;
+import io.oxyjen.llm.LLMChain;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.tokens.TokenEstimators;
+
+class LLMChainHedgeTest {
+
+    private static ChatModel slow(String text, long millis, AtomicBoolean interrupted) {
+        return input -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                if (interrupted != null) interrupted.set(true);
+                throw new RuntimeException(e);
+            }
+            return new LLMResponse(text, 10L, 5L, 0L, null, null);
+        };
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAndLoserCancelled() throws Exception {
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        LLMChain chain = LLMChain.builder()
+                .primary(slow("primary", 2_000, primaryCancelled))
+                .hedgeWith(slow("hedge", 10, null))
+                .hedge(Duration.ofMillis(50))
+                .hedgeBudget(1.0)
+                .build();
+
+        long start = System.currentTimeMillis();
+        LLMResponse response = chain.chat("hello");
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertEquals("hedge", response.text());
+        assertTrue(elapsed < 1_000, "hedge should cut latency, took " + elapsed + "ms");
+
+        HedgeMetrics metrics = chain.hedgeMetrics();
+        assertEquals(1, metrics.hedged());
+        assertEquals(1, metrics.hedgeWins());
+        assertEquals(15, metrics.hedgeTokens());
+        assertTrue(metrics.wastedTokens() > 0);
+
+        Thread.sleep(100);
+        assertTrue(primaryCancelled.get(), "losing primary should be interrupted");
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() {
+        AtomicInteger hedgeCalls = new AtomicInteger();
+        LLMChain chain = LLMChain.builder()
+                .primary(slow("primary", 0, null))
+                .hedgeWith(input -> {
+                    hedgeCalls.incrementAndGet();
+                    return LLMResponse.of("hedge");
+                })
+                .hedge(Duration.ofMillis(500))
+                .build();
+
+        assertEquals("primary", chain.chat("hello").text());
+        assertEquals(0, hedgeCalls.get());
+        assertEquals(0, chain.hedgeMetrics().hedged());
+    }
+
+    @Test
+    void budgetCapsHedgeRate() {
+        LLMChain chain = LLMChain.builder()
+                .primary(slow("primary", 60, null))
+                .fallback(slow("fallback", 200, null))
+                .hedge(Duration.ofMillis(10))
+                .hedgeBudget(0.0)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("primary", chain.chat("hello").text());
+        }
+        HedgeMetrics metrics = chain.hedgeMetrics();
+        // a zero budget allows no hedge at all
+        assertEquals(0, metrics.hedged());
+        assertEquals(3, metrics.budgetRejected());
+    }
+
+    @Test
+    void blockingHedgeIsSkippedWhileEveryHedgeThreadIsBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(8);
+        ChatModel waiting = input -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return LLMResponse.of("late");
+        };
+        LLMChain saturating = LLMChain.builder()
+                .primary(waiting)
+                .hedgeWith(input -> {
+                    busy.countDown();
+                    return waiting.chat(input);
+                })
+                .hedge(Duration.ZERO)
+                .hedgeBudget(1.0)
+                .build();
+        Thread[] callers = new Thread[8];
+        for (int i = 0; i < callers.length; i++) {
+            callers[i] = new Thread(() -> saturating.chat("hello"));
+            callers[i].start();
+        }
+        try {
+            assertTrue(busy.await(5, TimeUnit.SECONDS));
+
+            LLMChain chain = LLMChain.builder()
+                    .primary(slow("primary", 100, null))
+                    .hedgeWith(slow("hedge", 0, null))
+                    .hedge(Duration.ofMillis(10))
+                    .hedgeBudget(1.0)
+                    .build();
+
+            assertEquals("primary", chain.chat("hello").text());
+            assertEquals(0, chain.hedgeMetrics().hedged());
+            assertEquals(1, chain.hedgeMetrics().poolSaturated());
+        } finally {
+            release.countDown();
+            for (Thread caller : callers) {
+                caller.join(5_000);
+            }
+        }
+    }
+
+    @Test
+    void hedgingNeedsATarget() {
+        assertThrows(IllegalStateException.class, () -> LLMChain.builder()
+                .primary(slow("primary", 0, null))
+                .hedge(Duration.ofMillis(10))
+                .build());
+        assertNull(LLMChain.builder().primary(slow("p", 0, null)).build().hedgeMetrics());
+    }
+
+    private static AsyncChatModel async(CompletableFuture<LLMResponse> response) {
+        return async(response, "openai");
+    }
+
+    private static AsyncChatModel async(CompletableFuture<LLMResponse> response, String provider) {
+        return new AsyncChatModel() {
+            @Override
+            public String provider() {
+                return provider;
+            }
+
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                return response;
+            }
+        };
+    }
+
+    @Test
+    void asyncModelsAreRacedWithoutAThread() throws Exception {
+        CompletableFuture<LLMResponse> primary = new CompletableFuture<>();
+        LLMChain chain = LLMChain.builder()
+                .primary(async(primary))
+                .hedgeWith(async(CompletableFuture.completedFuture(LLMResponse.of("hedge"))))
+                .hedge(Duration.ofMillis(20))
+                .hedgeBudget(1.0)
+                .build();
+
+        LLMResponse response = chain.chatAsync("hello", Runnable::run).get(5, TimeUnit.SECONDS);
+
+        assertEquals("hedge", response.text());
+        assertTrue(primary.isCancelled(), "losing primary exchange should be aborted");
+        assertEquals(1, chain.hedgeMetrics().hedgeWins());
+    }
+
+    @Test
+    void loserTokensAreEstimatedForItsProvider() throws Exception {
+        String prompt = "Résumé naïve café ".repeat(50);
+        LLMChain chain = LLMChain.builder()
+                .primary(async(new CompletableFuture<>(), "gemini"))
+                .hedgeWith(async(CompletableFuture.completedFuture(LLMResponse.of("hedge")), "openai"))
+                .hedge(Duration.ofMillis(20))
+                .hedgeBudget(1.0)
+                .build();
+
+        chain.chatAsync(prompt, Runnable::run).get(5, TimeUnit.SECONDS);
+
+        long gemini = TokenEstimators.gemini().estimate(prompt);
+        assertNotEquals(TokenEstimators.openai().estimate(prompt), gemini);
+        assertEquals(gemini, chain.hedgeMetrics().wastedTokens());
+    }
+
+    @Test
+    void interruptedCallerCancelsBothRequests() throws Exception {
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+        AtomicBoolean hedgeCancelled = new AtomicBoolean();
+        LLMChain chain = LLMChain.builder()
+                .primary(input -> {
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+                    return LLMResponse.of("primary");
+                })
+                .hedgeWith(input -> {
+                    hedgeStarted.countDown();
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        hedgeCancelled.set(true);
+                        throw new RuntimeException(e);
+                    }
+                    return LLMResponse.of("hedge");
+                })
+                .hedge(Duration.ZERO)
+                .hedgeBudget(1.0)
+                .retry(1)
+                .build();
+
+        Thread caller = new Thread(() -> {
+            try {
+                chain.chat("hello");
+            } catch (RuntimeException expected) {
+            }
+        });
+        caller.start();
+        assertTrue(hedgeStarted.await(5, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join(5_000);
+
+        assertFalse(caller.isAlive());
+        Thread.sleep(100);
+        assertTrue(hedgeCancelled.get(), "hedge should be cancelled with the call");
+    }
+}
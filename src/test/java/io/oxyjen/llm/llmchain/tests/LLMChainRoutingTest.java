@@ -0,0 +1,136 @@
+package io.oxyjen.llm.llmchain.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMChain;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.ModelStats;
+import io.oxyjen.llm.exceptions.NetworkException;
+
+class LLMChainRoutingTest {
+
+    @Test
+    void fasterFallbackTakesOverFromSlowPrimary() {
+        AtomicInteger slowCalls = new AtomicInteger();
+        AtomicInteger fastCalls = new AtomicInteger();
+        LLMChain chain = LLMChain.builder()
+                .primary(sleeping(30, slowCalls))
+                .fallback(sleeping(1, fastCalls))
+                .latencyAwareRouting(0.0)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            chain.chat("hi");
+        }
+
+        // first call measures the primary, second the unmeasured fallback, then the fastest wins
+        assertEquals(1, slowCalls.get());
+        assertEquals(9, fastCalls.get());
+
+        List<ModelStats> stats = chain.modelStats();
+        assertEquals("primary", stats.get(0).name());
+        assertEquals("fallback-1", stats.get(1).name());
+        assertTrue(stats.get(0).latencyMs() > stats.get(1).latencyMs());
+        assertEquals(9, stats.get(1).calls());
+    }
+
+    @Test
+    void failingModelIsDemotedEvenWhenFast() {
+        AtomicInteger failingCalls = new AtomicInteger();
+        AtomicInteger healthyCalls = new AtomicInteger();
+        ChatModel failing = input -> {
+            failingCalls.incrementAndGet();
+            throw new NetworkException("down", null);
+        };
+        LLMChain chain = LLMChain.builder()
+                .primary(failing)
+                .fallback(sleeping(5, healthyCalls))
+                .retry(1)
+                .latencyAwareRouting(0.0)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("ok", chain.chat("hi").text());
+        }
+
+        assertEquals(1, failingCalls.get());
+        assertEquals(10, healthyCalls.get());
+        ModelStats primary = chain.modelStats().get(0);
+        assertEquals(1, primary.failures());
+        assertTrue(primary.errorRate() > 0.1);
+    }
+
+    @Test
+    void explorationKeepsMeasuringDemotedModels() {
+        AtomicInteger slowCalls = new AtomicInteger();
+        LLMChain chain = LLMChain.builder()
+                .primary(sleeping(3, slowCalls))
+                .fallback(sleeping(0, new AtomicInteger()))
+                .latencyAwareRouting(0.5)
+                .build();
+
+        for (int i = 0; i < 40; i++) {
+            chain.chat("hi");
+        }
+
+        assertTrue(slowCalls.get() > 5, "demoted model explored only " + slowCalls.get() + " times");
+    }
+
+    @Test
+    void declarationOrderWithoutRouting() {
+        AtomicInteger primaryCalls = new AtomicInteger();
+        LLMChain chain = LLMChain.builder()
+                .primary(sleeping(5, primaryCalls))
+                .fallback(sleeping(0, new AtomicInteger()))
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            chain.chat("hi");
+        }
+
+        assertEquals(5, primaryCalls.get());
+        assertTrue(chain.modelStats().isEmpty());
+    }
+
+    @Test
+    void fastFailureDoesNotSeedLatency() {
+        AtomicInteger calls = new AtomicInteger();
+        ChatModel failsFirst = input -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new NetworkException("down", null);
+            }
+            return LLMResponse.of("ok");
+        };
+        LLMChain chain = LLMChain.builder()
+                .primary(failsFirst)
+                .fallback(sleeping(5, new AtomicInteger()))
+                .retry(1)
+                .latencyAwareRouting(0.0)
+                .build();
+
+        chain.chat("hi");
+
+        ModelStats primary = chain.modelStats().get(0);
+        assertEquals(1, primary.failures());
+        assertEquals(-1, primary.latencyMs());
+    }
+
+    private static ChatModel sleeping(long millis, AtomicInteger calls) {
+        return input -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return LLMResponse.of("ok");
+        };
+    }
+}
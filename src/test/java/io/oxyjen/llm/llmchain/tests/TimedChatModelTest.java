@@ -0,0 +1,187 @@
+package io.oxyjen.llm.llmchain.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.exceptions.TimeoutException;
+import io.oxyjen.llm.internal.TimedChatModel;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.schema.JSONSchema.PropertySchema;
+import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.resilience.circuitbreaker.CircuitBreaker;
+import io.oxyjen.resilience.circuitbreaker.CircuitBreakerChatModel;
+
+class TimedChatModelTest {
+
+    @Test
+    void syncDelegateRunsOnCallerThreadAndIsInterruptedAtDeadline() {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        ChatModel slow = input -> {
+            ranOn.set(Thread.currentThread());
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw new RuntimeException(e);
+            }
+            return LLMResponse.of("late");
+        };
+        TimedChatModel timed = new TimedChatModel(slow, Duration.ofMillis(100));
+
+        long start = System.currentTimeMillis();
+        assertThrows(TimeoutException.class, () -> timed.chat("hi"));
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertSame(Thread.currentThread(), ranOn.get());
+        assertTrue(interrupted.get());
+        assertTrue(elapsed < 2_000, "took " + elapsed + "ms");
+        assertFalse(Thread.currentThread().isInterrupted(), "interrupt must not leak to the caller");
+    }
+
+    @Test
+    void fastSyncDelegateIsNotInterrupted() throws Exception {
+        TimedChatModel timed = new TimedChatModel(input -> LLMResponse.of("ok"), Duration.ofMillis(50));
+        for (int i = 0; i < 100; i++) {
+            assertEquals("ok", timed.chat("hi").text());
+        }
+        Thread.sleep(100);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void asyncDelegateIsCancelledOnTimeout() {
+        CompletableFuture<LLMResponse> pending = new CompletableFuture<>();
+        AsyncChatModel async = new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                return pending;
+            }
+        };
+        TimedChatModel timed = new TimedChatModel(async, Duration.ofMillis(50));
+
+        assertThrows(TimeoutException.class, () -> timed.chat("hi"));
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void structuredAndMultiTurnCallsUseTheAsyncPath() {
+        List<CompletableFuture<LLMResponse>> pending = new ArrayList<>();
+        AsyncChatModel async = new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                return track(new CompletableFuture<>());
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatStructuredAsync(String input, JSONSchema responseSchema) {
+                return track(new CompletableFuture<>());
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(List<Message> messages, JSONSchema responseSchema) {
+                return track(new CompletableFuture<>());
+            }
+
+            private CompletableFuture<LLMResponse> track(CompletableFuture<LLMResponse> future) {
+                pending.add(future);
+                return future;
+            }
+        };
+        TimedChatModel timed = new TimedChatModel(async, Duration.ofMillis(50));
+        JSONSchema schema = JSONSchema.object().property("answer", PropertySchema.string("answer")).build();
+
+        assertThrows(TimeoutException.class, () -> timed.chatStructured("hi", schema));
+        assertThrows(TimeoutException.class,
+                () -> timed.chat(List.of(new Message("user", "hi"), new Message("assistant", "{}"), new Message("user", "again")), schema));
+
+        assertEquals(2, pending.size());
+        assertTrue(pending.stream().allMatch(CompletableFuture::isCancelled));
+    }
+
+    @Test
+    void decoratorsKeepTheAsyncPath() {
+        CompletableFuture<LLMResponse> pending = new CompletableFuture<>();
+        AsyncChatModel async = new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                return pending;
+            }
+        };
+        ChatModel guarded = CircuitBreakerChatModel.of(async, CircuitBreaker.builder("test").build());
+        TimedChatModel timed = new TimedChatModel(guarded, Duration.ofMillis(50));
+
+        assertTrue(timed.supportsAsync());
+        assertThrows(TimeoutException.class, () -> timed.chat("hi"));
+        assertTrue(pending.isCancelled());
+        assertFalse(new TimedChatModel(input -> LLMResponse.of("ok"), Duration.ofMillis(50)).supportsAsync());
+    }
+
+    @Test
+    void asyncCallsOnABlockingDelegateStillTimeOut() {
+        TimedChatModel timed = new TimedChatModel(input -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return LLMResponse.of("late");
+        }, Duration.ofMillis(50));
+
+        CompletableFuture<LLMResponse> future = timed.chatAsync("hi");
+        assertTrue(future.isCompletedExceptionally());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void adaptiveTimeoutFollowsObservedLatency() {
+        TimedChatModel timed = TimedChatModel.adaptive(
+                input -> LLMResponse.of("ok"), 0.99, Duration.ofMillis(200), Duration.ofSeconds(30));
+
+        assertEquals(Duration.ofSeconds(30), timed.currentTimeout());
+        for (int i = 0; i < 20; i++) {
+            timed.chat("hi");
+        }
+        assertEquals(Duration.ofMillis(200), timed.currentTimeout());
+    }
+}
@@ -0,0 +1,91 @@
+package io.oxyjen.llm.schema.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.schema.JsonRepair;
+
+class JsonRepairTest {
+
+    @Test
+    void validJsonIsUnchanged() {
+        assertEquals(Map.of("a", 1L, "b", List.of("x", true)),
+                JsonRepair.repair("{\"a\":1,\"b\":[\"x\",true]}"));
+    }
+
+    @Test
+    void stripsProseAndFences() {
+        assertEquals(Map.of("a", 1L),
+                JsonRepair.repair("Here you go:\n```json\n{\"a\": 1}\n```\nLet me know!"));
+    }
+
+    @Test
+    void fixesTrailingAndMissingCommas() {
+        assertEquals(Map.of("a", 1L, "b", List.of(1L, 2L), "c", 3L),
+                JsonRepair.repair("{\"a\": 1, \"b\": [1, 2,], \"c\": 3,}"));
+        assertEquals(Map.of("a", 1L, "b", 2L),
+                JsonRepair.repair("{\"a\": 1\n\"b\": 2}"));
+    }
+
+    @Test
+    void quotesKeysAndSingleQuotedStrings() {
+        assertEquals(Map.of("name", "O\"Neil", "city", "it's"),
+                JsonRepair.repair("{name: 'O\"Neil', 'city': 'it\\'s'}"));
+    }
+
+    @Test
+    void mapsPythonLiteralsAndSkipsComments() {
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("ok", true);
+        expected.put("done", false);
+        expected.put("next", null);
+        assertEquals(expected,
+                JsonRepair.repair("{\"ok\": True, // checked\n \"done\": False, /* later */ \"next\": None}"));
+    }
+
+    @Test
+    void closesTruncatedOutput() {
+        assertEquals(Map.of("items", List.of(Map.of("id", 1L), Map.of("id", 2L))),
+                JsonRepair.repair("{\"items\": [{\"id\": 1}, {\"id\": 2, \"note\": \"half wri"));
+        assertEquals(Map.of("tags", List.of("a")),
+                JsonRepair.repair("{\"tags\": [\"a\", \"b"));
+        assertEquals(Map.of("a", 1L),
+                JsonRepair.repair("{\"a\": 1, \"long_ke"));
+        assertEquals(Map.of("a", 1L),
+                JsonRepair.repair("{\"a\": 1, \"b\":"));
+        assertEquals(Map.of("a", 1L),
+                JsonRepair.repair("{\"a\": 1, \"b\": 2."));
+    }
+
+    @Test
+    void skipsBracesInProse() {
+        assertEquals(Map.of("a", 1L),
+                JsonRepair.repair("Fill in {name} as asked. Result: {\"a\": 1}"));
+        assertEquals(Map.of("a", 1L),
+                JsonRepair.repair("{\"a\": 1}\nNote: {placeholder} stays as is."));
+        assertEquals(Map.of("a", 1L),
+                JsonRepair.repair("Template {x}.\n```json\n{\"a\": 1,}\n```"));
+        assertEquals(Map.of("a", 1L),
+                JsonRepair.repair("Using {name}: {\"a\": 1, \"b\":"));
+    }
+
+    @Test
+    void toleratesMismatchedBrackets() {
+        assertEquals(Map.of("a", List.of(1L, 2L)),
+                JsonRepair.repair("{\"a\": [1, 2} and more"));
+        assertEquals(Map.of("a", List.of(Map.of("b", 1L))),
+                JsonRepair.repair("{\"a\": [{\"b\": 1]}"));
+    }
+
+    @Test
+    void failsWithoutAnyJson() {
+        assertThrows(IllegalArgumentException.class, () -> JsonRepair.repair("no json here"));
+        assertThrows(IllegalArgumentException.class, () -> JsonRepair.repair(" "));
+    }
+}
@@ -5,10 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import io.oxyjen.execution.ExecutionRuntime;
 import io.oxyjen.execution.metrics.NodeMetrics;
 import io.oxyjen.graph.ParallelExecutor;
 import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMResponse;
 import io.oxyjen.llm.schema.FieldError;
 import io.oxyjen.llm.schema.JSONSchema;
 import io.oxyjen.llm.schema.JSONSchema.PropertySchema;
@@ -29,7 +32,10 @@ import io.oxyjen.llm.schema.SchemaNode;
 import io.oxyjen.llm.schema.SchemaResult;
 import io.oxyjen.llm.schema.SchemaValidator;
 import io.oxyjen.llm.schema.SchemaValidator.ValidationResult;
+import io.oxyjen.llm.semantics.Message;
 import io.oxyjen.observe.ObservationBus;
+import io.oxyjen.resilience.circuitbreaker.CircuitBreaker;
+import io.oxyjen.resilience.circuitbreaker.CircuitBreakerChatModel;
 
 public class SchemaTest {
 
@@ -184,6 +190,167 @@ public class SchemaTest {
 	    assertTrue(result.getRawJson().contains("Alice"));
 	}
 
+	@Test
+	void enforcerReturnsStrippedValidatedTree() {
+		log("Enforcer returns parsed tree");
+	    ChatModel model = new FakeModel("```json\n{\"name\":\"Alice\",\"age\":30}\n```");
+	    JSONSchema schema = JSONSchema.object()
+	        .property("name", PropertySchema.string("Name"))
+	        .required("name")
+	        .build();
+	    SchemaResult result = new SchemaEnforcer(model, schema, 1).execute("prompt");
+	    assertTrue(result.isValid());
+	    assertEquals(Map.of("name", "Alice"), result.getTree());
+	    assertEquals("{\"name\":\"Alice\"}", result.getRawJson().replace(" ", ""));
+	}
+
+	@Test
+	void malformedJsonIsRepairedWithoutRetry() {
+		log("Enforcer repairs malformed json locally");
+	    FakeModel model = new FakeModel("Sure! {'name': 'Alice', age: 30,}", "{\"name\":\"Bob\"}");
+	    JSONSchema schema = JSONSchema.object()
+	        .property("name", PropertySchema.string("Name"))
+	        .required("name")
+	        .build();
+	    SchemaResult result = new SchemaEnforcer(model, schema, 2).execute("prompt");
+	    assertTrue(result.isValid());
+	    assertTrue(result.isRepaired());
+	    assertEquals(Map.of("name", "Alice"), result.getTree());
+	    assertEquals(1, model.callCount());
+	}
+
+	@Test
+	void repairedOutputStillFailingValidationIsRetried() {
+		log("Enforcer retries repaired but invalid json");
+	    FakeModel model = new FakeModel("{\"name\": 42,", "{\"name\":\"Bob\"}");
+	    JSONSchema schema = JSONSchema.object()
+	        .property("name", PropertySchema.string("Name"))
+	        .required("name")
+	        .build();
+	    SchemaResult result = new SchemaEnforcer(model, schema, 2).execute("prompt");
+	    assertTrue(result.isValid());
+	    assertFalse(result.isRepaired());
+	    assertEquals(2, model.callCount());
+	}
+
+	@Test
+	void responseWithoutJsonReportsParseError() {
+		log("Enforcer reports response without json");
+	    ChatModel model = new FakeModel("I cannot help with that.");
+	    JSONSchema schema = JSONSchema.object()
+	        .property("name", PropertySchema.string("Name"))
+	        .required("name")
+	        .build();
+	    SchemaResult result = new SchemaEnforcer(model, schema, 1, false).execute("prompt");
+	    assertFalse(result.isValid());
+	    assertNull(result.getTree());
+	    assertEquals(FieldError.ErrorType.PARSE_ERROR, result.getErrors().get(0).errorType());
+	}
+
+	@Test
+	void enforcerSendsSchemaThroughDecoratorsToNativeOutput() {
+		log("Enforcer uses native structured output");
+	    StructuredModel structured = new StructuredModel("{\"name\":\"Alice\"}");
+	    ChatModel model = CircuitBreakerChatModel.of(structured, CircuitBreaker.builder("test").build());
+	    JSONSchema schema = JSONSchema.object()
+	        .property("name", PropertySchema.string("Name"))
+	        .required("name")
+	        .build();
+	    SchemaResult result = new SchemaEnforcer(model, schema, 2).execute("prompt");
+	    assertTrue(result.isValid());
+	    assertEquals(List.of(schema), structured.schemas);
+	    assertEquals(0, structured.plainCalls);
+	}
+
+	@Test
+	void schemaNodeCanDisableNativeOutput() {
+		log("SchemaNode without native structured output");
+		record User(String name) {}
+	    StructuredModel structured = new StructuredModel("{\"name\":\"Bob\"}");
+	    SchemaNode<User> node = SchemaNode.builder(User.class)
+	        .model(structured)
+	        .schema(JSONSchema.object().property("name", PropertySchema.string("Name")).build())
+	        .nativeStructuredOutput(false)
+	        .build();
+	    assertEquals("Bob", node.process("prompt", new NodeContext()).name());
+	    assertTrue(structured.schemas.isEmpty());
+	    assertEquals(1, structured.plainCalls);
+	}
+
+	@Test
+	void retryAppendsOnlyErrorsToUnchangedConversation() {
+		log("Enforcer retries as a conversation");
+	    JSONSchema schema = JSONSchema.object()
+	        .property("name", PropertySchema.string("Name"))
+	        .required("name")
+	        .build();
+	    List<List<Message>> calls = new CopyOnWriteArrayList<>();
+	    String[] responses = {"{\"name\": 42}", "{\"name\":\"Alice\"}"};
+	    ChatModel model = new ChatModel() {
+	        @Override
+	        public LLMResponse chat(String input) {
+	            throw new AssertionError("single-prompt path used");
+	        }
+
+	        @Override
+	        public LLMResponse chat(List<Message> messages, JSONSchema responseSchema) {
+	            calls.add(messages);
+	            return LLMResponse.of(responses[calls.size() - 1]);
+	        }
+	    };
+	    SchemaResult result = new SchemaEnforcer(model, schema, 2).execute("prompt");
+
+	    assertTrue(result.isValid());
+	    List<Message> first = calls.get(0);
+	    List<Message> retry = calls.get(1);
+	    assertEquals(1, first.size());
+	    assertEquals(3, retry.size());
+	    assertEquals(first.get(0), retry.get(0));
+	    assertEquals(new Message("assistant", "{\"name\": 42}"), retry.get(1));
+	    assertEquals("user", retry.get(2).role());
+	    assertTrue(retry.get(2).content().contains("$.name"));
+	    assertFalse(retry.get(2).content().contains(schema.toJSON()));
+	}
+
+	@Test
+	void singlePromptModelsGetTranscriptWithUnchangedPrefix() {
+		log("Enforcer retries on single-prompt models");
+	    List<String> prompts = new CopyOnWriteArrayList<>();
+	    ChatModel model = input -> {
+	        prompts.add(input);
+	        return LLMResponse.of(prompts.size() == 1 ? "bad json" : "{\"name\":\"Alice\"}");
+	    };
+	    JSONSchema schema = JSONSchema.object()
+	        .property("name", PropertySchema.string("Name"))
+	        .required("name")
+	        .build();
+	    assertTrue(new SchemaEnforcer(model, schema, 2).execute("prompt").isValid());
+	    assertTrue(prompts.get(1).startsWith(prompts.get(0) + "\n\nASSISTANT:\nbad json\n\nUSER:\n"));
+	}
+
+	// records which entry point the enforcer used
+	private static final class StructuredModel implements ChatModel {
+		private final String response;
+		private final List<JSONSchema> schemas = new CopyOnWriteArrayList<>();
+		private volatile int plainCalls;
+
+		StructuredModel(String response) {
+			this.response = response;
+		}
+
+		@Override
+		public LLMResponse chat(String input) {
+			plainCalls++;
+			return LLMResponse.of(response);
+		}
+
+		@Override
+		public LLMResponse chatStructured(String input, JSONSchema responseSchema) {
+			schemas.add(responseSchema);
+			return LLMResponse.of(response);
+		}
+	}
+
 	@Test
 	void enforcerFailsAfterMaxRetries() {
 		log("Enforcer fails on max retries");
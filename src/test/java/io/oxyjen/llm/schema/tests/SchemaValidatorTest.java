@@ -0,0 +1,104 @@
+package io.oxyjen.llm.schema.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.schema.FieldError;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.schema.JSONSchema.PropertySchema;
+import io.oxyjen.llm.schema.SchemaValidator;
+import io.oxyjen.llm.schema.SchemaValidator.ValidationResult;
+
+class SchemaValidatorTest {
+
+    private static final JSONSchema ADDRESS = JSONSchema.object()
+            .property("zip", PropertySchema.string("zip").pattern("\\d{5}"))
+            .required("zip")
+            .build();
+
+    private static final JSONSchema ORDER = JSONSchema.object()
+            .property("id", PropertySchema.string("id").pattern("ord-[0-9]+").minLength(5))
+            .property("status", PropertySchema.enumOf("status", "open", "shipped"))
+            .property("qty", PropertySchema.number("qty").minimum(1).maximum(10))
+            .property("tags", PropertySchema.array(PropertySchema.string("tag").maxLength(3)))
+            .property("address", PropertySchema.object("address", ADDRESS))
+            .property("scores", PropertySchema.map("scores", PropertySchema.number("score")))
+            .required("id", "status")
+            .build();
+
+    @Test
+    void validDocumentPasses() {
+        ValidationResult result = SchemaValidator.of(ORDER).validate(Map.of(
+                "id", "ord-42",
+                "status", "shipped",
+                "qty", 3,
+                "tags", List.of("a", "bb"),
+                "address", Map.of("zip", "12345"),
+                "scores", Map.of("x", 1.5)
+        ));
+
+        assertTrue(result.isValid());
+        assertTrue(result.errors().isEmpty());
+    }
+
+    @Test
+    void reportsNestedPathsForEveryViolation() {
+        ValidationResult result = SchemaValidator.of(ORDER).validate(
+                "{\"id\":\"ord-x\",\"status\":\"lost\",\"qty\":11,"
+                + "\"tags\":[\"ok\",\"toolong\"],\"address\":{\"zip\":\"1234\"},"
+                + "\"scores\":{\"x\":\"high\"},\"extra\":true}");
+
+        assertFalse(result.isValid());
+        assertEquals(FieldError.ErrorType.UNKNOWN_FIELD, single(result, "$.extra").errorType());
+        assertEquals("pattern=ord-[0-9]+", single(result, "$.id").expected());
+        assertEquals(FieldError.ErrorType.INVALID_ENUM_VALUE, single(result, "$.status").errorType());
+        assertEquals("maximum=10", single(result, "$.qty").expected());
+        assertEquals("maxLength=3", single(result, "$.tags[1]").expected());
+        assertEquals("pattern=\\d{5}", single(result, "$.address.zip").expected());
+        assertEquals(FieldError.ErrorType.WRONG_TYPE, single(result, "$.scores.x").errorType());
+        assertEquals(7, result.errors().size());
+    }
+
+    @Test
+    void missingRequiredAndNullAreReported() {
+        HashMap<String, Object> data = new HashMap<>();
+        data.put("status", null);
+
+        ValidationResult result = SchemaValidator.of(ORDER).validate(data);
+
+        assertEquals(FieldError.ErrorType.MISSING_REQUIRED, single(result, "$.id").errorType());
+        assertEquals("non-null", single(result, "$.status").expected());
+    }
+
+    @Test
+    void validatorIsSharedPerSchemaInstance() {
+        assertSame(SchemaValidator.of(ORDER), SchemaValidator.of(ORDER));
+        assertSame(SchemaValidator.of(ADDRESS), SchemaValidator.of(ADDRESS));
+    }
+
+    @Test
+    void invalidPatternSurfacesAsError() {
+        JSONSchema broken = JSONSchema.object()
+                .property("code", PropertySchema.string("code").pattern("[unclosed"))
+                .build();
+
+        ValidationResult result = SchemaValidator.of(broken).validate("{\"code\":\"a\"}");
+
+        assertFalse(result.isValid());
+        assertEquals(FieldError.ErrorType.PARSE_ERROR, result.errors().get(0).errorType());
+    }
+
+    private static FieldError single(ValidationResult result, String path) {
+        List<FieldError> errors = result.getErrorsForField(path);
+        assertEquals(1, errors.size(), "errors at " + path + ": " + result.formatErrors());
+        return errors.get(0);
+    }
+}
@@ -0,0 +1,132 @@
+package io.oxyjen.llm.tokens.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.exceptions.TokenLimitExceededException;
+import io.oxyjen.llm.models.ChatRequest;
+import io.oxyjen.llm.models.TokenUsage;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.semantics.Message;
+import io.oxyjen.llm.tokens.ContextWindow;
+import io.oxyjen.llm.tokens.TokenEstimator;
+import io.oxyjen.llm.tokens.TokenEstimators;
+import io.oxyjen.llm.transport.openai.OpenAIChatModel;
+
+class TokenEstimatorTest {
+
+    @Test
+    void estimatesAreInPlausibleRange() {
+        TokenEstimator estimator = TokenEstimators.openai();
+        assertEquals(0, estimator.estimate((String) null));
+        assertEquals(0, estimator.estimate(""));
+
+        // "The quick brown fox jumps over the lazy dog." is 10 tokens in cl100k
+        int estimate = estimator.estimate("The quick brown fox jumps over the lazy dog.");
+        assertTrue(estimate >= 8 && estimate <= 13, "estimate was " + estimate);
+    }
+
+    @Test
+    void forModelPicksProviderEstimator() {
+        assertSame(TokenEstimators.openai(), TokenEstimators.forModel("gpt-4o"));
+        assertSame(TokenEstimators.gemini(), TokenEstimators.forModel("gemini-2.0-flash"));
+        assertSame(TokenEstimators.openai(), TokenEstimators.forModel("unknown-model"));
+    }
+
+    @Test
+    void truncateKeepsPrefixWithinBudget() {
+        TokenEstimator estimator = TokenEstimators.openai();
+        String text = "word ".repeat(1_000);
+
+        String cut = estimator.truncate(text, 100);
+
+        assertTrue(text.startsWith(cut));
+        assertTrue(estimator.estimate(cut) <= 100);
+        assertTrue(estimator.estimate(cut) >= 90);
+        assertSame(text, estimator.truncate(text, 10_000));
+    }
+
+    @Test
+    void rejectsOverlongPromptBeforeSending() {
+        // gpt-4 has an 8k context, this is far over it; the client never runs
+        OpenAIChatModel model = new OpenAIChatModel("sk-test", "gpt-4");
+        String prompt = "lorem ipsum dolor ".repeat(5_000);
+
+        TokenLimitExceededException e = assertThrows(
+                TokenLimitExceededException.class, () -> model.chat(prompt));
+        assertEquals(8192, e.getContextLimit());
+    }
+
+    @Test
+    void truncatePolicyFitsPromptIntoWindow() {
+        String prompt = "lorem ipsum dolor ".repeat(5_000);
+
+        String fitted = ContextWindow.fit("gpt-4", prompt, 1_000, ContextWindow.Overflow.TRUNCATE);
+
+        assertTrue(fitted.length() < prompt.length());
+        assertTrue(TokenEstimators.openai().estimate(fitted) <= 8192 - 1_000);
+        assertSame(prompt, ContextWindow.fit("gpt-4", prompt, null, ContextWindow.Overflow.ALLOW));
+    }
+
+    @Test
+    void truncatedPromptKeepsItsPrefixAcrossRepairTurns() throws Exception {
+        OpenAIChatModel model = new OpenAIChatModel("sk-test", "gpt-4")
+                .withMaxTokens(1_000)
+                .withContextOverflow(ContextWindow.Overflow.TRUNCATE);
+        String prompt = "lorem ipsum dolor ".repeat(5_000);
+        List<Message> first = List.of(new Message("user", prompt));
+        List<Message> retry = List.of(first.get(0),
+                new Message("assistant", "{\"name\": 1}"),
+                new Message("user", "Fix these errors: name must be a string"));
+
+        String sent = request(model, first).messages().get(0).content();
+        ChatRequest retried = request(model, retry);
+        String resent = retried.messages().get(0).content();
+
+        // the first attempt is cut exactly like a plain prompt
+        assertEquals(ContextWindow.fit("gpt-4", prompt, 1_000, ContextWindow.Overflow.TRUNCATE), sent);
+        // the retry fits and shares the first turn's beginning
+        assertTrue(sent.startsWith(resent));
+        assertEquals(3, retried.messages().size());
+        assertTrue(TokenEstimators.openai().estimate(Message.transcript(retried.messages())) <= 8192 - 1_000);
+    }
+
+    @Test
+    void fittingConversationIsResentUnchanged() throws Exception {
+        OpenAIChatModel model = new OpenAIChatModel("sk-test", "gpt-4")
+                .withContextOverflow(ContextWindow.Overflow.TRUNCATE);
+        String prompt = "lorem ipsum dolor ".repeat(100);
+        List<Message> retry = List.of(new Message("user", prompt),
+                new Message("assistant", "{}"),
+                new Message("user", "Fix these errors: name is required"));
+
+        assertSame(prompt, request(model, List.of(retry.get(0))).messages().get(0).content());
+        assertEquals(retry, request(model, retry).messages());
+    }
+
+    private static ChatRequest request(OpenAIChatModel model, List<Message> messages) throws Exception {
+        Method method = OpenAIChatModel.class.getDeclaredMethod("buildRequest", List.class, JSONSchema.class);
+        method.setAccessible(true);
+        return (ChatRequest) method.invoke(model, messages, null);
+    }
+
+    @Test
+    void fillMissingKeepsReportedAndEstimatesRest() {
+        List<Message> prompt = List.of(new Message("user", "hello there"));
+
+        TokenUsage reported = new TokenUsage(12, 5, 17);
+        assertSame(reported, TokenEstimators.fillMissing("gpt-4o", reported, prompt, "hi"));
+
+        TokenUsage filled = TokenEstimators.fillMissing("gpt-4o", new TokenUsage(0, 5, 5), prompt, "hi");
+        assertTrue(filled.promptTokens() > 0);
+        assertEquals(5, filled.completionTokens());
+        assertEquals(filled.promptTokens() + 5, filled.totalTokens());
+    }
+}
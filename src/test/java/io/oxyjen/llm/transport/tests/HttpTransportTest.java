@@ -0,0 +1,110 @@
+package io.oxyjen.llm.transport.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.oxyjen.llm.transport.HttpTransport;
+
+class HttpTransportTest {
+
+    private HttpServer server;
+    private final AtomicInteger headRequests = new AtomicInteger();
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                headRequests.incrementAndGet();
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void sharedTransportIsSingleton() {
+        assertSame(HttpTransport.shared(), HttpTransport.shared());
+        assertSame(HttpTransport.shared().client(), HttpTransport.shared().client());
+    }
+
+    @Test
+    void sharedTransportsAreKeyedByConnectTimeout() {
+        HttpTransport thirty = HttpTransport.shared(Duration.ofSeconds(30));
+
+        assertSame(HttpTransport.shared(), HttpTransport.shared(HttpTransport.DEFAULT_CONNECT_TIMEOUT));
+        assertSame(thirty, HttpTransport.shared(Duration.ofMillis(30_000)));
+        assertNotSame(HttpTransport.shared(), thirty);
+        assertEquals(Duration.ofSeconds(30), thirty.client().connectTimeout().orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> HttpTransport.shared(Duration.ZERO));
+    }
+
+    @Test
+    void newRequestAppliesDefaultTimeout() {
+        HttpTransport transport = HttpTransport.builder()
+                .requestTimeout(Duration.ofSeconds(7))
+                .build();
+        var request = transport.newRequest(URI.create(baseUrl)).GET().build();
+        assertEquals(Duration.ofSeconds(7), request.timeout().orElseThrow());
+    }
+
+    @Test
+    void sendAndSendAsyncReuseOneClient() throws Exception {
+        HttpTransport transport = HttpTransport.builder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        var request = transport.newRequest(URI.create(baseUrl + "/ping")).GET().build();
+
+        HttpResponse<String> sync = transport.send(request);
+        HttpResponse<String> async = transport.sendAsync(request).get(5, TimeUnit.SECONDS);
+
+        assertEquals("pong", sync.body());
+        assertEquals("pong", async.body());
+    }
+
+    @Test
+    void warmUpSendsHeadAndIgnoresFailures() throws Exception {
+        HttpTransport transport = HttpTransport.builder().build();
+        transport.warmUp(baseUrl, "http://127.0.0.1:1", "not a url")
+                .get(10, TimeUnit.SECONDS);
+        assertTrue(headRequests.get() >= 1);
+    }
+
+    @Test
+    void rejectsNonPositiveTimeouts() {
+        assertThrows(IllegalArgumentException.class,
+                () -> HttpTransport.builder().connectTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> HttpTransport.builder().requestTimeout(Duration.ofSeconds(-1)));
+    }
+}
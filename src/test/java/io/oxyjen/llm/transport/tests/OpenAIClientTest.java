@@ -0,0 +1,48 @@
+package io.oxyjen.llm.transport.tests;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.exceptions.NetworkException;
+import io.oxyjen.llm.models.ChatRequest;
+import io.oxyjen.llm.transport.HttpTransport;
+import io.oxyjen.llm.transport.openai.OpenAIClient;
+
+class OpenAIClientTest {
+
+    // a 1ms connect timeout fails the exchange before any byte is sent
+    private static final HttpTransport UNREACHABLE = HttpTransport.builder()
+            .connectTimeout(Duration.ofMillis(1))
+            .build();
+
+    private static final ChatRequest REQUEST = ChatRequest.builder()
+            .model("gpt-4o-mini")
+            .addMessage("user", "hi")
+            .build();
+
+    @Test
+    void asyncTransportFailureIsNetworkException() {
+        OpenAIClient client = new OpenAIClient("sk-test", UNREACHABLE);
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> client.chatAsync(REQUEST).get(30, TimeUnit.SECONDS));
+
+        NetworkException network = assertInstanceOf(NetworkException.class, failure.getCause());
+        assertInstanceOf(IOException.class, network.getCause());
+    }
+
+    @Test
+    void blockingTransportFailureIsNetworkException() {
+        OpenAIClient client = new OpenAIClient("sk-test", UNREACHABLE);
+
+        NetworkException network = assertThrows(NetworkException.class, () -> client.chat(REQUEST));
+        assertInstanceOf(IOException.class, network.getCause());
+    }
+}
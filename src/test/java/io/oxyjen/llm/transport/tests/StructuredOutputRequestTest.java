@@ -0,0 +1,154 @@
+package io.oxyjen.llm.transport.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.Models;
+import io.oxyjen.llm.models.ChatRequest;
+import io.oxyjen.llm.schema.JSONSchema;
+import io.oxyjen.llm.schema.JSONSchema.PropertySchema;
+import io.oxyjen.llm.schema.ResponseSchemas;
+import io.oxyjen.llm.transport.gemini.GeminiClient;
+import io.oxyjen.llm.transport.openai.OpenAIClient;
+import io.oxyjen.llm.transport.openai.OpenAIModels;
+import io.oxyjen.util.JsonParser;
+
+class StructuredOutputRequestTest {
+
+    private static final JSONSchema ORDER = JSONSchema.object()
+            .property("id", PropertySchema.string("Order \"id\"").pattern("ord-\\d+"))
+            .property("status", PropertySchema.enumOf("status", "open", "shipped"))
+            .property("tags", PropertySchema.array(PropertySchema.string("tag")))
+            .required("status", "id")
+            .build();
+
+    private static final ChatRequest REQUEST = ChatRequest.builder()
+            .model("m")
+            .addMessage("user", "hi")
+            .responseSchema(ORDER)
+            .build();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void openAIBodyCarriesJsonSchemaResponseFormat() throws Exception {
+        Map<String, Object> body = body(new OpenAIClient("sk-test"), REQUEST);
+
+        Map<String, Object> format = (Map<String, Object>) body.get("response_format");
+        assertEquals("json_schema", format.get("type"));
+        Map<String, Object> jsonSchema = (Map<String, Object>) format.get("json_schema");
+        assertEquals(false, jsonSchema.get("strict"));
+        Map<String, Object> schema = (Map<String, Object>) jsonSchema.get("schema");
+        assertEquals("object", schema.get("type"));
+        assertEquals(List.of("id", "status"), schema.get("required"));
+        Map<String, Object> id = (Map<String, Object>) ((Map<String, Object>) schema.get("properties")).get("id");
+        assertEquals("Order \"id\"", id.get("description"));
+        assertEquals("ord-\\d+", id.get("pattern"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void geminiBodyCarriesResponseSchema() throws Exception {
+        Map<String, Object> body = body(new GeminiClient("key"), REQUEST);
+
+        Map<String, Object> config = (Map<String, Object>) body.get("generationConfig");
+        assertEquals("application/json", config.get("responseMimeType"));
+        Map<String, Object> schema = (Map<String, Object>) config.get("responseSchema");
+        assertEquals("OBJECT", schema.get("type"));
+        Map<String, Object> properties = (Map<String, Object>) schema.get("properties");
+        Map<String, Object> status = (Map<String, Object>) properties.get("status");
+        assertEquals("enum", status.get("format"));
+        assertEquals(List.of("open", "shipped"), status.get("enum"));
+        Map<String, Object> tags = (Map<String, Object>) properties.get("tags");
+        assertEquals("STRING", ((Map<String, Object>) tags.get("items")).get("type"));
+        assertFalse(((Map<String, Object>) properties.get("id")).containsKey("pattern"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void geminiFallsBackToJsonModeForMaps() throws Exception {
+        JSONSchema scores = JSONSchema.object()
+                .property("scores", PropertySchema.map("scores", PropertySchema.number("score")))
+                .build();
+        assertNull(ResponseSchemas.openApiSchema(scores));
+
+        Map<String, Object> body = body(new GeminiClient("key"),
+                ChatRequest.builder().model("m").addMessage("user", "hi").responseSchema(scores).build());
+
+        Map<String, Object> config = (Map<String, Object>) body.get("generationConfig");
+        assertEquals("application/json", config.get("responseMimeType"));
+        assertFalse(config.containsKey("responseSchema"));
+    }
+
+    @Test
+    void plainRequestsAreUnchanged() throws Exception {
+        ChatRequest plain = ChatRequest.builder().model("m").addMessage("user", "hi").build();
+
+        assertFalse(body(new OpenAIClient("sk-test"), plain).containsKey("response_format"));
+        assertFalse(body(new GeminiClient("key"), plain).containsKey("generationConfig"));
+    }
+
+    @Test
+    void openAIOmitsResponseFormatForModelsWithoutStructuredOutput() throws Exception {
+        for (String model : List.of(Models.GPT_4, Models.GPT_4_TURBO, Models.GPT_35_TURBO)) {
+            ChatRequest request = ChatRequest.builder()
+                    .model(model)
+                    .addMessage("user", "hi")
+                    .responseSchema(ORDER)
+                    .build();
+            ChatRequest plain = ChatRequest.builder().model(model).addMessage("user", "hi").build();
+
+            assertFalse(OpenAIModels.supportsStructuredOutput(model));
+            assertEquals(body(new OpenAIClient("sk-test"), plain), body(new OpenAIClient("sk-test"), request));
+        }
+        assertTrue(OpenAIModels.supportsStructuredOutput(Models.GPT_4O_MINI));
+        assertTrue(OpenAIModels.supportsStructuredOutput(Models.GPT_41_NANO));
+    }
+
+    @Test
+    void translationsAreBuiltOncePerSchema() {
+        assertSame(ResponseSchemas.openApiSchema(ORDER), ResponseSchemas.openApiSchema(ORDER));
+        assertSame(ResponseSchemas.jsonSchema(ORDER), ResponseSchemas.jsonSchema(ORDER));
+        assertThrows(UnsupportedOperationException.class,
+                () -> ResponseSchemas.openApiSchema(ORDER).put("type", "STRING"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void geminiEnumFormatIsOnlyForStrings() {
+        JSONSchema schema = JSONSchema.object()
+                .property("level", PropertySchema.number("level").enumValues(List.of("1", "2")))
+                .property("status", PropertySchema.enumOf("status", "open"))
+                .build();
+
+        Map<String, Object> properties =
+                (Map<String, Object>) ResponseSchemas.openApiSchema(schema).get("properties");
+        Map<String, Object> level = (Map<String, Object>) properties.get("level");
+        assertFalse(level.containsKey("format"));
+        assertFalse(level.containsKey("enum"));
+        assertEquals("enum", ((Map<String, Object>) properties.get("status")).get("format"));
+    }
+
+    @Test
+    void translationIsStableAcrossCalls() {
+        assertTrue(ResponseSchemas.jsonSchema(ORDER).equals(ResponseSchemas.jsonSchema(ORDER)));
+        assertEquals(List.of("id", "status", "tags"),
+                List.copyOf(((Map<?, ?>) ResponseSchemas.jsonSchema(ORDER).get("properties")).keySet()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> body(Object client, ChatRequest request) throws Exception {
+        Method method = client.getClass().getDeclaredMethod("buildJsonBody", ChatRequest.class);
+        method.setAccessible(true);
+        return (Map<String, Object>) JsonParser.parse((String) method.invoke(client, request));
+    }
+}
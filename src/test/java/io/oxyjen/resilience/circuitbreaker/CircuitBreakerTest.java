@@ -0,0 +1,204 @@
+package io.oxyjen.resilience.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.execution.ExecutionEvent;
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMChain;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.exceptions.CircuitOpenException;
+import io.oxyjen.llm.exceptions.NetworkException;
+import io.oxyjen.llm.exceptions.TokenLimitExceededException;
+import io.oxyjen.observe.ObservationBus;
+
+class CircuitBreakerTest {
+
+    private static CircuitBreaker.Builder smallWindow(String name) {
+        return CircuitBreaker.builder(name)
+                .slidingWindowSize(4)
+                .minimumCalls(4)
+                .failureRateThreshold(0.5)
+                .waitDurationInOpen(Duration.ofMillis(100))
+                .permittedCallsInHalfOpen(1);
+    }
+
+    @Test
+    void opensOnFailureRateAndRejectsWithoutCallingProvider() {
+        CircuitBreaker breaker = smallWindow("p").build();
+        AtomicInteger calls = new AtomicInteger();
+        ChatModel model = CircuitBreakerChatModel.of(input -> {
+            calls.incrementAndGet();
+            throw new NetworkException("down", null);
+        }, breaker);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(NetworkException.class, () -> model.chat("x"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        assertThrows(CircuitOpenException.class, () -> model.chat("x"));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void halfOpenTrialClosesOnSuccess() throws Exception {
+        CircuitBreaker breaker = smallWindow("p").build();
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onError(0, new NetworkException("down", null));
+        }
+        Thread.sleep(150);
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(!breaker.tryAcquirePermission(), "only one trial call permitted");
+        breaker.onSuccess(0);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void opensOnSlowCallRate() {
+        CircuitBreaker breaker = smallWindow("p")
+                .slowCallDuration(Duration.ofMillis(10))
+                .slowCallRateThreshold(0.75)
+                .build();
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquirePermission();
+            breaker.onSuccess(Duration.ofMillis(20).toNanos());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void ignoresRequestSpecificErrors() {
+        CircuitBreaker breaker = smallWindow("p").build();
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquirePermission();
+            breaker.onError(0, new TokenLimitExceededException("too long", 8192));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void chainSkipsOpenPrimaryAndEmitsTransition() {
+        CircuitBreaker breaker = smallWindow("primary").waitDurationInOpen(Duration.ofMinutes(1)).build();
+        AtomicInteger primaryCalls = new AtomicInteger();
+        ChatModel primary = CircuitBreakerChatModel.of(input -> {
+            primaryCalls.incrementAndGet();
+            throw new NetworkException("down", null);
+        }, breaker);
+        ChatModel fallback = input -> LLMResponse.of("fallback");
+
+        ObservationBus bus = new ObservationBus();
+        List<ExecutionEvent> events = new CopyOnWriteArrayList<>();
+        bus.register(events::add);
+
+        LLMChain chain = LLMChain.builder()
+                .primary(primary)
+                .fallback(fallback)
+                .retry(4)
+                .fixedBackoff()
+                .maxBackoff(Duration.ofMillis(1))
+                .observationBus(bus)
+                .nodeId("llm")
+                .build();
+
+        // first call: 4 failures open the breaker, fallback answers
+        assertEquals("fallback", chain.chat("x", "exec-1").text());
+        // second call: primary is skipped outright
+        assertEquals("fallback", chain.chat("x", "exec-2").text());
+        assertEquals(4, primaryCalls.get());
+
+        ExecutionEvent.CircuitBreakerStateChanged changed = events.stream()
+                .filter(ExecutionEvent.CircuitBreakerStateChanged.class::isInstance)
+                .map(ExecutionEvent.CircuitBreakerStateChanged.class::cast)
+                .findFirst()
+                .orElseThrow();
+        assertEquals("exec-1", changed.executionId());
+        assertEquals("CLOSED", changed.from());
+        assertEquals("OPEN", changed.to());
+    }
+
+    @Test
+    void interruptedHedgeLoserDoesNotTripBreaker() {
+        CircuitBreaker breaker = smallWindow("primary").build();
+        ChatModel primary = CircuitBreakerChatModel.of(input -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                throw new RuntimeException("Request interrupted", e);
+            }
+            return LLMResponse.of("primary");
+        }, breaker);
+        LLMChain chain = LLMChain.builder()
+                .primary(primary)
+                .hedgeWith(input -> LLMResponse.of("hedge"))
+                .hedge(Duration.ofMillis(10))
+                .hedgeBudget(1.0)
+                .build();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("hedge", chain.chat("x").text());
+            assertFalse(Thread.currentThread().isInterrupted());
+        }
+        assertEquals(4, chain.hedgeMetrics().hedgeWins());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void cancelledHedgeLoserDoesNotTripBreaker() throws Exception {
+        CircuitBreaker breaker = smallWindow("primary").build();
+        List<CompletableFuture<LLMResponse>> exchanges = new CopyOnWriteArrayList<>();
+        ChatModel primary = CircuitBreakerChatModel.of(new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                CompletableFuture<LLMResponse> exchange = new CompletableFuture<>();
+                exchanges.add(exchange);
+                return exchange;
+            }
+        }, breaker);
+        AsyncChatModel hedge = new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                return CompletableFuture.completedFuture(LLMResponse.of("hedge"));
+            }
+        };
+        LLMChain chain = LLMChain.builder()
+                .primary(primary)
+                .hedgeWith(hedge)
+                .hedge(Duration.ofMillis(10))
+                .hedgeBudget(1.0)
+                .build();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("hedge", chain.chatAsync("x", Runnable::run).get(5, TimeUnit.SECONDS).text());
+        }
+        assertEquals(4, exchanges.size());
+        assertTrue(exchanges.stream().allMatch(CompletableFuture::isCancelled));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+}
@@ -0,0 +1,127 @@
+package io.oxyjen.resilience.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.AsyncChatModel;
+import io.oxyjen.llm.LLMResponse;
+
+class AsyncAcquireTest {
+
+    @Test
+    void acquireAsyncReturnsWithoutBlockingTheCaller() throws Exception {
+        // 600 rpm = one slot per 100ms
+        RateLimiter limiter = RateLimiters.fixedInterval(600);
+
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<Void>> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(limiter.acquireAsync());
+        }
+        assertTrue(System.currentTimeMillis() - start < 50, "acquireAsync must not sleep");
+        assertFalse(permits.get(3).isDone());
+
+        CompletableFuture.allOf(permits.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue(elapsed >= 250, "slots should still be paced, elapsed " + elapsed + "ms");
+    }
+
+    @Test
+    void adaptiveAsyncWaitsOutA429Block() throws Exception {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(6_000);
+        limiter.on429(200);
+
+        long start = System.currentTimeMillis();
+        limiter.acquireAsync().get(5, TimeUnit.SECONDS);
+
+        assertTrue(System.currentTimeMillis() - start >= 150);
+    }
+
+    @Test
+    void adaptiveAsyncKeepsItsSlotWhenA429ArrivesAfterReserving() throws Exception {
+        // 600 rpm = one slot per 100ms
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(600);
+        long start = System.currentTimeMillis();
+        limiter.acquireAsync().get(5, TimeUnit.SECONDS);
+        CompletableFuture<Void> reserved = limiter.acquireAsync();
+        limiter.on429(300);
+
+        reserved.get(5, TimeUnit.SECONDS);
+        long released = System.currentTimeMillis() - start;
+        limiter.acquireAsync().get(5, TimeUnit.SECONDS);
+        long next = System.currentTimeMillis() - start;
+
+        // the reserved call goes as soon as the block ends, and the next
+        // slot follows it at the normal interval
+        assertTrue(released >= 250 && released < 380, "released after " + released + "ms");
+        assertTrue(next < 480, "next slot after " + next + "ms");
+    }
+
+    @Test
+    void cancelledTokenBucketWaitRefundsPermit() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 1, false);
+        limiter.acquire();
+
+        CompletableFuture<Void> waiting = limiter.acquireAsync();
+        waiting.cancel(false);
+
+        assertTrue(limiter.availablePermits() > -0.5);
+    }
+
+    @Test
+    void chatAsyncRunsCallOnGivenExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "chat-worker"));
+        try {
+            RateLimitedChatModel model = RateLimitedChatModel.of(
+                input -> LLMResponse.of(Thread.currentThread().getName()),
+                RateLimiters.tokenBucket(6_000, 2));
+
+            LLMResponse response = model.chatAsync("hi", executor).get(5, TimeUnit.SECONDS);
+
+            assertEquals("chat-worker", response.text());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void asyncDelegateIsCalledOnceThePermitIsAvailable() throws Exception {
+        AtomicInteger started = new AtomicInteger();
+        AsyncChatModel async = new AsyncChatModel() {
+            @Override
+            public LLMResponse chat(String input) {
+                throw new AssertionError("blocking path must not be used");
+            }
+
+            @Override
+            public CompletableFuture<LLMResponse> chatAsync(String input) {
+                started.incrementAndGet();
+                return CompletableFuture.completedFuture(LLMResponse.of(input));
+            }
+        };
+        // 600 rpm = one slot per 100ms
+        RateLimitedChatModel model = RateLimitedChatModel.of(async, RateLimiters.fixedInterval(600));
+
+        long start = System.currentTimeMillis();
+        CompletableFuture<LLMResponse> first = model.chatAsync("a");
+        CompletableFuture<LLMResponse> second = model.chatAsync("b");
+        assertTrue(System.currentTimeMillis() - start < 50, "chatAsync must not wait for the permit");
+        assertTrue(model.supportsAsync());
+
+        assertEquals("a", first.get(5, TimeUnit.SECONDS).text());
+        assertEquals("b", second.get(5, TimeUnit.SECONDS).text());
+        assertTrue(System.currentTimeMillis() - start >= 80, "second call should wait for its slot");
+        assertEquals(2, started.get());
+    }
+}
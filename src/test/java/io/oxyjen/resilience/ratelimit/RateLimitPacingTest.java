@@ -0,0 +1,105 @@
+package io.oxyjen.resilience.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.models.RateLimitStatus;
+import io.oxyjen.llm.transport.RateLimitHeaders;
+
+class RateLimitPacingTest {
+
+    @Test
+    void parsesProviderDurations() {
+        assertEquals(Duration.ofMillis(20), RateLimitHeaders.parseDuration("20ms"));
+        assertEquals(Duration.ofMinutes(6), RateLimitHeaders.parseDuration("6m0s"));
+        assertEquals(Duration.ofMillis(17_280), RateLimitHeaders.parseDuration("17.28s"));
+        assertEquals(Duration.ofSeconds(3723), RateLimitHeaders.parseDuration("1h2m3s"));
+        assertEquals(Duration.ofSeconds(30), RateLimitHeaders.parseDuration("30"));
+        assertNull(RateLimitHeaders.parseDuration("soon"));
+        assertNull(RateLimitHeaders.parseDuration("5s later"));
+    }
+
+    @Test
+    void parsesRateLimitHeaders() {
+        HttpHeaders headers = HttpHeaders.of(Map.of(
+                "x-ratelimit-limit-requests", List.of("500"),
+                "x-ratelimit-remaining-requests", List.of("12"),
+                "x-ratelimit-reset-requests", List.of("1m30s"),
+                "X-RateLimit-Remaining-Tokens", List.of("4000"),
+                "x-ratelimit-reset-tokens", List.of("250ms")
+        ), (name, value) -> true);
+
+        RateLimitStatus status = RateLimitHeaders.parse(headers);
+
+        assertEquals(500L, status.limitRequests());
+        assertEquals(12L, status.remainingRequests());
+        assertEquals(Duration.ofSeconds(90), status.resetRequests());
+        assertNull(status.limitTokens());
+        assertEquals(4000L, status.remainingTokens());
+        assertEquals(Duration.ofSeconds(90), status.resetAll());
+        assertNull(RateLimitHeaders.parse(HttpHeaders.of(Map.of(), (name, value) -> true)));
+    }
+
+    @Test
+    void adaptiveLimiterSpreadsRemainingRequestsUntilReset() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(6_000); // 10ms apart
+        ChatModel model = RateLimitedChatModel.of(
+                respondingWith(new RateLimitStatus(null, 5L, Duration.ofSeconds(10), null, null, null)),
+                limiter);
+
+        model.chat("hi");
+
+        assertEquals(2_000, limiter.currentIntervalMs());
+        assertEquals(0, limiter.getBlockedUntil());
+    }
+
+    @Test
+    void adaptiveLimiterBlocksWhenNoRequestsRemain() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(6_000);
+        ChatModel model = RateLimitedChatModel.of(
+                respondingWith(new RateLimitStatus(null, 0L, Duration.ofSeconds(20), null, null, null)),
+                limiter);
+
+        long before = System.currentTimeMillis();
+        model.chat("hi");
+
+        assertTrue(limiter.getBlockedUntil() - before >= 19_000);
+    }
+
+    @Test
+    void plentyOfQuotaKeepsTheConfiguredInterval() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(6_000);
+        limiter.onRateLimitStatus(new RateLimitStatus(null, 4_999L, Duration.ofMillis(12), null, null, null));
+
+        assertEquals(10, limiter.currentIntervalMs());
+    }
+
+    @Test
+    void tokenLimiterNeverHoldsMoreThanTheProviderReports() {
+        TokenRateLimiter limiter = TokenRateLimiter.builder().tokensPerMinute(60_000).build();
+        ChatModel model = RateLimitedChatModel.of(
+                respondingWith(new RateLimitStatus(null, null, null, 60_000L, 1_500L, Duration.ofSeconds(30))),
+                limiter);
+
+        model.chat("hi");
+
+        assertTrue(limiter.availableTokens() <= 1_600, "got " + limiter.availableTokens());
+
+        limiter.onRateLimitStatus(new RateLimitStatus(null, null, null, 60_000L, 0L, Duration.ofSeconds(5)));
+        assertTrue(limiter.availableTokens() <= -4_000, "got " + limiter.availableTokens());
+    }
+
+    private static ChatModel respondingWith(RateLimitStatus status) {
+        return input -> new LLMResponse("ok", 10L, 10L, 0L, null, null, status);
+    }
+}
@@ -0,0 +1,56 @@
+package io.oxyjen.resilience.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SharedFileRateLimiterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void instancesOnSameFileSharePacing() throws Exception {
+        // two mappings of one file behave like two processes
+        Path file = dir.resolve("limiter.state");
+        SharedFileRateLimiter a = new SharedFileRateLimiter(file, 600); // 100ms slots
+        SharedFileRateLimiter b = new SharedFileRateLimiter(file, 600);
+
+        long start = System.currentTimeMillis();
+        a.acquire();
+        b.acquire();
+        a.acquire();
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed >= 180, "slots should be shared, elapsed " + elapsed + "ms");
+    }
+
+    @Test
+    void blockIsVisibleThroughOtherMapping() throws Exception {
+        Path file = dir.resolve("limiter.state");
+        SharedFileRateLimiter a = new SharedFileRateLimiter(file, 6_000);
+        SharedFileRateLimiter b = new SharedFileRateLimiter(file, 6_000);
+
+        a.on429(200);
+        assertEquals(a.getBlockedUntil(), b.getBlockedUntil());
+
+        long start = System.currentTimeMillis();
+        b.acquire();
+        assertTrue(System.currentTimeMillis() - start >= 150);
+    }
+
+    @Test
+    void blockOnlyMovesForward() {
+        SharedFileRateLimiter limiter = new SharedFileRateLimiter(dir.resolve("s"), 60);
+        limiter.on429(10_000);
+        long blocked = limiter.getBlockedUntil();
+
+        limiter.on429(10);
+
+        assertEquals(blocked, limiter.getBlockedUntil());
+    }
+}
@@ -0,0 +1,124 @@
+package io.oxyjen.resilience.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void burstIsServedImmediatelyThenPaced() throws Exception {
+        // 600 rpm = one permit per 100ms, bank of 5
+        RateLimiter limiter = RateLimiters.tokenBucket(600, 5);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+        assertTrue(System.currentTimeMillis() - start < 50, "burst should not wait");
+
+        limiter.acquire();
+        limiter.acquire();
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue(elapsed >= 150, "post-burst permits should be paced, elapsed " + elapsed + "ms");
+    }
+
+    @Test
+    void concurrentWaitersAreAllServedAtConfiguredRate() throws Exception {
+        RateLimiter limiter = RateLimiter.builder()
+            .algorithm(RateLimiter.Algorithm.TOKEN_BUCKET)
+            .requestsPerMinute(1_200) // 50ms per permit
+            .burstCapacity(1)
+            .fair(true)
+            .build();
+
+        long start = System.currentTimeMillis();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    limiter.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join(5_000);
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        // first permit is free, the other 7 are spaced 50ms apart
+        assertTrue(elapsed >= 300, "elapsed " + elapsed + "ms");
+    }
+
+    @Test
+    void interruptedWaiterReturnsItsReservation() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 1, false);
+        limiter.acquire(); // drain, next permit is 1s away
+
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        waiter.start();
+        Thread.sleep(50);
+        waiter.interrupt();
+        waiter.join(2_000);
+
+        assertTrue(interrupted.get());
+        assertTrue(limiter.availablePermits() > -0.5, "reservation should be refunded");
+    }
+
+    @Test
+    void waiterBehindAnInterruptedOneMovesUp() throws Exception {
+        // 150 rpm = one permit per 400ms
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(150, 1, false);
+        limiter.acquire();
+
+        Thread first = new Thread(() -> {
+            try {
+                limiter.acquire(); // due at +400ms
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        first.start();
+        Thread.sleep(50);
+
+        long start = System.currentTimeMillis();
+        Thread second = new Thread(() -> {
+            try {
+                limiter.acquire(); // due at +800ms, +400ms once first gives up
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        second.start();
+        Thread.sleep(50);
+        first.interrupt();
+        second.join(2_000);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertTrue(elapsed < 600, "second waiter should take the freed slot, elapsed " + elapsed + "ms");
+    }
+
+    @Test
+    void rejectsNonPositiveBurst() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder()
+            .algorithm(RateLimiter.Algorithm.TOKEN_BUCKET)
+            .requestsPerMinute(60)
+            .burstCapacity(0)
+            .build());
+    }
+}
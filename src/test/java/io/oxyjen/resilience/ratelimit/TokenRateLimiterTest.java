@@ -0,0 +1,115 @@
+package io.oxyjen.resilience.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.oxyjen.llm.ChatModel;
+import io.oxyjen.llm.LLMResponse;
+import io.oxyjen.llm.exceptions.NetworkException;
+
+class TokenRateLimiterTest {
+
+    @Test
+    void reservesWithinBudgetWithoutWaiting() throws Exception {
+        TokenRateLimiter limiter = TokenRateLimiter.builder()
+            .tokensPerMinute(6_000)
+            .build();
+
+        long start = System.currentTimeMillis();
+        assertEquals(1_000, limiter.acquireTokens(1_000));
+        assertTrue(System.currentTimeMillis() - start < 50);
+        assertTrue(limiter.availableTokens() < 5_100);
+    }
+
+    @Test
+    void waitsForRefillWhenBucketIsInDebt() throws Exception {
+        // 60k TPM refills 1 token per ms
+        TokenRateLimiter limiter = TokenRateLimiter.builder()
+            .tokensPerMinute(60_000)
+            .build();
+        limiter.acquireTokens(60_000);
+
+        long start = System.currentTimeMillis();
+        limiter.acquireTokens(200);
+        long waited = System.currentTimeMillis() - start;
+
+        assertTrue(waited >= 150, "waited " + waited + "ms");
+    }
+
+    @Test
+    void interruptedWaitRefundsItsReservation() throws Exception {
+        // 6k TPM refills 1 token per 10ms
+        TokenRateLimiter limiter = TokenRateLimiter.builder()
+            .tokensPerMinute(6_000)
+            .build();
+        limiter.acquireTokens(6_000);
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> limiter.acquireTokens(3_000));
+
+        // only the first reservation is still charged
+        assertTrue(limiter.availableTokens() > -100, "available " + limiter.availableTokens());
+    }
+
+    @Test
+    void reconcileRefundsOverEstimate() throws Exception {
+        TokenRateLimiter limiter = TokenRateLimiter.builder()
+            .tokensPerMinute(10_000)
+            .build();
+        int reserved = limiter.acquireTokens(5_000);
+
+        limiter.reconcile(reserved, 1_000L);
+
+        assertTrue(limiter.availableTokens() >= 9_000);
+    }
+
+    @Test
+    void rateLimitedModelReconcilesWithReportedUsage() {
+        TokenRateLimiter limiter = TokenRateLimiter.builder()
+            .tokensPerMinute(100_000)
+            .expectedOutputTokens(10_000)
+            .build();
+        ChatModel model = new RateLimitedChatModel(
+            input -> new LLMResponse("ok", 10L, 5L, 0L, null, null), limiter);
+
+        model.chat("hello");
+
+        // 10k expected output was reserved, only 15 tokens were used
+        assertTrue(limiter.availableTokens() >= 99_900);
+    }
+
+    @Test
+    void rateLimitedModelRefundsReservationWhenCallFails() {
+        TokenRateLimiter limiter = TokenRateLimiter.builder()
+            .tokensPerMinute(100_000)
+            .expectedOutputTokens(10_000)
+            .build();
+        ChatModel model = new RateLimitedChatModel(input -> {
+            throw new NetworkException("connection reset", null);
+        }, limiter);
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(NetworkException.class, () -> model.chat("hello"));
+        }
+
+        // five 10k reservations would leave ~50k; failures must not drain the budget
+        assertTrue(limiter.availableTokens() >= 99_900);
+    }
+
+    @Test
+    void builderWrapsRequestLimiterWhenTpmIsSet() {
+        RateLimiter limiter = RateLimiter.builder()
+            .requestsPerMinute(600)
+            .tokensPerMinute(90_000)
+            .build();
+
+        TokenRateLimiter tokens = assertInstanceOf(TokenRateLimiter.class, limiter);
+        assertEquals(90_000, tokens.tokensPerMinute());
+        assertThrows(IllegalArgumentException.class,
+            () -> TokenRateLimiter.builder().tokensPerMinute(0).build());
+    }
+}
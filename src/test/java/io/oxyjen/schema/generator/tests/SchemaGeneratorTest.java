@@ -1,6 +1,7 @@
 package io.oxyjen.schema.generator.tests;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -253,6 +254,17 @@ public class SchemaGeneratorTest {
 	    print("json",json);
 	    assertTrue(json.contains("\"type\":\"object\""));
 	}
-
-	
-}
\ No newline at end of file
+	@Test
+	void schemaIsGeneratedOncePerClass() {
+	    record Item(String name, int qty) {}
+	    JSONSchema first = SchemaGenerator.fromClass(Item.class);
+	    assertSame(first, SchemaGenerator.fromClass(Item.class));
+	    assertSame(first.toJSON(), SchemaGenerator.fromClass(Item.class).toJSON());
+	}
+	@Test
+	void failedGenerationIsNotCached() {
+	    record Node(Node parent) {}
+	    assertThrows(IllegalArgumentException.class, () -> SchemaGenerator.fromClass(Node.class));
+	    assertThrows(IllegalArgumentException.class, () -> SchemaGenerator.fromClass(Node.class));
+	}
+}
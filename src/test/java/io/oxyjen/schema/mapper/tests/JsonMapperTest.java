@@ -503,4 +503,46 @@ public class JsonMapperTest {
 		out.println("@JsonIgnore:"+basic.value());
 	}
 
+	public static class Wallet {
+		private String owner;
+		private List<Integer> balances;
+		public void setOwner(String owner) { this.owner = owner; }
+		public void setBalances(List<Integer> balances) { this.balances = balances; }
+	}
+	@Test
+	void shouldDeserializePojoThroughSetters() {
+		for (int i = 0; i < 3; i++) {
+			Wallet wallet = JsonMapper.deserialize("""
+					{"owner":"ann","balances":[1,2]}
+					""", Wallet.class);
+			assertEquals("ann", wallet.owner);
+			assertEquals(List.of(1, 2), wallet.balances);
+		}
+		assertThrows(IllegalArgumentException.class, () ->
+			JsonMapper.deserialize("{\"owner\":\"ann\",\"id\":1}", Wallet.class));
+	}
+	record Positive(int value) {
+		Positive {
+			if (value <= 0) throw new IllegalArgumentException("value must be positive");
+		}
+	}
+	@Test
+	void shouldPropagateRecordConstructorFailure() {
+		assertEquals(3, JsonMapper.deserialize("{\"value\":3}", Positive.class).value());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+			JsonMapper.deserialize("{\"value\":-1}", Positive.class));
+		assertEquals("value must be positive", e.getMessage());
+	}
+	public static class NoDefault {
+		public NoDefault(String x) {}
+		public void setX(String x) {}
+	}
+	@Test
+	void shouldFailPojoWithoutNoArgConstructor() {
+		for (int i = 0; i < 2; i++) {
+			RuntimeException e = assertThrows(RuntimeException.class, () ->
+				JsonMapper.deserialize("{\"x\":\"a\"}", NoDefault.class));
+			assertTrue(e.getMessage().contains("no-arg constructor"));
+		}
+	}
 }
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -57,13 +58,15 @@ public class JsonParserTest {
 	void shouldParseDecimal() {
 	    Object result = JsonParser.parse("3.14");
 	    out.println(result);
-	    assertEquals(new BigDecimal("3.14"), result);
+	    assertEquals(3.14, result);
+	    assertEquals(new BigDecimal("3.14"), JsonParser.parseExact("3.14"));
 	}
 	@Test
 	void shouldParseExponent() {
 	    Object result = JsonParser.parse("1e3");
 	    out.println(result);
-	    assertEquals(new BigDecimal("1e3"), result);
+	    assertEquals(1000.0, result);
+	    assertEquals(new BigDecimal("1e3"), JsonParser.parseExact("1e3"));
 	}
 	@Test
 	void shouldParseBigInteger() {
@@ -165,4 +168,49 @@ public class JsonParserTest {
 	    assertTrue(result instanceof List);
 	}
 
+	@Test
+	void shouldParseDoublesLikeDoubleParseDouble() {
+	    String[] inputs = {"0.1", "-0.0", "123.456", "1.5e-7", "2.5E+21", "0.30000000000000004",
+	            "1234567890.123456789", "4.9e-324", "1.7976931348623157e308", "12345678901234.5e-3"};
+	    for (String input : inputs) {
+	        assertEquals(Double.parseDouble(input), JsonParser.parse(input), input);
+	    }
+	}
+	@Test
+	void shouldParseStringsWithMixedEscapes() {
+	    Object result = JsonParser.parse("\"plain \\\"quoted\\\" tab\\t\\u00e9 end\"");
+	    assertEquals("plain \"quoted\" tab\t\u00e9 end", result);
+	}
+	@Test
+	void shouldParseUtf8Bytes() {
+	    Object result = JsonParser.parse("{\"name\":\"Zo\u00eb\"}".getBytes(StandardCharsets.UTF_8));
+	    assertEquals(Map.of("name", "Zo\u00eb"), result);
+	}
+	@Test
+	void shouldParseLazilyAndMaterializeOnAccess() {
+	    String json = "{\"a\":{\"b\":[1,2,{\"c\":true}]},\"d\":\"x\"}";
+	    Object lazy = JsonParser.parseLazy(json);
+	    assertEquals(JsonParser.parse(json), lazy);
+	    @SuppressWarnings("unchecked")
+	    Map<String, Object> map = (Map<String, Object>) lazy;
+	    map.put("e", 1L);
+	    assertEquals(3, map.size());
+	    assertEquals(List.of(1L, 2L, Map.of("c", true)), ((Map<?, ?>) map.get("a")).get("b"));
+	}
+	@Test
+	void shouldValidateWholeDocumentInLazyMode() {
+	    assertThrows(IllegalArgumentException.class,
+	            () -> JsonParser.parseLazy("{\"a\":{\"b\":[1,2,}]}}"));
+	}
+	@Test
+	void shouldMaterializeDeeplyNestedSiblingsInLazyMode() {
+	    StringBuilder json = new StringBuilder();
+	    for (int i = 0; i < 40; i++) {
+	        json.append("{\"s").append(i).append("\":[\"x\",{},[]],\"n\":");
+	    }
+	    json.append("[1.5,\"end\"]");
+	    json.append("}".repeat(40));
+	    // every level is reached through the index, never rescanned
+	    assertEquals(JsonParser.parse(json.toString()), JsonParser.parseLazy(json.toString()));
+	}
 }
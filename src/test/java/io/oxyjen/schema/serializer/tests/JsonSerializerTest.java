@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -16,6 +18,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import io.oxyjen.util.JsonParser;
 import io.oxyjen.util.JsonSerializer;
 
 public class JsonSerializerTest {
@@ -189,4 +192,36 @@ public class JsonSerializerTest {
 	            () -> JsonSerializer.toJsonTree(n)
 	        );
 	    }
+	    @Test
+	    void shouldStreamSameJsonAsTree() {
+	        Order order = new Order("ORD-1", List.of(new Person("A", 1), new Person("B", 2)));
+	        StringBuilder sb = new StringBuilder();
+	        JsonSerializer.write(order, sb);
+	        assertEquals("{\"id\":\"ORD-1\",\"people\":[{\"name\":\"A\",\"age\":1},{\"name\":\"B\",\"age\":2}]}",
+	                sb.toString());
+	        assertEquals(sb.toString(), JsonSerializer.toJsonString(order));
+	    }
+	    @Test
+	    void shouldEscapeStringsAndKeys() {
+	        Map<String, Object> map = new LinkedHashMap<>();
+	        map.put("k\"ey", "a\\b\n\t\u0001\u00e9");
+	        String json = JsonSerializer.toJsonString(map);
+	        assertEquals("{\"k\\\"ey\":\"a\\\\b\\n\\t\\u0001\u00e9\"}", json);
+	        assertEquals(map, JsonParser.parse(json));
+	    }
+	    @Test
+	    void shouldWriteUtf8ToOutputStream() {
+	        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	        JsonSerializer.write(List.of("\u00e9", 1, true), bytes);
+	        assertEquals("[\"\u00e9\",1,true]", bytes.toString(StandardCharsets.UTF_8));
+	    }
+	    @Test
+	    void shouldFailOnCyclicReferenceWhileStreaming() {
+	        Node n = new Node();
+	        n.next = n;
+	        assertThrows(
+	            JsonSerializer.JsonSerializationException.class,
+	            () -> JsonSerializer.write(n, new StringBuilder())
+	        );
+	    }
 }